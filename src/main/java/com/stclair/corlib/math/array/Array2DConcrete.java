@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static com.stclair.corlib.validation.Validation.equalTo;
 import static com.stclair.corlib.validation.Validation.inRange;
 
 public class Array2DConcrete<T> implements Array2D<T> {
@@ -43,6 +44,25 @@ public class Array2DConcrete<T> implements Array2D<T> {
         elementClass = operationStrategy.getElementClass();
     }
 
+    /**
+     * construct an instance backed by the provided row-major element array (the array is not copied)
+     * @param operationStrategy the set of arithmetic operations for the element type
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param elements the row-major elements (length must equal width * height)
+     */
+    public Array2DConcrete(OperationStrategy<T> operationStrategy, int width, int height, T[] elements) {
+
+        equalTo(elements.length, width * height, "elements.length");
+
+        this.operationStrategy = operationStrategy;
+        this.width = width;
+        this.height = height;
+
+        this.elements = elements;
+        elementClass = operationStrategy.getElementClass();
+    }
+
     public <K> Array2DConcrete(OperationStrategy<T> operationStrategy, Array2D<K> source, Function<Indexor<K>, T> mapFunction) {
 
         width = source.getWidth();
@@ -0,0 +1,207 @@
+package com.stclair.corlib.math.array;
+
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.function.Consumer;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Array2D presenting a subset of the rows and columns of a source array without copying its elements.
+ *
+ * Each view holds the indexes of the source rows and columns it retains; a view of a view composes those indexes
+ * so that every view refers directly to the original (non-view) source, however deeply views are nested.
+ */
+public class Array2DView<T> implements Array2D<T> {
+
+    final Array2D<T> source;
+
+    /** the source row presented at each row of this view */
+    final int[] rows;
+
+    /** the source column presented at each column of this view */
+    final int[] columns;
+
+    Array2DView(Array2D<T> source, int[] rows, int[] columns) {
+        this.source = source;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * construct a view of the provided array omitting a single row and column
+     * @param source the source array (which may itself be a view)
+     * @param excludedRow the row to be omitted
+     * @param excludedColumn the column to be omitted
+     * @return a view of the remaining elements
+     */
+    public static <T> Array2DView<T> excluding(Array2D<T> source, int excludedRow, int excludedColumn) {
+
+        neverNull(source, "source");
+
+        inRange(excludedRow, 0, source.getHeight() - 1, "excludedRow");
+        inRange(excludedColumn, 0, source.getWidth() - 1, "excludedColumn");
+
+        if (source instanceof Array2DView) {
+            Array2DView<T> view = (Array2DView<T>) source;
+
+            return new Array2DView<>(view.source, exclude(view.rows, excludedRow), exclude(view.columns, excludedColumn));
+        }
+
+        return new Array2DView<>(source, exclude(identity(source.getHeight()), excludedRow), exclude(identity(source.getWidth()), excludedColumn));
+    }
+
+    static int[] identity(int length) {
+
+        int[] indexes = new int[length];
+
+        for (int index = 0; index < length; index++)
+            indexes[index] = index;
+
+        return indexes;
+    }
+
+    static int[] exclude(int[] indexes, int excluded) {
+
+        int[] result = new int[indexes.length - 1];
+
+        System.arraycopy(indexes, 0, result, 0, excluded);
+        System.arraycopy(indexes, excluded + 1, result, excluded, result.length - excluded);
+
+        return result;
+    }
+
+    /**
+     * @return the (non-view) array whose elements this view presents
+     */
+    public Array2D<T> getSource() {
+        return source;
+    }
+
+    /**
+     * copy the elements presented by this view into a new dense array
+     * (a {@link DoubleArray2D} if the source is one, otherwise an {@link Array2DConcrete})
+     * @return a dense copy of this view
+     */
+    public Array2D<T> materialize() {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        if (source instanceof DoubleArray2D) {
+            DoubleArray2D doubleSource = (DoubleArray2D) source;
+
+            double[] sourceElements = doubleSource.getElements();
+            double[] elements = new double[width * height];
+
+            for (int row = 0, index = 0; row < height; row++) {
+                int rowOffset = rows[row] * doubleSource.getWidth();
+
+                for (int column = 0; column < width; column++)
+                    elements[index++] = sourceElements[rowOffset + columns[column]];
+            }
+
+            return (Array2D<T>) new DoubleArray2D((DoubleOperationStrategy) doubleSource.getOperationStrategy(), width, height, elements);
+        }
+
+        T[] elements = getOperationStrategy().array(width * height);
+
+        for (int row = 0; row < height; row++)
+            System.arraycopy(getRow(row), 0, elements, row * width, width);
+
+        return new Array2DConcrete<>(getOperationStrategy(), width, height, elements);
+    }
+
+    @Override
+    public Class<T> getElementClass() {
+        return source.getElementClass();
+    }
+
+    @Override
+    public OperationStrategy<T> getOperationStrategy() {
+        return source.getOperationStrategy();
+    }
+
+    @Override
+    public T get(int column, int row) {
+
+        inRange(column, 0, columns.length - 1, "column");
+        inRange(row, 0, rows.length - 1, "row");
+
+        return source.get(columns[column], rows[row]);
+    }
+
+    @Override
+    public int getWidth() {
+        return columns.length;
+    }
+
+    @Override
+    public int getHeight() {
+        return rows.length;
+    }
+
+    @Override
+    public T[] getRow(int row) {
+
+        inRange(row, 0, rows.length - 1, "row");
+
+        T[] sourceRow = source.getRow(rows[row]);
+        T[] result = getOperationStrategy().array(columns.length);
+
+        for (int column = 0; column < columns.length; column++)
+            result[column] = sourceRow[columns[column]];
+
+        return result;
+    }
+
+    @Override
+    public T[] getColumn(int column) {
+
+        inRange(column, 0, columns.length - 1, "column");
+
+        T[] result = getOperationStrategy().array(rows.length);
+
+        for (int row = 0; row < rows.length; row++)
+            result[row] = source.get(columns[column], rows[row]);
+
+        return result;
+    }
+
+    @Override
+    public void traverse(Consumer<Indexor<T>> elementConsumer) {
+        for (int column = 0; column < columns.length; column++) {
+            for (int row = 0; row < rows.length; row++) {
+                int currentColumn = column;
+                int currentRow = row;
+
+                Indexor<T> indexor = new Indexor<>() {
+
+                    @Override
+                    public Array2D<T> getSource() {
+                        return Array2DView.this;
+                    }
+
+                    @Override
+                    public int getColumn() {
+                        return currentColumn;
+                    }
+
+                    @Override
+                    public int getRow() {
+                        return currentRow;
+                    }
+
+                    @Override
+                    public T getValue() {
+                        return source.get(columns[currentColumn], rows[currentRow]);
+                    }
+                };
+
+                elementConsumer.accept(indexor);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.stclair.corlib.math.array;
+
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.function.Consumer;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Array2D specialization whose elements are stored in a row-major primitive double array
+ * (avoiding the boxing incurred by {@link Array2DConcrete} for Double elements)
+ */
+public class DoubleArray2D implements Array2D<Double> {
+
+    final double[] elements;
+
+    final int width;
+    final int height;
+
+    final DoubleOperationStrategy operationStrategy;
+
+    public DoubleArray2D(int width, int height) {
+        this(new DoubleOperationStrategy(), width, height);
+    }
+
+    public DoubleArray2D(DoubleOperationStrategy operationStrategy, int width, int height) {
+        this(operationStrategy, width, height, new double[width * height]);
+    }
+
+    /**
+     * construct an instance backed by the provided row-major element array (the array is not copied)
+     * @param operationStrategy the set of arithmetic operations for Double values
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param elements the row-major elements (length must equal width * height)
+     */
+    public DoubleArray2D(DoubleOperationStrategy operationStrategy, int width, int height, double[] elements) {
+
+        equalTo(neverNull(elements, "elements").length, width * height, "elements.length");
+
+        this.operationStrategy = neverNull(operationStrategy, "operationStrategy");
+        this.width = width;
+        this.height = height;
+        this.elements = elements;
+    }
+
+    /**
+     * construct an instance from a two dimensional array organized as double[row][column]
+     * @param operationStrategy the set of arithmetic operations for Double values
+     * @param values the element values (copied)
+     */
+    public DoubleArray2D(DoubleOperationStrategy operationStrategy, double[][] values) {
+        this(operationStrategy, values[0].length, values.length);
+
+        for (int row = 0; row < height; row++) {
+            equalTo(values[row].length, width, "values[row].length");
+            System.arraycopy(values[row], 0, elements, row * width, width);
+        }
+    }
+
+    /**
+     * determine whether the provided strategy may be replaced by primitive double arithmetic
+     * @param operationStrategy the strategy to be tested
+     * @return true if the strategy is exactly {@link DoubleOperationStrategy}
+     */
+    public static boolean supports(OperationStrategy<?> operationStrategy) {
+        return operationStrategy != null && operationStrategy.getClass() == DoubleOperationStrategy.class;
+    }
+
+    /**
+     * obtain a DoubleArray2D holding the elements of the provided array (the source is returned unchanged if it is
+     * already a DoubleArray2D)
+     * @param source the source array, which must use {@link DoubleOperationStrategy}
+     * @return a DoubleArray2D with the same dimensions and element values
+     */
+    public static DoubleArray2D of(Array2D<Double> source) {
+
+        if (source instanceof DoubleArray2D)
+            return (DoubleArray2D) source;
+
+        if (source instanceof Array2DView && ((Array2DView<Double>) source).getSource() instanceof DoubleArray2D)
+            return (DoubleArray2D) ((Array2DView<Double>) source).materialize();
+
+        DoubleArray2D result = new DoubleArray2D((DoubleOperationStrategy) source.getOperationStrategy(), source.getWidth(), source.getHeight());
+
+        for (int row = 0; row < result.height; row++) {
+            Double[] values = source.getRow(row);
+
+            for (int column = 0; column < result.width; column++)
+                result.elements[row * result.width + column] = values[column];
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the row-major element array backing this instance (not a copy)
+     */
+    public double[] getElements() {
+        return elements;
+    }
+
+    public double getDouble(int column, int row) {
+
+        inRange(column, 0, width - 1, "column");
+        inRange(row, 0, height - 1, "row");
+
+        return elements[row * width + column];
+    }
+
+    public void set(int column, int row, double value) {
+
+        inRange(column, 0, width - 1, "column");
+        inRange(row, 0, height - 1, "row");
+
+        elements[row * width + column] = value;
+    }
+
+    public DoubleArray2D copy() {
+        return new DoubleArray2D(operationStrategy, width, height, elements.clone());
+    }
+
+    @Override
+    public Class<Double> getElementClass() {
+        return Double.class;
+    }
+
+    @Override
+    public OperationStrategy<Double> getOperationStrategy() {
+        return operationStrategy;
+    }
+
+    @Override
+    public Double get(int column, int row) {
+        return getDouble(column, row);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public Double[] getRow(int row) {
+
+        Double[] result = new Double[width];
+
+        for (int column = 0, index = row * width; column < width; column++, index++)
+            result[column] = elements[index];
+
+        return result;
+    }
+
+    @Override
+    public Double[] getColumn(int column) {
+
+        Double[] result = new Double[height];
+
+        for (int row = 0, index = column; row < height; row++, index += width)
+            result[row] = elements[index];
+
+        return result;
+    }
+
+    @Override
+    public void traverse(Consumer<Indexor<Double>> elementConsumer) {
+        for (int column = 0; column < width; column++) {
+            for (int row = 0; row < height; row++) {
+                int currentColumn = column;
+                int currentRow = row;
+
+                Indexor<Double> indexor = new Indexor<>() {
+
+                    @Override
+                    public Array2D<Double> getSource() {
+                        return DoubleArray2D.this;
+                    }
+
+                    @Override
+                    public int getColumn() {
+                        return currentColumn;
+                    }
+
+                    @Override
+                    public int getRow() {
+                        return currentRow;
+                    }
+
+                    @Override
+                    public Double getValue() {
+                        return elements[currentColumn + currentRow * width];
+                    }
+                };
+
+                elementConsumer.accept(indexor);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.array.Indexor;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.function.Function;
+
+/**
+ * A presort implementation that plans the row ordering of a matrix by performing a trial (fraction-free) elimination
+ * and recording the pivot row selected for each column.
+ *
+ * Unlike {@link Array2DPresortEvaluator}, which searches every permutation of the rows for one with a zero-free
+ * diagonal (O(n!)), the planner requires O(n^3) operations and guarantees that every pivot encountered during the
+ * subsequent decomposition is non-zero.
+ */
+public class Array2DPivotPlanner implements Array2DPresorter {
+
+    /** when true, the largest magnitude candidate is selected as the pivot of each column (partial pivoting) */
+    final boolean partialPivoting;
+
+    /**
+     * construct a planner that exchanges rows only when a zero pivot is encountered
+     * (a matrix whose leading pivots are all non-zero is returned unchanged)
+     */
+    public Array2DPivotPlanner() {
+        this(false);
+    }
+
+    /**
+     * construct a planner
+     * @param partialPivoting when true, the row containing the candidate of greatest magnitude is selected as the
+     *                        pivot for each column (minimizing loss of precision for inexact value types);
+     *                        when false, rows are exchanged only when required to avoid a zero pivot
+     */
+    public Array2DPivotPlanner(boolean partialPivoting) {
+        this.partialPivoting = partialPivoting;
+    }
+
+    public boolean isPartialPivoting() {
+        return partialPivoting;
+    }
+
+    /**
+     * sort the rows of the provided Array2D instance (representing elements of a Matrix)
+     * in order to ensure that it can be solved.
+     *
+     * @param original the Array2D instance whose rows are to be sorted
+     * @return a new, sorted Array2D or, if the matrix cannot be solved, null
+     */
+    @Override
+    public <T> Array2D<T> presort(Array2D<T> original) {
+
+        int[] permutation = planPermutation(original);
+
+        if (permutation == null)
+            return null;
+
+        int swaps = countSwaps(permutation);
+
+        if (swaps == 0)
+            return original;
+
+        return applyPermutation(original, permutation, (swaps & 1) != 0);
+    }
+
+    /**
+     * determine the row ordering for the provided array by performing a trial fraction-free elimination
+     * @param original the 2D array representing the elements of the original matrix
+     * @return an array whose entry at each index identifies the original row to be placed at that index
+     * or null if the matrix is singular
+     */
+    public <T> int[] planPermutation(Array2D<T> original) {
+
+        OperationStrategy<T> op = original.getOperationStrategy();
+
+        if (DoubleArray2D.supports(op))
+            return DoubleMatrixKernels.planPermutation(DoubleArray2D.of((Array2D<Double>) original), partialPivoting);
+
+        int order = Math.min(original.getHeight(), original.getWidth());
+        int width = original.getWidth();
+
+        int[] permutation = new int[original.getHeight()];
+
+        Object[][] working = new Object[original.getHeight()][];
+
+        for (int row = 0; row < working.length; row++) {
+            permutation[row] = row;
+            working[row] = original.getRow(row);
+        }
+
+        T divisor = op.one();
+
+        for (int column = 0; column < order; column++) {
+
+            int pivotRow = selectPivotRow(op, working, column);
+
+            if (pivotRow == -1)
+                return null;
+
+            if (pivotRow != column) {
+                swap(working, column, pivotRow);
+                swap(permutation, column, pivotRow);
+            }
+
+            T[] source = (T[]) working[column];
+            T pivot = source[column];
+
+            for (int row = column + 1; row < working.length; row++) {
+
+                T[] target = (T[]) working[row];
+                T factor = target[column];
+
+                for (int col = column + 1; col < width; col++) {
+
+                    T value = op.difference(op.product(target[col], pivot), op.product(factor, source[col]));
+
+                    if (! (op.isZero(value) || op.isOne(divisor)))
+                        value = op.quotient(value, divisor);
+
+                    target[col] = value;
+                }
+
+                target[column] = op.zero();
+            }
+
+            divisor = pivot;
+        }
+
+        return permutation;
+    }
+
+    /**
+     * select the row that will supply the pivot for the specified column
+     * @param op the set of arithmetic operations for the target value type
+     * @param working the partially eliminated rows
+     * @param column the column for which a pivot is required
+     * @return the index of the selected row or -1 if every candidate is zero
+     */
+    <T> int selectPivotRow(OperationStrategy<T> op, Object[][] working, int column) {
+
+        int selected = -1;
+        T selectedMagnitude = null;
+
+        for (int row = column; row < working.length; row++) {
+
+            T candidate = (T) working[row][column];
+
+            if (op.isZero(candidate))
+                continue;
+
+            if (! partialPivoting)
+                return row;
+
+            T magnitude = op.abs(candidate);
+
+            if (selected == -1 || op.greaterThan(magnitude, selectedMagnitude)) {
+                selected = row;
+                selectedMagnitude = magnitude;
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * count the number of transpositions required to produce the provided permutation
+     * (only the parity of the result is significant)
+     * @param permutation the permutation to be evaluated
+     * @return the number of transpositions
+     */
+    public int countSwaps(int[] permutation) {
+
+        boolean[] visited = new boolean[permutation.length];
+
+        int swaps = 0;
+
+        for (int start = 0; start < permutation.length; start++) {
+
+            if (visited[start])
+                continue;
+
+            int cycleLength = 0;
+
+            for (int index = start; ! visited[index]; index = permutation[index]) {
+                visited[index] = true;
+                cycleLength++;
+            }
+
+            swaps += cycleLength - 1;
+        }
+
+        return swaps;
+    }
+
+    /**
+     * apply the planned permutation to the source array
+     * @param original the source array that will be re-ordered
+     * @param permutation the planned permutation
+     * @param oddParity true if the permutation has odd parity (in which case the last row is negated)
+     * @return the source array with rows re-ordered
+     */
+    public <T> Array2D<T> applyPermutation(Array2D<T> original, int[] permutation, boolean oddParity) {
+
+        OperationStrategy<T> operationStrategy = original.getOperationStrategy();
+
+        if (DoubleArray2D.supports(operationStrategy))
+            return (Array2D<T>) DoubleMatrixKernels.permuteRows(DoubleArray2D.of((Array2D<Double>) original), permutation, oddParity);
+
+        Function<Indexor<T>, T> accessor = (indexor) -> original.get(indexor.getColumn(), permutation[indexor.getRow()]);
+
+        if (oddParity) {
+            Function<Indexor<T>, T> baseAccessor = accessor;
+
+            accessor = (indexor) -> indexor.getRow() == permutation.length - 1 ?
+                    operationStrategy.negate(baseAccessor.apply(indexor)) : baseAccessor.apply(indexor);
+        }
+
+        return new Array2DConcrete<T>(operationStrategy, original, accessor);
+    }
+
+    static void swap(Object[] values, int a, int b) {
+        Object tmp = values[a];
+        values[a] = values[b];
+        values[b] = tmp;
+    }
+
+    static void swap(int[] values, int a, int b) {
+        int tmp = values[a];
+        values[a] = values[b];
+        values[b] = tmp;
+    }
+}
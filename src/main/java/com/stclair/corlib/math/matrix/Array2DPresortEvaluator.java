@@ -17,7 +17,7 @@ import java.util.stream.Stream;
  * A class implementing presort logic to be applied prior to solving a matrix.
  * Orders rows to ensure that matrix can be solved (or returns null if it is not)
  */
-public class Array2DPresortEvaluator {
+public class Array2DPresortEvaluator implements Array2DPresorter {
 
     /** implementation of Permutations interface that will be used to synthesize the permutation matrices to be tested */
     PermutationGenerator permutationGenerator = new PermutationGenerator(new HeapsAlgorithmPermutationConstructor(), new HeapsAlgorithmPermutationIteratorFactory());
@@ -29,6 +29,7 @@ public class Array2DPresortEvaluator {
      * @param original the Array2D instance whose rows are to be sorted
      * @return a new, sorted Array2D or, if the matrix cannot be solved, null
      */
+    @Override
     public <T> Array2D<T> presort(Array2D<T> original) {
 
         Stream<Integer[]> permutations = buildPermutations(original.getHeight());
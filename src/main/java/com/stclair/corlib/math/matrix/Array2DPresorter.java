@@ -0,0 +1,22 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+
+/**
+ * Strategy for re-ordering the rows of a matrix prior to decomposition.
+ *
+ * Implementations must preserve the determinant of the original matrix:  when the selected row ordering has odd
+ * parity, the last row of the result is negated.
+ */
+public interface Array2DPresorter {
+
+    /**
+     * sort the rows of the provided Array2D instance (representing elements of a Matrix)
+     * in order to ensure that it can be solved
+     *
+     * @param original the Array2D instance whose rows are to be sorted
+     * @param <T> the target value type
+     * @return a new, sorted Array2D or, if the matrix cannot be solved, null
+     */
+    <T> Array2D<T> presort(Array2D<T> original);
+}
@@ -0,0 +1,363 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+
+/**
+ * Primitive double implementations of the matrix algorithms otherwise performed through
+ * {@link com.stclair.corlib.math.util.OperationStrategy}.
+ *
+ * Each kernel performs exactly the same sequence of floating point operations as its generic counterpart so that
+ * results are identical whichever path is taken.
+ */
+public class DoubleMatrixKernels {
+
+    /**
+     * determine the row ordering for the provided array by performing a trial fraction-free elimination
+     * (primitive equivalent of {@link Array2DPivotPlanner#planPermutation})
+     * @param original the elements of the original matrix
+     * @param partialPivoting when true, select the candidate of greatest magnitude as each pivot
+     * @return an array whose entry at each index identifies the original row to be placed at that index
+     * or null if the matrix is singular
+     */
+    public static int[] planPermutation(DoubleArray2D original, boolean partialPivoting) {
+
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int order = Math.min(height, width);
+
+        double[] working = original.getElements().clone();
+
+        int[] permutation = new int[height];
+
+        for (int row = 0; row < height; row++)
+            permutation[row] = row;
+
+        double divisor = 1;
+
+        for (int column = 0; column < order; column++) {
+
+            int pivotRow = -1;
+            double pivotMagnitude = 0;
+
+            for (int row = column; row < height; row++) {
+
+                double candidate = working[row * width + column];
+
+                if (candidate == 0)
+                    continue;
+
+                if (! partialPivoting) {
+                    pivotRow = row;
+                    break;
+                }
+
+                if (pivotRow == -1 || Math.abs(candidate) > pivotMagnitude) {
+                    pivotRow = row;
+                    pivotMagnitude = Math.abs(candidate);
+                }
+            }
+
+            if (pivotRow == -1)
+                return null;
+
+            if (pivotRow != column) {
+                swapRows(working, width, column, pivotRow);
+
+                int tmp = permutation[column];
+                permutation[column] = permutation[pivotRow];
+                permutation[pivotRow] = tmp;
+            }
+
+            double pivot = working[column * width + column];
+
+            eliminate(working, width, height, column, pivot, divisor, null, 0);
+
+            divisor = pivot;
+        }
+
+        return permutation;
+    }
+
+    /**
+     * re-order the rows of the provided array
+     * @param original the source array
+     * @param permutation an array whose entry at each index identifies the original row to be placed at that index
+     * @param oddParity true if the permutation has odd parity (in which case the last row is negated)
+     * @return a new array holding the re-ordered rows
+     */
+    public static DoubleArray2D permuteRows(DoubleArray2D original, int[] permutation, boolean oddParity) {
+
+        int width = original.getWidth();
+
+        double[] source = original.getElements();
+        double[] result = new double[source.length];
+
+        for (int row = 0; row < permutation.length; row++)
+            System.arraycopy(source, permutation[row] * width, result, row * width, width);
+
+        if (oddParity) {
+            for (int index = (permutation.length - 1) * width; index < result.length; index++)
+                result[index] = -result[index];
+        }
+
+        return new DoubleArray2D((DoubleOperationStrategy) original.getOperationStrategy(), width, original.getHeight(), result);
+    }
+
+    /**
+     * decompose the provided (presorted) array into the corresponding Upper and Lower matrices
+     * (primitive equivalent of {@link MatrixLUDecomposor#decomposeInPlace})
+     * @param original the elements of the presorted matrix
+     * @return a result object containing the reduced Upper matrix, the Lower matrix, and the associated determinant
+     */
+    public static LUMatrixResult<Double> decompose(DoubleArray2D original) {
+
+        DoubleOperationStrategy op = (DoubleOperationStrategy) original.getOperationStrategy();
+
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int order = Math.min(height, width);
+
+        double[] upper = original.getElements().clone();
+        double[] lower = new double[order * order];
+
+        for (int index = 0; index < lower.length; index += order + 1)
+            lower[index] = 1;
+
+        double divisor = 1;
+
+        for (int column = 0; column < order; column++) {
+
+            double pivot = upper[column * width + column];
+
+            eliminate(upper, width, height, column, pivot, divisor, lower, order);
+
+            divisor = pivot;
+        }
+
+        double determinant = upper[upper.length - 1];
+
+        // proceed from the last row upward so that each divisor is read before its own row is reduced
+        for (int row = height - 1; row > 0; row--) {
+
+            double div = upper[(row - 1) * width + row - 1];
+
+            for (int index = row * width; index < (row + 1) * width; index++)
+                upper[index] = upper[index] / div;
+        }
+
+        return new LUMatrixResult<>(new Matrix<>(new DoubleArray2D(op, order, order, lower)), new Matrix<>(new DoubleArray2D(op, width, height, upper)), determinant);
+    }
+
+    /**
+     * compute the determinant of the provided (presorted) array by fraction-free elimination without constructing
+     * the Lower matrix or reducing the Upper matrix
+     * @param original the elements of the presorted matrix
+     * @return the determinant
+     */
+    public static double determinant(DoubleArray2D original) {
+
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int order = Math.min(height, width);
+
+        double[] upper = original.getElements().clone();
+
+        double divisor = 1;
+
+        for (int column = 0; column < order; column++) {
+
+            double pivot = upper[column * width + column];
+
+            eliminate(upper, width, height, column, pivot, divisor, null, 0);
+
+            divisor = pivot;
+        }
+
+        return upper[upper.length - 1];
+    }
+
+    /**
+     * compute the product of two arrays representing matrices
+     * @param multiplicand the left-hand matrix elements
+     * @param multiplier the right-hand matrix elements
+     * @return the elements of the product
+     */
+    public static DoubleArray2D multiply(DoubleArray2D multiplicand, DoubleArray2D multiplier) {
+
+        equalTo(multiplier.getHeight(), multiplicand.getWidth(), "multiplier.getHeight()");
+
+        int rows = multiplicand.getHeight();
+        int inner = multiplicand.getWidth();
+        int columns = multiplier.getWidth();
+
+        double[] a = multiplicand.getElements();
+        double[] b = multiplier.getElements();
+        double[] c = new double[rows * columns];
+
+        for (int row = 0; row < rows; row++) {
+
+            int cOffset = row * columns;
+
+            for (int k = 0; k < inner; k++) {
+
+                double aik = a[row * inner + k];
+
+                int bOffset = k * columns;
+
+                for (int column = 0; column < columns; column++)
+                    c[cOffset + column] += aik * b[bOffset + column];
+            }
+        }
+
+        return new DoubleArray2D((DoubleOperationStrategy) multiplicand.getOperationStrategy(), columns, rows, c);
+    }
+
+    /**
+     * accumulate the product of a range of rows of the multiplicand with the multiplier, proceeding in square tiles
+     * so that the portion of the multiplier being read remains resident in cache
+     * (each element of the product is accumulated in the same order as {@link #multiply} so results are identical)
+     * @param a the row-major elements of the multiplicand
+     * @param b the row-major elements of the multiplier
+     * @param c the row-major elements of the product (which must be initialized to zero)
+     * @param inner the width of the multiplicand (and height of the multiplier)
+     * @param columns the width of the multiplier (and of the product)
+     * @param rowStart the first row of the product to be computed
+     * @param rowEnd one greater than the last row of the product to be computed
+     * @param blockSize the edge length of each tile
+     */
+    static void multiplyRows(double[] a, double[] b, double[] c, int inner, int columns, int rowStart, int rowEnd, int blockSize) {
+
+        for (int kBlock = 0; kBlock < inner; kBlock += blockSize) {
+
+            int kEnd = Math.min(kBlock + blockSize, inner);
+
+            for (int columnBlock = 0; columnBlock < columns; columnBlock += blockSize) {
+
+                int columnEnd = Math.min(columnBlock + blockSize, columns);
+
+                for (int row = rowStart; row < rowEnd; row++) {
+
+                    int cOffset = row * columns;
+
+                    for (int k = kBlock; k < kEnd; k++) {
+
+                        double aik = a[row * inner + k];
+
+                        int bOffset = k * columns;
+
+                        for (int column = columnBlock; column < columnEnd; column++)
+                            c[cOffset + column] += aik * b[bOffset + column];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * compute the sum of two arrays representing matrices
+     * @param augend the left-hand matrix elements
+     * @param addend the right-hand matrix elements
+     * @return the elements of the sum
+     */
+    public static DoubleArray2D add(DoubleArray2D augend, DoubleArray2D addend) {
+
+        equalTo(addend.getWidth(), augend.getWidth(), "addend.getWidth()");
+        equalTo(addend.getHeight(), augend.getHeight(), "addend.getHeight()");
+
+        double[] a = augend.getElements();
+        double[] b = addend.getElements();
+        double[] c = new double[a.length];
+
+        for (int index = 0; index < c.length; index++)
+            c[index] = a[index] + b[index];
+
+        return new DoubleArray2D((DoubleOperationStrategy) augend.getOperationStrategy(), augend.getWidth(), augend.getHeight(), c);
+    }
+
+    /**
+     * compute the transpose of an array representing a matrix, proceeding in square tiles so that neither the
+     * rows read nor the columns written are evicted from cache before the tile is complete
+     * @param source the matrix elements
+     * @param blockSize the edge length of each tile
+     * @return the elements of the transpose
+     */
+    public static DoubleArray2D transpose(DoubleArray2D source, int blockSize) {
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        double[] a = source.getElements();
+        double[] t = new double[a.length];
+
+        for (int rowBlock = 0; rowBlock < height; rowBlock += blockSize) {
+
+            int rowEnd = Math.min(rowBlock + blockSize, height);
+
+            for (int columnBlock = 0; columnBlock < width; columnBlock += blockSize) {
+
+                int columnEnd = Math.min(columnBlock + blockSize, width);
+
+                for (int row = rowBlock; row < rowEnd; row++)
+                    for (int column = columnBlock; column < columnEnd; column++)
+                        t[column * height + row] = a[row * width + column];
+            }
+        }
+
+        return new DoubleArray2D((DoubleOperationStrategy) source.getOperationStrategy(), height, width, t);
+    }
+
+    /**
+     * apply one fraction-free elimination step to the trailing submatrix below and to the right of the pivot
+     * @param upper the row-major working elements
+     * @param width the width of the working matrix
+     * @param height the height of the working matrix
+     * @param column the column being solved
+     * @param pivot the pivot value for the column
+     * @param divisor the pivot value of the preceding column (or one)
+     * @param lower when not null, receives the multipliers for the solved column
+     * @param order the order of the lower matrix
+     */
+    static void eliminate(double[] upper, int width, int height, int column, double pivot, double divisor, double[] lower, int order) {
+
+        int sourceOffset = column * width;
+
+        for (int row = column + 1; row < height; row++) {
+
+            int rowOffset = row * width;
+
+            double factor = upper[rowOffset + column];
+
+            if (lower != null && row < order)
+                lower[row * order + column] = factor / pivot;
+
+            for (int col = column + 1; col < width; col++) {
+
+                double value = upper[rowOffset + col];
+
+                if (value != 0)
+                    value = value * pivot;
+
+                value = value - factor * upper[sourceOffset + col];
+
+                if (! (value == 0 || divisor == 1))
+                    value = value / divisor;
+
+                upper[rowOffset + col] = value;
+            }
+
+            upper[rowOffset + column] = 0;
+        }
+    }
+
+    static void swapRows(double[] elements, int width, int a, int b) {
+
+        for (int column = 0, aIndex = a * width, bIndex = b * width; column < width; column++, aIndex++, bIndex++) {
+            double tmp = elements[aIndex];
+            elements[aIndex] = elements[bIndex];
+            elements[bIndex] = tmp;
+        }
+    }
+}
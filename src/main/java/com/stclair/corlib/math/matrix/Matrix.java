@@ -3,9 +3,12 @@ package com.stclair.corlib.math.matrix;
 
 import com.stclair.corlib.math.array.Array2D;
 import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.Array2DView;
+import com.stclair.corlib.math.array.DoubleArray2D;
 import com.stclair.corlib.math.array.Indexor;
 import com.stclair.corlib.math.matrix.determinant.DeterminantSolver;
 import com.stclair.corlib.math.matrix.determinant.LUDeterminantSolver;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
 import com.stclair.corlib.math.util.OperationStrategy;
 
 import java.util.function.Function;
@@ -20,14 +23,34 @@ public class Matrix<T> {
     /** 2D array representing elements of this matrix */
     private final Array2D<T> elements;
 
-    private final DeterminantSolver determinantSolver = new LUDeterminantSolver();
+    /** kernels used to compute products, sums and transposes */
+    private static final MatrixArithmetic ARITHMETIC = new MatrixArithmetic();
+
+    /** solver used to compute the determinant of this matrix (and of its minors) */
+    private final DeterminantSolver determinantSolver;
 
     public Matrix(Array2D<T> elements) {
+        this(elements, new LUDeterminantSolver());
+    }
+
+    /**
+     * construct a matrix that computes its determinant with the specified solver
+     * @param elements 2D array representing elements of the matrix
+     * @param determinantSolver the solver to be used by {@link #determinant()}
+     */
+    public Matrix(Array2D<T> elements, DeterminantSolver determinantSolver) {
         this.elements = elements;
+        this.determinantSolver = determinantSolver;
     }
 
     public Matrix(double[][] elements, OperationStrategy<T> op) {
-        this.elements = new Array2DConcrete<T>(op, elements[0].length, elements.length, indexor -> op.from(elements[indexor.getRow()][indexor.getColumn()]));
+
+        this.determinantSolver = new LUDeterminantSolver();
+
+        if (DoubleArray2D.supports(op))
+            this.elements = (Array2D<T>) new DoubleArray2D((DoubleOperationStrategy) op, elements);
+        else
+            this.elements = new Array2DConcrete<T>(op, elements[0].length, elements.length, indexor -> op.from(elements[indexor.getRow()][indexor.getColumn()]));
     }
 
     public OperationStrategy<T> getOperationStrategy() {
@@ -50,31 +73,73 @@ public class Matrix<T> {
         return elements.get(column, row);
     }
 
+    /**
+     * construct the minor of this matrix omitting the specified row and column
+     * (the minor is a view of the elements of this matrix; see {@link #materialize()})
+     * @param mrow the row to be omitted
+     * @param mcolumn the column to be omitted
+     * @return the minor
+     */
     public Matrix<T> minor(int mrow, int mcolumn) {
 
-        Function<Indexor<T>, T> initializer = indexor -> {
-            int currentRow = indexor.getRow();
-            int currentColumn = indexor.getColumn();
-
-            if (currentColumn >= mcolumn)
-                currentColumn++;
+        return new Matrix<>(Array2DView.excluding(elements, mrow, mcolumn), determinantSolver);
+    }
 
-            if (currentRow >= mrow)
-                currentRow++;
+    /**
+     * obtain a matrix whose elements are stored densely (a minor presents the elements of its parent without copying,
+     * which is preferable when only a few elements will be read but slower when every element will be read often)
+     * @return this matrix if its elements are already dense, otherwise a new matrix holding a copy of its elements
+     */
+    public Matrix<T> materialize() {
 
-            return elements.get(currentColumn, currentRow);
-        };
+        if (elements instanceof Array2DView)
+            return new Matrix<>(((Array2DView<T>) elements).materialize(), determinantSolver);
 
-        Array2D<T> members = new Array2DConcrete<T>(this.elements.getOperationStrategy(), this.elements.getWidth() - 1, this.elements.getHeight() - 1, initializer);
+        return this;
+    }
 
-        return new Matrix<T>(members);
+    public DeterminantSolver getDeterminantSolver() {
+        return determinantSolver;
     }
 
+    /**
+     * construct a matrix sharing the elements of this matrix that computes its determinant with the specified solver
+     * @param determinantSolver the solver to be used by {@link #determinant()}
+     * @return a new Matrix backed by the same elements
+     */
+    public Matrix<T> withDeterminantSolver(DeterminantSolver determinantSolver) {
+        return new Matrix<>(elements, determinantSolver);
+    }
 
     public T determinant() {
         return determinantSolver.determinant(this);
     }
 
+    /**
+     * compute the product of this matrix and the specified matrix
+     * @param multiplier the right-hand matrix (whose row count must equal the column count of this matrix)
+     * @return the product
+     */
+    public Matrix<T> multiply(Matrix<T> multiplier) {
+        return new Matrix<>(ARITHMETIC.multiply(elements, multiplier.elements), determinantSolver);
+    }
+
+    /**
+     * compute the sum of this matrix and the specified matrix
+     * @param addend the matrix to be added (whose dimensions must equal those of this matrix)
+     * @return the sum
+     */
+    public Matrix<T> add(Matrix<T> addend) {
+        return new Matrix<>(ARITHMETIC.add(elements, addend.elements), determinantSolver);
+    }
+
+    /**
+     * @return the transpose of this matrix
+     */
+    public Matrix<T> transpose() {
+        return new Matrix<>(ARITHMETIC.transpose(elements), determinantSolver);
+    }
+
     public static <T> Matrix<T> identity(int order, OperationStrategy<T> operationStrategy) {
 
         return new Matrix<>(Matrix.identityArray(order, operationStrategy));
@@ -83,6 +148,15 @@ public class Matrix<T> {
 
     public static <T> Array2D<T> identityArray(int order, OperationStrategy<T> operationStrategy) {
 
+        if (DoubleArray2D.supports(operationStrategy)) {
+            DoubleArray2D identity = new DoubleArray2D((DoubleOperationStrategy) operationStrategy, order, order);
+
+            for (int index = 0; index < order; index++)
+                identity.set(index, index, 1);
+
+            return (Array2D<T>) identity;
+        }
+
         T one = operationStrategy.one();
         T zero = operationStrategy.zero();
 
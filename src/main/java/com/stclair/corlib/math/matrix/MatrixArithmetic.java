@@ -0,0 +1,201 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Product, sum and transpose of arrays representing matrices.
+ *
+ * The product is computed in square tiles (so that the portion of the multiplier being read remains resident in
+ * cache) by fork/join tasks that each compute a contiguous block of rows.  Elements using
+ * {@link DoubleOperationStrategy} are multiplied by the primitive kernels in {@link DoubleMatrixKernels}; all other
+ * value types are multiplied through their {@link OperationStrategy}.
+ */
+public class MatrixArithmetic {
+
+    /** edge length of the square tiles in which the product and transpose are computed */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /** products having this many rows or fewer are computed by a single task */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 64;
+
+    final ForkJoinPool pool;
+
+    final int blockSize;
+
+    final int sequentialThreshold;
+
+    public MatrixArithmetic() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE, DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * construct an instance
+     * @param pool the pool on which row blocks of the product will be computed
+     * @param blockSize the edge length of the square tiles in which the product and transpose are computed
+     * @param sequentialThreshold row blocks of this height or smaller are computed without forking further tasks
+     */
+    public MatrixArithmetic(ForkJoinPool pool, int blockSize, int sequentialThreshold) {
+        this.pool = neverNull(pool, "pool");
+        this.blockSize = inRange(blockSize, 1, Integer.MAX_VALUE, "blockSize");
+        this.sequentialThreshold = inRange(sequentialThreshold, 1, Integer.MAX_VALUE, "sequentialThreshold");
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * compute the product of two arrays representing matrices
+     * @param multiplicand the left-hand matrix elements
+     * @param multiplier the right-hand matrix elements (whose height must equal the width of the multiplicand)
+     * @return the elements of the product
+     */
+    public <T> Array2D<T> multiply(Array2D<T> multiplicand, Array2D<T> multiplier) {
+
+        neverNull(multiplicand, "multiplicand");
+        neverNull(multiplier, "multiplier");
+
+        equalTo(multiplier.getHeight(), multiplicand.getWidth(), "multiplier.getHeight()");
+
+        OperationStrategy<T> op = multiplicand.getOperationStrategy();
+
+        int rows = multiplicand.getHeight();
+        int inner = multiplicand.getWidth();
+        int columns = multiplier.getWidth();
+
+        if (DoubleArray2D.supports(op)) {
+
+            double[] a = DoubleArray2D.of((Array2D<Double>) multiplicand).getElements();
+            double[] b = DoubleArray2D.of((Array2D<Double>) multiplier).getElements();
+            double[] c = new double[rows * columns];
+
+            invoke(rows, (rowStart, rowEnd) -> DoubleMatrixKernels.multiplyRows(a, b, c, inner, columns, rowStart, rowEnd, blockSize));
+
+            return (Array2D<T>) new DoubleArray2D((DoubleOperationStrategy) op, columns, rows, c);
+        }
+
+        T[] a = rowMajorElements(multiplicand);
+        T[] b = rowMajorElements(multiplier);
+        T[] c = op.array(rows * columns);
+
+        T zero = op.zero();
+
+        for (int index = 0; index < c.length; index++)
+            c[index] = zero;
+
+        invoke(rows, (rowStart, rowEnd) -> multiplyRows(op, a, b, c, inner, columns, rowStart, rowEnd));
+
+        return new Array2DConcrete<>(op, columns, rows, c);
+    }
+
+    /**
+     * compute the sum of two arrays representing matrices
+     * @param augend the left-hand matrix elements
+     * @param addend the right-hand matrix elements (whose dimensions must equal those of the augend)
+     * @return the elements of the sum
+     */
+    public <T> Array2D<T> add(Array2D<T> augend, Array2D<T> addend) {
+
+        neverNull(augend, "augend");
+        neverNull(addend, "addend");
+
+        OperationStrategy<T> op = augend.getOperationStrategy();
+
+        if (DoubleArray2D.supports(op))
+            return (Array2D<T>) DoubleMatrixKernels.add(DoubleArray2D.of((Array2D<Double>) augend), DoubleArray2D.of((Array2D<Double>) addend));
+
+        equalTo(addend.getWidth(), augend.getWidth(), "addend.getWidth()");
+        equalTo(addend.getHeight(), augend.getHeight(), "addend.getHeight()");
+
+        return new Array2DConcrete<>(op, augend.getWidth(), augend.getHeight(),
+                indexor -> op.sum(augend.get(indexor.getColumn(), indexor.getRow()), addend.get(indexor.getColumn(), indexor.getRow())));
+    }
+
+    /**
+     * compute the transpose of an array representing a matrix
+     * @param source the matrix elements
+     * @return the elements of the transpose
+     */
+    public <T> Array2D<T> transpose(Array2D<T> source) {
+
+        neverNull(source, "source");
+
+        OperationStrategy<T> op = source.getOperationStrategy();
+
+        if (DoubleArray2D.supports(op))
+            return (Array2D<T>) DoubleMatrixKernels.transpose(DoubleArray2D.of((Array2D<Double>) source), blockSize);
+
+        return new Array2DConcrete<>(op, source.getHeight(), source.getWidth(),
+                indexor -> source.get(indexor.getRow(), indexor.getColumn()));
+    }
+
+    /**
+     * apply the kernel to every row of the result, forking tasks only when the result is taller than the
+     * sequential threshold
+     */
+    void invoke(int rows, RowBlockTask.RowRangeKernel kernel) {
+
+        if (rows <= sequentialThreshold)
+            kernel.compute(0, rows);
+        else
+            pool.invoke(new RowBlockTask(kernel, 0, rows, sequentialThreshold));
+    }
+
+    /**
+     * accumulate the product of a range of rows of the multiplicand with the multiplier in square tiles
+     * (generic equivalent of {@link DoubleMatrixKernels#multiplyRows})
+     */
+    <T> void multiplyRows(OperationStrategy<T> op, T[] a, T[] b, T[] c, int inner, int columns, int rowStart, int rowEnd) {
+
+        for (int kBlock = 0; kBlock < inner; kBlock += blockSize) {
+
+            int kEnd = Math.min(kBlock + blockSize, inner);
+
+            for (int columnBlock = 0; columnBlock < columns; columnBlock += blockSize) {
+
+                int columnEnd = Math.min(columnBlock + blockSize, columns);
+
+                for (int row = rowStart; row < rowEnd; row++) {
+
+                    int cOffset = row * columns;
+
+                    for (int k = kBlock; k < kEnd; k++) {
+
+                        T aik = a[row * inner + k];
+
+                        int bOffset = k * columns;
+
+                        for (int column = columnBlock; column < columnEnd; column++)
+                            c[cOffset + column] = op.sum(c[cOffset + column], op.product(aik, b[bOffset + column]));
+                    }
+                }
+            }
+        }
+    }
+
+    static <T> T[] rowMajorElements(Array2D<T> source) {
+
+        int width = source.getWidth();
+
+        T[] elements = source.getOperationStrategy().array(width * source.getHeight());
+
+        for (int row = 0; row < source.getHeight(); row++)
+            System.arraycopy(source.getRow(row), 0, elements, row * width, width);
+
+        return elements;
+    }
+}
@@ -3,6 +3,7 @@ package com.stclair.corlib.math.matrix;
 import com.stclair.corlib.collection.Tuple;
 import com.stclair.corlib.math.array.Array2D;
 import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
 import com.stclair.corlib.math.array.Indexor;
 import com.stclair.corlib.math.util.OperationStrategy;
 
@@ -16,7 +17,47 @@ import java.util.function.Function;
 public class MatrixLUDecomposor {
 
     /** object for sorting the array prior to decomposition */
-    Array2DPresortEvaluator presorter = new Array2DPresortEvaluator();
+    final Array2DPresorter presorter;
+
+    /** when true, decomposition is performed on a single mutable working buffer */
+    final boolean inPlace;
+
+    /**
+     * construct a decomposor that orders rows using an {@link Array2DPivotPlanner}
+     * (rows are exchanged only when a zero pivot would otherwise be encountered)
+     * and decomposes in place
+     */
+    public MatrixLUDecomposor() {
+        this(new Array2DPivotPlanner());
+    }
+
+    /**
+     * construct a decomposor using the specified presort strategy that decomposes in place
+     * @param presorter the strategy used to order the rows of the matrix prior to decomposition
+     *                  (e.g. {@link Array2DPivotPlanner} or the exhaustive {@link Array2DPresortEvaluator})
+     */
+    public MatrixLUDecomposor(Array2DPresorter presorter) {
+        this(presorter, true);
+    }
+
+    /**
+     * construct a decomposor
+     * @param presorter the strategy used to order the rows of the matrix prior to decomposition
+     * @param inPlace when true, decompose within a single mutable working buffer (updating only the active trailing
+     *                submatrix for each column); when false, construct new Upper and Lower arrays for every column
+     */
+    public MatrixLUDecomposor(Array2DPresorter presorter, boolean inPlace) {
+        this.presorter = presorter;
+        this.inPlace = inPlace;
+    }
+
+    public boolean isInPlace() {
+        return inPlace;
+    }
+
+    public Array2DPresorter getPresorter() {
+        return presorter;
+    }
 
     /**
      * get the function that will generate updated elements for the Lower Matrix based on a given solution column
@@ -140,6 +181,121 @@ public class MatrixLUDecomposor {
         return new Tuple<>(upper, lower);
     }
 
+    /**
+     * decompose the provided (presorted) array into the corresponding Upper and Lower matrices using a single mutable
+     * working buffer.
+     *
+     * Performs exactly the same arithmetic as {@link #buildUpperAndLowerMatrices(Array2D)} followed by
+     * {@link #constructResult(Array2D, Array2D)}, but for each solved column only the trailing submatrix below and to
+     * the right of the pivot is updated and no intermediate arrays are allocated.
+     *
+     * @param original the Array2D representing the elements of the original matrix
+     * @param <T> the target value type
+     * @return a result object containing the reduced Upper matrix, the Lower matrix, and the associated determinant
+     */
+    <T> LUMatrixResult<T> decomposeInPlace(Array2D<T> original) {
+
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int order = Math.min(height, width);
+
+        OperationStrategy<T> op = original.getOperationStrategy();
+
+        T zero = op.zero();
+
+        T[] upper = op.array(width * height);
+
+        for (int row = 0; row < height; row++)
+            System.arraycopy(original.getRow(row), 0, upper, row * width, width);
+
+        T[] lower = identityElements(op, order);
+
+        T divisor = op.one();
+
+        for (int column = 0; column < order; column++) {
+
+            int pivotIndex = column * width + column;
+
+            if (column > 0)
+                divisor = upper[pivotIndex - width - 1];
+
+            T pivot = upper[pivotIndex];
+
+            for (int row = column + 1; row < height; row++) {
+
+                int rowOffset = row * width;
+
+                T factor = upper[rowOffset + column];
+
+                if (row < order)
+                    lower[row * order + column] = op.quotient(factor, pivot);
+
+                for (int col = column + 1; col < width; col++) {
+
+                    T value = upper[rowOffset + col];
+
+                    if (! op.isZero(value))
+                        value = op.product(value, pivot);
+
+                    value = op.difference(value, op.product(factor, upper[column * width + col]));
+
+                    if (! (op.isZero(value) || op.isOne(divisor)))
+                        value = op.quotient(value, divisor);
+
+                    upper[rowOffset + col] = value;
+                }
+
+                upper[rowOffset + column] = zero;
+            }
+        }
+
+        T determinant = upper[width * height - 1];
+
+        reduceUpperInPlace(upper, width, height, op);
+
+        return new LUMatrixResult<>(new Matrix<>(new Array2DConcrete<>(op, order, order, lower)), new Matrix<>(new Array2DConcrete<>(op, width, height, upper)), determinant);
+    }
+
+    /**
+     * construct the row-major elements of an identity matrix
+     * @param op the set of arithmetic operations for the target value type
+     * @param order the order of the identity matrix
+     * @param <T> the target value type
+     * @return the row-major elements of the identity matrix
+     */
+    <T> T[] identityElements(OperationStrategy<T> op, int order) {
+
+        T zero = op.zero();
+        T one = op.one();
+
+        T[] elements = op.array(order * order);
+
+        for (int index = 0; index < elements.length; index++)
+            elements[index] = index % (order + 1) == 0 ? one : zero;
+
+        return elements;
+    }
+
+    /**
+     * reduce the precision-conserving upper matrix in place by dividing each row by the preceding diagonal value
+     * @param upper the row-major elements of the upper matrix to be reduced
+     * @param width the width of the upper matrix
+     * @param height the height of the upper matrix
+     * @param op the set of arithmetic operations for the target value type
+     * @param <T> the target value type
+     */
+    <T> void reduceUpperInPlace(T[] upper, int width, int height, OperationStrategy<T> op) {
+
+        // proceed from the last row upward so that each divisor is read before its own row is reduced
+        for (int row = height - 1; row > 0; row--) {
+
+            T div = upper[(row - 1) * width + row - 1];
+
+            for (int index = row * width; index < (row + 1) * width; index++)
+                upper[index] = op.quotient(upper[index], div);
+        }
+    }
+
     /**
      * reduce the precision-conserving upper matrix by dividing each row by the preceding diagonal value
      * @param upper the Array2D representing the elements of the upper Matrix to be reduced
@@ -191,6 +347,14 @@ public class MatrixLUDecomposor {
         if (original == null)
             return null;
 
+        if (inPlace) {
+
+            if (DoubleArray2D.supports(original.getOperationStrategy()))
+                return (LUMatrixResult<T>) DoubleMatrixKernels.decompose(DoubleArray2D.of((Array2D<Double>) original));
+
+            return decomposeInPlace(original);
+        }
+
         Tuple<Array2D<T>, Array2D<T>> upperAndLower = buildUpperAndLowerMatrices(original);
 
         return constructResult(upperAndLower.getA(), upperAndLower.getB());
@@ -216,4 +380,33 @@ public class MatrixLUDecomposor {
 
         return computeUpperLower(matrix.getElements());
     }
+
+    /**
+     * compute the determinant of the provided source Matrix
+     * (equivalent to the determinant reported by {@link #computeUpperLower(Matrix)}, but the primitive double path
+     * omits construction of the Upper and Lower matrices)
+     * @param matrix the source Matrix
+     * @param <T> the target value type
+     * @return the determinant of the source Matrix (zero if the matrix cannot be solved)
+     */
+    public <T> T computeDeterminant(Matrix<T> matrix) {
+
+        Array2D<T> original = matrix.getElements();
+
+        OperationStrategy<T> op = original.getOperationStrategy();
+
+        if (! (inPlace && DoubleArray2D.supports(op))) {
+
+            LUMatrixResult<T> result = computeUpperLower(original);
+
+            return result == null ? op.zero() : result.determinant();
+        }
+
+        original = presorter.presort(original);
+
+        if (original == null)
+            return op.zero();
+
+        return (T) (Double) DoubleMatrixKernels.determinant(DoubleArray2D.of((Array2D<Double>) original));
+    }
 }
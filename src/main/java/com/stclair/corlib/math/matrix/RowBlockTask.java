@@ -0,0 +1,52 @@
+package com.stclair.corlib.math.matrix;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task that applies a kernel to a range of rows, splitting the range in half until it contains no more
+ * than the sequential threshold of rows.
+ */
+public class RowBlockTask extends RecursiveAction {
+
+    /**
+     * A computation that may be applied independently to any range of rows
+     */
+    @FunctionalInterface
+    public interface RowRangeKernel {
+
+        /**
+         * @param rowStart the first row to be computed
+         * @param rowEnd one greater than the last row to be computed
+         */
+        void compute(int rowStart, int rowEnd);
+    }
+
+    final RowRangeKernel kernel;
+
+    final int rowStart;
+
+    final int rowEnd;
+
+    final int sequentialThreshold;
+
+    RowBlockTask(RowRangeKernel kernel, int rowStart, int rowEnd, int sequentialThreshold) {
+        this.kernel = kernel;
+        this.rowStart = rowStart;
+        this.rowEnd = rowEnd;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    @Override
+    protected void compute() {
+
+        if (rowEnd - rowStart <= sequentialThreshold) {
+            kernel.compute(rowStart, rowEnd);
+            return;
+        }
+
+        int middle = (rowStart + rowEnd) >>> 1;
+
+        invokeAll(new RowBlockTask(kernel, rowStart, middle, sequentialThreshold),
+                new RowBlockTask(kernel, middle, rowEnd, sequentialThreshold));
+    }
+}
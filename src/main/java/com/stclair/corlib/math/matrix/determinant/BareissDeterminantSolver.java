@@ -0,0 +1,128 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.matrix.Matrix;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Determinant solver employing Bareiss' fraction-free elimination.
+ *
+ * Each elimination step computes (a[i][j] * a[k][k] - a[i][k] * a[k][j]) / a[k-1][k-1] in place, requiring
+ * O(n^3) operations.  For a matrix whose elements are all integers every division is exact (by Sylvester's
+ * identity each intermediate value is itself a minor of the original matrix), so no fractions are ever formed.
+ * When the elements are integers the result is rounded to the nearest integer so that value types whose division
+ * carries a finite precision (Apfloat) produce an exact result.
+ */
+public class BareissDeterminantSolver implements DeterminantSolver {
+
+    @Override
+    public <T> T determinant(Matrix<T> matrix) {
+
+        neverNull(matrix, "matrix");
+
+        Array2D<T> elements = matrix.getElements();
+
+        OperationStrategy<T> op = matrix.getOperationStrategy();
+
+        int order = elements.getHeight();
+
+        equalTo(elements.getWidth(), order, "matrix.getColumns()");
+
+        Object[] working = new Object[order * order];
+
+        boolean integral = true;
+
+        for (int row = 0; row < order; row++) {
+
+            T[] values = elements.getRow(row);
+
+            for (int column = 0; column < order; column++) {
+                T value = values[column];
+
+                integral = integral && op.isEqual(value, op.floor(value));
+
+                working[row * order + column] = value;
+            }
+        }
+
+        return determinant(op, working, order, integral);
+    }
+
+    /**
+     * compute the determinant of the provided row-major working elements (which are overwritten)
+     * @param op the set of arithmetic operations for the value type
+     * @param working the row-major elements of a square matrix
+     * @param order the order of the matrix
+     * @param integral true if every element is an integer (in which case the result is rounded)
+     * @return the determinant
+     */
+    <T> T determinant(OperationStrategy<T> op, Object[] working, int order, boolean integral) {
+
+        T divisor = op.one();
+
+        boolean negate = false;
+
+        for (int column = 0; column < order - 1; column++) {
+
+            int pivotOffset = column * order;
+
+            if (op.isZero((T) working[pivotOffset + column])) {
+
+                int pivotRow = column + 1;
+
+                while (pivotRow < order && op.isZero((T) working[pivotRow * order + column]))
+                    pivotRow++;
+
+                if (pivotRow == order)
+                    return op.zero();
+
+                swapRows(working, order, column, pivotRow);
+
+                negate = ! negate;
+            }
+
+            T pivot = (T) working[pivotOffset + column];
+
+            for (int row = column + 1; row < order; row++) {
+
+                int rowOffset = row * order;
+
+                T factor = (T) working[rowOffset + column];
+
+                for (int col = column + 1; col < order; col++) {
+
+                    T value = op.difference(op.product((T) working[rowOffset + col], pivot), op.product(factor, (T) working[pivotOffset + col]));
+
+                    if (! (op.isZero(value) || op.isOne(divisor)))
+                        value = op.quotient(value, divisor);
+
+                    working[rowOffset + col] = value;
+                }
+
+                working[rowOffset + column] = op.zero();
+            }
+
+            divisor = pivot;
+        }
+
+        T determinant = (T) working[order * order - 1];
+
+        // the quotients are exact in theory but each may carry a rounding error in practice
+        if (integral)
+            determinant = op.floor(op.sum(determinant, op.from(0.5d)));
+
+        return negate ? op.negate(determinant) : determinant;
+    }
+
+    static void swapRows(Object[] working, int order, int a, int b) {
+
+        for (int aIndex = a * order, bIndex = b * order, end = aIndex + order; aIndex < end; aIndex++, bIndex++) {
+            Object tmp = working[aIndex];
+            working[aIndex] = working[bIndex];
+            working[bIndex] = tmp;
+        }
+    }
+}
@@ -9,10 +9,18 @@ import com.stclair.corlib.math.matrix.MatrixLUDecomposor;
  */
 public class LUDeterminantSolver implements DeterminantSolver {
 
-    MatrixLUDecomposor decomposor = new MatrixLUDecomposor();
+    final MatrixLUDecomposor decomposor;
+
+    public LUDeterminantSolver() {
+        this(new MatrixLUDecomposor());
+    }
+
+    public LUDeterminantSolver(MatrixLUDecomposor decomposor) {
+        this.decomposor = decomposor;
+    }
 
     @Override
     public <T> T determinant(Matrix<T> matrix) {
-        return decomposor.computeUpperLower(matrix).determinant();
+        return decomposor.computeDeterminant(matrix);
     }
 }
@@ -0,0 +1,73 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task computing the contribution of a single node of the cofactor expansion tree
+ * (the coefficient of the node multiplied by the determinant of its minor).
+ *
+ * Children are created one level at a time so that, unlike {@link MatrixMinorDeterminantSolver#buildResults},
+ * the full list of 2x2 leaves is never materialized.
+ */
+public class MatrixMinorDeterminantRecursiveTask<T> extends RecursiveTask<T> {
+
+    final MatrixMinorDeterminantSolverTask<T> task;
+
+    final int sequentialThreshold;
+
+    MatrixMinorDeterminantRecursiveTask(MatrixMinorDeterminantSolverTask<T> task, int sequentialThreshold) {
+        this.task = task;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    @Override
+    protected T compute() {
+
+        if (task.matrix.getRows() <= sequentialThreshold)
+            return computeSequentially(task);
+
+        List<MatrixMinorDeterminantRecursiveTask<T>> subtasks = new ArrayList<>();
+
+        for (MatrixMinorDeterminantSolverTask<T> child : task.createTasks())
+            subtasks.add(new MatrixMinorDeterminantRecursiveTask<>(child, sequentialThreshold));
+
+        invokeAll(subtasks);
+
+        OperationStrategy<T> op = task.op;
+
+        T accumulator = op.zero();
+
+        for (MatrixMinorDeterminantRecursiveTask<T> subtask : subtasks)
+            accumulator = op.sum(accumulator, subtask.join());
+
+        return accumulator;
+    }
+
+    /**
+     * compute the contribution of the provided node by depth-first cofactor expansion on the current thread
+     * @param task the node to be evaluated
+     * @param <T> the target value type
+     * @return the coefficient of the node multiplied by the determinant of its minor
+     */
+    static <T> T computeSequentially(MatrixMinorDeterminantSolverTask<T> task) {
+
+        OperationStrategy<T> op = task.op;
+
+        if (task.isTwoByTwo())
+            return task.evaluate();
+
+        if (task.matrix.getRows() == 1)
+            return op.product(task.coefficient, task.matrix.member(0, 0));
+
+        T accumulator = op.zero();
+
+        for (MatrixMinorDeterminantSolverTask<T> child : task.createTasks())
+            accumulator = op.sum(accumulator, computeSequentially(child));
+
+        return accumulator;
+    }
+}
@@ -0,0 +1,44 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.matrix.Matrix;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Computes determinants by cofactor expansion (as {@link MatrixMinorDeterminantSolver}), splitting the expansion
+ * tree into fork/join tasks so that every core of the pool participates.
+ */
+public class ParallelMatrixMinorDeterminantSolver implements DeterminantSolver {
+
+    /** minors of this order or smaller are expanded sequentially by the task that encounters them */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 6;
+
+    final ForkJoinPool pool;
+
+    final int sequentialThreshold;
+
+    public ParallelMatrixMinorDeterminantSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * construct a solver
+     * @param pool the pool on which the expansion tasks will be executed
+     * @param sequentialThreshold minors of this order or smaller are expanded without forking further tasks
+     */
+    public ParallelMatrixMinorDeterminantSolver(ForkJoinPool pool, int sequentialThreshold) {
+        this.pool = neverNull(pool, "pool");
+        this.sequentialThreshold = inRange(sequentialThreshold, 2, Integer.MAX_VALUE, "sequentialThreshold");
+    }
+
+    @Override
+    public <T> T determinant(Matrix<T> matrix) {
+
+        MatrixMinorDeterminantSolverTask<T> root = new MatrixMinorDeterminantSolverTask<>(matrix.getOperationStrategy().one(), matrix);
+
+        return pool.invoke(new MatrixMinorDeterminantRecursiveTask<>(root, sequentialThreshold));
+    }
+}
@@ -0,0 +1,189 @@
+package com.stclair.corlib.math.polynomial;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Evaluates the polynomial interpolating a set of points by the barycentric formula (Berrut and Trefethen)
+ *
+ *   p(x) = sum(w[j] y[j] / (x - x[j])) / sum(w[j] / (x - x[j])),  w[j] = 1 / prod(k != j, x[j] - x[k])
+ *
+ * Unlike the coefficients of the interpolating polynomial (whose computation is ill-conditioned for more than a few
+ * dozen points), the formula is numerically stable for any point set of modest Lebesgue constant, such as
+ * {@link #chebyshev Chebyshev points}; each evaluation takes O(n) operations once the weights (O(n^2), or O(n) for
+ * Chebyshev points) are known.
+ */
+public class BarycentricInterpolator {
+
+    final double[] points;
+
+    final double[] values;
+
+    final double[] weights;
+
+    /**
+     * construct an interpolator through arbitrary (distinct) points
+     * @param points the points
+     * @param values the value at each point
+     */
+    public BarycentricInterpolator(double[] points, double[] values) {
+        this(points, values, weights(neverNull(points, "points")));
+    }
+
+    BarycentricInterpolator(double[] points, double[] values, double[] weights) {
+
+        neverNull(values, "values");
+        equalTo(values.length, points.length, "values.length");
+
+        if (points.length == 0)
+            throw new IllegalArgumentException("points must not be empty");
+
+        this.points = points.clone();
+        this.values = values.clone();
+        this.weights = weights;
+    }
+
+    /**
+     * construct an interpolator through the Chebyshev points of the second kind upon [a, b],
+     * x[j] = (a + b) / 2 + (b - a) / 2 cos(j pi / (n - 1)), whose weights are known in closed form
+     * @param a the lower bound of the interval
+     * @param b the upper bound of the interval
+     * @param values the value at each of the n points (in the order above, descending from b to a)
+     * @return the interpolator
+     */
+    public static BarycentricInterpolator chebyshev(double a, double b, double[] values) {
+
+        neverNull(values, "values");
+
+        int count = values.length;
+
+        if (count == 0)
+            throw new IllegalArgumentException("values must not be empty");
+
+        double[] points = chebyshevPoints(a, b, count);
+        double[] weights = new double[count];
+
+        for (int index = 0; index < count; index++) {
+            weights[index] = (index & 1) == 0 ? 1 : -1;
+
+            if (index == 0 || index == count - 1)
+                weights[index] /= 2;
+        }
+
+        return new BarycentricInterpolator(points, values, weights);
+    }
+
+    /**
+     * @return the n Chebyshev points of the second kind upon [a, b], descending from b to a
+     */
+    public static double[] chebyshevPoints(double a, double b, int count) {
+
+        double[] points = new double[count];
+
+        double middle = (a + b) / 2;
+        double radius = (b - a) / 2;
+
+        for (int index = 0; index < count; index++)
+            points[index] = count == 1 ? middle : middle + radius * Math.cos(Math.PI * index / (count - 1));
+
+        return points;
+    }
+
+    /**
+     * compute the barycentric weights of a set of points
+     *
+     * Each product is scaled by 4 / (b - a), the reciprocal of the logarithmic capacity of the interval spanned by
+     * the points, so that the weights neither overflow nor underflow for large point sets; the common scale cancels
+     * from the barycentric formula.
+     * @param points the points
+     * @return the weights
+     */
+    static double[] weights(double[] points) {
+
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+
+        for (double point : points) {
+            minimum = Math.min(minimum, point);
+            maximum = Math.max(maximum, point);
+        }
+
+        double scale = maximum > minimum ? 4 / (maximum - minimum) : 1;
+
+        double[] weights = new double[points.length];
+
+        for (int index = 0; index < points.length; index++) {
+
+            double product = 1;
+
+            for (int other = 0; other < points.length; other++) {
+                if (other == index)
+                    continue;
+
+                double difference = points[index] - points[other];
+
+                if (difference == 0)
+                    throw new IllegalArgumentException("points must be distinct");
+
+                product *= difference * scale;
+            }
+
+            weights[index] = 1 / product;
+        }
+
+        return weights;
+    }
+
+    /**
+     * evaluate the interpolating polynomial
+     * @param x the point at which the polynomial is evaluated
+     * @return the value of the interpolating polynomial at x
+     */
+    public double apply(double x) {
+
+        double numerator = 0;
+        double denominator = 0;
+
+        for (int index = 0; index < points.length; index++) {
+
+            double difference = x - points[index];
+
+            if (difference == 0)
+                return values[index];
+
+            double term = weights[index] / difference;
+
+            numerator += term * values[index];
+            denominator += term;
+        }
+
+        return numerator / denominator;
+    }
+
+    /**
+     * evaluate the interpolating polynomial at each of an array of points
+     * @param xs the points
+     * @param out the array receiving the values (which may be the array of points)
+     */
+    public void apply(double[] xs, double[] out) {
+
+        Polynomial.checkRange(xs, 0, out, 0, xs.length);
+
+        for (int index = 0; index < xs.length; index++)
+            out[index] = apply(xs[index]);
+    }
+
+    /**
+     * @return the interpolation points
+     */
+    public double[] getPoints() {
+        return points.clone();
+    }
+
+    /**
+     * @return the barycentric weights (scaled by an arbitrary common factor)
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+}
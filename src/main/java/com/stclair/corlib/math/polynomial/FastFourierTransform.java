@@ -0,0 +1,323 @@
+package com.stclair.corlib.math.polynomial;
+
+/**
+ * Radix-2 fast Fourier transform and the error-controlled convolution of double coefficient arrays built upon it.
+ *
+ * A floating point transform rounds every output to within a few units in the last place of the <i>largest</i>
+ * output, so products of double coefficients are not taken directly.  Instead each coefficient is scaled (by a power
+ * of two) relative to the largest coefficient of its polynomial and split into signed integer digits of k bits; the
+ * digit sequences are convolved by transform and, because k is chosen from the lengths so that every convolution is
+ * far smaller than 2^53, each convolution is recovered exactly by rounding.  The digit convolutions are then
+ * recombined, so the product is accurate to roughly {@link #SIGNIFICANT_BITS} bits relative to the product of the
+ * largest coefficients.
+ */
+public class FastFourierTransform {
+
+    /** the number of bits of each coefficient, relative to the largest coefficient, that are retained */
+    public static final int SIGNIFICANT_BITS = 56;
+
+    /** the narrowest digit for which convolution by transform is attempted */
+    static final int MINIMUM_DIGIT_BITS = 8;
+
+    /**
+     * transform a complex sequence in place
+     * @param real the real components (whose length must be a power of two)
+     * @param imaginary the imaginary components
+     * @param inverse when true, compute the inverse transform (including the 1/n scale)
+     */
+    public static void transform(double[] real, double[] imaginary, boolean inverse) {
+
+        int size = real.length;
+
+        if (Integer.bitCount(size) != 1 || imaginary.length != size)
+            throw new IllegalArgumentException("length must be a power of two");
+
+        double[][] twiddles = twiddles(size);
+
+        transform(real, imaginary, twiddles[0], twiddles[1], inverse);
+    }
+
+    /**
+     * compute the twiddle factors for a transform
+     *
+     * Each is computed directly (rather than by recurrence) to bound its error.
+     * @param size the transform length
+     * @return the cosines and sines of 2 pi k / size for k in [0, size / 2)
+     */
+    static double[][] twiddles(int size) {
+
+        double[] cosines = new double[size / 2];
+        double[] sines = new double[size / 2];
+
+        for (int index = 0; index < size / 2; index++) {
+            double angle = 2 * Math.PI * index / size;
+
+            cosines[index] = Math.cos(angle);
+            sines[index] = Math.sin(angle);
+        }
+
+        return new double[][] { cosines, sines };
+    }
+
+    /**
+     * transform a complex sequence in place using precomputed twiddle factors
+     */
+    static void transform(double[] real, double[] imaginary, double[] cosines, double[] sines, boolean inverse) {
+
+        int size = real.length;
+
+        // bit reversal permutation
+        for (int index = 1, reversed = 0; index < size; index++) {
+
+            int bit = size >>> 1;
+
+            for (; (reversed & bit) != 0; bit >>>= 1)
+                reversed ^= bit;
+
+            reversed ^= bit;
+
+            if (index < reversed) {
+                double swap = real[index];
+                real[index] = real[reversed];
+                real[reversed] = swap;
+
+                swap = imaginary[index];
+                imaginary[index] = imaginary[reversed];
+                imaginary[reversed] = swap;
+            }
+        }
+
+        double sign = inverse ? 1 : -1;
+
+        for (int span = 2; span <= size; span <<= 1) {
+
+            int half = span >>> 1;
+            int stride = size / span;
+
+            for (int start = 0; start < size; start += span) {
+                for (int offset = 0; offset < half; offset++) {
+
+                    double cos = cosines[offset * stride];
+                    double sin = sign * sines[offset * stride];
+
+                    int even = start + offset;
+                    int odd = even + half;
+
+                    double oddReal = real[odd] * cos - imaginary[odd] * sin;
+                    double oddImaginary = real[odd] * sin + imaginary[odd] * cos;
+
+                    real[odd] = real[even] - oddReal;
+                    imaginary[odd] = imaginary[even] - oddImaginary;
+
+                    real[even] += oddReal;
+                    imaginary[even] += oddImaginary;
+                }
+            }
+        }
+
+        if (inverse) {
+            for (int index = 0; index < size; index++) {
+                real[index] /= size;
+                imaginary[index] /= size;
+            }
+        }
+    }
+
+    /**
+     * compute the product of two polynomials by transform
+     * @param multiplier the coefficients of the first polynomial
+     * @param multiplicand the coefficients of the second polynomial
+     * @return the coefficients of the product, or null if the polynomials are too long for any digit width to
+     * guarantee exact digit convolutions
+     */
+    public static double[] convolve(double[] multiplier, double[] multiplicand) {
+
+        int resultLength = multiplier.length + multiplicand.length - 1;
+
+        double[] result = new double[Math.max(resultLength, 0)];
+
+        double scaleA = maximumMagnitude(multiplier);
+        double scaleB = maximumMagnitude(multiplicand);
+
+        if (scaleA == 0 || scaleB == 0)
+            return result;
+
+        int size = Math.max(2, Integer.highestOneBit(resultLength - 1) << 1);
+
+        int digitBits = digitBits(Math.min(multiplier.length, multiplicand.length), size);
+
+        if (digitBits < MINIMUM_DIGIT_BITS)
+            return null;
+
+        int digits = (SIGNIFICANT_BITS + digitBits - 1) / digitBits;
+
+        // exponents such that every scaled coefficient has magnitude less than one
+        int exponentA = Math.getExponent(scaleA) + 1;
+        int exponentB = Math.getExponent(scaleB) + 1;
+
+        double[][] twiddles = twiddles(size);
+
+        double[][] spectraRealA = new double[digits][];
+        double[][] spectraImaginaryA = new double[digits][];
+        double[][] spectraRealB = new double[digits][];
+        double[][] spectraImaginaryB = new double[digits][];
+
+        double[][] digitsA = split(multiplier, exponentA, digitBits, digits);
+        double[][] digitsB = split(multiplicand, exponentB, digitBits, digits);
+
+        // transform the corresponding digits of both polynomials together as the real and imaginary parts of one sequence
+        for (int digit = 0; digit < digits; digit++) {
+
+            double[] real = new double[size];
+            double[] imaginary = new double[size];
+
+            System.arraycopy(digitsA[digit], 0, real, 0, multiplier.length);
+            System.arraycopy(digitsB[digit], 0, imaginary, 0, multiplicand.length);
+
+            transform(real, imaginary, twiddles[0], twiddles[1], false);
+
+            spectraRealA[digit] = new double[size];
+            spectraImaginaryA[digit] = new double[size];
+            spectraRealB[digit] = new double[size];
+            spectraImaginaryB[digit] = new double[size];
+
+            for (int index = 0; index < size; index++) {
+                int mirror = (size - index) & (size - 1);
+
+                spectraRealA[digit][index] = (real[index] + real[mirror]) / 2;
+                spectraImaginaryA[digit][index] = (imaginary[index] - imaginary[mirror]) / 2;
+                spectraRealB[digit][index] = (imaginary[index] + imaginary[mirror]) / 2;
+                spectraImaginaryB[digit][index] = (real[mirror] - real[index]) / 2;
+            }
+        }
+
+        // the convolutions of digit pairs of equal combined weight are summed in the frequency domain and inverted two
+        // at a time (as the real and imaginary parts of one sequence)
+        int weights = 2 * digits - 1;
+
+        double[][] convolutions = new double[weights + 1][];
+
+        for (int weight = 0; weight < weights; weight += 2) {
+
+            double[] real = new double[size];
+            double[] imaginary = new double[size];
+
+            accumulate(real, imaginary, weight, false, spectraRealA, spectraImaginaryA, spectraRealB, spectraImaginaryB);
+
+            if (weight + 1 < weights)
+                accumulate(real, imaginary, weight + 1, true, spectraRealA, spectraImaginaryA, spectraRealB, spectraImaginaryB);
+
+            transform(real, imaginary, twiddles[0], twiddles[1], true);
+
+            convolutions[weight] = real;
+            convolutions[weight + 1] = imaginary;
+        }
+
+        // recombine from the least significant weight upward
+        for (int index = 0; index < resultLength; index++) {
+
+            double sum = 0;
+
+            for (int weight = weights - 1; weight >= 0; weight--)
+                sum += Math.scalb(Math.rint(convolutions[weight][index]), -digitBits * (weight + 2));
+
+            result[index] = Math.scalb(sum, exponentA + exponentB);
+        }
+
+        return result;
+    }
+
+    /**
+     * select the widest digit for which every digit convolution is recovered exactly
+     * @param shorter the length of the shorter polynomial
+     * @param size the transform length
+     * @return the number of bits in each digit
+     */
+    static int digitBits(int shorter, int size) {
+
+        int lengthBits = 32 - Integer.numberOfLeadingZeros(shorter);
+        int transformBits = 32 - Integer.numberOfLeadingZeros(Integer.numberOfTrailingZeros(size));
+
+        for (int bits = 26; bits >= MINIMUM_DIGIT_BITS; bits--) {
+
+            int digits = (SIGNIFICANT_BITS + bits - 1) / bits;
+            int digitCountBits = 32 - Integer.numberOfLeadingZeros(digits);
+
+            // |convolution| <= digits * shorter * 2^(2 bits); the transform's rounding error grows with log(size)
+            // and must remain below one half, leaving a margin of four bits
+            if (2 * bits + digitCountBits + lengthBits + transformBits + 4 <= 52)
+                return bits;
+        }
+
+        return 0;
+    }
+
+    /**
+     * split each coefficient (scaled by 2^-exponent) into signed digits, most significant first
+     */
+    static double[][] split(double[] coefficients, int exponent, int digitBits, int digits) {
+
+        double[][] split = new double[digits][coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++) {
+
+            double remainder = Math.scalb(coefficients[index], -exponent);
+
+            for (int digit = 0; digit < digits; digit++) {
+                remainder = Math.scalb(remainder, digitBits);
+
+                double value = Math.rint(remainder);
+
+                split[digit][index] = value;
+                remainder -= value;
+            }
+        }
+
+        return split;
+    }
+
+    /**
+     * add the products of every pair of digit spectra of the specified combined weight to a sequence to be inverted
+     * (multiplied by i when rotate is true, so that their real convolution is recovered as the imaginary part)
+     */
+    static void accumulate(double[] real, double[] imaginary, int weight, boolean rotate,
+                           double[][] realA, double[][] imaginaryA, double[][] realB, double[][] imaginaryB) {
+
+        int digits = realA.length;
+
+        for (int digitA = Math.max(0, weight - digits + 1); digitA <= Math.min(weight, digits - 1); digitA++) {
+
+            int digitB = weight - digitA;
+
+            double[] ar = realA[digitA];
+            double[] ai = imaginaryA[digitA];
+            double[] br = realB[digitB];
+            double[] bi = imaginaryB[digitB];
+
+            for (int index = 0; index < real.length; index++) {
+
+                double productReal = ar[index] * br[index] - ai[index] * bi[index];
+                double productImaginary = ar[index] * bi[index] + ai[index] * br[index];
+
+                // i (x + iy) = -y + ix
+                if (rotate) {
+                    real[index] -= productImaginary;
+                    imaginary[index] += productReal;
+                } else {
+                    real[index] += productReal;
+                    imaginary[index] += productImaginary;
+                }
+            }
+        }
+    }
+
+    static double maximumMagnitude(double[] coefficients) {
+
+        double maximum = 0;
+
+        for (double coefficient : coefficients)
+            maximum = Math.max(maximum, Math.abs(coefficient));
+
+        return maximum;
+    }
+}
@@ -0,0 +1,82 @@
+package com.stclair.corlib.math.polynomial;
+
+/**
+ * This class implements the "First λ" algorithm for providing an upper bound estimate for the positive roots of a
+ * polynomial
+ *
+ * Each negative coefficient is paired with the nearest positive coefficient of higher degree, which is shared equally
+ * among the λ negative coefficients paired with it.  The bound is computed in a single pass over the coefficients,
+ * without allocation.
+ */
+public class FirstLambdaUpperBound implements PositiveRootBound {
+
+    /**
+     * constructor
+     *
+     */
+    public FirstLambdaUpperBound() { }
+
+    @Override
+    public double upperBound(double[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        while (degree >= 0 && coefficients[degree] == 0)
+            degree--;
+
+        if (degree < 0)
+            throw new IllegalArgumentException("polynomial must not be zero");
+
+        // the coefficients are taken as those of whichever of p and -p has a positive leading coefficient
+        double sign = Math.signum(coefficients[degree]);
+
+        double estimate = 0;
+        boolean negative = false;
+
+        // the positive coefficient nearest above the current run of negative coefficients
+        int positive = degree;
+
+        // the number of negative coefficients in the current run
+        int lambda = 0;
+
+        for (int index = degree - 1; index >= -1; index--) {
+
+            double coefficient = index >= 0 ? sign * coefficients[index] : 1;
+
+            if (coefficient < 0) {
+                lambda++;
+                continue;
+            }
+
+            if (coefficient == 0)
+                continue;
+
+            // the run of negative coefficients below the positive coefficient has ended: each takes 1 / λ of it
+            if (lambda > 0) {
+                for (int run = positive - 1; run > index; run--) {
+                    if (sign * coefficients[run] < 0)
+                        estimate = Math.max(estimate, estimateCoefficientPair(run, positive, lambda, coefficients));
+                }
+
+                negative = true;
+            }
+
+            positive = index;
+            lambda = 0;
+        }
+
+        if (! negative)
+            throw new IllegalArgumentException("polynomial must contain at least one negative coefficient");
+
+        return estimate;
+    }
+
+    /**
+     * @return the radical for a negative coefficient paired with 1 / λ of a positive coefficient (the ratio of the
+     * coefficients is the same whichever of p and -p they are taken from)
+     */
+    double estimateCoefficientPair(int negativeCoefficientIndex, int positiveCoefficientIndex, int lambda, double[] coefficients) {
+        return Math.pow(-lambda * coefficients[negativeCoefficientIndex] / coefficients[positiveCoefficientIndex],
+                1d / (positiveCoefficientIndex - negativeCoefficientIndex));
+    }
+}
@@ -12,18 +12,6 @@ public class LocalMaxQuadraticLowerBound {
     }
 
     public double estimateLowerBound(Polynomial polynomial) {
-        double[] coefficients = polynomial.getCoefficients().clone();
-
-        for (int low = 0, high = coefficients.length - 1; low < high; low++, high--) {
-            double tmp = coefficients[low];
-            coefficients[low] = coefficients[high];
-            coefficients[high] = tmp;
-        }
-
-        Polynomial reversed = Polynomial.of(coefficients);
-
-        double ub = upperBound.estimateUpperBound(reversed);
-
-        return 1/ub;
+        return upperBound.lowerBound(polynomial.getCoefficients());
     }
 }
@@ -1,17 +1,22 @@
 package com.stclair.corlib.math.polynomial;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 /**
  * This class implements the "Local Max" Quadratic algorithm for providing an upper bound estimate
  * for the roots of a polynomial
  *
+ * Each negative coefficient a_i is paired with every positive coefficient a_j of higher degree; the t-th pairing made
+ * with a_j takes the share a_j 2^-t of it (so the shares sum to less than a_j), which is tracked by a count of the
+ * pairings made with each coefficient.  The estimate for a_i is the least of its radicals (-a_i 2^t / a_j)^(1 / (j - i))
+ * and the bound is the greatest of these.  The estimate is computed in O(n^2) over the coefficients as given (or read
+ * in reverse, for a lower bound), allocating only the counts.
+ * {@link LocalMaxUpperBound} computes a coarser estimate in O(n).
+ *
  * @author hstclair
  * @since 8/16/15 10:58 AM
  */
-public class LocalMaxQuadraticUpperBound {
+public class LocalMaxQuadraticUpperBound implements PositiveRootBound {
 
     /**
      * constructor
@@ -19,52 +24,92 @@ public class LocalMaxQuadraticUpperBound {
      */
     public LocalMaxQuadraticUpperBound() { }
 
+    @Override
+    public double upperBound(double[] coefficients) {
+        return estimateUpperBound(coefficients, false);
+    }
+
+    /**
+     * The coefficients are read in reverse, so the estimate is computed without reversing them.
+     */
+    @Override
+    public double lowerBound(double[] coefficients) {
+        return 1 / estimateUpperBound(coefficients, true);
+    }
 
     public double estimateUpperBound(Polynomial polynomial) {
         Objects.requireNonNull(polynomial);
 
-        if (polynomial.degree() < 2)
+        return estimateUpperBound(polynomial.getCoefficients(), false);
+    }
+
+    /**
+     * @param coefficients the coefficients of the polynomial
+     * @param reversed true if the estimate is for the polynomial whose coefficients are these reversed
+     * @return the "Local Max" Quadratic estimate
+     */
+    double estimateUpperBound(double[] coefficients, boolean reversed) {
+        Objects.requireNonNull(coefficients);
+
+        int degree = coefficients.length - 1;
+
+        while (degree >= 0 && coefficient(coefficients, reversed, degree) == 0)
+            degree--;
+
+        if (degree < 2)
             throw new IllegalArgumentException("polynomial degree must be at least 2");
 
-        if (polynomial.getCoefficients()[polynomial.degree()] < 0)
-            polynomial = polynomial.negate();
+        // the coefficients are taken as those of whichever of p and -p has a positive leading coefficient
+        double sign = coefficient(coefficients, reversed, degree) < 0 ? -1 : 1;
 
-        if (polynomial.signChanges() == 0)
+        if (! hasNegativeCoefficient(coefficients, reversed, degree, sign))
             throw new IllegalArgumentException("polynomial must contain at least one negative coefficient");
 
-        Optional<Supplier<Double>>[] decomposedPositiveCoefficients = decomposePositiveCoefficients(polynomial.coefficients);
+        return computeEstimate(degree, coefficients, reversed, sign, new int[degree + 1]);
+    }
 
-        return computeEstimate(polynomial.degree(), polynomial.getCoefficients(), decomposedPositiveCoefficients);
+    /**
+     * @return the coefficient of a degree, of the polynomial or of its reversal
+     */
+    static double coefficient(double[] coefficients, boolean reversed, int index) {
+        return reversed ? coefficients[coefficients.length - 1 - index] : coefficients[index];
     }
 
-    double computeEstimate(int degree, double[] coefficients, Optional<Supplier<Double>>[] decomposedPositiveCoefficients) {
-        Double estimate = null;
+    boolean hasNegativeCoefficient(double[] coefficients, boolean reversed, int degree, double sign) {
 
         for (int index = degree - 1; index >= 0; index--) {
-            if (coefficients[index] < 0) {
-                if (estimate == null)
-                    estimate = estimateNegativeCoefficient(index, coefficients, decomposedPositiveCoefficients);
-                else
-                    estimate = Math.max(estimate, estimateNegativeCoefficient(index, coefficients, decomposedPositiveCoefficients));
+            if (sign * coefficient(coefficients, reversed, index) < 0)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param timesUsed the number of pairings made with each positive coefficient (initially zero)
+     * @return the greatest of the estimates for the negative coefficients
+     */
+    double computeEstimate(int degree, double[] coefficients, boolean reversed, double sign, int[] timesUsed) {
+        double estimate = Double.NEGATIVE_INFINITY;
 
-            }
+        for (int index = degree - 1; index >= 0; index--) {
+            if (sign * coefficient(coefficients, reversed, index) < 0)
+                estimate = Math.max(estimate, estimateNegativeCoefficient(index, degree, coefficients, reversed, sign, timesUsed));
         }
 
         return estimate;
     }
 
-    double estimateNegativeCoefficient(int negativeCoefficientIndex, double[] coefficients, Optional<Supplier<Double>>[] decomposedPositiveCoefficients) {
-        Double estimate = null;
-
-        int degree = coefficients.length - 1;
+    /**
+     * @return the least of the radicals for the pairings of a negative coefficient with each positive coefficient of
+     * higher degree
+     */
+    double estimateNegativeCoefficient(int negativeCoefficientIndex, int degree, double[] coefficients, boolean reversed, double sign, int[] timesUsed) {
+        double estimate = Double.POSITIVE_INFINITY;
 
         for (int index = negativeCoefficientIndex + 1; index <= degree; index++) {
-            if (decomposedPositiveCoefficients[index].isPresent()) {
-                if (estimate == null)
-                    estimate = estimateCoefficientPair(negativeCoefficientIndex, index, coefficients, decomposedPositiveCoefficients);
-                else
-                    estimate = Math.min(estimate, estimateCoefficientPair(negativeCoefficientIndex, index, coefficients, decomposedPositiveCoefficients));
-            }
+            if (sign * coefficient(coefficients, reversed, index) > 0)
+                estimate = Math.min(estimate, estimateCoefficientPair(negativeCoefficientIndex, index, coefficients, reversed, timesUsed));
         }
 
         return estimate;
@@ -73,24 +118,18 @@ public class LocalMaxQuadraticUpperBound {
     /**
      * Compute the radical for a pairing of a negative coefficient with a positive coefficient
      *
+     * The ratio of the coefficients is the same whichever of p and -p they are taken from.
+     *
      * @param negativeCoefficientIndex the array index of the negative coefficient
      * @param positiveCoefficientIndex the array index of the positive coefficient
+     * @param reversed true if the coefficients are read in reverse
+     * @param timesUsed the number of pairings made with each positive coefficient (incremented for this pairing)
      * @return the "Local Max" Quadratic radical for the paired coefficients
      */
-    double estimateCoefficientPair(int negativeCoefficientIndex, int positiveCoefficientIndex, double[] coefficients, Optional<Supplier<Double>>[] decomposedPositiveCoefficients) {
-        return Math.pow(-coefficients[negativeCoefficientIndex] / decomposedPositiveCoefficients[positiveCoefficientIndex].get().get(), positiveCoefficientIndex - negativeCoefficientIndex);
-    }
-
-    public Optional<Supplier<Double>>[] decomposePositiveCoefficients(double[] coefficients) {
-        Optional<Supplier<Double>>[] result = new Optional[coefficients.length];
-
-        for (int index = 0; index < coefficients.length; index++) {
-            if (coefficients[index]<=0)
-                result[index] = Optional.empty();
-            else
-                result[index] = Optional.of(new DecomposedCoefficientSupplier(coefficients[index]));
-        }
+    double estimateCoefficientPair(int negativeCoefficientIndex, int positiveCoefficientIndex, double[] coefficients, boolean reversed, int[] timesUsed) {
+        // the share is scaled by a power of two exactly, however many pairings are made
+        double share = Math.scalb(coefficient(coefficients, reversed, positiveCoefficientIndex), -++timesUsed[positiveCoefficientIndex]);
 
-        return result;
+        return Math.pow(-coefficient(coefficients, reversed, negativeCoefficientIndex) / share, 1d / (positiveCoefficientIndex - negativeCoefficientIndex));
     }
 }
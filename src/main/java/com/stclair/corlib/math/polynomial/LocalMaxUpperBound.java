@@ -0,0 +1,61 @@
+package com.stclair.corlib.math.polynomial;
+
+/**
+ * This class implements the "Local Max" algorithm for providing an upper bound estimate for the positive roots of a
+ * polynomial
+ *
+ * Each negative coefficient is paired with the positive coefficient of higher degree offering the largest share: each
+ * positive coefficient offers half of itself to the first negative coefficient paired with it, a quarter to the second,
+ * and so on.  Unlike the "Local Max" Quadratic algorithm (which tries every positive coefficient of higher degree) only
+ * the positive coefficient offering the largest share so far is considered, so the bound is computed in a single pass
+ * over the coefficients, without allocation.
+ */
+public class LocalMaxUpperBound implements PositiveRootBound {
+
+    /**
+     * constructor
+     *
+     */
+    public LocalMaxUpperBound() { }
+
+    @Override
+    public double upperBound(double[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        while (degree >= 0 && coefficients[degree] == 0)
+            degree--;
+
+        if (degree < 0)
+            throw new IllegalArgumentException("polynomial must not be zero");
+
+        // the coefficients are taken as those of whichever of p and -p has a positive leading coefficient
+        double sign = Math.signum(coefficients[degree]);
+
+        double estimate = 0;
+        boolean negative = false;
+
+        // the positive coefficient offering the largest share, and the share it offers
+        int positive = degree;
+        double share = sign * coefficients[degree] / 2;
+
+        for (int index = degree - 1; index >= 0; index--) {
+
+            double coefficient = sign * coefficients[index];
+
+            if (coefficient < 0) {
+                estimate = Math.max(estimate, Math.pow(-coefficient / share, 1d / (positive - index)));
+                share /= 2;
+                negative = true;
+            } else if (coefficient / 2 > share) {
+                positive = index;
+                share = coefficient / 2;
+            }
+        }
+
+        if (! negative)
+            throw new IllegalArgumentException("polynomial must contain at least one negative coefficient");
+
+        return estimate;
+    }
+}
@@ -4,10 +4,11 @@ package com.stclair.corlib.math.polynomial;
 import com.stclair.corlib.math.Complex;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -41,9 +42,19 @@ public class Polynomial {
      * Construct a polynomial passing through the supplied points (this is NOT a least squares fit)
      * @param x the set of X values
      * @param y the set of Y values
+     * @see SubproductTree#interpolate(double[])
      */
     Polynomial(double[] x, double[] y) {
+        this.coefficients = trimCoefficients(new SubproductTree(x).interpolateCoefficients(checkValues(x, y)));
+    }
+
+    static double[] checkValues(double[] x, double[] y) {
+        Objects.requireNonNull(y);
+
+        if (x.length != y.length)
+            throw new IllegalArgumentException("x and y must be of equal length");
 
+        return y;
     }
 
     Polynomial(double coefficient) {
@@ -71,14 +82,7 @@ public class Polynomial {
         if (multiplicand.degree() == 0)
             return product(multiplicand.getCoefficients()[0]);
 
-        double[] newCoefficients = new double[degree() + multiplicand.degree() + 1];
-
-        for (int innerTerm = 0; innerTerm <= degree(); innerTerm++) {
-            for (int outerTerm = 0; outerTerm <= multiplicand.degree(); outerTerm++)
-                newCoefficients[innerTerm + outerTerm] += coefficients[innerTerm] * multiplicand.coefficients[outerTerm];
-        }
-
-        return Polynomial.of(newCoefficients);
+        return Polynomial.of(PolynomialKernels.multiply(coefficients, multiplicand.coefficients));
     }
 
     public Polynomial product(double multiplicand) {
@@ -124,24 +128,16 @@ public class Polynomial {
             throw new IllegalArgumentException("Cannot divide by Zero");
 
         if (divisor == Polynomial.ONE)
-            new PolynomialQuotient(this, Polynomial.ZERO);
+            return new PolynomialQuotient(this, Polynomial.ZERO);
 
         if (divisor.degree() > this.degree())
             return new PolynomialQuotient(ZERO, this);
 
-        Polynomial remainder = this;
-
-        double[] quotient = new double[degree() - divisor.degree() + 1];
-
-        while (remainder.degree() >= divisor.degree()) {
-            double divisorTerm = remainder.leadingCoefficient() / divisor.leadingCoefficient();
+        double[] remainder = coefficients.clone();
 
-            quotient[remainder.degree() - divisor.degree()] = divisorTerm;
-
-            remainder = remainder.difference(divisor.product(divisorTerm).degree(remainder.degree()));
-        }
+        double[] quotient = PolynomialKernels.divide(remainder, divisor.coefficients);
 
-        return new PolynomialQuotient(Polynomial.of(quotient), remainder);
+        return new PolynomialQuotient(Polynomial.of(quotient), Polynomial.of(remainder));
     }
 
     public Polynomial sum(Polynomial addend) {
@@ -214,13 +210,13 @@ public class Polynomial {
         if (exponent == 1)
             return this;
 
-        Polynomial value = this;
+        PolynomialBuffer value = new PolynomialBuffer(Math.max(degree() * exponent + 1, 0)).set(this);
 
         for (int count = 1; count < exponent; count++) {
-            value = value.product(this);
+            value.multiply(this);
         }
 
-        return value;
+        return value.toPolynomial();
     }
 
     /**
@@ -266,6 +262,65 @@ public class Polynomial {
         return result;
     }
 
+    /**
+     * Apply this polynomial to each of an array of double values
+     *
+     * @param xs the values
+     * @param out the array receiving the results (which must be at least as long as xs, and may be xs itself)
+     */
+    public void apply(double[] xs, double[] out) {
+        Objects.requireNonNull(xs);
+
+        apply(xs, 0, out, 0, xs.length);
+    }
+
+    /**
+     * Apply this polynomial to each of a range of double values
+     *
+     * Low degree polynomials are evaluated by Horner's rule a block of values at a time; polynomials of degree
+     * {@link PolynomialKernels#ESTRIN_THRESHOLD} or greater are evaluated by Estrin's scheme.
+     *
+     * @param xs the values
+     * @param xsOffset the index of the first value
+     * @param out the array receiving the results (which may be xs itself, provided the results either replace the
+     *            values in place, outOffset being xsOffset, or do not overlap them)
+     * @param outOffset the index at which the first result is written
+     * @param length the number of values
+     * @throws IllegalArgumentException if out is xs and the results overlap the values at a different offset
+     */
+    public void apply(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        checkRange(xs, xsOffset, out, outOffset, length);
+
+        PolynomialKernels.evaluate(coefficients, xs, xsOffset, out, outOffset, length);
+    }
+
+    /**
+     * Apply this polynomial to each of an array of double values, dividing the array among fork/join tasks
+     *
+     * @param xs the values
+     * @param out the array receiving the results (which must be at least as long as xs, and may be xs itself)
+     * @param pool the pool on which the values are evaluated
+     */
+    public void apply(double[] xs, double[] out, ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        checkRange(xs, 0, out, 0, xs.length);
+
+        pool.invoke(new PolynomialKernels.EvaluationTask(coefficients, xs, 0, out, 0, 0, xs.length));
+    }
+
+    static void checkRange(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+        Objects.requireNonNull(xs);
+        Objects.requireNonNull(out);
+
+        if (length < 0 || xsOffset < 0 || outOffset < 0 || xsOffset > xs.length - length || outOffset > out.length - length)
+            throw new IndexOutOfBoundsException("range exceeds array bounds");
+
+        // the kernels read a block of values before writing its results, so a result may replace its own value but
+        // not one yet to be read
+        if (xs == out && xsOffset != outOffset && xsOffset < outOffset + length && outOffset < xsOffset + length)
+            throw new IllegalArgumentException("results overlap values at a different offset");
+    }
+
     /**
      * Apply this polynomial to a complex number.
      *
@@ -319,14 +374,37 @@ public class Polynomial {
         if (polynomial == IDENTITY)
             return Polynomial.of(sumOfCoefficients());
 
-        // use Horner's Rule:
-        Polynomial result = polynomial.product(coefficients[degree()]);
+        // use Horner's Rule (upon a single buffer):
+        PolynomialBuffer result = new PolynomialBuffer(degree() * polynomial.degree() + 1)
+                .set(polynomial)
+                .multiply(coefficients[degree()]);
 
         for (int index = degree() - 1; index > 0; index--) {
-            result = result.sum(coefficients[index]).product(polynomial);
+            result.add(coefficients[index]).multiply(polynomial);
         }
 
-        return result.sum(coefficients[0]);
+        return result.add(coefficients[0]).toPolynomial();
+    }
+
+    /**
+     * Compute the Taylor shift of this polynomial:  p(x + a)
+     *
+     * Equivalent to <b>apply(Polynomial.of(new double[] { a, 1 }))</b> but performed upon a single copy of the
+     * coefficients rather than constructing a new polynomial at each step of Horner's rule.
+     *
+     * @param a the shift
+     * @return the polynomial p(x + a)
+     */
+    public Polynomial taylorShift(double a) {
+
+        if (a == 0 || degree() < 1)
+            return this;
+
+        double[] shifted = coefficients.clone();
+
+        PolynomialKernels.taylorShift(shifted, a);
+
+        return Polynomial.of(shifted);
     }
 
     double sumOfCoefficients() {
@@ -364,23 +442,93 @@ public class Polynomial {
         return Polynomial.of(newCoefficients);
     }
 
+    /**
+     * compute a greatest common divisor of this polynomial and another by Euclid's algorithm
+     *
+     * The divisor is monic and exact only to within {@link PolynomialKernels#GCD_TOLERANCE}; see
+     * {@link PolynomialKernels#gcd}.
+     * @param other the other polynomial
+     * @return the greatest common divisor (zero only if both polynomials are zero)
+     */
+    public Polynomial gcd(Polynomial other) {
+        Objects.requireNonNull(other);
+
+        return Polynomial.of(PolynomialKernels.gcd(coefficients, other.coefficients));
+    }
+
+    /**
+     * compute the square-free part of this polynomial, p / gcd(p, p'), which has the same roots as p but each of
+     * multiplicity one
+     * @return the square-free part
+     */
+    public Polynomial squareFreePart() {
+        if (degree() < 2)
+            return this;
+
+        Polynomial divisor = gcd(derivative());
+
+        if (divisor.degree() < 1)
+            return this;
+
+        return quotient(divisor).quotient;
+    }
+
+    /**
+     * compute the square-free decomposition of this polynomial by Yun's algorithm
+     *
+     * The polynomial is the product (to within a constant factor) of a[0] a[1]^2 a[2]^3 ... a[k-1]^k, where the a[i]
+     * are square-free and pairwise coprime, so that the roots of a[i] are exactly the roots of multiplicity i + 1.
+     * Starting from b = p / gcd(p, p') and d = p' / gcd(p, p') - b', each step takes a = gcd(b, d), then b = b / a and
+     * d = d / a - b', until b is constant.
+     * @return the factors a[0] ... a[k-1] (the last of which is not constant), or an empty list if this polynomial is
+     * constant
+     */
+    public List<Polynomial> squareFreeDecomposition() {
+
+        List<Polynomial> factors = new ArrayList<>();
+
+        if (degree() < 1)
+            return factors;
+
+        Polynomial derivative = derivative();
+        Polynomial divisor = gcd(derivative);
+
+        Polynomial b = quotient(divisor).quotient;
+        Polynomial d = derivative.quotient(divisor).quotient.difference(b.derivative());
+
+        while (b.degree() > 0) {
+
+            // d vanishes once b holds only roots of the current multiplicity; in floating point it is merely small
+            if (PolynomialKernels.isNegligible(d.coefficients, b.coefficients))
+                d = ZERO;
+
+            Polynomial factor = b.gcd(d);
+
+            factors.add(factor);
+
+            b = b.quotient(factor).quotient;
+            d = d.quotient(factor).quotient.difference(b.derivative());
+        }
+
+        return factors;
+    }
+
     public static Polynomial sigma(Function<Integer, Polynomial> function, int rangeStart, int rangeEnd, int increment) {
         Objects.requireNonNull(function);
 
         if (increment <= 0)
             throw new IllegalArgumentException("Increment must be positive");
 
-        List<double[]> resultList = new LinkedList<>();
-
         if (rangeStart > rangeEnd)
             return ZERO;
 
+        PolynomialBuffer result = new PolynomialBuffer();
+
         for (int argument = rangeStart; argument <= rangeEnd; argument += increment) {
-            Polynomial result = function.apply(argument);
-            resultList.add(result.getCoefficients());
+            result.add(function.apply(argument));
         }
 
-        return Polynomial.of(Polynomial.sumOfCoefficientArrays(resultList.toArray(new double[0][])));
+        return result.toPolynomial();
     }
 
     public static Polynomial sigma(Function<Integer, Polynomial> function, int rangeStart, int rangeEnd) {
@@ -423,12 +571,16 @@ public class Polynomial {
      *   if a polynomial is transformed in this manner, the number of roots within interval (0, 1) of the original
      *   polynomial is bounded by the number of sign changes (Descartes Rule of Signs).
      *
-     * @return
+     *   Computed by reversing the coefficients (giving x^n f(1/x)) and Taylor shifting the result by one.
+     *
+     * @return the transformed polynomial
      */
     public Polynomial budansTheorem() {
-        Function<Integer, Polynomial> function = (k) -> pascal(degree() - k).product(coefficients[k]);
+        double[] transformed = coefficients.clone();
+
+        PolynomialKernels.budanTransform(transformed);
 
-        return Polynomial.sigma(function, degree());
+        return Polynomial.of(transformed);
     }
 
     public double leadingCoefficient() {
@@ -550,6 +702,16 @@ public class Polynomial {
         return result;
     }
 
+    /**
+     * Construct the polynomial of least degree passing through the supplied points
+     * @param x the set of X values (which must be distinct)
+     * @param y the set of Y values
+     * @return the interpolating polynomial
+     */
+    public static Polynomial interpolate(double[] x, double[] y) {
+        return new SubproductTree(x).interpolate(checkValues(x, y));
+    }
+
     public static Polynomial of(double coefficient) {
         if (coefficient == 0)
             return ZERO;
@@ -0,0 +1,413 @@
+package com.stclair.corlib.math.polynomial;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+
+/**
+ * A mutable polynomial whose operations are performed in place upon a single array of coefficients
+ *
+ * Every operation upon a {@link Polynomial} allocates a new array of coefficients and a new Polynomial, so an
+ * iterative computation (Horner's rule applied to polynomials, a sum of many terms) leaves a trail of garbage behind
+ * it.  A buffer holds its coefficients in an array whose capacity grows as required (and never shrinks), so a
+ * computation allocates only when the degree of its result first exceeds the capacity; {@link #toPolynomial()}
+ * copies the result to an immutable Polynomial once the computation is complete.
+ *
+ * Each operation other than {@link #reduceDegree(int)} (which keeps the leading coefficient where
+ * {@link Polynomial#reduceDegree(int)} yields zero) produces exactly the coefficients that the corresponding operation
+ * upon a Polynomial would; every operation returns the buffer so that operations may be chained.  A buffer is not
+ * safe for use by multiple threads.
+ */
+public class PolynomialBuffer {
+
+    /** the capacity of a buffer constructed without one */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** the coefficients in ascending order of degree; those at or beyond length are zero */
+    double[] coefficients;
+
+    /** the number of coefficients in use (one more than the degree); the last of them is non-zero */
+    int length;
+
+    /**
+     * construct a buffer holding the zero polynomial
+     */
+    public PolynomialBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * construct a buffer holding the zero polynomial
+     * @param capacity the number of coefficients the buffer can hold before it must grow
+     */
+    public PolynomialBuffer(int capacity) {
+        coefficients = new double[inRange(capacity, 0, Integer.MAX_VALUE, "capacity")];
+    }
+
+    /**
+     * construct a buffer holding a polynomial
+     * @param polynomial the polynomial
+     */
+    public PolynomialBuffer(Polynomial polynomial) {
+        this(Math.max(polynomial.getCoefficients().length, DEFAULT_CAPACITY));
+
+        set(polynomial);
+    }
+
+    /**
+     * @return the degree of the polynomial held (or -1 for the zero polynomial, as for {@link Polynomial#ZERO})
+     */
+    public int degree() {
+        return length - 1;
+    }
+
+    /**
+     * @return the number of coefficients the buffer can hold before it must grow
+     */
+    public int capacity() {
+        return coefficients.length;
+    }
+
+    /**
+     * @param degree the degree
+     * @return the coefficient of that degree (zero beyond the degree of the polynomial)
+     */
+    public double coefficient(int degree) {
+        inRange(degree, 0, Integer.MAX_VALUE, "degree");
+
+        return degree < length ? coefficients[degree] : 0;
+    }
+
+    /**
+     * @return the polynomial held (a copy, unaffected by subsequent operations upon the buffer)
+     */
+    public Polynomial toPolynomial() {
+        return Polynomial.of(Arrays.copyOf(coefficients, length));
+    }
+
+    /**
+     * replace the polynomial held with another
+     */
+    public PolynomialBuffer set(Polynomial polynomial) {
+        Objects.requireNonNull(polynomial);
+
+        double[] source = polynomial.getCoefficients();
+
+        clear();
+        ensureCapacity(source.length);
+
+        System.arraycopy(source, 0, coefficients, 0, source.length);
+        length = source.length;
+
+        return this;
+    }
+
+    /**
+     * replace the polynomial held with zero
+     */
+    public PolynomialBuffer clear() {
+        Arrays.fill(coefficients, 0, length, 0);
+        length = 0;
+
+        return this;
+    }
+
+    /**
+     * ensure that the buffer can hold a number of coefficients without growing
+     * @param capacity the number of coefficients
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= coefficients.length)
+            return;
+
+        coefficients = Arrays.copyOf(coefficients, Math.max(capacity, 2 * coefficients.length));
+    }
+
+    /**
+     * p ← p + q
+     */
+    public PolynomialBuffer add(Polynomial addend) {
+        Objects.requireNonNull(addend);
+
+        double[] source = addend.getCoefficients();
+
+        ensureCapacity(source.length);
+
+        for (int index = 0; index < source.length; index++)
+            coefficients[index] += source[index];
+
+        length = Math.max(length, source.length);
+
+        return trim();
+    }
+
+    /**
+     * p ← p + c
+     */
+    public PolynomialBuffer add(double addend) {
+        ensureCapacity(1);
+
+        coefficients[0] += addend;
+        length = Math.max(length, 1);
+
+        return trim();
+    }
+
+    /**
+     * p ← p - q
+     */
+    public PolynomialBuffer subtract(Polynomial subtrahend) {
+        Objects.requireNonNull(subtrahend);
+
+        double[] source = subtrahend.getCoefficients();
+
+        ensureCapacity(source.length);
+
+        for (int index = 0; index < source.length; index++)
+            coefficients[index] -= source[index];
+
+        length = Math.max(length, source.length);
+
+        return trim();
+    }
+
+    /**
+     * p ← -p
+     */
+    public PolynomialBuffer negate() {
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = -coefficients[index];
+
+        return this;
+    }
+
+    /**
+     * p ← c p
+     */
+    public PolynomialBuffer multiply(double multiplier) {
+
+        if (multiplier == 1)
+            return this;
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] *= multiplier;
+
+        return trim();
+    }
+
+    /**
+     * p ← p / c
+     */
+    public PolynomialBuffer divide(double divisor) {
+        if (divisor == 0)
+            throw new IllegalArgumentException("Cannot divide by zero");
+
+        if (divisor == 1)
+            return this;
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] /= divisor;
+
+        return trim();
+    }
+
+    /**
+     * p ← p q
+     *
+     * Products below {@link PolynomialKernels#KARATSUBA_THRESHOLD} are computed by the schoolbook method in place,
+     * each coefficient of the product (from the highest degree down) overwriting a coefficient of p that no lower
+     * coefficient of the product requires; larger products are computed by {@link PolynomialKernels#multiply}.
+     */
+    public PolynomialBuffer multiply(Polynomial multiplicand) {
+        Objects.requireNonNull(multiplicand);
+
+        double[] source = multiplicand.getCoefficients();
+
+        if (length == 0 || source.length == 0)
+            return clear();
+
+        // as for Polynomial#product, a constant factor multiplies each coefficient of the other
+        if (source.length == 1)
+            return multiply(source[0]);
+
+        if (length == 1) {
+            double multiplier = coefficients[0];
+
+            return set(multiplicand).multiply(multiplier);
+        }
+
+        int productLength = length + source.length - 1;
+
+        ensureCapacity(productLength);
+
+        if (Math.min(length, source.length) >= PolynomialKernels.KARATSUBA_THRESHOLD) {
+            double[] product = PolynomialKernels.multiply(Arrays.copyOf(coefficients, length), source);
+
+            System.arraycopy(product, 0, coefficients, 0, productLength);
+        } else {
+            for (int degree = productLength - 1; degree >= 0; degree--) {
+                double sum = 0;
+
+                for (int index = Math.max(0, degree - source.length + 1); index <= Math.min(degree, length - 1); index++)
+                    sum += coefficients[index] * source[degree - index];
+
+                coefficients[degree] = sum;
+            }
+        }
+
+        length = productLength;
+
+        return trim();
+    }
+
+    /**
+     * p ← p'
+     */
+    public PolynomialBuffer derivative() {
+
+        if (length <= 1)
+            return clear();
+
+        for (int index = 0; index < length - 1; index++)
+            coefficients[index] = coefficients[index + 1] * (index + 1);
+
+        coefficients[--length] = 0;
+
+        return trim();
+    }
+
+    /**
+     * p ← x^n p
+     */
+    public PolynomialBuffer increaseDegree(int increase) {
+        inRange(increase, 0, Integer.MAX_VALUE, "increase");
+
+        if (increase == 0 || length == 0)
+            return this;
+
+        ensureCapacity(length + increase);
+
+        System.arraycopy(coefficients, 0, coefficients, increase, length);
+        Arrays.fill(coefficients, 0, increase, 0);
+
+        length += increase;
+
+        return this;
+    }
+
+    /**
+     * p ← p / x^n, discarding the n coefficients of least degree
+     *
+     * Unlike {@link Polynomial#reduceDegree(int)}, a polynomial of degree n is reduced to its leading coefficient
+     * rather than to zero.
+     */
+    public PolynomialBuffer reduceDegree(int reduction) {
+        inRange(reduction, 0, Integer.MAX_VALUE, "reduction");
+
+        if (reduction == 0)
+            return this;
+
+        if (reduction >= length)
+            return clear();
+
+        System.arraycopy(coefficients, reduction, coefficients, 0, length - reduction);
+        Arrays.fill(coefficients, length - reduction, length, 0);
+
+        length -= reduction;
+
+        return this;
+    }
+
+    /**
+     * p(x) ← p(x + a)
+     */
+    public PolynomialBuffer taylorShift(double a) {
+
+        if (a == 0 || length < 2)
+            return this;
+
+        PolynomialKernels.taylorShift(coefficients, length, a);
+
+        return trim();
+    }
+
+    /**
+     * p(x) ← (x + 1)^n p(1 / (x + 1)), where n is the degree of p
+     */
+    public PolynomialBuffer budansTheorem() {
+
+        PolynomialKernels.budanTransform(coefficients, length);
+
+        return trim();
+    }
+
+    /**
+     * @return the value of the polynomial at x
+     */
+    public double apply(double x) {
+
+        if (length == 0)
+            return 0;
+
+        if (x == 0 || length == 1)
+            return coefficients[0];
+
+        // as for Polynomial#apply(double), the value at one is the sum of the coefficients
+        if (x == 1) {
+            double sum = 0;
+
+            for (int index = 0; index < length; index++)
+                sum += coefficients[index];
+
+            return sum;
+        }
+
+        double result = coefficients[length - 1];
+
+        for (int index = length - 2; index >= 0; index--)
+            result = result * x + coefficients[index];
+
+        return result;
+    }
+
+    /**
+     * @return the number of sign changes in the coefficients
+     */
+    public int signChanges() {
+        int count = 0;
+        double lastSign = 0;
+
+        for (int index = 0; index < length; index++) {
+            double coefficient = coefficients[index];
+
+            if (coefficient == 0)
+                continue;
+
+            if (lastSign != 0 && (coefficient < 0) != (lastSign < 0))
+                count++;
+
+            lastSign = coefficient;
+        }
+
+        return count;
+    }
+
+    /**
+     * restore the invariant that the last coefficient in use is non-zero
+     */
+    PolynomialBuffer trim() {
+
+        while (length > 0 && coefficients[length - 1] == 0)
+            length--;
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return toPolynomial().toString();
+    }
+}
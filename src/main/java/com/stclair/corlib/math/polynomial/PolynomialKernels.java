@@ -0,0 +1,789 @@
+package com.stclair.corlib.math.polynomial;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Primitive double kernels operating directly upon coefficient arrays (ordered such that coefficients[k] is the
+ * coefficient of x^k) so that composite operations need not construct an intermediate {@link Polynomial} at each step.
+ */
+public class PolynomialKernels {
+
+    /** polynomials of this degree or greater are Taylor shifted by divide-and-conquer */
+    public static final int DIVIDE_AND_CONQUER_THRESHOLD = 1024;
+
+    /** divide-and-conquer Taylor shifts recurse until the pieces are of lower degree than this */
+    static final int SHIFT_BASE_DEGREE = 128;
+
+    /** products in which both polynomials have at least this many coefficients are computed by Karatsuba's method */
+    public static final int KARATSUBA_THRESHOLD = 64;
+
+    /** products in which both polynomials have at least this many coefficients are computed by transform */
+    public static final int FFT_THRESHOLD = 4096;
+
+    /** the greatest number of binades the coefficients of a polynomial may span to be multiplied by transform */
+    public static final int FFT_DYNAMIC_RANGE = 16;
+
+    /** divisions in which both the divisor and the quotient have at least this many coefficients use Newton inversion */
+    public static final int NEWTON_DIVISION_THRESHOLD = 128;
+
+    /** the greatest discrepancy (relative to the largest coefficient of the dividend) accepted of Newton division */
+    public static final double NEWTON_DIVISION_TOLERANCE = 1e-10;
+
+    /** remainders none of whose coefficients exceed this (relative to the largest coefficient of the divisor) are taken
+     * as zero by {@link #gcd} */
+    public static final double GCD_TOLERANCE = 1e-9;
+
+    /** polynomials of this degree or greater are evaluated by Estrin's scheme */
+    public static final int ESTRIN_THRESHOLD = 32;
+
+    /** points are evaluated by Horner's rule in blocks of this size (so that the accumulators remain in cache) */
+    public static final int EVALUATION_BLOCK_SIZE = 256;
+
+    /** batches of this many points or fewer are evaluated by a single task */
+    public static final int PARALLEL_EVALUATION_THRESHOLD = 1 << 14;
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a), selecting the kernel best suited to the degree
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static void taylorShift(double[] coefficients, double a) {
+        taylorShift(coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a)
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    public static void taylorShift(double[] coefficients, int length, double a) {
+
+        if (length - 1 >= DIVIDE_AND_CONQUER_THRESHOLD)
+            taylorShiftDivideAndConquer(coefficients, length, a);
+        else
+            taylorShiftInPlace(coefficients, length, a);
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of (x + 1)^n p(1 / (x + 1)), where n is the degree of p
+     *
+     * Since x^n p(1 / x) is p with its coefficients reversed, the transform is a reversal followed by a Taylor shift
+     * by one.
+     * @param coefficients the coefficients of p (overwritten)
+     */
+    public static void budanTransform(double[] coefficients) {
+        budanTransform(coefficients, coefficients.length);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of (x + 1)^n p(1 / (x + 1))
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     */
+    public static void budanTransform(double[] coefficients, int length) {
+
+        for (int low = 0, high = length - 1; low < high; low++, high--) {
+            double swap = coefficients[low];
+            coefficients[low] = coefficients[high];
+            coefficients[high] = swap;
+        }
+
+        taylorShift(coefficients, length, 1);
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a) by repeated synthetic division
+     *
+     * Each pass of the outer loop divides the remaining polynomial by (x - a) with Horner's rule, leaving the next
+     * coefficient of the shifted polynomial in place.  O(n^2) operations and no allocation.
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static void taylorShiftInPlace(double[] coefficients, double a) {
+        taylorShiftInPlace(coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a) by repeated synthetic division
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    public static void taylorShiftInPlace(double[] coefficients, int length, double a) {
+
+        int degree = length - 1;
+
+        if (a == 0 || degree < 1)
+            return;
+
+        if (a == 1) {
+            for (int pass = 0; pass < degree; pass++) {
+                for (int index = degree - 1; index >= pass; index--)
+                    coefficients[index] += coefficients[index + 1];
+            }
+
+            return;
+        }
+
+        for (int pass = 0; pass < degree; pass++) {
+            for (int index = degree - 1; index >= pass; index--)
+                coefficients[index] += a * coefficients[index + 1];
+        }
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a) by divide-and-conquer
+     *
+     * Splitting p(x) = low(x) + x^m high(x) gives p(x + a) = low(x + a) + (x + a)^m high(x + a), where m is a power of
+     * two.  The powers (x + a)^m are computed once by repeated squaring, so the cost is dominated by the products at
+     * each level of the recursion: O(M(n) log n) for a product of cost M(n).
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static void taylorShiftDivideAndConquer(double[] coefficients, double a) {
+        taylorShiftDivideAndConquer(coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a) by divide-and-conquer
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    public static void taylorShiftDivideAndConquer(double[] coefficients, int length, double a) {
+
+        int degree = length - 1;
+
+        if (a == 0 || degree < 1)
+            return;
+
+        // powers[k] holds the coefficients of (x + a)^(2^k)
+        int levels = 32 - Integer.numberOfLeadingZeros(degree);
+
+        double[][] powers = new double[levels][];
+
+        powers[0] = new double[] { a, 1 };
+
+        for (int level = 1; level < levels; level++)
+            powers[level] = multiply(powers[level - 1], powers[level - 1]);
+
+        shift(coefficients, 0, length, powers, levels - 1);
+    }
+
+    /**
+     * Taylor shift the coefficients [offset, offset + length) in place, where length <= 2^(level + 1)
+     */
+    static void shift(double[] coefficients, int offset, int length, double[][] powers, int level) {
+
+        if (length - 1 < SHIFT_BASE_DEGREE || level < 0) {
+            shiftRange(coefficients, offset, length, powers[0][0]);
+            return;
+        }
+
+        int half = 1 << level;
+
+        while (half >= length) {
+            half >>>= 1;
+            level--;
+        }
+
+        shift(coefficients, offset, half, powers, level - 1);
+        shift(coefficients, offset + half, length - half, powers, level - 1);
+
+        // add (x + a)^half * high(x + a) to the low half, replacing the high half
+        double[] product = multiply(Arrays.copyOfRange(coefficients, offset + half, offset + length), powers[level]);
+
+        for (int index = half; index < length; index++)
+            coefficients[offset + index] = 0;
+
+        for (int index = 0; index < product.length && index < length; index++)
+            coefficients[offset + index] += product[index];
+    }
+
+    /**
+     * synthetic division Taylor shift of the coefficients [offset, offset + length)
+     */
+    static void shiftRange(double[] coefficients, int offset, int length, double a) {
+
+        int last = offset + length - 1;
+
+        for (int pass = offset; pass < last; pass++) {
+            for (int index = last - 1; index >= pass; index--)
+                coefficients[index] += a * coefficients[index + 1];
+        }
+    }
+
+    /**
+     * compute the product of two polynomials, selecting the kernel best suited to their lengths
+     *
+     * Products in which either polynomial has fewer than {@link #KARATSUBA_THRESHOLD} coefficients are computed by the
+     * schoolbook method (exactly as {@link Polynomial#product(Polynomial)} always has), those in which both have at
+     * least {@link #FFT_THRESHOLD} coefficients by {@link FastFourierTransform#convolve} (provided the magnitudes of
+     * the coefficients of each polynomial span no more than {@link #FFT_DYNAMIC_RANGE} binades, since the transform's
+     * error is relative to the largest coefficient) and all others by Karatsuba's method.
+     * @param multiplier the coefficients of the first polynomial
+     * @param multiplicand the coefficients of the second polynomial
+     * @return the coefficients of the product
+     */
+    public static double[] multiply(double[] multiplier, double[] multiplicand) {
+
+        int shorter = Math.min(multiplier.length, multiplicand.length);
+
+        if (shorter < KARATSUBA_THRESHOLD)
+            return multiplySchoolbook(multiplier, multiplicand);
+
+        if (shorter >= FFT_THRESHOLD && dynamicRange(multiplier) <= FFT_DYNAMIC_RANGE
+                && dynamicRange(multiplicand) <= FFT_DYNAMIC_RANGE) {
+
+            double[] product = FastFourierTransform.convolve(multiplier, multiplicand);
+
+            if (product != null)
+                return product;
+        }
+
+        return multiplyKaratsuba(multiplier, multiplicand);
+    }
+
+    /**
+     * @return the coefficients of the product of the polynomials with the specified coefficients
+     */
+    static double[] multiplySchoolbook(double[] multiplier, double[] multiplicand) {
+
+        double[] product = new double[Math.max(multiplier.length + multiplicand.length - 1, 0)];
+
+        for (int outer = 0; outer < multiplier.length; outer++) {
+            for (int inner = 0; inner < multiplicand.length; inner++)
+                product[outer + inner] += multiplier[outer] * multiplicand[inner];
+        }
+
+        return product;
+    }
+
+    /**
+     * compute the product of two polynomials by Karatsuba's method
+     *
+     * The longer polynomial is cut into pieces the length of the shorter, each of which is multiplied by the shorter
+     * polynomial with {@link #karatsuba} (or, for a shorter final piece, {@link #multiply}) and accumulated at its
+     * offset.
+     * @return the coefficients of the product
+     */
+    static double[] multiplyKaratsuba(double[] multiplier, double[] multiplicand) {
+
+        double[] longer = multiplier.length >= multiplicand.length ? multiplier : multiplicand;
+        double[] shorter = longer == multiplier ? multiplicand : multiplier;
+
+        double[] product = new double[Math.max(multiplier.length + multiplicand.length - 1, 0)];
+
+        if (shorter.length == 0)
+            return product;
+
+        for (int offset = 0; offset < longer.length; offset += shorter.length) {
+
+            int end = Math.min(offset + shorter.length, longer.length);
+
+            double[] piece = Arrays.copyOfRange(longer, offset, end);
+
+            // a shorter final piece is multiplied by whichever kernel suits its length
+            double[] partial = piece.length == shorter.length ? karatsuba(piece, shorter) : multiply(piece, shorter);
+
+            for (int index = 0; index < partial.length && offset + index < product.length; index++)
+                product[offset + index] += partial[index];
+        }
+
+        return product;
+    }
+
+    /**
+     * multiply two polynomials having the same number of coefficients, n
+     *
+     * Splitting each at m = n / 2 as low(x) + x^m high(x), the middle term of the product is
+     * (low0 + high0)(low1 + high1) - low0 low1 - high0 high1, so three half-length products replace four.
+     * @return the 2n - 1 coefficients of the product
+     */
+    static double[] karatsuba(double[] multiplier, double[] multiplicand) {
+
+        int length = multiplier.length;
+
+        if (length < KARATSUBA_THRESHOLD)
+            return multiplySchoolbook(multiplier, multiplicand);
+
+        int half = length / 2;
+
+        double[] lowA = Arrays.copyOfRange(multiplier, 0, half);
+        double[] highA = Arrays.copyOfRange(multiplier, half, length);
+        double[] lowB = Arrays.copyOfRange(multiplicand, 0, half);
+        double[] highB = Arrays.copyOfRange(multiplicand, half, length);
+
+        double[] low = karatsuba(lowA, lowB);
+        double[] high = karatsuba(highA, highB);
+
+        // the high halves are at least as long as the low halves, so the sums are formed in place upon them
+        double[] sumA = highA.clone();
+        double[] sumB = highB.clone();
+
+        for (int index = 0; index < half; index++) {
+            sumA[index] += lowA[index];
+            sumB[index] += lowB[index];
+        }
+
+        double[] middle = karatsuba(sumA, sumB);
+
+        double[] product = new double[2 * length - 1];
+
+        for (int index = 0; index < low.length; index++) {
+            product[index] += low[index];
+            middle[index] -= low[index];
+        }
+
+        for (int index = 0; index < high.length; index++) {
+            product[2 * half + index] += high[index];
+            middle[index] -= high[index];
+        }
+
+        for (int index = 0; index < middle.length; index++)
+            product[half + index] += middle[index];
+
+        return product;
+    }
+
+    /**
+     * divide one polynomial by another, selecting the kernel best suited to their degrees
+     *
+     * When both the divisor and the quotient have at least {@link #NEWTON_DIVISION_THRESHOLD} coefficients the
+     * quotient is computed by {@link #divideNewton} and accepted only if the product of the divisor and quotient
+     * reproduces the upper coefficients of the dividend to within {@link #NEWTON_DIVISION_TOLERANCE}; otherwise (and
+     * for smaller degrees) it is computed by {@link #divideInPlace}.
+     * @param coefficients the coefficients of the dividend (overwritten with those of the remainder, so that every
+     *                     coefficient of degree at or above that of the divisor is zero)
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static double[] divide(double[] coefficients, double[] divisor) {
+
+        int quotientLength = coefficients.length - divisor.length + 1;
+
+        if (quotientLength < 1)
+            return new double[0];
+
+        if (Math.min(quotientLength, divisor.length) < NEWTON_DIVISION_THRESHOLD)
+            return divideInPlace(coefficients, divisor);
+
+        double[] quotient = divideNewton(coefficients, divisor);
+
+        // the remainder is the difference of the dividend and the product of the divisor and quotient, of which only
+        // the coefficients below the degree of the divisor are significant
+        int remainderLength = divisor.length - 1;
+
+        double[] product = multiply(divisor, quotient);
+
+        // the power series inverse of the reversed divisor grows geometrically when the divisor has roots outside the
+        // unit circle, and the cancellation that then follows is fatal in floating point; the upper coefficients of
+        // the product (which must reproduce those of the dividend) detect this, whereupon long division is used
+        double tolerance = NEWTON_DIVISION_TOLERANCE * FastFourierTransform.maximumMagnitude(coefficients);
+
+        for (int index = remainderLength; index < coefficients.length; index++) {
+            if (! (Math.abs(coefficients[index] - product[index]) <= tolerance))
+                return divideInPlace(coefficients, divisor);
+        }
+
+        for (int index = 0; index < remainderLength; index++)
+            coefficients[index] -= product[index];
+
+        Arrays.fill(coefficients, remainderLength, coefficients.length, 0);
+
+        return quotient;
+    }
+
+    /**
+     * divide one polynomial by another by long division, overwriting the dividend with the remainder
+     *
+     * Each step subtracts a multiple of the divisor from the leading coefficients of the remainder, exactly as
+     * {@link Polynomial#quotient(Polynomial)} always has, but the leading coefficient is then cleared explicitly (rather
+     * than relying upon it cancelling in floating point) and no intermediate polynomial is constructed.
+     * @param coefficients the coefficients of the dividend (overwritten with those of the remainder)
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static double[] divideInPlace(double[] coefficients, double[] divisor) {
+
+        int divisorDegree = divisor.length - 1;
+
+        double[] quotient = new double[Math.max(coefficients.length - divisorDegree, 0)];
+
+        double leading = divisor[divisorDegree];
+
+        for (int term = quotient.length - 1; term >= 0; term--) {
+
+            double factor = coefficients[term + divisorDegree] / leading;
+
+            quotient[term] = factor;
+
+            if (factor == 0)
+                continue;
+
+            for (int index = 0; index < divisorDegree; index++)
+                coefficients[term + index] -= factor * divisor[index];
+
+            coefficients[term + divisorDegree] = 0;
+        }
+
+        return quotient;
+    }
+
+    /**
+     * compute the quotient of one polynomial by another by Newton inversion
+     *
+     * With rev(p) denoting the coefficients of p in reverse order, rev(quotient) = rev(dividend) / rev(divisor)
+     * mod x^k, where k is the number of coefficients of the quotient; the power series inverse of rev(divisor) is
+     * found by Newton iteration, doubling its precision each step, so the cost is a small multiple of that of a
+     * product computed by {@link #multiply}.
+     * @param dividend the coefficients of the dividend
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static double[] divideNewton(double[] dividend, double[] divisor) {
+
+        int quotientLength = dividend.length - divisor.length + 1;
+
+        if (quotientLength < 1)
+            return new double[0];
+
+        double[] reversedDivisor = reverse(divisor, Math.min(divisor.length, quotientLength));
+        double[] reversedDividend = reverse(dividend, quotientLength);
+
+        double[] reversedQuotient = multiply(reversedDividend, inverse(reversedDivisor, quotientLength));
+
+        double[] quotient = new double[quotientLength];
+
+        for (int index = 0; index < quotientLength; index++)
+            quotient[index] = reversedQuotient[quotientLength - 1 - index];
+
+        return quotient;
+    }
+
+    /**
+     * compute the power series inverse g of f mod x^length, such that f g = 1 mod x^length
+     *
+     * Each Newton step g' = g + g (1 - f g) doubles the number of correct coefficients; since 1 - f g vanishes below
+     * the current precision only its upper half need be multiplied by g.
+     * @param series the coefficients of f (whose constant coefficient must be non-zero)
+     * @param length the number of coefficients of the inverse
+     * @return the coefficients of the inverse
+     */
+    static double[] inverse(double[] series, int length) {
+
+        double[] inverse = { 1 / series[0] };
+
+        for (int precision = 1; precision < length; precision *= 2) {
+
+            int next = Math.min(2 * precision, length);
+
+            double[] product = multiply(Arrays.copyOf(series, Math.min(series.length, next)), inverse);
+
+            double[] error = new double[next - precision];
+
+            for (int index = precision; index < next && index < product.length; index++)
+                error[index - precision] = -product[index];
+
+            double[] correction = multiply(inverse, error);
+
+            inverse = Arrays.copyOf(inverse, next);
+
+            for (int index = precision; index < next; index++)
+                inverse[index] = correction[index - precision];
+        }
+
+        return inverse;
+    }
+
+    /**
+     * @return the leading count coefficients, in reverse order (coefficient n - k at index k)
+     */
+    static double[] reverse(double[] coefficients, int count) {
+
+        double[] reversed = new double[count];
+
+        for (int index = 0; index < count; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return reversed;
+    }
+
+    /**
+     * compute a greatest common divisor of two polynomials by Euclid's algorithm
+     *
+     * Each remainder is scaled so that its largest coefficient has magnitude one, and its leading coefficients are
+     * discarded while they are no greater than {@link #GCD_TOLERANCE}; the sequence ends with the first remainder that
+     * is then zero.  The result is therefore the divisor shared to within that tolerance, which is exact when the
+     * rounding error of the remainder sequence is negligible (as for polynomials of modest degree whose distinct roots
+     * are well separated).
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @return the coefficients of the monic greatest common divisor (or no coefficients if both polynomials are zero)
+     */
+    public static double[] gcd(double[] a, double[] b) {
+
+        double[] dividend = scale(Polynomial.trimCoefficients(a));
+        double[] divisor = scale(Polynomial.trimCoefficients(b));
+
+        if (dividend.length < divisor.length) {
+            double[] swap = dividend;
+            dividend = divisor;
+            divisor = swap;
+        }
+
+        if (divisor.length == 0)
+            return monic(dividend);
+
+        while (divisor.length > 1) {
+
+            double[] remainder = dividend.clone();
+
+            divideInPlace(remainder, divisor);
+
+            int length = divisor.length - 1;
+
+            while (length > 0 && Math.abs(remainder[length - 1]) <= GCD_TOLERANCE)
+                length--;
+
+            if (length == 0)
+                break;
+
+            dividend = divisor;
+            divisor = scale(Arrays.copyOf(remainder, length));
+        }
+
+        return monic(divisor);
+    }
+
+    /**
+     * @return true if no coefficient of a polynomial exceeds {@link #GCD_TOLERANCE} relative to the largest coefficient
+     * of a reference polynomial
+     */
+    static boolean isNegligible(double[] coefficients, double[] reference) {
+
+        return FastFourierTransform.maximumMagnitude(coefficients)
+                <= GCD_TOLERANCE * FastFourierTransform.maximumMagnitude(reference);
+    }
+
+    /**
+     * @return the coefficients divided by the magnitude of the largest
+     */
+    static double[] scale(double[] coefficients) {
+
+        double maximum = FastFourierTransform.maximumMagnitude(coefficients);
+
+        double[] scaled = new double[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            scaled[index] = coefficients[index] / maximum;
+
+        return scaled;
+    }
+
+    /**
+     * @return the coefficients divided by the leading coefficient
+     */
+    static double[] monic(double[] coefficients) {
+
+        if (coefficients.length == 0)
+            return coefficients;
+
+        double[] monic = new double[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            monic[index] = coefficients[index] / coefficients[coefficients.length - 1];
+
+        monic[monic.length - 1] = 1;
+
+        return monic;
+    }
+
+    /**
+     * @return the number of binades spanned by the magnitudes of the non-zero coefficients
+     */
+    static int dynamicRange(double[] coefficients) {
+
+        int greatest = Integer.MIN_VALUE;
+        int least = Integer.MAX_VALUE;
+
+        for (double coefficient : coefficients) {
+            if (coefficient == 0)
+                continue;
+
+            int exponent = Math.getExponent(coefficient);
+
+            greatest = Math.max(greatest, exponent);
+            least = Math.min(least, exponent);
+        }
+
+        return greatest < least ? 0 : greatest - least;
+    }
+
+    /**
+     * evaluate the polynomial with the specified coefficients at each of a range of points
+     * @param coefficients the coefficients of the polynomial
+     * @param xs the points
+     * @param xsOffset the index of the first point
+     * @param out the array receiving the values (which may be the array of points, provided outOffset is xsOffset or
+     *            the ranges do not overlap)
+     * @param outOffset the index at which the first value is written
+     * @param length the number of points
+     */
+    public static void evaluate(double[] coefficients, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+
+        if (coefficients.length - 1 >= ESTRIN_THRESHOLD)
+            evaluateEstrin(coefficients, xs, xsOffset, out, outOffset, length);
+        else
+            evaluateHorner(coefficients, xs, xsOffset, out, outOffset, length);
+    }
+
+    /**
+     * evaluate by Horner's rule, a block of points at a time
+     *
+     * The loop over coefficients is outermost so that the innermost loop applies a single coefficient to contiguous
+     * points with no dependency between iterations, which the JIT compiler can vectorize.  Each point undergoes
+     * exactly the operations of {@link Polynomial#apply(double)} for points other than zero and one.
+     */
+    static void evaluateHorner(double[] coefficients, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+
+        int degree = coefficients.length - 1;
+
+        if (degree < 1) {
+            double constant = degree < 0 ? 0 : coefficients[0];
+
+            for (int index = 0; index < length; index++)
+                out[outOffset + index] = constant;
+
+            return;
+        }
+
+        double[] accumulators = new double[Math.min(length, EVALUATION_BLOCK_SIZE)];
+
+        double leading = coefficients[degree];
+
+        for (int blockStart = 0; blockStart < length; blockStart += EVALUATION_BLOCK_SIZE) {
+
+            int blockLength = Math.min(EVALUATION_BLOCK_SIZE, length - blockStart);
+            int first = xsOffset + blockStart;
+
+            for (int index = 0; index < blockLength; index++)
+                accumulators[index] = leading * xs[first + index];
+
+            for (int term = degree - 1; term > 0; term--) {
+
+                double coefficient = coefficients[term];
+
+                for (int index = 0; index < blockLength; index++)
+                    accumulators[index] = (accumulators[index] + coefficient) * xs[first + index];
+            }
+
+            double constant = coefficients[0];
+
+            for (int index = 0; index < blockLength; index++)
+                out[outOffset + blockStart + index] = accumulators[index] + constant;
+        }
+    }
+
+    /**
+     * evaluate by Estrin's scheme, a block of points at a time
+     *
+     * The coefficients are grouped in fours, each of which is combined by Estrin's scheme
+     * ((c0 + c1 x) + (c2 + c3 x) x^2), and the groups are then combined by Horner's rule in x^4.  The dependency
+     * chain for each point is thereby a quarter of the length of Horner's rule, and the loop over points remains
+     * free of dependencies between iterations.
+     */
+    static void evaluateEstrin(double[] coefficients, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+
+        int terms = coefficients.length;
+
+        int blockSize = Math.min(length, EVALUATION_BLOCK_SIZE);
+
+        double[] accumulators = new double[blockSize];
+        double[] squares = new double[blockSize];
+        double[] fourths = new double[blockSize];
+
+        // the highest (partial) group holds the terms beyond the last multiple of four
+        int groups = (terms + 3) / 4;
+
+        for (int blockStart = 0; blockStart < length; blockStart += EVALUATION_BLOCK_SIZE) {
+
+            int blockLength = Math.min(EVALUATION_BLOCK_SIZE, length - blockStart);
+            int first = xsOffset + blockStart;
+
+            for (int index = 0; index < blockLength; index++) {
+                double x = xs[first + index];
+                double square = x * x;
+
+                squares[index] = square;
+                fourths[index] = square * square;
+                accumulators[index] = 0;
+            }
+
+            for (int group = groups - 1; group >= 0; group--) {
+
+                int base = group * 4;
+
+                double c0 = coefficients[base];
+                double c1 = base + 1 < terms ? coefficients[base + 1] : 0;
+                double c2 = base + 2 < terms ? coefficients[base + 2] : 0;
+                double c3 = base + 3 < terms ? coefficients[base + 3] : 0;
+
+                for (int index = 0; index < blockLength; index++) {
+                    double x = xs[first + index];
+
+                    accumulators[index] = accumulators[index] * fourths[index] + ((c0 + c1 * x) + (c2 + c3 * x) * squares[index]);
+                }
+            }
+
+            System.arraycopy(accumulators, 0, out, outOffset + blockStart, blockLength);
+        }
+    }
+
+    /**
+     * Evaluates a polynomial at the points [first, last) of a batch, splitting the batch in half until it contains no
+     * more than {@link #PARALLEL_EVALUATION_THRESHOLD} points
+     */
+    static class EvaluationTask extends RecursiveAction {
+
+        final double[] coefficients;
+
+        final double[] xs;
+
+        final int xsOffset;
+
+        final double[] out;
+
+        final int outOffset;
+
+        final int first;
+
+        final int last;
+
+        EvaluationTask(double[] coefficients, double[] xs, int xsOffset, double[] out, int outOffset, int first, int last) {
+            this.coefficients = coefficients;
+            this.xs = xs;
+            this.xsOffset = xsOffset;
+            this.out = out;
+            this.outOffset = outOffset;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= PARALLEL_EVALUATION_THRESHOLD) {
+                evaluate(coefficients, xs, xsOffset + first, out, outOffset + first, last - first);
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new EvaluationTask(coefficients, xs, xsOffset, out, outOffset, first, middle),
+                    new EvaluationTask(coefficients, xs, xsOffset, out, outOffset, middle, last));
+        }
+    }
+}
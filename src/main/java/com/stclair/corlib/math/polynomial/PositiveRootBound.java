@@ -0,0 +1,41 @@
+package com.stclair.corlib.math.polynomial;
+
+/**
+ * A strategy for bounding the positive roots of a polynomial
+ *
+ * Each strategy pairs every negative coefficient a_i with a positive coefficient a_j of higher degree, from which it
+ * takes a share λ (the shares taken from any one positive coefficient summing to at most one); every positive root is
+ * then no greater than the largest of the radicals (-a_i / λ a_j)^(1 / (j - i)).  The strategies differ in the pairings
+ * they choose, and so in the cost and sharpness of the bound.
+ *
+ * A bound upon the positive roots of a polynomial of degree n yields a lower bound upon them too: the positive roots of
+ * x^n p(1/x) (whose coefficients are those of p reversed) are the reciprocals of those of p.
+ *
+ * @see FirstLambdaUpperBound
+ * @see LocalMaxUpperBound
+ * @see LocalMaxQuadraticUpperBound
+ */
+public interface PositiveRootBound {
+
+    /**
+     * @param coefficients the coefficients of a polynomial, in ascending order of degree; they must include at least
+     *                     one sign change
+     * @return an estimate of the upper bound upon the positive roots of the polynomial
+     */
+    double upperBound(double[] coefficients);
+
+    /**
+     * @param coefficients the coefficients of a polynomial, in ascending order of degree; they must include at least
+     *                     one sign change
+     * @return an estimate of the lower bound upon the positive roots of the polynomial
+     */
+    default double lowerBound(double[] coefficients) {
+
+        double[] reversed = new double[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return 1 / upperBound(reversed);
+    }
+}
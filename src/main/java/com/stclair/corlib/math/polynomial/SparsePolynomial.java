@@ -0,0 +1,548 @@
+package com.stclair.corlib.math.polynomial;
+
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Represents a Polynomial in positive integer exponents by its non-zero terms alone
+ *
+ * The terms are held in two parallel arrays, the exponents in strictly ascending order and the (non-zero)
+ * coefficients, so x^100000 - 1 occupies two terms rather than the 100001 coefficients of a {@link Polynomial} and each
+ * operation costs time in proportion to the number of terms rather than to the degree.  A polynomial may be
+ * converted to and from its dense representation with {@link #toPolynomial()} and {@link #of(Polynomial)}.
+ */
+public class SparsePolynomial {
+
+    static final int[] NO_EXPONENTS = new int[0];
+
+    static final double[] NO_COEFFICIENTS = new double[0];
+
+    public static final SparsePolynomial ZERO = new SparsePolynomial(NO_EXPONENTS, NO_COEFFICIENTS);
+
+    /** the exponents of the terms, in strictly ascending order */
+    final int[] exponents;
+
+    /** the coefficients of the terms, none of which is zero */
+    final double[] coefficients;
+
+    /**
+     * @param exponents the exponents of the terms, in strictly ascending order
+     * @param coefficients the coefficients of the terms, none of which may be zero
+     */
+    SparsePolynomial(int[] exponents, double[] coefficients) {
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * construct a polynomial from its terms, in any order
+     *
+     * The coefficients of terms sharing an exponent are summed and terms whose coefficients are zero are discarded.
+     *
+     * @param exponents the exponents of the terms
+     * @param coefficients the coefficients of the terms
+     * @return the polynomial
+     */
+    public static SparsePolynomial of(int[] exponents, double[] coefficients) {
+        neverNull(exponents, "exponents");
+        neverNull(coefficients, "coefficients");
+        equalTo(coefficients.length, exponents.length, "coefficients.length");
+
+        for (int exponent : exponents)
+            inRange(exponent, 0, Integer.MAX_VALUE, "exponent");
+
+        // sort the terms by exponent (the sort is stable, so terms sharing an exponent are summed in the order given)
+        Integer[] order = new Integer[exponents.length];
+
+        for (int index = 0; index < order.length; index++)
+            order[index] = index;
+
+        Arrays.sort(order, (left, right) -> Integer.compare(exponents[left], exponents[right]));
+
+        int[] sortedExponents = new int[exponents.length];
+        double[] sortedCoefficients = new double[exponents.length];
+        int terms = 0;
+
+        for (int index = 0; index < order.length; index++) {
+            int exponent = exponents[order[index]];
+            double coefficient = coefficients[order[index]];
+
+            if (terms > 0 && sortedExponents[terms - 1] == exponent)
+                sortedCoefficients[terms - 1] += coefficient;
+            else {
+                // the previous term is complete: discard it should its coefficient be zero
+                if (terms > 0 && sortedCoefficients[terms - 1] == 0)
+                    terms--;
+
+                sortedExponents[terms] = exponent;
+                sortedCoefficients[terms++] = coefficient;
+            }
+        }
+
+        if (terms > 0 && sortedCoefficients[terms - 1] == 0)
+            terms--;
+
+        return of(sortedExponents, sortedCoefficients, terms);
+    }
+
+    /**
+     * @param polynomial a dense polynomial
+     * @return the polynomial represented by its non-zero terms
+     */
+    public static SparsePolynomial of(Polynomial polynomial) {
+        Objects.requireNonNull(polynomial);
+
+        double[] dense = polynomial.getCoefficients();
+
+        int terms = 0;
+
+        for (double coefficient : dense) {
+            if (coefficient != 0)
+                terms++;
+        }
+
+        int[] exponents = new int[terms];
+        double[] coefficients = new double[terms];
+
+        for (int degree = 0, term = 0; degree < dense.length; degree++) {
+            if (dense[degree] != 0) {
+                exponents[term] = degree;
+                coefficients[term++] = dense[degree];
+            }
+        }
+
+        return of(exponents, coefficients, terms);
+    }
+
+    /**
+     * @param coefficient the coefficient
+     * @param exponent the exponent
+     * @return the polynomial coefficient * x^exponent
+     */
+    public static SparsePolynomial monomial(double coefficient, int exponent) {
+        inRange(exponent, 0, Integer.MAX_VALUE, "exponent");
+
+        if (coefficient == 0)
+            return ZERO;
+
+        return new SparsePolynomial(new int[] { exponent }, new double[] { coefficient });
+    }
+
+    /**
+     * @return the polynomial whose terms are the first of the arrays supplied (which are trimmed if necessary)
+     */
+    static SparsePolynomial of(int[] exponents, double[] coefficients, int terms) {
+
+        if (terms == 0)
+            return ZERO;
+
+        if (terms < exponents.length) {
+            exponents = Arrays.copyOf(exponents, terms);
+            coefficients = Arrays.copyOf(coefficients, terms);
+        }
+
+        return new SparsePolynomial(exponents, coefficients);
+    }
+
+    /**
+     * @return the dense representation of this polynomial (of degree + 1 coefficients)
+     */
+    public Polynomial toPolynomial() {
+
+        if (isZero())
+            return Polynomial.ZERO;
+
+        double[] dense = new double[degree() + 1];
+
+        for (int term = 0; term < exponents.length; term++)
+            dense[exponents[term]] = coefficients[term];
+
+        return Polynomial.of(dense);
+    }
+
+    /**
+     * @return the exponents of the terms, in ascending order
+     */
+    public int[] getExponents() {
+        return exponents;
+    }
+
+    /**
+     * @return the coefficients of the terms, in ascending order of exponent
+     */
+    public double[] getCoefficients() {
+        return coefficients;
+    }
+
+    /**
+     * @return the number of non-zero terms
+     */
+    public int terms() {
+        return exponents.length;
+    }
+
+    public boolean isZero() {
+        return exponents.length == 0;
+    }
+
+    /**
+     * @return the degree (or -1 for {@link #ZERO}, as for {@link Polynomial#ZERO})
+     */
+    public int degree() {
+        return isZero() ? -1 : exponents[exponents.length - 1];
+    }
+
+    /**
+     * @return the least exponent of a non-zero term (or 0 for {@link #ZERO}, as for {@link Polynomial#lowestDegree()})
+     */
+    public int lowestDegree() {
+        return isZero() ? 0 : exponents[0];
+    }
+
+    public double leadingCoefficient() {
+        return isZero() ? 0 : coefficients[coefficients.length - 1];
+    }
+
+    /**
+     * @param exponent the exponent
+     * @return the coefficient of the term of that exponent (zero if there is none)
+     */
+    public double coefficient(int exponent) {
+        int term = Arrays.binarySearch(exponents, exponent);
+
+        return term >= 0 ? coefficients[term] : 0;
+    }
+
+    public SparsePolynomial sum(SparsePolynomial addend) {
+        Objects.requireNonNull(addend);
+
+        return merge(addend, 1);
+    }
+
+    public SparsePolynomial difference(SparsePolynomial subtrahend) {
+        Objects.requireNonNull(subtrahend);
+
+        return merge(subtrahend, -1);
+    }
+
+    /**
+     * @return the sum of this polynomial and the other with each of its coefficients multiplied by sign
+     */
+    SparsePolynomial merge(SparsePolynomial other, double sign) {
+
+        if (other.isZero())
+            return this;
+
+        int[] exponents = new int[this.exponents.length + other.exponents.length];
+        double[] coefficients = new double[exponents.length];
+
+        int terms = 0;
+        int left = 0;
+        int right = 0;
+
+        while (left < this.exponents.length || right < other.exponents.length) {
+
+            int exponent;
+            double coefficient;
+
+            if (right == other.exponents.length || (left < this.exponents.length && this.exponents[left] < other.exponents[right])) {
+                exponent = this.exponents[left];
+                coefficient = this.coefficients[left++];
+            } else if (left == this.exponents.length || other.exponents[right] < this.exponents[left]) {
+                exponent = other.exponents[right];
+                coefficient = sign * other.coefficients[right++];
+            } else {
+                exponent = this.exponents[left];
+                coefficient = this.coefficients[left++] + sign * other.coefficients[right++];
+            }
+
+            if (coefficient != 0) {
+                exponents[terms] = exponent;
+                coefficients[terms++] = coefficient;
+            }
+        }
+
+        return of(exponents, coefficients, terms);
+    }
+
+    public SparsePolynomial negate() {
+        return product(-1);
+    }
+
+    public SparsePolynomial product(double multiplicand) {
+
+        if (multiplicand == 0)
+            return ZERO;
+
+        if (multiplicand == 1)
+            return this;
+
+        double[] coefficients = new double[this.coefficients.length];
+        int[] exponents = new int[this.exponents.length];
+        int terms = 0;
+
+        for (int term = 0; term < coefficients.length; term++) {
+            double coefficient = this.coefficients[term] * multiplicand;
+
+            // the product of tiny coefficients may underflow
+            if (coefficient != 0) {
+                exponents[terms] = this.exponents[term];
+                coefficients[terms++] = coefficient;
+            }
+        }
+
+        return of(exponents, coefficients, terms);
+    }
+
+    /**
+     * Compute the product of this polynomial and another by merging the partial products with a heap
+     *
+     * Each term of the polynomial with fewer terms (m of them) multiplies the terms of the other (n of them), giving m
+     * streams of partial products in ascending order of exponent.  A binary heap of the streams, ordered by the
+     * exponent of the next partial product of each, yields the partial products in ascending order of exponent, so
+     * the terms of the product are produced in order in O(m n log m) time, and never more than a single term of the
+     * product is held that is not yet complete.
+     *
+     * @param multiplicand the other polynomial
+     * @return the product
+     */
+    public SparsePolynomial product(SparsePolynomial multiplicand) {
+        Objects.requireNonNull(multiplicand);
+
+        if (isZero() || multiplicand.isZero())
+            return ZERO;
+
+        if ((long) degree() + multiplicand.degree() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("degree of product exceeds " + Integer.MAX_VALUE);
+
+        SparsePolynomial shorter = terms() <= multiplicand.terms() ? this : multiplicand;
+        SparsePolynomial longer = shorter == this ? multiplicand : this;
+
+        int streams = shorter.terms();
+
+        // the index within the longer polynomial of the next partial product of each stream
+        int[] next = new int[streams];
+
+        // the streams ordered by exponent; initially each stream's exponent is that of its term of the shorter
+        // polynomial plus the least exponent of the longer, so the streams in order already form a heap
+        int[] heap = new int[streams];
+
+        for (int stream = 0; stream < streams; stream++)
+            heap[stream] = stream;
+
+        int size = streams;
+
+        int[] exponents = new int[Math.max(shorter.terms(), longer.terms())];
+        double[] coefficients = new double[exponents.length];
+        int terms = 0;
+
+        while (size > 0) {
+            int stream = heap[0];
+            int exponent = shorter.exponents[stream] + longer.exponents[next[stream]];
+            double coefficient = shorter.coefficients[stream] * longer.coefficients[next[stream]];
+
+            if (terms > 0 && exponents[terms - 1] == exponent)
+                coefficients[terms - 1] += coefficient;
+            else {
+                // the previous term is complete: discard it should its partial products have cancelled
+                if (terms > 0 && coefficients[terms - 1] == 0)
+                    terms--;
+
+                if (terms == exponents.length) {
+                    exponents = Arrays.copyOf(exponents, 2 * terms);
+                    coefficients = Arrays.copyOf(coefficients, 2 * terms);
+                }
+
+                exponents[terms] = exponent;
+                coefficients[terms++] = coefficient;
+            }
+
+            // advance the stream, or remove it from the heap once it is exhausted
+            if (++next[stream] == longer.terms())
+                heap[0] = heap[--size];
+
+            siftDown(heap, size, shorter.exponents, longer.exponents, next);
+        }
+
+        if (terms > 0 && coefficients[terms - 1] == 0)
+            terms--;
+
+        return of(exponents, coefficients, terms);
+    }
+
+    /**
+     * restore the heap property after the exponent of the stream at the root has increased (or the root has been
+     * replaced); streams sharing an exponent are ordered by index, so the partial products are always summed in the
+     * same order
+     */
+    static void siftDown(int[] heap, int size, int[] shorterExponents, int[] longerExponents, int[] next) {
+
+        int parent = 0;
+
+        while (true) {
+            int least = parent;
+            int left = 2 * parent + 1;
+            int right = left + 1;
+
+            if (left < size && precedes(heap[left], heap[least], shorterExponents, longerExponents, next))
+                least = left;
+
+            if (right < size && precedes(heap[right], heap[least], shorterExponents, longerExponents, next))
+                least = right;
+
+            if (least == parent)
+                return;
+
+            int swap = heap[parent];
+            heap[parent] = heap[least];
+            heap[least] = swap;
+
+            parent = least;
+        }
+    }
+
+    static boolean precedes(int stream, int other, int[] shorterExponents, int[] longerExponents, int[] next) {
+        int exponent = shorterExponents[stream] + longerExponents[next[stream]];
+        int otherExponent = shorterExponents[other] + longerExponents[next[other]];
+
+        return exponent < otherExponent || (exponent == otherExponent && stream < other);
+    }
+
+    /**
+     * Apply this polynomial to a value
+     *
+     * Horner's rule over the terms alone: the gap between the exponents of consecutive terms is bridged by a power
+     * of x computed by repeated squaring, so evaluation costs O(t log d) for t terms of degree d.
+     *
+     * @param x the value
+     * @return the value of the polynomial at x
+     */
+    public double apply(double x) {
+
+        if (isZero())
+            return 0;
+
+        if (x == 0)
+            return exponents[0] == 0 ? coefficients[0] : 0;
+
+        if (x == 1) {
+            double sum = 0;
+
+            for (double coefficient : coefficients)
+                sum += coefficient;
+
+            return sum;
+        }
+
+        int last = exponents.length - 1;
+
+        double result = coefficients[last];
+
+        for (int term = last - 1; term >= 0; term--)
+            result = result * power(x, exponents[term + 1] - exponents[term]) + coefficients[term];
+
+        return result * power(x, exponents[0]);
+    }
+
+    /**
+     * @return x^exponent, computed by repeated squaring
+     */
+    static double power(double x, int exponent) {
+        double result = 1;
+
+        while (exponent > 0) {
+            if ((exponent & 1) != 0)
+                result *= x;
+
+            x *= x;
+            exponent >>>= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute the number of sign changes using Descartes' Rule of Signs
+     *
+     * @return the number of sign changes in this polynomial
+     */
+    public int signChanges() {
+        int count = 0;
+
+        for (int term = 1; term < coefficients.length; term++) {
+            if ((coefficients[term] < 0) != (coefficients[term - 1] < 0))
+                count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        if (isZero())
+            return "0";
+
+        DecimalFormat integerFormat = new DecimalFormat();
+        integerFormat.setMaximumFractionDigits(0);
+
+        DecimalFormat floatFormat = new DecimalFormat();
+        floatFormat.setMaximumFractionDigits(17);
+        floatFormat.setMinimumFractionDigits(0);
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int term = exponents.length - 1; term >= 0; term--) {
+            double coefficient = coefficients[term];
+            int degree = exponents[term];
+
+            if (term == exponents.length - 1) {
+                if (coefficient < 0)
+                    sb.append("-");
+            } else {
+                if (coefficient >= 0) {
+                    sb.append(" + ");
+                } else
+                    sb.append(" - ");
+            }
+
+            coefficient = Math.abs(coefficient);
+
+            if (coefficient != 1 || degree == 0) {
+                if (0 == coefficient % 1)
+                    sb.append(integerFormat.format(coefficient));
+                else
+                    sb.append(floatFormat.format(coefficient));
+            }
+
+            if (degree > 1)
+                sb.append(String.format("X^%d", degree));
+            else if (degree == 1)
+                sb.append("X");
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(exponents) + Arrays.hashCode(coefficients);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this)
+            return true;
+
+        if (other == null || other.getClass() != SparsePolynomial.class)
+            return false;
+
+        SparsePolynomial otherPoly = (SparsePolynomial) other;
+
+        return Arrays.equals(exponents, otherPoly.exponents) && Arrays.equals(coefficients, otherPoly.coefficients);
+    }
+}
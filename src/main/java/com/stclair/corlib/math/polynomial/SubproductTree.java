@@ -0,0 +1,243 @@
+package com.stclair.corlib.math.polynomial;
+
+import java.util.Arrays;
+
+import static com.stclair.corlib.validation.Validation.equalTo;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * The subproduct tree of a set of points x[0] ... x[n-1]:  each leaf holds the linear polynomial (x - x[i]) and each
+ * interior node the product of its children, so that the root holds the polynomial M(x) vanishing at every point.
+ *
+ * The tree supports multipoint evaluation (reducing a polynomial modulo each node from the root downward, so that the
+ * remainder at a leaf is the value at its point) and interpolation (combining the Lagrange weights y[i] / M'(x[i])
+ * from the leaves upward).  With {@link PolynomialKernels#multiply} and {@link PolynomialKernels#divide} selecting
+ * fast kernels for large nodes, both take O(M(n) log n) operations for a product of cost M(n).
+ *
+ * In floating point the reduction modulo a node is ill-conditioned (the coefficients of a product of n linear factors
+ * grow exponentially with n), so nodes covering no more than {@link #DIRECT_EVALUATION_THRESHOLD} points are evaluated
+ * directly by Horner's rule, and the results remain accurate only for point sets of modest size (a few multiples of
+ * the threshold) or of exactly representable data.  For large double point sets, {@link Polynomial#apply(double[],
+ * double[])} evaluates accurately and {@link BarycentricInterpolator} interpolates stably.
+ */
+public class SubproductTree {
+
+    /** subtrees covering this many points or fewer are evaluated directly */
+    public static final int DIRECT_EVALUATION_THRESHOLD = 64;
+
+    final double[] points;
+
+    /** levels[0] holds the leaves; levels[k][j] covers the points [j 2^k, min((j + 1) 2^k, n)) */
+    final double[][][] levels;
+
+    /**
+     * construct the subproduct tree of a set of points
+     * @param points the points (at least one)
+     */
+    public SubproductTree(double[] points) {
+
+        neverNull(points, "points");
+
+        if (points.length == 0)
+            throw new IllegalArgumentException("points must not be empty");
+
+        this.points = points.clone();
+
+        int height = 1;
+
+        for (int count = points.length; count > 1; count = (count + 1) / 2)
+            height++;
+
+        levels = new double[height][][];
+
+        levels[0] = new double[points.length][];
+
+        for (int index = 0; index < points.length; index++)
+            levels[0][index] = new double[] { -points[index], 1 };
+
+        for (int level = 1; level < height; level++) {
+
+            double[][] children = levels[level - 1];
+            double[][] nodes = new double[(children.length + 1) / 2][];
+
+            for (int index = 0; index < nodes.length; index++) {
+                if (2 * index + 1 < children.length)
+                    nodes[index] = PolynomialKernels.multiply(children[2 * index], children[2 * index + 1]);
+                else
+                    nodes[index] = children[2 * index];
+            }
+
+            levels[level] = nodes;
+        }
+    }
+
+    /**
+     * @return the polynomial (x - x[0]) (x - x[1]) ... (x - x[n-1]) vanishing at every point
+     */
+    public Polynomial root() {
+        return Polynomial.of(levels[levels.length - 1][0].clone());
+    }
+
+    /**
+     * @return the number of points
+     */
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * evaluate a polynomial at every point
+     * @param polynomial the polynomial
+     * @return the values of the polynomial at the points (in the order of the points)
+     */
+    public double[] evaluate(Polynomial polynomial) {
+
+        neverNull(polynomial, "polynomial");
+
+        return evaluate(polynomial.getCoefficients());
+    }
+
+    /**
+     * evaluate the polynomial with the specified coefficients at every point
+     */
+    double[] evaluate(double[] coefficients) {
+
+        double[] values = new double[points.length];
+
+        int top = levels.length - 1;
+
+        evaluate(reduce(coefficients, levels[top][0]), top, 0, values);
+
+        return values;
+    }
+
+    /**
+     * evaluate a remainder at the points covered by a node
+     */
+    void evaluate(double[] remainder, int level, int index, double[] values) {
+
+        int first = index << level;
+        int count = Math.min(1 << level, points.length - first);
+
+        if (count <= DIRECT_EVALUATION_THRESHOLD || level == 0) {
+            PolynomialKernels.evaluate(remainder, points, first, values, first, count);
+            return;
+        }
+
+        double[][] children = levels[level - 1];
+
+        int left = 2 * index;
+        int right = left + 1;
+
+        evaluate(reduce(remainder, children[left]), level - 1, left, values);
+
+        if (right < children.length)
+            evaluate(reduce(remainder, children[right]), level - 1, right, values);
+    }
+
+    /**
+     * reject a set of points containing a repeated point
+     *
+     * A repeated point is tested for explicitly (upon a sorted copy, as {@link BarycentricInterpolator} tests exact
+     * differences) because M'(x[i]) computed in floating point need not vanish exactly at it.
+     */
+    static void checkDistinct(double[] points) {
+
+        double[] sorted = points.clone();
+
+        Arrays.sort(sorted);
+
+        for (int index = 1; index < sorted.length; index++) {
+            if (sorted[index] == sorted[index - 1])
+                throw new IllegalArgumentException("points must be distinct");
+        }
+    }
+
+    /**
+     * interpolate the polynomial of least degree taking the specified value at each point
+     *
+     * The Lagrange form is p(x) = sum y[i] / M'(x[i]) M(x) / (x - x[i]); the denominators are found by evaluating M'
+     * over the tree, and the sum is accumulated upward as p(node) = p(left) M(right) + p(right) M(left).
+     * @param values the value at each point
+     * @return the interpolating polynomial
+     */
+    public Polynomial interpolate(double[] values) {
+
+        neverNull(values, "values");
+        equalTo(values.length, points.length, "values.length");
+
+        return Polynomial.of(interpolateCoefficients(values));
+    }
+
+    /**
+     * @return the coefficients of the interpolating polynomial
+     */
+    double[] interpolateCoefficients(double[] values) {
+
+        checkDistinct(points);
+
+        double[] root = levels[levels.length - 1][0];
+
+        double[] derivative = new double[root.length - 1];
+
+        for (int index = 1; index < root.length; index++)
+            derivative[index - 1] = root[index] * index;
+
+        double[] denominators = evaluate(derivative);
+
+        double[][] sums = new double[points.length][];
+
+        for (int index = 0; index < points.length; index++) {
+            if (denominators[index] == 0)
+                throw new IllegalArgumentException("points are too close to interpolate");
+
+            sums[index] = new double[] { values[index] / denominators[index] };
+        }
+
+        for (int level = 1; level < levels.length; level++) {
+
+            double[][] children = levels[level - 1];
+            double[][] combined = new double[levels[level].length][];
+
+            for (int index = 0; index < combined.length; index++) {
+
+                int left = 2 * index;
+                int right = left + 1;
+
+                if (right >= children.length) {
+                    combined[index] = sums[left];
+                    continue;
+                }
+
+                double[] low = PolynomialKernels.multiply(sums[left], children[right]);
+                double[] high = PolynomialKernels.multiply(sums[right], children[left]);
+
+                double[] sum = Arrays.copyOf(low, Math.max(low.length, high.length));
+
+                for (int term = 0; term < high.length; term++)
+                    sum[term] += high[term];
+
+                combined[index] = sum;
+            }
+
+            sums = combined;
+        }
+
+        return sums[0];
+    }
+
+    /**
+     * @return the coefficients of the remainder of the polynomial with the specified coefficients modulo a node
+     */
+    static double[] reduce(double[] coefficients, double[] modulus) {
+
+        if (coefficients.length < modulus.length)
+            return coefficients;
+
+        double[] remainder = coefficients.clone();
+
+        PolynomialKernels.divide(remainder, modulus);
+
+        return Arrays.copyOf(remainder, modulus.length - 1);
+    }
+}
@@ -18,17 +18,8 @@ public class LocalMaxQuadraticLowerBound<T> {
 
         OperationStrategy<T> op = polynomial.op;
 
-        T[] coefficients = polynomial.getCoefficients().clone();
-
-        for (int low = 0, high = coefficients.length - 1; low < high; low++, high--) {
-            T tmp = coefficients[low];
-            coefficients[low] = coefficients[high];
-            coefficients[high] = tmp;
-        }
-
-        Polynomial<T> reversed = Polynomial.of(op, coefficients);
-
-        T ub = upperBound.estimateUpperBound(reversed);
+        // the upper bound upon the roots of the reversed polynomial, read from the coefficients in reverse
+        T ub = upperBound.estimateUpperBound(op, polynomial.getCoefficients(), true);
 
         return op.quotient(op.one(), ub);
     }
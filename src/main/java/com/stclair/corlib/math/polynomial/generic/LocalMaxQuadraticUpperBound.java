@@ -3,13 +3,17 @@ package com.stclair.corlib.math.polynomial.generic;
 import com.stclair.corlib.math.util.OperationStrategy;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 /**
  * This class implements the "Local Max" Quadratic algorithm for providing an upper bound estimate
  * for the roots of a polynomial
  *
+ * Each negative coefficient a_i is paired with every positive coefficient a_j of higher degree; each pairing takes
+ * from a_j half of what the previous pairing took (so the shares sum to less than a_j), which is tracked by the share
+ * most recently taken from each coefficient.  The estimate for a_i is the least of its radicals
+ * (-a_i / share)^(1 / (j - i)) and the bound is the greatest of these.  The estimate is computed in O(n^2) over the
+ * coefficients as given (or read in reverse, for a lower bound), allocating only the shares.
+ *
  * @author hstclair
  * @since 8/16/15 10:58 AM
  */
@@ -25,49 +29,101 @@ public class LocalMaxQuadraticUpperBound<T> {
     public T estimateUpperBound(Polynomial<T> polynomial) {
         Objects.requireNonNull(polynomial);
 
-        OperationStrategy<T> op = polynomial.op;
+        return estimateUpperBound(polynomial.op, polynomial.getCoefficients(), false);
+    }
+
+    /**
+     * @param op the operation strategy for the coefficients
+     * @param coefficients the coefficients of the polynomial
+     * @param reversed true if the estimate is for the polynomial whose coefficients are these reversed
+     * @return the "Local Max" Quadratic estimate
+     */
+    T estimateUpperBound(OperationStrategy<T> op, T[] coefficients, boolean reversed) {
+
+        int degree = coefficients.length - 1;
+
+        while (degree >= 0 && op.isZero(coefficient(coefficients, reversed, degree)))
+            degree--;
 
-        if (polynomial.degree() < 2)
+        if (degree < 2)
             throw new IllegalArgumentException("polynomial degree must be at least 2");
 
-        if (op.isNegative(polynomial.getCoefficients()[polynomial.degree()]))
-            polynomial = polynomial.negate();
+        // the coefficients are taken as those of whichever of p and -p has a positive leading coefficient
+        boolean negated = op.isNegative(coefficient(coefficients, reversed, degree));
 
-        if (polynomial.signChanges() == 0)
+        if (! hasNegativeCoefficient(op, coefficients, reversed, degree, negated))
             throw new IllegalArgumentException("polynomial must contain at least one negative coefficient");
 
-        Optional<Supplier<T>>[] decomposedPositiveCoefficients = decomposePositiveCoefficients(op, polynomial.coefficients);
+        T[] shares = op.array(degree + 1);
 
-        return computeEstimate(op, polynomial.degree(), polynomial.getCoefficients(), decomposedPositiveCoefficients);
+        for (int index = 0; index <= degree; index++)
+            shares[index] = coefficient(coefficients, reversed, index);
+
+        return computeEstimate(op, degree, coefficients, reversed, negated, shares);
     }
 
-    T computeEstimate(OperationStrategy<T> op, int degree, T[] coefficients, Optional<Supplier<T>>[] decomposedPositiveCoefficients) {
+    /**
+     * @return the coefficient of a degree, of the polynomial or of its reversal
+     */
+    static <T> T coefficient(T[] coefficients, boolean reversed, int index) {
+        return reversed ? coefficients[coefficients.length - 1 - index] : coefficients[index];
+    }
+
+    /**
+     * @return true if the coefficient is negative (or positive, if the polynomial is negated)
+     */
+    static <T> boolean isNegative(OperationStrategy<T> op, T coefficient, boolean negated) {
+        return negated ? op.isPositive(coefficient) : op.isNegative(coefficient);
+    }
+
+    /**
+     * @return true if the coefficient is positive (or negative, if the polynomial is negated)
+     */
+    static <T> boolean isPositive(OperationStrategy<T> op, T coefficient, boolean negated) {
+        return negated ? op.isNegative(coefficient) : ! (op.isNegative(coefficient) || op.isZero(coefficient));
+    }
+
+    boolean hasNegativeCoefficient(OperationStrategy<T> op, T[] coefficients, boolean reversed, int degree, boolean negated) {
+
+        for (int index = degree - 1; index >= 0; index--) {
+            if (isNegative(op, coefficient(coefficients, reversed, index), negated))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param shares the share most recently taken from each positive coefficient (initially the coefficient itself)
+     * @return the greatest of the estimates for the negative coefficients
+     */
+    T computeEstimate(OperationStrategy<T> op, int degree, T[] coefficients, boolean reversed, boolean negated, T[] shares) {
         T estimate = null;
 
         for (int index = degree - 1; index >= 0; index--) {
-            if (op.isNegative(coefficients[index])) {
-                if (estimate == null)
-                    estimate = estimateNegativeCoefficient(op, index, coefficients, decomposedPositiveCoefficients);
-                else
-                    estimate = op.max(estimate, estimateNegativeCoefficient(op, index, coefficients, decomposedPositiveCoefficients));
+            if (isNegative(op, coefficient(coefficients, reversed, index), negated)) {
+                T negativeEstimate = estimateNegativeCoefficient(op, index, degree, coefficients, reversed, negated, shares);
 
+                estimate = estimate == null ? negativeEstimate : op.max(estimate, negativeEstimate);
             }
         }
 
         return estimate;
     }
 
-    T estimateNegativeCoefficient(OperationStrategy<T> op, int negativeCoefficientIndex, T[] coefficients, Optional<Supplier<T>>[] decomposedPositiveCoefficients) {
+    /**
+     * @return the least of the radicals for the pairings of a negative coefficient with each positive coefficient of
+     * higher degree
+     */
+    T estimateNegativeCoefficient(OperationStrategy<T> op, int negativeCoefficientIndex, int degree, T[] coefficients, boolean reversed,
+                                  boolean negated, T[] shares) {
         T estimate = null;
 
-        int degree = coefficients.length - 1;
-
         for (int index = negativeCoefficientIndex + 1; index <= degree; index++) {
-            if (decomposedPositiveCoefficients[index].isPresent()) {
-                if (estimate == null)
-                    estimate = estimateCoefficientPair(op, negativeCoefficientIndex, index, coefficients, decomposedPositiveCoefficients);
-                else
-                    estimate = op.min(estimate, estimateCoefficientPair(op, negativeCoefficientIndex, index, coefficients, decomposedPositiveCoefficients));
+            if (isPositive(op, coefficient(coefficients, reversed, index), negated)) {
+                T pairEstimate = estimateCoefficientPair(op, negativeCoefficientIndex, index, coefficients, reversed, shares);
+
+                estimate = estimate == null ? pairEstimate : op.min(estimate, pairEstimate);
             }
         }
 
@@ -77,25 +133,24 @@ public class LocalMaxQuadraticUpperBound<T> {
     /**
      * Compute the radical for a pairing of a negative coefficient with a positive coefficient
      *
+     * The ratio of the coefficients is the same whichever of p and -p they are taken from.
+     *
      * @param negativeCoefficientIndex the array index of the negative coefficient
      * @param positiveCoefficientIndex the array index of the positive coefficient
+     * @param reversed true if the coefficients are read in reverse
+     * @param shares the share most recently taken from each positive coefficient (halved for this pairing)
      * @return the "Local Max" Quadratic radical for the paired coefficients
      */
-    T estimateCoefficientPair(OperationStrategy<T> op, int negativeCoefficientIndex, int positiveCoefficientIndex, T[] coefficients, Optional<Supplier<T>>[] decomposedPositiveCoefficients) {
+    T estimateCoefficientPair(OperationStrategy<T> op, int negativeCoefficientIndex, int positiveCoefficientIndex, T[] coefficients,
+                              boolean reversed, T[] shares) {
 
-        return op.pow(op.quotient(op.negate(coefficients[negativeCoefficientIndex]), decomposedPositiveCoefficients[positiveCoefficientIndex].get().get()), op.from(positiveCoefficientIndex - negativeCoefficientIndex));
-    }
+        // halving the previous share (rather than dividing by a power of two) cannot overflow, however many pairings
+        T share = op.quotient(shares[positiveCoefficientIndex], op.from(2L));
 
-    public Optional<Supplier<T>>[] decomposePositiveCoefficients(OperationStrategy<T> op, T[] coefficients) {
-        Optional<Supplier<T>>[] result = new Optional[coefficients.length];
+        shares[positiveCoefficientIndex] = share;
 
-        for (int index = 0; index < coefficients.length; index++) {
-            if (op.isNegative(coefficients[index]) || op.isZero(coefficients[index]))
-                result[index] = Optional.empty();
-            else
-                result[index] = Optional.of(new DecomposedCoefficientSupplier<T>(op, coefficients[index]));
-        }
+        T exponent = op.quotient(op.one(), op.from((double) (positiveCoefficientIndex - negativeCoefficientIndex)));
 
-        return result;
+        return op.pow(op.quotient(op.negate(coefficient(coefficients, reversed, negativeCoefficientIndex)), share), exponent);
     }
 }
@@ -5,8 +5,8 @@ import com.stclair.corlib.math.Complex;
 import com.stclair.corlib.math.util.OperationStrategy;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -83,14 +83,7 @@ public class Polynomial<T> {
         if (multiplicand.degree() == 0)
             return product(multiplicand.getCoefficients()[0]);
 
-        T[] newCoefficients = op.array(degree() + multiplicand.degree() + 1);
-
-        for (int innerTerm = 0; innerTerm <= degree(); innerTerm++) {
-            for (int outerTerm = 0; outerTerm <= multiplicand.degree(); outerTerm++)
-                newCoefficients[innerTerm + outerTerm] = op.sum(newCoefficients[innerTerm + outerTerm], op.product(coefficients[innerTerm], multiplicand.coefficients[outerTerm]));
-        }
-
-        return Polynomial.of(op, newCoefficients);
+        return Polynomial.of(op, PolynomialKernels.multiply(op, coefficients, multiplicand.coefficients));
     }
 
     private Polynomial<T> zero() {
@@ -156,24 +149,16 @@ public class Polynomial<T> {
             throw new IllegalArgumentException("Cannot divide by Zero");
 
         if (divisor.isIdentity())
-            new PolynomialQuotient<T>(this, zero());
+            return new PolynomialQuotient<T>(this, zero());
 
         if (divisor.degree() > this.degree())
             return new PolynomialQuotient<T>(zero(), this);
 
-        Polynomial<T> remainder = this;
+        T[] remainder = coefficients.clone();
 
-        T[] quotient = op.array(degree() - divisor.degree() + 1);
-
-        while (remainder.degree() >= divisor.degree()) {
-            T divisorTerm = op.quotient(remainder.leadingCoefficient(), divisor.leadingCoefficient());
-
-            quotient[remainder.degree() - divisor.degree()] = divisorTerm;
-
-            remainder = remainder.difference(divisor.product(divisorTerm).degree(remainder.degree()));
-        }
+        T[] quotient = PolynomialKernels.divide(op, remainder, divisor.coefficients);
 
-        return new PolynomialQuotient<T>(Polynomial.of(op, quotient), remainder);
+        return new PolynomialQuotient<T>(Polynomial.of(op, quotient), Polynomial.of(op, remainder));
     }
 
     public Polynomial<T> sum(Polynomial<T> addend) {
@@ -244,13 +229,13 @@ public class Polynomial<T> {
         if (exponent == 1)
             return this;
 
-        Polynomial<T> value = this;
+        PolynomialBuffer<T> value = new PolynomialBuffer<>(op, Math.max(degree() * exponent + 1, 0)).set(this);
 
         for (int count = 1; count < exponent; count++) {
-            value = value.product(this);
+            value.multiply(this);
         }
 
-        return value;
+        return value.toPolynomial();
     }
 
     /**
@@ -349,14 +334,37 @@ public class Polynomial<T> {
         if (polynomial.isIdentity())
             return Polynomial.of(op, sumOfCoefficients());
 
-        // use Horner's Rule:
-        Polynomial<T> result = polynomial.product(coefficients[degree()]);
+        // use Horner's Rule (upon a single buffer):
+        PolynomialBuffer<T> result = new PolynomialBuffer<>(op, degree() * polynomial.degree() + 1)
+                .set(polynomial)
+                .multiply(coefficients[degree()]);
 
         for (int index = degree() - 1; index > 0; index--) {
-            result = result.sum(coefficients[index]).product(polynomial);
+            result.add(coefficients[index]).multiply(polynomial);
         }
 
-        return result.sum(coefficients[0]);
+        return result.add(coefficients[0]).toPolynomial();
+    }
+
+    /**
+     * Compute the Taylor shift of this polynomial:  p(x + a)
+     *
+     * Equivalent to applying this polynomial to (x + a) but performed upon a single copy of the coefficients rather
+     * than constructing a new polynomial at each step of Horner's rule.
+     *
+     * @param a the shift
+     * @return the polynomial p(x + a)
+     */
+    public Polynomial<T> taylorShift(T a) {
+
+        if (op.isZero(a) || degree() < 1)
+            return this;
+
+        T[] shifted = coefficients.clone();
+
+        PolynomialKernels.taylorShift(op, shifted, a);
+
+        return Polynomial.of(op, shifted);
     }
 
     T sumOfCoefficients() {
@@ -394,6 +402,79 @@ public class Polynomial<T> {
         return Polynomial.of(op, newCoefficients);
     }
 
+    /**
+     * compute a greatest common divisor of this polynomial and another
+     *
+     * With an integer strategy the divisor is exact and primitive; otherwise it is monic and exact only to within
+     * {@link PolynomialKernels#GCD_TOLERANCE}.  See {@link PolynomialKernels#gcd}.
+     * @param other the other polynomial
+     * @return the greatest common divisor (zero only if both polynomials are zero)
+     * @throws UnsupportedOperationException if the strategy is exact but not an integer strategy
+     */
+    public Polynomial<T> gcd(Polynomial<T> other) {
+        Objects.requireNonNull(other);
+
+        return Polynomial.of(op, PolynomialKernels.gcd(op, coefficients, other.coefficients));
+    }
+
+    /**
+     * compute the square-free part of this polynomial, p / gcd(p, p'), which has the same roots as p but each of
+     * multiplicity one
+     * @return the square-free part
+     * @throws UnsupportedOperationException if the strategy is exact but not an integer strategy
+     */
+    public Polynomial<T> squareFreePart() {
+        if (degree() < 2)
+            return this;
+
+        Polynomial<T> divisor = gcd(derivative());
+
+        if (divisor.degree() < 1)
+            return this;
+
+        return quotient(divisor).quotient;
+    }
+
+    /**
+     * compute the square-free decomposition of this polynomial by Yun's algorithm
+     *
+     * The polynomial is the product (to within a constant factor) of a[0] a[1]^2 a[2]^3 ... a[k-1]^k, where the a[i]
+     * are square-free and pairwise coprime, so that the roots of a[i] are exactly the roots of multiplicity i + 1.
+     * Starting from b = p / gcd(p, p') and d = p' / gcd(p, p') - b', each step takes a = gcd(b, d), then b = b / a and
+     * d = d / a - b', until b is constant.
+     * @return the factors a[0] ... a[k-1] (the last of which is not constant), or an empty list if this polynomial is
+     * constant
+     */
+    public List<Polynomial<T>> squareFreeDecomposition() {
+
+        List<Polynomial<T>> factors = new ArrayList<>();
+
+        if (degree() < 1)
+            return factors;
+
+        Polynomial<T> derivative = derivative();
+        Polynomial<T> divisor = gcd(derivative);
+
+        Polynomial<T> b = quotient(divisor).quotient;
+        Polynomial<T> d = derivative.quotient(divisor).quotient.difference(b.derivative());
+
+        while (b.degree() > 0) {
+
+            // d vanishes once b holds only roots of the current multiplicity; in floating point it is merely small
+            if (PolynomialKernels.isNegligible(op, d.coefficients, b.coefficients))
+                d = zero();
+
+            Polynomial<T> factor = b.gcd(d);
+
+            factors.add(factor);
+
+            b = b.quotient(factor).quotient;
+            d = d.quotient(factor).quotient.difference(b.derivative());
+        }
+
+        return factors;
+    }
+
     public static <T> T[] sumCoefficients(OperationStrategy<T> op, T[] a, T[] b) {
 
         if (a.length < b.length) {
@@ -422,24 +503,16 @@ public class Polynomial<T> {
         if (increment <= 0)
             throw new IllegalArgumentException("Increment must be positive");
 
-        List<Polynomial<T>> resultList = new LinkedList<>();
-
         if (rangeStart > rangeEnd)
             return Polynomial.of(op, op.array(0));
 
+        PolynomialBuffer<T> result = new PolynomialBuffer<>(op);
+
         for (int argument = rangeStart; argument <= rangeEnd; argument += increment) {
-            resultList.add(function.apply(argument));
+            result.add(function.apply(argument));
         }
 
-        if (resultList.size() == 0)
-            return Polynomial.of(op, op.array(0));
-
-        T[] result = resultList
-                .stream()
-                .map(it -> it.coefficients)
-                .reduce(op.array(0), (a, b) -> sumCoefficients(op, a, b));
-
-        return Polynomial.of(op, result);
+        return result.toPolynomial();
     }
 
     public static <T> Polynomial<T> sigma(OperationStrategy<T> op, Function<Integer, Polynomial<T>> function, int rangeStart, int rangeEnd) {
@@ -488,12 +561,16 @@ public class Polynomial<T> {
      *   if a polynomial is transformed in this manner, the number of roots within interval (0, 1) of the original
      *   polynomial is bounded by the number of sign changes (Descartes Rule of Signs).
      *
-     * @return
+     *   Computed by reversing the coefficients (giving x^n f(1/x)) and Taylor shifting the result by one.
+     *
+     * @return the transformed polynomial
      */
     public Polynomial<T> budansTheorem() {
-        Function<Integer, Polynomial<T>> function = (k) -> pascal(op, degree() - k).product(coefficients[k]);
+        T[] transformed = coefficients.clone();
+
+        PolynomialKernels.budanTransform(op, transformed);
 
-        return Polynomial.sigma(op, function, degree());
+        return Polynomial.of(op, transformed);
     }
 
     public T leadingCoefficient() {
@@ -0,0 +1,433 @@
+package com.stclair.corlib.math.polynomial.generic;
+
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * A mutable polynomial whose operations are performed in place upon a single array of coefficients
+ *
+ * The generic counterpart of {@link com.stclair.corlib.math.polynomial.PolynomialBuffer}: the capacity of the array
+ * grows as required (and never shrinks), so a computation allocates a new array only when the degree of its result
+ * first exceeds the capacity (although the operation strategy may of course allocate the coefficients themselves);
+ * {@link #toPolynomial()} copies the result to an immutable Polynomial once the computation is complete.
+ *
+ * Each operation other than {@link #reduceDegree(int)} (which keeps the leading coefficient where
+ * {@link Polynomial#reduceDegree(int)} yields zero) produces exactly the coefficients that the corresponding operation
+ * upon a Polynomial would; every operation returns the buffer so that operations may be chained.  A buffer is not
+ * safe for use by multiple threads.
+ */
+public class PolynomialBuffer<T> {
+
+    /** the capacity of a buffer constructed without one */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    final OperationStrategy<T> op;
+
+    /** the coefficients in ascending order of degree; those at or beyond length are zero */
+    T[] coefficients;
+
+    /** the number of coefficients in use (one more than the degree); the last of them is non-zero */
+    int length;
+
+    /**
+     * construct a buffer holding the zero polynomial
+     * @param op the operation strategy
+     */
+    public PolynomialBuffer(OperationStrategy<T> op) {
+        this(op, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * construct a buffer holding the zero polynomial
+     * @param op the operation strategy
+     * @param capacity the number of coefficients the buffer can hold before it must grow
+     */
+    public PolynomialBuffer(OperationStrategy<T> op, int capacity) {
+        this.op = neverNull(op, "op");
+
+        coefficients = PolynomialKernels.zeros(op, inRange(capacity, 0, Integer.MAX_VALUE, "capacity"));
+    }
+
+    /**
+     * construct a buffer holding a polynomial
+     * @param polynomial the polynomial
+     */
+    public PolynomialBuffer(Polynomial<T> polynomial) {
+        this(polynomial.getOperationStrategy(), Math.max(polynomial.getCoefficients().length, DEFAULT_CAPACITY));
+
+        set(polynomial);
+    }
+
+    public OperationStrategy<T> getOperationStrategy() {
+        return op;
+    }
+
+    /**
+     * @return the degree of the polynomial held (or -1 for the zero polynomial)
+     */
+    public int degree() {
+        return length - 1;
+    }
+
+    /**
+     * @return the number of coefficients the buffer can hold before it must grow
+     */
+    public int capacity() {
+        return coefficients.length;
+    }
+
+    /**
+     * @param degree the degree
+     * @return the coefficient of that degree (zero beyond the degree of the polynomial)
+     */
+    public T coefficient(int degree) {
+        inRange(degree, 0, Integer.MAX_VALUE, "degree");
+
+        return degree < length ? coefficients[degree] : op.zero();
+    }
+
+    /**
+     * @return the polynomial held (a copy, unaffected by subsequent operations upon the buffer)
+     */
+    public Polynomial<T> toPolynomial() {
+        return Polynomial.of(op, Arrays.copyOf(coefficients, length));
+    }
+
+    /**
+     * replace the polynomial held with another
+     */
+    public PolynomialBuffer<T> set(Polynomial<T> polynomial) {
+        Objects.requireNonNull(polynomial);
+
+        T[] source = polynomial.getCoefficients();
+
+        clear();
+        ensureCapacity(source.length);
+
+        System.arraycopy(source, 0, coefficients, 0, source.length);
+        length = source.length;
+
+        return this;
+    }
+
+    /**
+     * replace the polynomial held with zero
+     */
+    public PolynomialBuffer<T> clear() {
+        Arrays.fill(coefficients, 0, length, op.zero());
+        length = 0;
+
+        return this;
+    }
+
+    /**
+     * ensure that the buffer can hold a number of coefficients without growing
+     * @param capacity the number of coefficients
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= coefficients.length)
+            return;
+
+        int oldCapacity = coefficients.length;
+
+        coefficients = Arrays.copyOf(coefficients, Math.max(capacity, 2 * oldCapacity));
+
+        Arrays.fill(coefficients, oldCapacity, coefficients.length, op.zero());
+    }
+
+    /**
+     * p ← p + q
+     */
+    public PolynomialBuffer<T> add(Polynomial<T> addend) {
+        Objects.requireNonNull(addend);
+
+        T[] source = addend.getCoefficients();
+
+        ensureCapacity(source.length);
+
+        for (int index = 0; index < source.length; index++)
+            coefficients[index] = op.sum(coefficients[index], source[index]);
+
+        length = Math.max(length, source.length);
+
+        return trim();
+    }
+
+    /**
+     * p ← p + c
+     */
+    public PolynomialBuffer<T> add(T addend) {
+        ensureCapacity(1);
+
+        coefficients[0] = op.sum(coefficients[0], addend);
+        length = Math.max(length, 1);
+
+        return trim();
+    }
+
+    /**
+     * p ← p - q
+     */
+    public PolynomialBuffer<T> subtract(Polynomial<T> subtrahend) {
+        Objects.requireNonNull(subtrahend);
+
+        T[] source = subtrahend.getCoefficients();
+
+        ensureCapacity(source.length);
+
+        for (int index = 0; index < source.length; index++)
+            coefficients[index] = op.difference(coefficients[index], source[index]);
+
+        length = Math.max(length, source.length);
+
+        return trim();
+    }
+
+    /**
+     * p ← -p
+     */
+    public PolynomialBuffer<T> negate() {
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = op.negate(coefficients[index]);
+
+        return this;
+    }
+
+    /**
+     * p ← c p
+     */
+    public PolynomialBuffer<T> multiply(T multiplier) {
+
+        if (op.isZero(multiplier))
+            return clear();
+
+        if (op.isOne(multiplier))
+            return this;
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = op.product(coefficients[index], multiplier);
+
+        return trim();
+    }
+
+    /**
+     * p ← p / c
+     */
+    public PolynomialBuffer<T> divide(T divisor) {
+        if (op.isZero(divisor))
+            throw new IllegalArgumentException("Cannot divide by zero");
+
+        if (op.isOne(divisor))
+            return this;
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = op.quotient(coefficients[index], divisor);
+
+        return trim();
+    }
+
+    /**
+     * p ← p q
+     *
+     * Products are computed by the schoolbook method in place, each coefficient of the product (from the highest
+     * degree down) overwriting a coefficient of p that no lower coefficient of the product requires, except that
+     * exact products of at least {@link PolynomialKernels#KARATSUBA_THRESHOLD} coefficients are computed by
+     * {@link PolynomialKernels#multiply}.
+     */
+    public PolynomialBuffer<T> multiply(Polynomial<T> multiplicand) {
+        Objects.requireNonNull(multiplicand);
+
+        T[] source = multiplicand.getCoefficients();
+
+        if (length == 0 || source.length == 0)
+            return clear();
+
+        // as for Polynomial#product, a constant factor multiplies each coefficient of the other
+        if (source.length == 1)
+            return multiply(source[0]);
+
+        if (length == 1) {
+            T multiplier = coefficients[0];
+
+            return set(multiplicand).multiply(multiplier);
+        }
+
+        int productLength = length + source.length - 1;
+
+        ensureCapacity(productLength);
+
+        if (op.isExact() && Math.min(length, source.length) >= PolynomialKernels.KARATSUBA_THRESHOLD) {
+            T[] product = PolynomialKernels.multiply(op, Arrays.copyOf(coefficients, length), source);
+
+            System.arraycopy(product, 0, coefficients, 0, productLength);
+        } else {
+            for (int degree = productLength - 1; degree >= 0; degree--) {
+                T sum = op.zero();
+
+                for (int index = Math.max(0, degree - source.length + 1); index <= Math.min(degree, length - 1); index++)
+                    sum = op.sum(sum, op.product(coefficients[index], source[degree - index]));
+
+                coefficients[degree] = sum;
+            }
+        }
+
+        length = productLength;
+
+        return trim();
+    }
+
+    /**
+     * p ← p'
+     */
+    public PolynomialBuffer<T> derivative() {
+
+        if (length <= 1)
+            return clear();
+
+        for (int index = 0; index < length - 1; index++)
+            coefficients[index] = op.product(coefficients[index + 1], op.from(index + 1));
+
+        coefficients[--length] = op.zero();
+
+        return trim();
+    }
+
+    /**
+     * p ← x^n p
+     */
+    public PolynomialBuffer<T> increaseDegree(int increase) {
+        inRange(increase, 0, Integer.MAX_VALUE, "increase");
+
+        if (increase == 0 || length == 0)
+            return this;
+
+        ensureCapacity(length + increase);
+
+        System.arraycopy(coefficients, 0, coefficients, increase, length);
+        Arrays.fill(coefficients, 0, increase, op.zero());
+
+        length += increase;
+
+        return this;
+    }
+
+    /**
+     * p ← p / x^n, discarding the n coefficients of least degree
+     *
+     * Unlike {@link Polynomial#reduceDegree(int)}, a polynomial of degree n is reduced to its leading coefficient
+     * rather than to zero.
+     */
+    public PolynomialBuffer<T> reduceDegree(int reduction) {
+        inRange(reduction, 0, Integer.MAX_VALUE, "reduction");
+
+        if (reduction == 0)
+            return this;
+
+        if (reduction >= length)
+            return clear();
+
+        System.arraycopy(coefficients, reduction, coefficients, 0, length - reduction);
+        Arrays.fill(coefficients, length - reduction, length, op.zero());
+
+        length -= reduction;
+
+        return this;
+    }
+
+    /**
+     * p(x) ← p(x + a)
+     */
+    public PolynomialBuffer<T> taylorShift(T a) {
+
+        if (op.isZero(a) || length < 2)
+            return this;
+
+        PolynomialKernels.taylorShift(op, coefficients, length, a);
+
+        return trim();
+    }
+
+    /**
+     * p(x) ← (x + 1)^n p(1 / (x + 1)), where n is the degree of p
+     */
+    public PolynomialBuffer<T> budansTheorem() {
+
+        PolynomialKernels.budanTransform(op, coefficients, length);
+
+        return trim();
+    }
+
+    /**
+     * @return the value of the polynomial at x
+     */
+    public T apply(T x) {
+
+        if (length == 0)
+            return op.zero();
+
+        if (op.isZero(x) || length == 1)
+            return coefficients[0];
+
+        // as for Polynomial#apply, the value at one is the sum of the coefficients
+        if (op.isOne(x)) {
+            T sum = op.zero();
+
+            for (int index = 0; index < length; index++)
+                sum = op.sum(sum, coefficients[index]);
+
+            return sum;
+        }
+
+        T result = op.product(coefficients[length - 1], x);
+
+        for (int index = length - 2; index > 0; index--)
+            result = op.product(op.sum(result, coefficients[index]), x);
+
+        return op.sum(result, coefficients[0]);
+    }
+
+    /**
+     * @return the number of sign changes in the coefficients
+     */
+    public int signChanges() {
+        int count = 0;
+        T lastSign = null;
+
+        for (int index = 0; index < length; index++) {
+            T coefficient = coefficients[index];
+
+            if (op.isZero(coefficient))
+                continue;
+
+            if (lastSign != null && op.isNegative(coefficient) != op.isNegative(lastSign))
+                count++;
+
+            lastSign = coefficient;
+        }
+
+        return count;
+    }
+
+    /**
+     * restore the invariant that the last coefficient in use is non-zero
+     */
+    PolynomialBuffer<T> trim() {
+
+        while (length > 0 && op.isZero(coefficients[length - 1]))
+            length--;
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return toPolynomial().toString();
+    }
+}
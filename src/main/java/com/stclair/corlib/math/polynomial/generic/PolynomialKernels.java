@@ -0,0 +1,768 @@
+package com.stclair.corlib.math.polynomial.generic;
+
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Kernels operating directly upon coefficient arrays (ordered such that coefficients[k] is the coefficient of x^k)
+ * so that composite operations need not construct an intermediate {@link Polynomial} at each step.
+ *
+ * Generic counterpart of {@link com.stclair.corlib.math.polynomial.PolynomialKernels}.
+ */
+public class PolynomialKernels {
+
+    /** polynomials of this degree or greater are Taylor shifted by divide-and-conquer */
+    public static final int DIVIDE_AND_CONQUER_THRESHOLD = 2048;
+
+    /** divide-and-conquer Taylor shifts recurse until the pieces are of lower degree than this */
+    static final int SHIFT_BASE_DEGREE = 128;
+
+    /** with an exact strategy, products in which both polynomials have at least this many coefficients use Karatsuba */
+    public static final int KARATSUBA_THRESHOLD = 16;
+
+    /** with an exact strategy, divisions in which both the divisor and the quotient have at least this many
+     * coefficients use Newton inversion */
+    public static final int NEWTON_DIVISION_THRESHOLD = 64;
+
+    /** except with an integer strategy, remainders none of whose coefficients exceed this (relative to the largest
+     * coefficient of the divisor) are taken as zero by {@link #gcd} */
+    public static final double GCD_TOLERANCE = 1e-9;
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a), selecting the kernel best suited to the degree
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static <T> void taylorShift(OperationStrategy<T> op, T[] coefficients, T a) {
+        taylorShift(op, coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a)
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    public static <T> void taylorShift(OperationStrategy<T> op, T[] coefficients, int length, T a) {
+
+        if (length - 1 >= DIVIDE_AND_CONQUER_THRESHOLD)
+            taylorShiftDivideAndConquer(op, coefficients, length, a);
+        else
+            taylorShiftInPlace(op, coefficients, length, a);
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of (x + 1)^n p(1 / (x + 1)), where n is the degree of p, by
+     * reversing them and Taylor shifting by one
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     */
+    public static <T> void budanTransform(OperationStrategy<T> op, T[] coefficients) {
+        budanTransform(op, coefficients, coefficients.length);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of (x + 1)^n p(1 / (x + 1))
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     */
+    public static <T> void budanTransform(OperationStrategy<T> op, T[] coefficients, int length) {
+
+        for (int low = 0, high = length - 1; low < high; low++, high--) {
+            T swap = coefficients[low];
+            coefficients[low] = coefficients[high];
+            coefficients[high] = swap;
+        }
+
+        taylorShift(op, coefficients, length, op.one());
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a) by repeated synthetic division
+     *
+     * Each pass of the outer loop divides the remaining polynomial by (x - a) with Horner's rule, leaving the next
+     * coefficient of the shifted polynomial in place.  O(n^2) operations and no allocation of coefficient arrays.
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static <T> void taylorShiftInPlace(OperationStrategy<T> op, T[] coefficients, T a) {
+        taylorShiftInPlace(op, coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a) by repeated synthetic division
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    public static <T> void taylorShiftInPlace(OperationStrategy<T> op, T[] coefficients, int length, T a) {
+
+        if (op.isZero(a) || length < 2)
+            return;
+
+        shiftRange(op, coefficients, 0, length, a);
+    }
+
+    /**
+     * replace the coefficients of p(x) with those of p(x + a) by divide-and-conquer
+     *
+     * Splitting p(x) = low(x) + x^m high(x) gives p(x + a) = low(x + a) + (x + a)^m high(x + a), where m is a power of
+     * two.  The powers (x + a)^m are computed once by repeated squaring.
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param a the shift
+     */
+    public static <T> void taylorShiftDivideAndConquer(OperationStrategy<T> op, T[] coefficients, T a) {
+        taylorShiftDivideAndConquer(op, coefficients, coefficients.length, a);
+    }
+
+    /**
+     * replace the first coefficients of an array, those of p(x), with those of p(x + a) by divide-and-conquer
+     * @param op the operation strategy
+     * @param coefficients the coefficients of p (overwritten)
+     * @param length the number of coefficients of p
+     * @param a the shift
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void taylorShiftDivideAndConquer(OperationStrategy<T> op, T[] coefficients, int length, T a) {
+
+        int degree = length - 1;
+
+        if (op.isZero(a) || degree < 1)
+            return;
+
+        int levels = 32 - Integer.numberOfLeadingZeros(degree);
+
+        Object[][] powers = new Object[levels][];
+
+        T[] linear = op.array(2);
+
+        linear[0] = a;
+        linear[1] = op.one();
+
+        powers[0] = linear;
+
+        for (int level = 1; level < levels; level++)
+            powers[level] = multiply(op, (T[]) powers[level - 1], (T[]) powers[level - 1]);
+
+        shift(op, coefficients, 0, length, powers, levels - 1);
+    }
+
+    /**
+     * Taylor shift the coefficients [offset, offset + length) in place, where length <= 2^(level + 1)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void shift(OperationStrategy<T> op, T[] coefficients, int offset, int length, Object[][] powers, int level) {
+
+        if (length - 1 < SHIFT_BASE_DEGREE || level < 0) {
+            shiftRange(op, coefficients, offset, length, (T) powers[0][0]);
+            return;
+        }
+
+        int half = 1 << level;
+
+        while (half >= length) {
+            half >>>= 1;
+            level--;
+        }
+
+        shift(op, coefficients, offset, half, powers, level - 1);
+        shift(op, coefficients, offset + half, length - half, powers, level - 1);
+
+        // add (x + a)^half * high(x + a) to the low half, replacing the high half
+        T[] product = multiply(op, range(op, coefficients, offset + half, offset + length), (T[]) powers[level]);
+
+        T zero = op.zero();
+
+        for (int index = half; index < length; index++)
+            coefficients[offset + index] = zero;
+
+        for (int index = 0; index < product.length && index < length; index++)
+            coefficients[offset + index] = op.sum(coefficients[offset + index], product[index]);
+    }
+
+    /**
+     * synthetic division Taylor shift of the coefficients [offset, offset + length)
+     */
+    static <T> void shiftRange(OperationStrategy<T> op, T[] coefficients, int offset, int length, T a) {
+
+        int last = offset + length - 1;
+
+        boolean unit = op.isOne(a);
+
+        for (int pass = offset; pass < last; pass++) {
+            for (int index = last - 1; index >= pass; index--)
+                coefficients[index] = op.sum(coefficients[index], unit ? coefficients[index + 1] : op.product(a, coefficients[index + 1]));
+        }
+    }
+
+    /**
+     * compute the product of two polynomials, selecting the kernel best suited to their lengths and the strategy
+     *
+     * Karatsuba's method rearranges the partial products, so it is used only when the strategy is
+     * {@link OperationStrategy#isExact() exact} and both polynomials have at least {@link #KARATSUBA_THRESHOLD}
+     * coefficients; otherwise the product is computed by the schoolbook method.
+     * @param op the operation strategy
+     * @param multiplier the coefficients of the first polynomial
+     * @param multiplicand the coefficients of the second polynomial
+     * @return the coefficients of the product
+     */
+    public static <T> T[] multiply(OperationStrategy<T> op, T[] multiplier, T[] multiplicand) {
+
+        if (op.isExact() && Math.min(multiplier.length, multiplicand.length) >= KARATSUBA_THRESHOLD)
+            return multiplyKaratsuba(op, multiplier, multiplicand);
+
+        return multiplySchoolbook(op, multiplier, multiplicand);
+    }
+
+    /**
+     * @return the coefficients of the product of the polynomials with the specified coefficients
+     */
+    static <T> T[] multiplySchoolbook(OperationStrategy<T> op, T[] multiplier, T[] multiplicand) {
+
+        T[] product = zeros(op, Math.max(multiplier.length + multiplicand.length - 1, 0));
+
+        for (int outer = 0; outer < multiplier.length; outer++) {
+            for (int inner = 0; inner < multiplicand.length; inner++)
+                product[outer + inner] = op.sum(product[outer + inner], op.product(multiplier[outer], multiplicand[inner]));
+        }
+
+        return product;
+    }
+
+    /**
+     * compute the product of two polynomials by Karatsuba's method
+     *
+     * The longer polynomial is cut into pieces the length of the shorter, each of which is multiplied by the shorter
+     * polynomial with {@link #karatsuba} (or, for a shorter final piece, {@link #multiply}) and accumulated at its
+     * offset.
+     * @return the coefficients of the product
+     */
+    static <T> T[] multiplyKaratsuba(OperationStrategy<T> op, T[] multiplier, T[] multiplicand) {
+
+        T[] longer = multiplier.length >= multiplicand.length ? multiplier : multiplicand;
+        T[] shorter = longer == multiplier ? multiplicand : multiplier;
+
+        T[] product = zeros(op, Math.max(multiplier.length + multiplicand.length - 1, 0));
+
+        if (shorter.length == 0)
+            return product;
+
+        for (int offset = 0; offset < longer.length; offset += shorter.length) {
+
+            int end = Math.min(offset + shorter.length, longer.length);
+
+            T[] piece = range(op, longer, offset, end);
+
+            // a shorter final piece is multiplied by whichever kernel suits its length
+            T[] partial = piece.length == shorter.length ? karatsuba(op, piece, shorter) : multiply(op, piece, shorter);
+
+            for (int index = 0; index < partial.length && offset + index < product.length; index++)
+                product[offset + index] = op.sum(product[offset + index], partial[index]);
+        }
+
+        return product;
+    }
+
+    /**
+     * multiply two polynomials having the same number of coefficients, n
+     *
+     * Splitting each at m = n / 2 as low(x) + x^m high(x), the middle term of the product is
+     * (low0 + high0)(low1 + high1) - low0 low1 - high0 high1, so three half-length products replace four.
+     * @return the 2n - 1 coefficients of the product
+     */
+    static <T> T[] karatsuba(OperationStrategy<T> op, T[] multiplier, T[] multiplicand) {
+
+        int length = multiplier.length;
+
+        if (length < KARATSUBA_THRESHOLD)
+            return multiplySchoolbook(op, multiplier, multiplicand);
+
+        int half = length / 2;
+
+        T[] lowA = range(op, multiplier, 0, half);
+        T[] highA = range(op, multiplier, half, length);
+        T[] lowB = range(op, multiplicand, 0, half);
+        T[] highB = range(op, multiplicand, half, length);
+
+        T[] low = karatsuba(op, lowA, lowB);
+        T[] high = karatsuba(op, highA, highB);
+
+        // the high halves are at least as long as the low halves
+        T[] sumA = range(op, highA, 0, highA.length);
+        T[] sumB = range(op, highB, 0, highB.length);
+
+        for (int index = 0; index < half; index++) {
+            sumA[index] = op.sum(sumA[index], lowA[index]);
+            sumB[index] = op.sum(sumB[index], lowB[index]);
+        }
+
+        T[] middle = karatsuba(op, sumA, sumB);
+
+        T[] product = zeros(op, 2 * length - 1);
+
+        for (int index = 0; index < low.length; index++) {
+            product[index] = low[index];
+            middle[index] = op.difference(middle[index], low[index]);
+        }
+
+        for (int index = 0; index < high.length; index++) {
+            product[2 * half + index] = high[index];
+            middle[index] = op.difference(middle[index], high[index]);
+        }
+
+        for (int index = 0; index < middle.length; index++)
+            product[half + index] = op.sum(product[half + index], middle[index]);
+
+        return product;
+    }
+
+    /**
+     * divide one polynomial by another, selecting the kernel best suited to their degrees and the strategy
+     *
+     * Newton inversion is profitable only when products are computed by Karatsuba's method, so it is used only with
+     * an {@link OperationStrategy#isExact() exact} strategy in which the leading coefficient of the divisor is one or
+     * minus one, whose reciprocal every exact strategy represents.
+     * @param op the operation strategy
+     * @param coefficients the coefficients of the dividend (overwritten with those of the remainder, so that every
+     *                     coefficient of degree at or above that of the divisor is zero)
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static <T> T[] divide(OperationStrategy<T> op, T[] coefficients, T[] divisor) {
+
+        int quotientLength = coefficients.length - divisor.length + 1;
+
+        if (quotientLength < 1)
+            return op.array(0);
+
+        if (! op.isExact() || Math.min(quotientLength, divisor.length) < NEWTON_DIVISION_THRESHOLD)
+            return divideInPlace(op, coefficients, divisor);
+
+        // an integer strategy truncates the reciprocal of any other leading coefficient to zero, and an exact decimal
+        // strategy cannot represent the reciprocal of, say, three
+        if (! op.isOne(op.abs(divisor[divisor.length - 1])))
+            return divideInPlace(op, coefficients, divisor);
+
+        T[] quotient = divideNewton(op, coefficients, divisor);
+
+        // only the coefficients of the remainder below the degree of the divisor are significant
+        int remainderLength = divisor.length - 1;
+
+        T[] product = multiply(op, divisor, quotient);
+
+        for (int index = 0; index < remainderLength; index++)
+            coefficients[index] = op.difference(coefficients[index], product[index]);
+
+        Arrays.fill(coefficients, remainderLength, coefficients.length, op.zero());
+
+        return quotient;
+    }
+
+    /**
+     * divide one polynomial by another by long division, overwriting the dividend with the remainder
+     * @param op the operation strategy
+     * @param coefficients the coefficients of the dividend (overwritten with those of the remainder)
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static <T> T[] divideInPlace(OperationStrategy<T> op, T[] coefficients, T[] divisor) {
+
+        int divisorDegree = divisor.length - 1;
+
+        T[] quotient = zeros(op, Math.max(coefficients.length - divisorDegree, 0));
+
+        T leading = divisor[divisorDegree];
+
+        T zero = op.zero();
+
+        for (int term = quotient.length - 1; term >= 0; term--) {
+
+            if (op.isZero(coefficients[term + divisorDegree]))
+                continue;
+
+            T factor = op.quotient(coefficients[term + divisorDegree], leading);
+
+            quotient[term] = factor;
+
+            for (int index = 0; index < divisorDegree; index++)
+                coefficients[term + index] = op.difference(coefficients[term + index], op.product(factor, divisor[index]));
+
+            coefficients[term + divisorDegree] = zero;
+        }
+
+        return quotient;
+    }
+
+    /**
+     * compute the quotient of one polynomial by another by Newton inversion of the reversed divisor
+     * @param op the operation strategy
+     * @param dividend the coefficients of the dividend
+     * @param divisor the coefficients of the divisor (whose leading coefficient must be non-zero)
+     * @return the coefficients of the quotient
+     */
+    public static <T> T[] divideNewton(OperationStrategy<T> op, T[] dividend, T[] divisor) {
+
+        int quotientLength = dividend.length - divisor.length + 1;
+
+        if (quotientLength < 1)
+            return op.array(0);
+
+        T[] reversedDivisor = reverse(op, divisor, Math.min(divisor.length, quotientLength));
+        T[] reversedDividend = reverse(op, dividend, quotientLength);
+
+        T[] reversedQuotient = multiply(op, reversedDividend, inverse(op, reversedDivisor, quotientLength));
+
+        T[] quotient = op.array(quotientLength);
+
+        for (int index = 0; index < quotientLength; index++)
+            quotient[index] = reversedQuotient[quotientLength - 1 - index];
+
+        return quotient;
+    }
+
+    /**
+     * compute the power series inverse g of f mod x^length by Newton iteration, g' = g + g (1 - f g)
+     * @param op the operation strategy
+     * @param series the coefficients of f (whose constant coefficient must be non-zero)
+     * @param length the number of coefficients of the inverse
+     * @return the coefficients of the inverse
+     */
+    static <T> T[] inverse(OperationStrategy<T> op, T[] series, int length) {
+
+        T[] inverse = op.array(1);
+
+        inverse[0] = op.quotient(op.one(), series[0]);
+
+        for (int precision = 1; precision < length; precision *= 2) {
+
+            int next = Math.min(2 * precision, length);
+
+            T[] product = multiply(op, range(op, series, 0, Math.min(series.length, next)), inverse);
+
+            T[] error = zeros(op, next - precision);
+
+            for (int index = precision; index < next && index < product.length; index++)
+                error[index - precision] = op.negate(product[index]);
+
+            T[] correction = multiply(op, inverse, error);
+
+            inverse = range(op, inverse, 0, next);
+
+            for (int index = precision; index < next; index++)
+                inverse[index] = correction[index - precision];
+        }
+
+        return inverse;
+    }
+
+    /**
+     * compute a greatest common divisor of two polynomials, selecting the algorithm suited to the strategy
+     *
+     * With an integer strategy the divisor is computed by the subresultant remainder sequence, whose only divisions
+     * are exact, and is returned primitive with a positive leading coefficient.  Otherwise it is computed by Euclid's
+     * algorithm, taking as zero any remainder none of whose coefficients exceed {@link #GCD_TOLERANCE} relative to the
+     * divisor, and is returned monic; this includes arbitrary precision strategies, since the precision such a
+     * strategy tracks is eroded by the cancellation within every pseudo-remainder.  An exact strategy that is not an
+     * integer strategy (such as {@link com.stclair.corlib.math.util.ApfloatExactOperationStrategy}) cannot represent
+     * the quotients by which Euclid's algorithm normalizes, so it is rejected.
+     * @param op the operation strategy
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @return the coefficients of the greatest common divisor (or no coefficients if both polynomials are zero)
+     * @throws UnsupportedOperationException if the strategy is exact but not an integer strategy
+     */
+    public static <T> T[] gcd(OperationStrategy<T> op, T[] a, T[] b) {
+
+        if (isInteger(op))
+            return gcdSubresultant(op, a, b);
+
+        if (op.isExact())
+            throw new UnsupportedOperationException("greatest common divisors require an integer or inexact strategy");
+
+        return gcdEuclid(op, a, b);
+    }
+
+    /**
+     * @return true if the strategy is exact and truncates quotients to integers (so that the reciprocal of two is zero)
+     */
+    static <T> boolean isInteger(OperationStrategy<T> op) {
+        return op.isExact() && op.isZero(op.quotient(op.one(), op.from(2d)));
+    }
+
+    /**
+     * compute a greatest common divisor by the subresultant remainder sequence (Collins and Brown)
+     *
+     * Each pseudo-remainder of the sequence is divided by g h^d, where d is the difference in degree of its dividend
+     * and divisor, g is the leading coefficient of the dividend and h is carried from step to step; the divisions are
+     * exact and keep the coefficients no larger than the corresponding subresultants.
+     */
+    static <T> T[] gcdSubresultant(OperationStrategy<T> op, T[] a, T[] b) {
+
+        T[] dividend = primitive(op, Polynomial.trimCoefficients(op, a));
+        T[] divisor = primitive(op, Polynomial.trimCoefficients(op, b));
+
+        if (dividend.length < divisor.length) {
+            T[] swap = dividend;
+            dividend = divisor;
+            divisor = swap;
+        }
+
+        if (divisor.length == 0)
+            return dividend;
+
+        T g = op.one();
+        T h = op.one();
+
+        while (divisor.length > 1) {
+
+            int delta = dividend.length - divisor.length;
+
+            T[] remainder = pseudoRemainder(op, dividend, divisor);
+
+            if (remainder.length == 0)
+                return primitive(op, divisor);
+
+            T scale = op.product(g, power(op, h, delta));
+
+            for (int index = 0; index < remainder.length; index++)
+                remainder[index] = op.quotient(remainder[index], scale);
+
+            dividend = divisor;
+            divisor = remainder;
+
+            g = dividend[dividend.length - 1];
+
+            if (delta > 0)
+                h = op.quotient(power(op, g, delta), power(op, h, delta - 1));
+        }
+
+        T[] one = op.array(1);
+
+        one[0] = op.one();
+
+        return one;
+    }
+
+    /**
+     * compute a greatest common divisor by Euclid's algorithm, scaling each remainder so that its largest coefficient
+     * has magnitude one and discarding its leading coefficients while they are no greater than {@link #GCD_TOLERANCE}
+     */
+    static <T> T[] gcdEuclid(OperationStrategy<T> op, T[] a, T[] b) {
+
+        T[] dividend = scale(op, Polynomial.trimCoefficients(op, a));
+        T[] divisor = scale(op, Polynomial.trimCoefficients(op, b));
+
+        if (dividend.length < divisor.length) {
+            T[] swap = dividend;
+            dividend = divisor;
+            divisor = swap;
+        }
+
+        if (divisor.length == 0)
+            return monic(op, dividend);
+
+        T tolerance = op.from(GCD_TOLERANCE);
+
+        while (divisor.length > 1) {
+
+            T[] remainder = dividend.clone();
+
+            divideInPlace(op, remainder, divisor);
+
+            int length = divisor.length - 1;
+
+            while (length > 0 && op.lessThanOrEqual(op.abs(remainder[length - 1]), tolerance))
+                length--;
+
+            if (length == 0)
+                break;
+
+            dividend = divisor;
+            divisor = scale(op, Arrays.copyOf(remainder, length));
+        }
+
+        return monic(op, divisor);
+    }
+
+    /**
+     * compute the pseudo-remainder of one polynomial by another, lc(b)^(m - n + 1) a mod b, where m and n are their
+     * degrees, without division
+     * @param op the operation strategy
+     * @param a the coefficients of the dividend
+     * @param b the coefficients of the divisor (whose degree must not exceed that of the dividend)
+     * @return the trimmed coefficients of the pseudo-remainder
+     */
+    static <T> T[] pseudoRemainder(OperationStrategy<T> op, T[] a, T[] b) {
+
+        int divisorDegree = b.length - 1;
+
+        T leading = b[divisorDegree];
+
+        T[] remainder = a.clone();
+
+        for (int top = remainder.length - 1; top >= divisorDegree; top--) {
+
+            T factor = remainder[top];
+
+            for (int index = 0; index < top; index++)
+                remainder[index] = op.product(remainder[index], leading);
+
+            if (! op.isZero(factor)) {
+                for (int index = 0; index < divisorDegree; index++) {
+                    int term = top - divisorDegree + index;
+
+                    remainder[term] = op.difference(remainder[term], op.product(factor, b[index]));
+                }
+            }
+        }
+
+        return Polynomial.trimCoefficients(op, Arrays.copyOf(remainder, divisorDegree));
+    }
+
+    /**
+     * with an integer strategy, true only if every coefficient of a polynomial is zero; otherwise true if none exceeds
+     * {@link #GCD_TOLERANCE} relative to the largest coefficient of a reference polynomial
+     */
+    static <T> boolean isNegligible(OperationStrategy<T> op, T[] coefficients, T[] reference) {
+
+        if (isInteger(op))
+            return Polynomial.trimCoefficients(op, coefficients).length == 0;
+
+        return op.lessThanOrEqual(maximumMagnitude(op, coefficients),
+                op.product(op.from(GCD_TOLERANCE), maximumMagnitude(op, reference)));
+    }
+
+    /**
+     * @return the integer coefficients divided by their content, negated if necessary so that the leading coefficient
+     * is positive
+     */
+    static <T> T[] primitive(OperationStrategy<T> op, T[] coefficients) {
+
+        if (coefficients.length == 0)
+            return coefficients;
+
+        T content = op.zero();
+
+        // Euclid's algorithm upon the magnitudes of the coefficients
+        for (T coefficient : coefficients) {
+
+            T remainder = op.abs(coefficient);
+
+            while (! op.isZero(remainder)) {
+                T next = op.mod(content, remainder);
+                content = remainder;
+                remainder = next;
+            }
+        }
+
+        if (op.isNegative(coefficients[coefficients.length - 1]))
+            content = op.negate(content);
+
+        if (op.isOne(content))
+            return coefficients;
+
+        T[] primitive = op.array(coefficients.length);
+
+        for (int index = 0; index < coefficients.length; index++)
+            primitive[index] = op.quotient(coefficients[index], content);
+
+        return primitive;
+    }
+
+    /**
+     * @return the coefficients divided by the magnitude of the largest
+     */
+    static <T> T[] scale(OperationStrategy<T> op, T[] coefficients) {
+
+        T maximum = maximumMagnitude(op, coefficients);
+
+        T[] scaled = op.array(coefficients.length);
+
+        for (int index = 0; index < coefficients.length; index++)
+            scaled[index] = op.quotient(coefficients[index], maximum);
+
+        return scaled;
+    }
+
+    /**
+     * @return the coefficients divided by the leading coefficient
+     */
+    static <T> T[] monic(OperationStrategy<T> op, T[] coefficients) {
+
+        if (coefficients.length == 0)
+            return coefficients;
+
+        T[] monic = op.array(coefficients.length);
+
+        for (int index = 0; index < coefficients.length; index++)
+            monic[index] = op.quotient(coefficients[index], coefficients[coefficients.length - 1]);
+
+        monic[monic.length - 1] = op.one();
+
+        return monic;
+    }
+
+    static <T> T maximumMagnitude(OperationStrategy<T> op, T[] coefficients) {
+
+        T maximum = op.zero();
+
+        for (T coefficient : coefficients)
+            maximum = op.max(maximum, op.abs(coefficient));
+
+        return maximum;
+    }
+
+    static <T> T power(OperationStrategy<T> op, T base, int exponent) {
+
+        T power = op.one();
+
+        for (int count = 0; count < exponent; count++)
+            power = op.product(power, base);
+
+        return power;
+    }
+
+    /**
+     * @return the leading count coefficients, in reverse order (coefficient n - k at index k)
+     */
+    static <T> T[] reverse(OperationStrategy<T> op, T[] coefficients, int count) {
+
+        T[] reversed = op.array(count);
+
+        for (int index = 0; index < count; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return reversed;
+    }
+
+    /**
+     * @return the coefficients [from, to), padded with zeros beyond the end of the source
+     */
+    static <T> T[] range(OperationStrategy<T> op, T[] coefficients, int from, int to) {
+
+        T[] range = zeros(op, to - from);
+
+        System.arraycopy(coefficients, from, range, 0, Math.max(0, Math.min(to, coefficients.length) - from));
+
+        return range;
+    }
+
+    /**
+     * @return an array of the specified length filled with zeros
+     */
+    static <T> T[] zeros(OperationStrategy<T> op, int length) {
+
+        T[] zeros = op.array(length);
+
+        Arrays.fill(zeros, op.zero());
+
+        return zeros;
+    }
+}
@@ -0,0 +1,319 @@
+package com.stclair.corlib.math.polynomial.generic.roots;
+
+import com.stclair.corlib.math.polynomial.generic.Interval;
+import com.stclair.corlib.math.polynomial.generic.Polynomial;
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Narrows the isolating intervals produced by {@link VincentAkritasStrzeboński2} until each is no wider than a
+ * requested width.
+ *
+ * Refinement is by quadratic interval refinement (Abbott):  the bracket is divided into N subintervals, the secant
+ * through the endpoints predicts the subinterval containing the root, and only that subinterval's endpoints are
+ * evaluated.  Each successful prediction squares N (so that the width converges quadratically); each failure
+ * reduces N to its square root and bisects.
+ *
+ * The prediction is only required to select a subinterval, so it is computed in double precision; every point at
+ * which the polynomial is evaluated is formed by addition and multiplication alone, so values of unlimited precision
+ * (such as integer valued {@link org.apfloat.Apfloat}s) are never divided.
+ */
+public class RootRefiner<T> {
+
+    /** the default upper limit upon the number of steps taken to refine a single interval */
+    public static final int DEFAULT_MAXIMUM_ITERATIONS = 200;
+
+    /** the greatest number of subintervals into which the bracket is divided (2^32, whose reciprocal is exact) */
+    static final long MAXIMUM_SUBINTERVALS = 1L << 32;
+
+    /** intervals are refined in parallel in batches of this size */
+    static final int SEQUENTIAL_THRESHOLD = 4;
+
+    final OperationStrategy<T> op;
+
+    final int maximumIterations;
+
+    public RootRefiner(OperationStrategy<T> op) {
+        this(op, DEFAULT_MAXIMUM_ITERATIONS);
+    }
+
+    /**
+     * construct an instance
+     * @param op the operation strategy
+     * @param maximumIterations the upper limit upon the number of steps taken to refine a single interval (after
+     *                          which the narrowest bracket found is returned)
+     */
+    public RootRefiner(OperationStrategy<T> op, int maximumIterations) {
+        this.op = neverNull(op, "op");
+        this.maximumIterations = inRange(maximumIterations, 1, Integer.MAX_VALUE, "maximumIterations");
+    }
+
+    /**
+     * refine an isolating interval
+     * @param polynomial the polynomial whose root is isolated by the interval
+     * @param interval an interval isolating a single root of the polynomial
+     * @param width the greatest acceptable width of the refined interval
+     * @return a closed interval no wider than the requested width containing the isolated root (or the original
+     * interval if it does not bracket a sign change)
+     */
+    public Interval<T> refine(Polynomial<T> polynomial, Interval<T> interval, T width) {
+
+        neverNull(polynomial, "polynomial");
+        neverNull(interval, "interval");
+        neverNull(width, "width");
+
+        if (! op.isPositive(width))
+            throw new IllegalArgumentException("width must be positive");
+
+        if (interval.isExactValue())
+            return interval;
+
+        T a = interval.a;
+        T b = interval.b;
+
+        if (op.isNegativeInfinity(a) || op.isPositiveInfinity(b)) {
+            T bound = rootBound(polynomial.getCoefficients());
+
+            if (op.isNegativeInfinity(a))
+                a = op.negate(bound);
+
+            if (op.isPositiveInfinity(b))
+                b = bound;
+        }
+
+        Polynomial<T> reduced = Polynomial.of(op, deflate(deflate(polynomial.getCoefficients(), a), b));
+
+        T fa = reduced.apply(a);
+        T fb = reduced.apply(b);
+
+        int signA = sign(fa);
+
+        if (signA == sign(fb))
+            return interval;
+
+        long subintervals = 4;
+
+        for (int iteration = 0; iteration < maximumIterations; iteration++) {
+
+            T currentWidth = op.difference(b, a);
+
+            if (op.lessThanOrEqual(currentWidth, width))
+                break;
+
+            if (subintervals > 2) {
+
+                T step = op.product(currentWidth, op.from(1d / subintervals));
+
+                // predict the subinterval containing the root from the secant through the endpoints
+                double fraction = op.value(fa) / (op.value(fa) - op.value(fb));
+
+                long index = Double.isFinite(fraction) ? Math.round(fraction * subintervals) : subintervals / 2;
+
+                index = Math.max(0, Math.min(subintervals, index));
+
+                T x = index == subintervals ? b : op.sum(a, op.product(currentWidth, op.from((double) index / subintervals)));
+
+                T fx = index == 0 ? fa : index == subintervals ? fb : reduced.apply(x);
+
+                if (op.isZero(fx))
+                    return new Interval<>(x, op);
+
+                T y;
+
+                if (sign(fx) == signA)
+                    y = op.sum(x, step);
+                else
+                    y = op.difference(x, step);
+
+                T fy = reduced.apply(y);
+
+                if (op.isZero(fy))
+                    return new Interval<>(y, op);
+
+                if (sign(fx) != sign(fy) && op.greaterThanOrEqual(y, a) && op.lessThanOrEqual(y, b)) {
+
+                    if (sign(fx) == signA) {
+                        a = x;
+                        fa = fx;
+                        b = y;
+                        fb = fy;
+                    } else {
+                        a = y;
+                        fa = fy;
+                        b = x;
+                        fb = fx;
+                    }
+
+                    subintervals = Math.min(MAXIMUM_SUBINTERVALS, subintervals * subintervals);
+
+                    continue;
+                }
+
+                subintervals = (long) Math.sqrt((double) subintervals);
+            }
+
+            // bisect
+            T middle = op.sum(a, op.product(currentWidth, op.from(0.5d)));
+
+            T fm = reduced.apply(middle);
+
+            if (op.isZero(fm))
+                return new Interval<>(middle, op);
+
+            if (sign(fm) == signA) {
+                a = middle;
+                fa = fm;
+            } else {
+                b = middle;
+                fb = fm;
+            }
+
+            subintervals = Math.max(4, subintervals);
+        }
+
+        return new Interval<>(a, b, op);
+    }
+
+    /**
+     * refine each of a list of isolating intervals
+     * @param polynomial the polynomial whose roots are isolated by the intervals
+     * @param intervals intervals each isolating a single root of the polynomial
+     * @param width the greatest acceptable width of each refined interval
+     * @return the refined intervals (in the order of the originals)
+     */
+    public List<Interval<T>> refine(Polynomial<T> polynomial, List<Interval<T>> intervals, T width) {
+
+        neverNull(intervals, "intervals");
+
+        List<Interval<T>> refined = new ArrayList<>(intervals.size());
+
+        for (Interval<T> interval : intervals)
+            refined.add(refine(polynomial, interval, width));
+
+        return refined;
+    }
+
+    /**
+     * refine each of a list of isolating intervals in parallel
+     * @param polynomial the polynomial whose roots are isolated by the intervals
+     * @param intervals intervals each isolating a single root of the polynomial
+     * @param width the greatest acceptable width of each refined interval
+     * @param pool the pool on which intervals will be refined
+     * @return the refined intervals (in the order of the originals)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Interval<T>> refine(Polynomial<T> polynomial, List<Interval<T>> intervals, T width, ForkJoinPool pool) {
+
+        neverNull(intervals, "intervals");
+        neverNull(pool, "pool");
+
+        Interval<T>[] source = intervals.toArray(new Interval[0]);
+        Interval<T>[] refined = new Interval[source.length];
+
+        pool.invoke(new RefinementTask(polynomial, source, refined, width, 0, source.length));
+
+        return Arrays.asList(refined);
+    }
+
+    int sign(T value) {
+        return op.isZero(value) ? 0 : op.isNegative(value) ? -1 : 1;
+    }
+
+    /**
+     * @return an upper bound upon the magnitude of every root: twice the Cauchy bound 1 + max |c[k] / c[n]| (the
+     * reciprocal of the leading coefficient is taken in double precision, so the bound is doubled to absorb its error)
+     */
+    T rootBound(T[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        T reciprocal = op.from(1d / Math.abs(op.value(coefficients[degree])));
+
+        T greatest = op.zero();
+
+        for (int index = 0; index < degree; index++)
+            greatest = op.max(greatest, op.abs(coefficients[index]));
+
+        return op.product(op.from(2d), op.sum(op.one(), op.product(greatest, reciprocal)));
+    }
+
+    /**
+     * divide out every factor (x - root) of the polynomial
+     * @param coefficients the coefficients of the polynomial
+     * @param root a candidate root
+     * @return the coefficients of the quotient (or the original coefficients if the candidate is not a root)
+     */
+    T[] deflate(T[] coefficients, T root) {
+
+        while (coefficients.length > 1) {
+
+            T[] quotient = op.array(coefficients.length - 1);
+
+            // synthetic division by (x - root)
+            T carry = coefficients[coefficients.length - 1];
+
+            for (int index = quotient.length - 1; index >= 0; index--) {
+                quotient[index] = carry;
+                carry = op.sum(coefficients[index], op.product(root, carry));
+            }
+
+            if (! op.isZero(carry))
+                break;
+
+            coefficients = quotient;
+        }
+
+        return coefficients;
+    }
+
+    /**
+     * Refines the intervals [first, last)
+     */
+    class RefinementTask extends RecursiveAction {
+
+        final Polynomial<T> polynomial;
+
+        final Interval<T>[] source;
+
+        final Interval<T>[] refined;
+
+        final T width;
+
+        final int first;
+
+        final int last;
+
+        RefinementTask(Polynomial<T> polynomial, Interval<T>[] source, Interval<T>[] refined, T width, int first, int last) {
+            this.polynomial = polynomial;
+            this.source = source;
+            this.refined = refined;
+            this.width = width;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= SEQUENTIAL_THRESHOLD) {
+                for (int index = first; index < last; index++)
+                    refined[index] = refine(polynomial, source[index], width);
+
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new RefinementTask(polynomial, source, refined, width, first, middle),
+                    new RefinementTask(polynomial, source, refined, width, middle, last));
+        }
+    }
+}
@@ -25,16 +25,12 @@ public class VASComputationExperimental2<T> {
 
     T strzebońskiAlpha;
 
-    Polynomial<T> xPlusOne;
-
     public BiFunction<Consumer<VASOperation2<T>>, VASOperation2<T>, VASOperation2<T>> processorFunction;
 
     public VASComputationExperimental2(OperationStrategy<T> op, T strzebońskiAlpha) {
 
         this.op = op;
 
-        this.xPlusOne = Polynomial.of(op, coefficients(op.one(), op.one()));
-
         this.strzebońskiAlpha = strzebońskiAlpha;
 
         this.processorFunction = (Consumer<VASOperation2<T>> registerFn, VASOperation2<T> vasOp) ->
@@ -163,9 +159,7 @@ public class VASComputationExperimental2<T> {
         // the lower bound now coincides with zero
         //
         // If α ≥ 1, set p(x) ← p(x + α), b ← αa + b, and d ← αc + d
-        Polynomial<T> composed = Polynomial.of(op, coefficients(op.one(), vasOp.lowerBoundComputed));
-
-        Polynomial<T> newPolynomial = vasOp.polynomial.apply(composed);
+        Polynomial<T> newPolynomial = vasOp.polynomial.taylorShift(vasOp.lowerBoundComputed);
         RealMobiusTransformation<T> newMobius = vasOp.mobius.composeXPlusK(vasOp.lowerBoundComputed);
 
         vasOp = vasOp.createCompletionMessage("lower bound >= 1");
@@ -186,7 +180,7 @@ public class VASComputationExperimental2<T> {
         // Use Taylor shift polynomial so that roots within (1, infinity) now lie within interval (0, infinity)
         // then re-apply VAS
         // Compute p1(x) ← p(x + 1)
-        Polynomial<T> polynomial1 = vasOp.polynomial.apply(xPlusOne);
+        Polynomial<T> polynomial1 = vasOp.polynomial.taylorShift(op.one());
 
         // set a1 ← a, b1 ← a + b, c1 ← c, d1 ← c + d
         RealMobiusTransformation<T> mobius1 = vasOp.mobius.composeXPlusK(op.one());
@@ -21,6 +21,9 @@ public class VincentAkritasStrzeboński2<T> {
 
     VASComputationExperimental2<T> processor;
 
+    /** when true, each polynomial is reduced to its square-free part before its roots are isolated */
+    final boolean squareFree;
+
     /** Construct standard VincentAkritasStrzeboński instance */
     public VincentAkritasStrzeboński2(OperationStrategy<T> op) {
         this(new VASComputationExperimental2<>(op), op);
@@ -31,12 +34,29 @@ public class VincentAkritasStrzeboński2<T> {
      * @param vasOperationBuilder function to construct the required VASComputation implementation
      */
     public VincentAkritasStrzeboński2(VASComputationExperimental2<T> vasComputation, OperationStrategy<T> op) {
+        this(vasComputation, op, false);
+    }
+
+    /**
+     * Construct VincentAkritasStrzeboński instance with custom implementation of VASComputation
+     *
+     * Roots of multiplicity greater than one are never separated by subdivision, so a polynomial that may have them
+     * should be reduced to its {@link Polynomial#squareFreePart() square-free part} (exactly, with an integer strategy).
+     * @param vasComputation the VASComputation implementation
+     * @param op the operation strategy
+     * @param squareFree when true, each polynomial is reduced to its square-free part before its roots are isolated
+     */
+    public VincentAkritasStrzeboński2(VASComputationExperimental2<T> vasComputation, OperationStrategy<T> op, boolean squareFree) {
         this.processor = vasComputation;
         this.op = op;
+        this.squareFree = squareFree;
     }
 
     public List<VASOperation2<T>> solveRootIntervals(Polynomial<T> polynomial) {
 
+        if (squareFree)
+            polynomial = polynomial.squareFreePart();
+
         // compute s = sgc(f)
         int signs = polynomial.signChanges();
 
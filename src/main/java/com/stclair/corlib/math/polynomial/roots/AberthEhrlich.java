@@ -0,0 +1,550 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Complex;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticLowerBound;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
+import com.stclair.corlib.math.polynomial.Polynomial;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Finds every complex root of a polynomial by the Aberth-Ehrlich simultaneous iteration
+ *
+ *   z[i] = z[i] - N[i] / (1 - N[i] sum(j != i, 1 / (z[i] - z[j]))),  N[i] = p(z[i]) / p'(z[i])
+ *
+ * which applies Newton's method to each approximation while repelling it from the others, and converges cubically to
+ * simple roots from any distinct starting points.  The approximations start evenly spaced upon the circle whose radius
+ * is the geometric mean |a[0] / a[n]|^(1/n) of the moduli of the roots, confined to the annulus bounded (by
+ * {@link LocalMaxQuadraticUpperBound} and {@link LocalMaxQuadraticLowerBound} applied to the Cauchy polynomials of p
+ * and of its reversal, or by Fujiwara's bounds where tighter) about those moduli.
+ *
+ * Every correction of an iteration is computed from the approximations of the previous iteration, so the corrections
+ * are independent and, for polynomials of high degree, are computed in parallel.  An approximation is no longer
+ * corrected once p(z) is indistinguishable from zero (being no greater than the bound upon the rounding error of its
+ * evaluation).  Where |z| exceeds one, p and p' are evaluated through the reversed polynomial in 1 / z, so that
+ * neither overflows for polynomials of high degree.
+ *
+ * Upon completion each approximation is given the inclusion radius n |p(z[i])| / |a[n] prod(j != i, z[i] - z[j])| of
+ * Braess and Hadeler (see {@link ComplexRoots#getErrorBounds()}).
+ */
+public class AberthEhrlich {
+
+    /** the default upper limit upon the number of simultaneous iterations */
+    public static final int DEFAULT_MAXIMUM_ITERATIONS = 1000;
+
+    /** in parallel mode, the corrections of no more than this many roots are computed by a single task */
+    static final int SEQUENTIAL_THRESHOLD = 32;
+
+    /** the angle (in radians) of the first starting point, chosen so that no starting point lies on the real axis */
+    static final double STARTING_ANGLE = 0.7;
+
+    static final double EPSILON = Math.ulp(1.0);
+
+    final int maximumIterations;
+
+    /** the pool on which the corrections are computed (or null to compute every correction on the calling thread) */
+    final ForkJoinPool pool;
+
+    final LocalMaxQuadraticUpperBound upperBound = new LocalMaxQuadraticUpperBound();
+
+    final LocalMaxQuadraticLowerBound lowerBound = new LocalMaxQuadraticLowerBound();
+
+    public AberthEhrlich() {
+        this(DEFAULT_MAXIMUM_ITERATIONS);
+    }
+
+    /**
+     * construct an instance that computes every correction on the calling thread
+     * @param maximumIterations the upper limit upon the number of simultaneous iterations
+     */
+    public AberthEhrlich(int maximumIterations) {
+        this.maximumIterations = inRange(maximumIterations, 1, Integer.MAX_VALUE, "maximumIterations");
+        this.pool = null;
+    }
+
+    /**
+     * construct an instance that computes the corrections of each iteration in parallel
+     * @param pool the pool on which the corrections are computed
+     */
+    public AberthEhrlich(ForkJoinPool pool) {
+        this(pool, DEFAULT_MAXIMUM_ITERATIONS);
+    }
+
+    /**
+     * construct an instance that computes the corrections of each iteration in parallel
+     * @param pool the pool on which the corrections are computed
+     * @param maximumIterations the upper limit upon the number of simultaneous iterations
+     */
+    public AberthEhrlich(ForkJoinPool pool, int maximumIterations) {
+        this.maximumIterations = inRange(maximumIterations, 1, Integer.MAX_VALUE, "maximumIterations");
+        this.pool = neverNull(pool, "pool");
+    }
+
+    /**
+     * @return true if the corrections of each iteration are computed in parallel
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * find every complex root of a polynomial
+     * @param polynomial the polynomial (which must not be zero)
+     * @return the roots, each repeated according to its multiplicity, and their error bounds
+     */
+    public ComplexRoots solve(Polynomial polynomial) {
+
+        neverNull(polynomial, "polynomial");
+
+        double[] all = polynomial.getCoefficients();
+
+        int highest = all.length - 1;
+
+        while (highest >= 0 && all[highest] == 0)
+            highest--;
+
+        if (highest < 0)
+            throw new IllegalArgumentException("polynomial must not be zero");
+
+        int zeros = polynomial.lowestDegree();
+
+        double[] coefficients = Arrays.copyOfRange(all, zeros, highest + 1);
+
+        int degree = highest - zeros;
+
+        Complex[] roots = new Complex[zeros + degree];
+        double[] errorBounds = new double[zeros + degree];
+
+        // the roots at zero are exact
+        for (int index = 0; index < zeros; index++)
+            roots[index] = Complex.ZERO;
+
+        if (degree == 0)
+            return new ComplexRoots(roots, errorBounds, 0, true);
+
+        if (degree == 1) {
+            roots[zeros] = Complex.of(-coefficients[0] / coefficients[1]);
+            errorBounds[zeros] = Math.abs(roots[zeros].real) * EPSILON;
+            return new ComplexRoots(roots, errorBounds, 0, true);
+        }
+
+        Iteration iteration = new Iteration(coefficients, startingRadius(coefficients));
+
+        int iterations = 0;
+
+        while (iterations < maximumIterations && iteration.active > 0) {
+            forEachRoot(degree, iteration::correct);
+            iteration.advance();
+            iterations++;
+        }
+
+        forEachRoot(degree, iteration::bound);
+
+        for (int index = 0; index < degree; index++) {
+            roots[zeros + index] = Complex.of(iteration.real[index], iteration.imaginary[index]);
+            errorBounds[zeros + index] = iteration.errorBounds[index];
+        }
+
+        return new ComplexRoots(roots, errorBounds, iterations, iteration.active == 0);
+    }
+
+    /**
+     * apply an action to the index of every root, in parallel if a pool was supplied
+     */
+    void forEachRoot(int count, IntConsumer action) {
+
+        if (pool == null || count <= SEQUENTIAL_THRESHOLD) {
+            for (int index = 0; index < count; index++)
+                action.accept(index);
+
+            return;
+        }
+
+        pool.invoke(new RootTask(action, 0, count));
+    }
+
+    /**
+     * select the radius of the circle upon which the approximations start: the geometric mean of the moduli of the
+     * roots, confined between a lower and an upper bound upon those moduli
+     * @param coefficients the coefficients of a polynomial of degree at least two whose constant coefficient is not zero
+     */
+    double startingRadius(double[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        // the Cauchy polynomial |a[n]| x^n - sum(k < n, |a[k]| x^k) has a single positive root, which bounds the moduli
+        // of the roots of p from above; that of the reversal of p bounds them from below
+        double[] cauchy = new double[degree + 1];
+        double[] reversedCauchy = new double[degree + 1];
+
+        for (int index = 0; index <= degree; index++) {
+            cauchy[index] = index == degree ? Math.abs(coefficients[index]) : -Math.abs(coefficients[index]);
+            reversedCauchy[index] = index == 0 ? Math.abs(coefficients[index]) : -Math.abs(coefficients[index]);
+        }
+
+        // the local-max quadratic estimates are computed in floating point, so they are checked defensively against
+        // rounding before they replace Fujiwara's bounds, and only where they are tighter
+        double upper = fujiwaraBound(coefficients);
+        double estimate = upperBound.estimateUpperBound(Polynomial.of(cauchy));
+
+        if (isUpperBound(coefficients, estimate))
+            upper = Math.min(upper, estimate);
+
+        double lower = 1 / fujiwaraBound(reversed(coefficients));
+        estimate = lowerBound.estimateLowerBound(Polynomial.of(reversedCauchy));
+
+        if (isLowerBound(coefficients, estimate))
+            lower = Math.max(lower, estimate);
+
+        // the geometric mean of the moduli of the roots is |a[0] / a[n]|^(1/n), which lies within the bounds
+        double mean = Math.exp((Math.log(Math.abs(coefficients[0])) - Math.log(Math.abs(coefficients[degree]))) / degree);
+
+        return Math.min(Math.max(mean, lower), upper);
+    }
+
+    /**
+     * @return true if the Cauchy polynomial is positive at the candidate (which is then no less than its positive root)
+     */
+    static boolean isUpperBound(double[] coefficients, double candidate) {
+
+        if (! (candidate > 0 && candidate < Double.POSITIVE_INFINITY))
+            return false;
+
+        int degree = coefficients.length - 1;
+
+        double reciprocal = 1 / candidate;
+        double sum = 0;
+
+        // sum(k < n, |a[k]| candidate^(k - n))
+        for (int index = 0; index < degree; index++)
+            sum = (sum + Math.abs(coefficients[index])) * reciprocal;
+
+        return sum < Math.abs(coefficients[degree]);
+    }
+
+    /**
+     * @return true if the Cauchy polynomial of the reversal is positive at the reciprocal of the candidate
+     */
+    static boolean isLowerBound(double[] coefficients, double candidate) {
+
+        if (! (candidate > 0 && candidate < Double.POSITIVE_INFINITY))
+            return false;
+
+        double sum = 0;
+
+        // sum(k > 0, |a[k]| candidate^k)
+        for (int index = coefficients.length - 1; index > 0; index--)
+            sum = (sum + Math.abs(coefficients[index])) * candidate;
+
+        return sum < Math.abs(coefficients[0]);
+    }
+
+    /**
+     * compute Fujiwara's bound, 2 max(|a[n - k] / a[n]|^(1/k), |a[0] / 2 a[n]|^(1/n)), upon the moduli of the roots
+     */
+    static double fujiwaraBound(double[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        double leading = Math.log(Math.abs(coefficients[degree]));
+        double greatest = Double.NEGATIVE_INFINITY;
+
+        for (int k = 1; k <= degree; k++) {
+            double magnitude = Math.abs(coefficients[degree - k]) / (k == degree ? 2 : 1);
+
+            if (magnitude > 0)
+                greatest = Math.max(greatest, (Math.log(magnitude) - leading) / k);
+        }
+
+        return 2 * Math.exp(greatest);
+    }
+
+    static double[] reversed(double[] coefficients) {
+
+        double[] reversed = new double[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return reversed;
+    }
+
+    /**
+     * evaluate the Newton correction p(z) / p'(z) together with the (natural) logarithms of |p(z)| and of the bound
+     * upon the rounding error of its evaluation
+     * @param coefficients the coefficients of p
+     * @param real the real component of z
+     * @param imaginary the imaginary component of z
+     * @param out receives the real and imaginary components of the correction, log |p(z)| and the logarithm of the
+     *            rounding error bound
+     */
+    static void evaluate(double[] coefficients, double real, double imaginary, double[] out) {
+
+        int degree = coefficients.length - 1;
+
+        double modulus = Math.hypot(real, imaginary);
+
+        boolean reverse = modulus > 1;
+
+        // where |z| > 1, p(z) = z^n r(w) with w = 1 / z and r the reversed polynomial
+        double x = real;
+        double y = imaginary;
+
+        if (reverse) {
+            double squared = real * real + imaginary * imaginary;
+
+            x = real / squared;
+            y = -imaginary / squared;
+        }
+
+        double absolute = Math.hypot(x, y);
+
+        double valueReal = coefficients[reverse ? 0 : degree];
+        double valueImaginary = 0;
+        double derivativeReal = 0;
+        double derivativeImaginary = 0;
+        double magnitude = Math.abs(valueReal);
+
+        for (int step = 1; step <= degree; step++) {
+
+            double coefficient = coefficients[reverse ? step : degree - step];
+
+            // derivative = derivative * x + value
+            double nextDerivativeReal = derivativeReal * x - derivativeImaginary * y + valueReal;
+            derivativeImaginary = derivativeReal * y + derivativeImaginary * x + valueImaginary;
+            derivativeReal = nextDerivativeReal;
+
+            // value = value * x + coefficient
+            double nextValueReal = valueReal * x - valueImaginary * y + coefficient;
+            valueImaginary = valueReal * y + valueImaginary * x;
+            valueReal = nextValueReal;
+
+            magnitude = magnitude * absolute + Math.abs(coefficient);
+        }
+
+        double numeratorReal = valueReal;
+        double numeratorImaginary = valueImaginary;
+        double denominatorReal = derivativeReal;
+        double denominatorImaginary = derivativeImaginary;
+
+        if (reverse) {
+            // p / p' = z r(w) / (n r(w) - w r'(w))
+            numeratorReal = real * valueReal - imaginary * valueImaginary;
+            numeratorImaginary = real * valueImaginary + imaginary * valueReal;
+
+            denominatorReal = degree * valueReal - (x * derivativeReal - y * derivativeImaginary);
+            denominatorImaginary = degree * valueImaginary - (x * derivativeImaginary + y * derivativeReal);
+        }
+
+        double denominator = denominatorReal * denominatorReal + denominatorImaginary * denominatorImaginary;
+
+        if (denominator == 0) {
+            // a critical point: step by the rounding error bound so that the iteration can leave it
+            out[0] = Math.max(modulus, 1) * Math.sqrt(EPSILON);
+            out[1] = out[0];
+        } else {
+            out[0] = (numeratorReal * denominatorReal + numeratorImaginary * denominatorImaginary) / denominator;
+            out[1] = (numeratorImaginary * denominatorReal - numeratorReal * denominatorImaginary) / denominator;
+        }
+
+        double scale = reverse ? degree * Math.log(modulus) : 0;
+
+        out[2] = scale + Math.log(Math.hypot(valueReal, valueImaginary));
+        out[3] = scale + Math.log(4 * degree * EPSILON * magnitude);
+    }
+
+    /**
+     * The state of a solve: the approximations of the current iteration and those being computed for the next
+     */
+    static class Iteration {
+
+        final double[] coefficients;
+
+        final int degree;
+
+        double[] real;
+
+        double[] imaginary;
+
+        double[] nextReal;
+
+        double[] nextImaginary;
+
+        /** true for each approximation that is no longer corrected */
+        final boolean[] converged;
+
+        final double[] errorBounds;
+
+        int active;
+
+        Iteration(double[] coefficients, double radius) {
+
+            this.coefficients = coefficients;
+            this.degree = coefficients.length - 1;
+
+            real = new double[degree];
+            imaginary = new double[degree];
+            nextReal = new double[degree];
+            nextImaginary = new double[degree];
+            converged = new boolean[degree];
+            errorBounds = new double[degree];
+
+            for (int index = 0; index < degree; index++) {
+                double angle = STARTING_ANGLE + 2 * Math.PI * index / degree;
+
+                real[index] = radius * Math.cos(angle);
+                imaginary[index] = radius * Math.sin(angle);
+            }
+
+            active = degree;
+        }
+
+        /**
+         * compute the next approximation to a single root from the current approximations
+         */
+        void correct(int index) {
+
+            double zr = real[index];
+            double zi = imaginary[index];
+
+            nextReal[index] = zr;
+            nextImaginary[index] = zi;
+
+            if (converged[index])
+                return;
+
+            double[] evaluation = new double[4];
+
+            evaluate(coefficients, zr, zi, evaluation);
+
+            if (evaluation[2] <= evaluation[3]) {
+                converged[index] = true;
+                return;
+            }
+
+            // sum(j != i, 1 / (z[i] - z[j]))
+            double sumReal = 0;
+            double sumImaginary = 0;
+
+            for (int other = 0; other < degree; other++) {
+                if (other == index)
+                    continue;
+
+                double dr = zr - real[other];
+                double di = zi - imaginary[other];
+                double squared = dr * dr + di * di;
+
+                sumReal += dr / squared;
+                sumImaginary -= di / squared;
+            }
+
+            double nr = evaluation[0];
+            double ni = evaluation[1];
+
+            // w = N / (1 - N sum)
+            double dr = 1 - (nr * sumReal - ni * sumImaginary);
+            double di = -(nr * sumImaginary + ni * sumReal);
+            double squared = dr * dr + di * di;
+
+            double wr = nr;
+            double wi = ni;
+
+            if (squared > 0 && squared < Double.POSITIVE_INFINITY) {
+                wr = (nr * dr + ni * di) / squared;
+                wi = (ni * dr - nr * di) / squared;
+            }
+
+            nextReal[index] = zr - wr;
+            nextImaginary[index] = zi - wi;
+
+            if (Math.hypot(wr, wi) <= EPSILON * Math.hypot(zr, zi))
+                converged[index] = true;
+        }
+
+        /**
+         * make the next approximations current
+         */
+        void advance() {
+
+            double[] swap = real;
+            real = nextReal;
+            nextReal = swap;
+
+            swap = imaginary;
+            imaginary = nextImaginary;
+            nextImaginary = swap;
+
+            active = 0;
+
+            for (boolean done : converged) {
+                if (! done)
+                    active++;
+            }
+        }
+
+        /**
+         * compute the inclusion radius of a single approximation
+         */
+        void bound(int index) {
+
+            double zr = real[index];
+            double zi = imaginary[index];
+
+            double[] evaluation = new double[4];
+
+            evaluate(coefficients, zr, zi, evaluation);
+
+            // log(|p(z)| + rounding error bound)
+            double high = Math.max(evaluation[2], evaluation[3]);
+            double low = Math.min(evaluation[2], evaluation[3]);
+
+            double logBound = high + Math.log1p(Math.exp(low - high)) - Math.log(Math.abs(coefficients[degree]));
+
+            for (int other = 0; other < degree; other++) {
+                if (other != index)
+                    logBound -= Math.log(Math.hypot(zr - real[other], zi - imaginary[other]));
+            }
+
+            errorBounds[index] = degree * Math.exp(logBound);
+        }
+    }
+
+    /**
+     * Applies an action to each of a range of root indices, dividing the range between tasks
+     */
+    static class RootTask extends RecursiveAction {
+
+        final IntConsumer action;
+
+        final int first;
+
+        final int last;
+
+        RootTask(IntConsumer action, int first, int last) {
+            this.action = action;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= SEQUENTIAL_THRESHOLD) {
+                for (int index = first; index < last; index++)
+                    action.accept(index);
+
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new RootTask(action, first, middle), new RootTask(action, middle, last));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Complex;
+
+/**
+ * The complex roots of a polynomial found by {@link AberthEhrlich}, each with the radius of a disc about it that
+ * contains a root of the polynomial
+ */
+public class ComplexRoots {
+
+    final Complex[] roots;
+
+    final double[] errorBounds;
+
+    final int iterations;
+
+    final boolean converged;
+
+    ComplexRoots(Complex[] roots, double[] errorBounds, int iterations, boolean converged) {
+        this.roots = roots;
+        this.errorBounds = errorBounds;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    /**
+     * @return the approximations to the roots (each repeated according to its multiplicity)
+     */
+    public Complex[] getRoots() {
+        return roots.clone();
+    }
+
+    /**
+     * The union of the discs about the roots contains every root of the polynomial, and each connected component of
+     * the union made up of k discs contains exactly k roots; in particular a disc disjoint from every other contains
+     * exactly one root.
+     * @return the radius of the inclusion disc about each root
+     */
+    public double[] getErrorBounds() {
+        return errorBounds.clone();
+    }
+
+    /**
+     * @return the number of simultaneous iterations taken
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return true if every approximation converged before the iteration limit was reached
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+}
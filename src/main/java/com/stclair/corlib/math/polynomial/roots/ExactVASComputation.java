@@ -0,0 +1,348 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+
+import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
+import org.apfloat.Apint;
+import org.apfloat.ApintMath;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * A VAS operation whose polynomial is held exactly, as integer coefficients in arbitrary precision
+ *
+ * Every double is an integer multiple of a power of two, so a polynomial with double coefficients is a common scale
+ * (which does not move its roots) times a polynomial with integer coefficients.  Every transformation applied by the
+ * VAS recursion (a Taylor shift by an integer, Budan's transform and division by a power of x) maps integer
+ * coefficients to integer coefficients, so each sign-change count is exact and the isolating intervals are those of
+ * the polynomial as given, whatever the magnitude of its coefficients.
+ *
+ * {@link IntervalVASComputation} hands to this class only those subtrees whose sign-change counts it cannot decide in
+ * double precision.
+ */
+public class ExactVASComputation implements VASOperation {
+
+    static final PositiveRootBound defaultBound = new LocalMaxQuadraticUpperBound();
+
+    static final Apint ZERO = new Apint(0);
+
+    static final Apint ONE = new Apint(1);
+
+    static final Apint TWO = new Apint(2);
+
+    /** shifts by lower bounds are limited to integers that doubles (and so Mobius transformations) hold exactly */
+    static final long MAXIMUM_SHIFT = 1L << 52;
+
+    final Apint[] coefficients;
+
+    final IntegerMobiusTransformation mobius;
+
+    /** the strategy by which lower bounds upon the positive roots are estimated */
+    final PositiveRootBound bound;
+
+    int taylorShifts;
+    long boundNanos;
+
+    /**
+     * construct the initial operation for the positive roots of a polynomial
+     * @param polynomial the polynomial
+     */
+    public ExactVASComputation(Polynomial polynomial) {
+        this(polynomial, defaultBound);
+    }
+
+    /**
+     * construct the initial operation for the positive roots of a polynomial
+     * @param polynomial the polynomial
+     * @param bound the strategy by which lower bounds upon the positive roots are estimated
+     */
+    public ExactVASComputation(Polynomial polynomial, PositiveRootBound bound) {
+        this(integerCoefficients(polynomial.getCoefficients()), IntegerMobiusTransformation.IDENTITY, neverNull(bound, "bound"));
+    }
+
+    ExactVASComputation(Apint[] coefficients, IntegerMobiusTransformation mobius, PositiveRootBound bound) {
+        this.coefficients = coefficients;
+        this.mobius = mobius;
+        this.bound = bound;
+    }
+
+    @Override
+    public boolean complete() {
+        return false;
+    }
+
+    @Override
+    public List<VASOperation> evaluate() {
+
+        List<Interval> roots = new LinkedList<>();
+        List<VASOperation> operations = new LinkedList<>();
+
+        Apint[] polynomial = coefficients;
+        IntegerMobiusTransformation mobius = this.mobius;
+
+        // If p(0) = 0, add [b/d, b/d] to rootlist and set p(x) ← p(x)/x
+        int lowestDegree = lowestDegree(polynomial);
+
+        if (lowestDegree > 0) {
+            roots.add(mobius.root());
+            polynomial = reduceDegree(polynomial, lowestDegree);
+        }
+
+        int sign = signChanges(polynomial);
+
+        if (sign == 0)
+            return buildResult(roots, operations);
+
+        if (sign == 1) {
+            roots.add(mobius.interval());
+            return buildResult(roots, operations);
+        }
+
+        // If α ≥ 1 is a lower bound upon the positive roots, set p(x) ← p(x + α), b ← αa + b, and d ← αc + d
+        long start = System.nanoTime();
+        long lowerBound = lowerBound(polynomial, bound);
+        boundNanos += System.nanoTime() - start;
+
+        if (lowerBound >= 1) {
+            polynomial = taylorShift(polynomial, lowerBound);
+            taylorShifts++;
+            mobius = mobius.composeXPlusK(lowerBound);
+
+            lowestDegree = lowestDegree(polynomial);
+
+            if (lowestDegree > 0) {
+                roots.add(mobius.root());
+                polynomial = reduceDegree(polynomial, lowestDegree);
+
+                sign = signChanges(polynomial);
+
+                if (sign == 0)
+                    return buildResult(roots, operations);
+
+                if (sign == 1) {
+                    roots.add(mobius.interval());
+                    return buildResult(roots, operations);
+                }
+            }
+        }
+
+        // Compute p1(x) ← p(x + 1); if p1(0) = 0, add [b1/d1, b1/d1] to rootlist and set p1(x) ← p1(x)/x
+        Apint[] polynomial1 = taylorShift(polynomial, 1);
+        taylorShifts++;
+        IntegerMobiusTransformation mobius1 = mobius.composeXPlusK(1);
+
+        lowestDegree = lowestDegree(polynomial1);
+
+        if (lowestDegree > 0) {
+            roots.add(mobius1.root());
+            polynomial1 = reduceDegree(polynomial1, lowestDegree);
+        }
+
+        // compute p2(x) ← (x + 1)^m * p(1/(x+1)); its root at zero (if any) is that already found at p1(0)
+        Apint[] polynomial2 = budanTransform(polynomial);
+        taylorShifts++;
+        IntegerMobiusTransformation mobius2 = mobius.budansTheorem();
+
+        polynomial2 = reduceDegree(polynomial2, lowestDegree(polynomial2));
+
+        operations.add(new ExactVASComputation(polynomial1, mobius1, bound));
+        operations.add(new ExactVASComputation(polynomial2, mobius2, bound));
+
+        return buildResult(roots, operations);
+    }
+
+    /**
+     * estimate an integer lower bound upon the positive roots of a polynomial, verified exactly
+     *
+     * The estimate is that of the bound strategy applied to the nearest doubles, which may be disturbed by rounding; as a
+     * defensive check it is halved until (x + 1)^n p(α / (x + 1)), whose positive roots correspond to those of p within
+     * (0, α), has no sign changes.
+     * @return the lower bound (or zero if no lower bound of at least one could be verified)
+     */
+    static long lowerBound(Apint[] polynomial, PositiveRootBound bound) {
+
+        double[] approximation = new double[polynomial.length];
+
+        for (int index = 0; index < polynomial.length; index++) {
+            approximation[index] = polynomial[index].doubleValue();
+
+            if (Double.isInfinite(approximation[index]))
+                return 0;
+        }
+
+        double estimate = bound.lowerBound(approximation);
+
+        if (! (estimate >= 1))
+            return 0;
+
+        for (long lowerBound = (long) Math.min(Math.floor(estimate), MAXIMUM_SHIFT); lowerBound >= 1; lowerBound /= 2) {
+            if (isLowerBound(polynomial, lowerBound))
+                return lowerBound;
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return true if the polynomial has no roots within (0, α)
+     */
+    static boolean isLowerBound(Apint[] polynomial, long lowerBound) {
+
+        Apint[] scaled = new Apint[polynomial.length];
+
+        Apint scale = ONE;
+        Apint alpha = new Apint(lowerBound);
+
+        for (int index = 0; index < polynomial.length; index++) {
+            scaled[index] = polynomial[index].multiply(scale);
+            scale = scale.multiply(alpha);
+        }
+
+        return signChanges(budanTransform(scaled)) == 0;
+    }
+
+    /**
+     * @return the coefficients of a polynomial, scaled by a common power of two so that each is an integer
+     */
+    static Apint[] integerCoefficients(double[] coefficients) {
+
+        int minimum = Integer.MAX_VALUE;
+
+        for (double coefficient : coefficients) {
+            if (coefficient != 0)
+                minimum = Math.min(minimum, exponent(coefficient));
+        }
+
+        Apint[] integers = new Apint[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++) {
+
+            double coefficient = coefficients[index];
+
+            if (coefficient == 0) {
+                integers[index] = ZERO;
+                continue;
+            }
+
+            int exponent = exponent(coefficient);
+
+            // the significand, shifted to an odd integer (exactly)
+            long significand = (long) Math.scalb(coefficient, -exponent);
+
+            integers[index] = new Apint(significand).multiply(ApintMath.pow(TWO, exponent - minimum));
+        }
+
+        return integers;
+    }
+
+    /**
+     * @return the exponent of the least significant non-zero bit of a (finite, non-zero) double
+     */
+    static int exponent(double value) {
+
+        int exponent = Math.max(Math.getExponent(value), Double.MIN_EXPONENT) - 52;
+
+        return exponent + Long.numberOfTrailingZeros((long) Math.scalb(value, -exponent));
+    }
+
+    /**
+     * @return the coefficients of p(x + a)
+     */
+    static Apint[] taylorShift(Apint[] coefficients, long a) {
+
+        Apint[] shifted = coefficients.clone();
+
+        int degree = shifted.length - 1;
+
+        Apint shift = new Apint(a);
+
+        for (int pass = 0; pass < degree; pass++) {
+            for (int index = degree - 1; index >= pass; index--) {
+                Apint term = a == 1 ? shifted[index + 1] : shifted[index + 1].multiply(shift);
+
+                shifted[index] = shifted[index].add(term);
+            }
+        }
+
+        return shifted;
+    }
+
+    /**
+     * @return the coefficients of (x + 1)^n p(1 / (x + 1)): those of p reversed, then shifted by one
+     */
+    static Apint[] budanTransform(Apint[] coefficients) {
+
+        Apint[] reversed = new Apint[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return taylorShift(reversed, 1);
+    }
+
+    static int lowestDegree(Apint[] coefficients) {
+
+        int lowestDegree = 0;
+
+        while (lowestDegree < coefficients.length - 1 && coefficients[lowestDegree].signum() == 0)
+            lowestDegree++;
+
+        return lowestDegree;
+    }
+
+    static Apint[] reduceDegree(Apint[] coefficients, int reduction) {
+
+        if (reduction == 0)
+            return coefficients;
+
+        return Arrays.copyOfRange(coefficients, reduction, coefficients.length);
+    }
+
+    static int signChanges(Apint[] coefficients) {
+
+        int count = 0;
+        int lastSign = 0;
+
+        for (Apint coefficient : coefficients) {
+
+            int sign = coefficient.signum();
+
+            if (sign == 0)
+                continue;
+
+            if (lastSign != 0 && sign != lastSign)
+                count++;
+
+            lastSign = sign;
+        }
+
+        return count;
+    }
+
+    List<VASOperation> buildResult(List<Interval> roots, List<VASOperation> operations) {
+        operations.add(new VASResult(roots));
+
+        return operations;
+    }
+
+    @Override
+    public List<Interval> getResults() {
+        return null;
+    }
+
+    @Override
+    public int getTaylorShifts() {
+        return taylorShifts;
+    }
+
+    @Override
+    public long getBoundNanos() {
+        return boundNanos;
+    }
+}
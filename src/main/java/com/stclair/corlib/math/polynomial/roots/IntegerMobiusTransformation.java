@@ -0,0 +1,86 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+
+import com.stclair.corlib.math.Interval;
+import org.apfloat.Apint;
+import org.apfloat.Aprational;
+
+/**
+ * A Mobius transformation M(x) = (ax + b) / (cx + d) with integer coefficients, held exactly
+ *
+ * The VAS recursion composes only Taylor shifts by integers and Budan's transform, so the coefficients remain
+ * integers, but they grow with the depth of the tree; held as doubles they cease to be exact (and ad - bc may appear
+ * to vanish) once they exceed 2^53.
+ */
+class IntegerMobiusTransformation {
+
+    static final Apint ZERO = new Apint(0);
+
+    static final Apint ONE = new Apint(1);
+
+    static final IntegerMobiusTransformation IDENTITY = new IntegerMobiusTransformation(ONE, ZERO, ZERO, ONE);
+
+    final Apint a;
+    final Apint b;
+    final Apint c;
+    final Apint d;
+
+    IntegerMobiusTransformation(Apint a, Apint b, Apint c, Apint d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    /**
+     * @return the transformation x ↦ M(1 / (x + 1))
+     */
+    IntegerMobiusTransformation budansTheorem() {
+        return new IntegerMobiusTransformation(b, a.add(b), d, c.add(d));
+    }
+
+    /**
+     * @return the transformation x ↦ M(x + k)
+     */
+    IntegerMobiusTransformation composeXPlusK(long k) {
+        Apint shift = new Apint(k);
+
+        return new IntegerMobiusTransformation(a, a.multiply(shift).add(b), c, c.multiply(shift).add(d));
+    }
+
+    /**
+     * @return M(0) = b / d (the nearest double)
+     */
+    double transformZero() {
+        return new Aprational(b, d).doubleValue();
+    }
+
+    /**
+     * @return M(infinity) = a / c (the nearest double)
+     */
+    double transformInfinity() {
+        if (c.signum() == 0)
+            return Double.POSITIVE_INFINITY;
+
+        return new Aprational(a, c).doubleValue();
+    }
+
+    /**
+     * @return the interval [M(0), M(0)] holding the exact root found at zero
+     */
+    Interval root() {
+        return new Interval(transformZero());
+    }
+
+    /**
+     * @return the image of (0, infinity)
+     */
+    Interval interval() {
+        return new Interval(transformZero(), transformInfinity());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%sX + %s) / (%sX + %s)", a, b, c, d);
+    }
+}
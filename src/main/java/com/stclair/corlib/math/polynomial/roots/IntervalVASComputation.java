@@ -0,0 +1,500 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+
+import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
+import org.apfloat.Apint;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * A VAS operation whose polynomial is held as an enclosure of its coefficients: a pair of doubles bounding each
+ *
+ * Each addition and multiplication of the Taylor shifts rounds the lower bound down and the upper bound up whenever
+ * its result is inexact (operations whose results are exact, as they are for coefficients of modest integers, do not
+ * widen the enclosure), so every sign-change count taken from coefficients whose enclosures exclude zero is that of
+ * the exact polynomial.  Where an enclosure includes zero (without being exactly zero) the count is in doubt, and the
+ * operation is replaced by an {@link ExactVASComputation} of the same polynomial, recomputed from the original
+ * coefficients along the path of transformations leading to this operation.  Only the subtrees below such operations
+ * are isolated in exact arithmetic; the remainder of the tree proceeds at the speed of double precision.
+ *
+ * Supply to {@link VincentAkritasStrzeboński#VincentAkritasStrzeboński(java.util.function.Function)} as
+ * {@code IntervalVASComputation::new}.
+ */
+public class IntervalVASComputation implements VASOperation {
+
+    static final PositiveRootBound defaultBound = new LocalMaxQuadraticUpperBound();
+
+    /** the lower bound upon each coefficient */
+    final double[] lower;
+
+    /** the upper bound upon each coefficient */
+    final double[] upper;
+
+    final IntegerMobiusTransformation mobius;
+
+    /** the coefficients of the polynomial whose roots are being isolated */
+    final double[] origin;
+
+    /** the last of the transformations leading from the original polynomial to that of this operation */
+    final Step path;
+
+    /** the strategy by which lower bounds upon the positive roots are estimated */
+    final PositiveRootBound bound;
+
+    int taylorShifts;
+    long boundNanos;
+
+    /**
+     * construct the initial operation for the positive roots of a polynomial
+     * @param polynomial the polynomial
+     */
+    public IntervalVASComputation(Polynomial polynomial) {
+        this(polynomial, defaultBound);
+    }
+
+    /**
+     * construct the initial operation for the positive roots of a polynomial
+     * @param polynomial the polynomial
+     * @param bound the strategy by which lower bounds upon the positive roots are estimated
+     */
+    public IntervalVASComputation(Polynomial polynomial, PositiveRootBound bound) {
+        this(polynomial.getCoefficients().clone(), polynomial.getCoefficients().clone(), IntegerMobiusTransformation.IDENTITY,
+                polynomial.getCoefficients(), null, neverNull(bound, "bound"));
+    }
+
+    IntervalVASComputation(double[] lower, double[] upper, IntegerMobiusTransformation mobius, double[] origin, Step path,
+                           PositiveRootBound bound) {
+        this.lower = lower;
+        this.upper = upper;
+        this.mobius = mobius;
+        this.origin = origin;
+        this.path = path;
+        this.bound = bound;
+    }
+
+    @Override
+    public boolean complete() {
+        return false;
+    }
+
+    @Override
+    public List<VASOperation> evaluate() {
+
+        List<Interval> roots = new LinkedList<>();
+        List<VASOperation> operations = new LinkedList<>();
+
+        double[] lower = this.lower;
+        double[] upper = this.upper;
+        IntegerMobiusTransformation mobius = this.mobius;
+
+        // If p(0) = 0, add [b/d, b/d] to rootlist and set p(x) ← p(x)/x
+        int lowestDegree = lowestDegree(lower, upper);
+
+        if (lowestDegree > 0) {
+            roots.add(mobius.root());
+            lower = Arrays.copyOfRange(lower, lowestDegree, lower.length);
+            upper = Arrays.copyOfRange(upper, lowestDegree, upper.length);
+        }
+
+        int sign = signChanges(lower, upper);
+
+        if (sign < 0)
+            return escalate();
+
+        if (sign == 0)
+            return buildResult(roots, operations);
+
+        if (sign == 1) {
+            roots.add(mobius.interval());
+            return buildResult(roots, operations);
+        }
+
+        Step path = lowestDegree > 0 ? new Step(this.path, 0, false, lowestDegree) : this.path;
+
+        // If α ≥ 1 is a lower bound upon the positive roots, set p(x) ← p(x + α), b ← αa + b, and d ← αc + d
+        long start = System.nanoTime();
+        long lowerBound = lowerBound(lower, upper, bound);
+        boundNanos += System.nanoTime() - start;
+
+        if (lowerBound >= 1) {
+            lower = lower.clone();
+            upper = upper.clone();
+
+            taylorShift(lower, upper, lowerBound);
+            taylorShifts++;
+            mobius = mobius.composeXPlusK(lowerBound);
+            path = new Step(path, lowerBound, false, 0);
+
+            lowestDegree = lowestDegree(lower, upper);
+
+            if (lowestDegree > 0) {
+                roots.add(mobius.root());
+                lower = Arrays.copyOfRange(lower, lowestDegree, lower.length);
+                upper = Arrays.copyOfRange(upper, lowestDegree, upper.length);
+                path = new Step(path, 0, false, lowestDegree);
+
+                sign = signChanges(lower, upper);
+
+                if (sign < 0)
+                    return escalate();
+
+                if (sign == 0)
+                    return buildResult(roots, operations);
+
+                if (sign == 1) {
+                    roots.add(mobius.interval());
+                    return buildResult(roots, operations);
+                }
+            }
+        }
+
+        // Compute p1(x) ← p(x + 1); if p1(0) = 0, add [b1/d1, b1/d1] to rootlist and set p1(x) ← p1(x)/x
+        double[] lower1 = lower.clone();
+        double[] upper1 = upper.clone();
+
+        taylorShift(lower1, upper1, 1);
+        taylorShifts++;
+
+        IntegerMobiusTransformation mobius1 = mobius.composeXPlusK(1);
+        Step path1 = new Step(path, 1, false, 0);
+
+        lowestDegree = lowestDegree(lower1, upper1);
+
+        if (lowestDegree > 0) {
+            roots.add(mobius1.root());
+            lower1 = Arrays.copyOfRange(lower1, lowestDegree, lower1.length);
+            upper1 = Arrays.copyOfRange(upper1, lowestDegree, upper1.length);
+            path1 = new Step(path1, 0, false, lowestDegree);
+        }
+
+        // compute p2(x) ← (x + 1)^m * p(1/(x+1)); its root at zero (if any) is that already found at p1(0)
+        double[] lower2 = reversed(lower);
+        double[] upper2 = reversed(upper);
+
+        taylorShift(lower2, upper2, 1);
+        taylorShifts++;
+
+        IntegerMobiusTransformation mobius2 = mobius.budansTheorem();
+        Step path2 = new Step(path, 0, true, 0);
+
+        lowestDegree = lowestDegree(lower2, upper2);
+
+        if (lowestDegree > 0) {
+            lower2 = Arrays.copyOfRange(lower2, lowestDegree, lower2.length);
+            upper2 = Arrays.copyOfRange(upper2, lowestDegree, upper2.length);
+            path2 = new Step(path2, 0, false, lowestDegree);
+        }
+
+        operations.add(new IntervalVASComputation(lower1, upper1, mobius1, origin, path1, bound));
+        operations.add(new IntervalVASComputation(lower2, upper2, mobius2, origin, path2, bound));
+
+        return buildResult(roots, operations);
+    }
+
+    /**
+     * replace this operation by an exact operation upon the same polynomial
+     */
+    List<VASOperation> escalate() {
+
+        List<VASOperation> operations = new LinkedList<>();
+
+        operations.add(new ExactVASComputation(exactCoefficients(), mobius, bound));
+
+        return operations;
+    }
+
+    /**
+     * recompute the polynomial of this operation exactly by applying each transformation of its path to the original
+     * polynomial
+     * @return the integer coefficients of the polynomial (scaled by a positive constant)
+     */
+    Apint[] exactCoefficients() {
+
+        Deque<Step> steps = new ArrayDeque<>();
+
+        for (Step step = path; step != null; step = step.previous)
+            steps.push(step);
+
+        Apint[] coefficients = ExactVASComputation.integerCoefficients(origin);
+
+        for (Step step : steps) {
+            if (step.budan) {
+                coefficients = ExactVASComputation.budanTransform(coefficients);
+                taylorShifts++;
+            } else if (step.reduction > 0) {
+                coefficients = ExactVASComputation.reduceDegree(coefficients, step.reduction);
+            } else {
+                coefficients = ExactVASComputation.taylorShift(coefficients, step.shift);
+                taylorShifts++;
+            }
+        }
+
+        return coefficients;
+    }
+
+    /**
+     * estimate an integer lower bound upon the positive roots of the polynomial, verified upon its enclosure
+     *
+     * The estimate is that of the bound strategy applied to the midpoints of the enclosure, which bounds the roots of the
+     * midpoint polynomial rather than of every polynomial in the enclosure; as a defensive check it is halved until
+     * (x + 1)^n p(α / (x + 1)), whose positive roots correspond to those of p within (0, α), certainly has no sign
+     * changes.
+     * @return the lower bound (or zero if no lower bound of at least one could be verified)
+     */
+    static long lowerBound(double[] lower, double[] upper, PositiveRootBound bound) {
+
+        double[] midpoints = new double[lower.length];
+
+        for (int index = 0; index < lower.length; index++)
+            midpoints[index] = lower[index] / 2 + upper[index] / 2;
+
+        double estimate = bound.lowerBound(midpoints);
+
+        if (! (estimate >= 1))
+            return 0;
+
+        for (long lowerBound = (long) Math.min(Math.floor(estimate), ExactVASComputation.MAXIMUM_SHIFT); lowerBound >= 1; lowerBound /= 2) {
+            if (isLowerBound(lower, upper, lowerBound))
+                return lowerBound;
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return true if the polynomial certainly has no roots within (0, α)
+     */
+    static boolean isLowerBound(double[] lower, double[] upper, long lowerBound) {
+
+        double[] scaledLower = new double[lower.length];
+        double[] scaledUpper = new double[upper.length];
+
+        // the powers of α, enclosed
+        double scaleLower = 1;
+        double scaleUpper = 1;
+
+        for (int index = 0; index < lower.length; index++) {
+            scaledLower[index] = productLower(lower[index], upper[index], scaleLower, scaleUpper);
+            scaledUpper[index] = productUpper(lower[index], upper[index], scaleLower, scaleUpper);
+
+            scaleLower = multiplyDown(scaleLower, lowerBound);
+            scaleUpper = multiplyUp(scaleUpper, lowerBound);
+        }
+
+        double[] transformedLower = reversed(scaledLower);
+        double[] transformedUpper = reversed(scaledUpper);
+
+        taylorShift(transformedLower, transformedUpper, 1);
+
+        return signChanges(transformedLower, transformedUpper) == 0;
+    }
+
+    /**
+     * replace the enclosure of p(x) with an enclosure of p(x + a)
+     * @param lower the lower bounds (overwritten)
+     * @param upper the upper bounds (overwritten)
+     * @param a the (positive) shift
+     */
+    static void taylorShift(double[] lower, double[] upper, long a) {
+
+        int degree = lower.length - 1;
+
+        for (int pass = 0; pass < degree; pass++) {
+            for (int index = degree - 1; index >= pass; index--) {
+                if (a == 1) {
+                    lower[index] = addDown(lower[index], lower[index + 1]);
+                    upper[index] = addUp(upper[index], upper[index + 1]);
+                } else {
+                    lower[index] = addDown(lower[index], multiplyDown(lower[index + 1], a));
+                    upper[index] = addUp(upper[index], multiplyUp(upper[index + 1], a));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the sum of a and b, rounded down if inexact
+     */
+    static double addDown(double a, double b) {
+
+        double sum = a + b;
+
+        // the rounding error of the sum (exact, by Knuth's TwoSum)
+        double bRounded = sum - a;
+        double error = (a - (sum - bRounded)) + (b - bRounded);
+
+        return error < 0 ? Math.nextDown(sum) : sum;
+    }
+
+    /**
+     * @return the sum of a and b, rounded up if inexact
+     */
+    static double addUp(double a, double b) {
+
+        double sum = a + b;
+
+        double bRounded = sum - a;
+        double error = (a - (sum - bRounded)) + (b - bRounded);
+
+        return error > 0 ? Math.nextUp(sum) : sum;
+    }
+
+    /**
+     * @return the product of a and b, rounded down if inexact
+     */
+    static double multiplyDown(double a, double b) {
+
+        double product = a * b;
+
+        return Math.fma(a, b, -product) < 0 ? Math.nextDown(product) : product;
+    }
+
+    /**
+     * @return the product of a and b, rounded up if inexact
+     */
+    static double multiplyUp(double a, double b) {
+
+        double product = a * b;
+
+        return Math.fma(a, b, -product) > 0 ? Math.nextUp(product) : product;
+    }
+
+    /**
+     * @return the lower bound upon the product of [aLower, aUpper] and [bLower, bUpper], where 0 < bLower
+     */
+    static double productLower(double aLower, double aUpper, double bLower, double bUpper) {
+        return aLower >= 0 ? multiplyDown(aLower, bLower) : multiplyDown(aLower, bUpper);
+    }
+
+    /**
+     * @return the upper bound upon the product of [aLower, aUpper] and [bLower, bUpper], where 0 < bLower
+     */
+    static double productUpper(double aLower, double aUpper, double bLower, double bUpper) {
+        return aUpper >= 0 ? multiplyUp(aUpper, bUpper) : multiplyUp(aUpper, bLower);
+    }
+
+    /**
+     * @return the number of leading coefficients that are certainly zero
+     */
+    static int lowestDegree(double[] lower, double[] upper) {
+
+        int lowestDegree = 0;
+
+        while (lowestDegree < lower.length - 1 && lower[lowestDegree] == 0 && upper[lowestDegree] == 0)
+            lowestDegree++;
+
+        return lowestDegree;
+    }
+
+    /**
+     * count the sign changes of the coefficients, skipping those that are certainly zero
+     * @return the number of sign changes (or -1 if some enclosure includes zero, so that the count is in doubt)
+     */
+    static int signChanges(double[] lower, double[] upper) {
+
+        int count = 0;
+        int lastSign = 0;
+
+        for (int index = 0; index < lower.length; index++) {
+
+            int sign;
+
+            if (Double.isInfinite(lower[index]) || Double.isInfinite(upper[index]))
+                return -1;      // the enclosure has overflowed
+            else if (lower[index] > 0)
+                sign = 1;
+            else if (upper[index] < 0)
+                sign = -1;
+            else if (lower[index] == 0 && upper[index] == 0)
+                continue;
+            else
+                return -1;      // the enclosure includes zero (or is not a number)
+
+            if (lastSign != 0 && sign != lastSign)
+                count++;
+
+            lastSign = sign;
+        }
+
+        return count;
+    }
+
+    static double[] reversed(double[] coefficients) {
+
+        double[] reversed = new double[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++)
+            reversed[index] = coefficients[coefficients.length - 1 - index];
+
+        return reversed;
+    }
+
+    List<VASOperation> buildResult(List<Interval> roots, List<VASOperation> operations) {
+        operations.add(new VASResult(roots));
+
+        return operations;
+    }
+
+    @Override
+    public List<Interval> getResults() {
+        return null;
+    }
+
+    @Override
+    public int getTaylorShifts() {
+        return taylorShifts;
+    }
+
+    @Override
+    public long getBoundNanos() {
+        return boundNanos;
+    }
+
+    /**
+     * @return the polynomial whose coefficients are the midpoints of the enclosure
+     */
+    @Override
+    public Polynomial getPolynomial() {
+
+        double[] midpoints = new double[lower.length];
+
+        for (int index = 0; index < lower.length; index++)
+            midpoints[index] = lower[index] / 2 + upper[index] / 2;
+
+        return Polynomial.of(midpoints);
+    }
+
+    /**
+     * One transformation upon the path from the original polynomial to that of an operation: a Taylor shift by an
+     * integer, Budan's transform or division by a power of x
+     */
+    static class Step {
+
+        final Step previous;
+
+        /** the shift of a Taylor shift */
+        final long shift;
+
+        /** true for Budan's transform */
+        final boolean budan;
+
+        /** the power of x divided out by a reduction */
+        final int reduction;
+
+        Step(Step previous, long shift, boolean budan, int reduction) {
+            this.previous = previous;
+            this.shift = shift;
+            this.budan = budan;
+            this.reduction = reduction;
+        }
+    }
+}
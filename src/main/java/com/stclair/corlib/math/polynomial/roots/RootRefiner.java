@@ -0,0 +1,306 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.polynomial.Polynomial;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Narrows the isolating intervals produced by {@link VincentAkritasStrzeboński} until each is no wider than a
+ * requested width.
+ *
+ * Each step takes a Newton step from the endpoint of least magnitude when it falls within the bracket, otherwise the
+ * Illinois (modified regula falsi) point, otherwise the midpoint; a bisection is forced whenever two steps fail to
+ * halve the bracket.  Because Newton and Illinois steps converge upon the root from one side, each step is followed
+ * by a probe one half of the requested width beyond the new endpoint, which closes the bracket once the root has
+ * been located.
+ *
+ * A root lying exactly upon an endpoint of an open isolating interval (which the VAS method reports separately) is
+ * divided out before refinement so that it cannot be mistaken for the root isolated within the interval.
+ */
+public class RootRefiner {
+
+    /** the default upper limit upon the number of steps taken to refine a single interval */
+    public static final int DEFAULT_MAXIMUM_ITERATIONS = 200;
+
+    /** intervals are refined in parallel in batches of this size */
+    static final int SEQUENTIAL_THRESHOLD = 4;
+
+    final int maximumIterations;
+
+    public RootRefiner() {
+        this(DEFAULT_MAXIMUM_ITERATIONS);
+    }
+
+    /**
+     * construct an instance
+     * @param maximumIterations the upper limit upon the number of steps taken to refine a single interval (after
+     *                          which the narrowest bracket found is returned)
+     */
+    public RootRefiner(int maximumIterations) {
+        this.maximumIterations = inRange(maximumIterations, 1, Integer.MAX_VALUE, "maximumIterations");
+    }
+
+    /**
+     * refine an isolating interval
+     * @param polynomial the polynomial whose root is isolated by the interval
+     * @param interval an interval isolating a single root of the polynomial
+     * @param width the greatest acceptable width of the refined interval
+     * @return a closed interval no wider than the requested width containing the isolated root (or the original
+     * interval if it does not bracket a sign change)
+     */
+    public Interval refine(Polynomial polynomial, Interval interval, double width) {
+
+        neverNull(polynomial, "polynomial");
+        neverNull(interval, "interval");
+        inRange(width, Double.MIN_VALUE, Double.POSITIVE_INFINITY, "width");
+
+        if (interval.isExactValue())
+            return interval;
+
+        double a = interval.a;
+        double b = interval.b;
+
+        if (Double.isInfinite(a) || Double.isInfinite(b)) {
+            double bound = rootBound(polynomial.getCoefficients());
+
+            a = Math.max(a, -bound);
+            b = Math.min(b, bound);
+        }
+
+        double[] coefficients = deflate(deflate(polynomial.getCoefficients(), a), b);
+
+        Polynomial reduced = Polynomial.of(coefficients);
+        Polynomial derivative = reduced.derivative();
+
+        double fa = reduced.apply(a);
+        double fb = reduced.apply(b);
+
+        if (Math.signum(fa) == Math.signum(fb))
+            return interval;
+
+        // Illinois weights of the endpoint values (halved whenever the same endpoint is retained twice)
+        double ga = fa;
+        double gb = fb;
+
+        int retained = 0;
+        double previousWidth = Double.POSITIVE_INFINITY;
+        boolean bisect = false;
+
+        for (int iteration = 0; iteration < maximumIterations && b - a > width; iteration++) {
+
+            double x = bisect ? midpoint(a, b) : interpolate(a, b, fa, fb, ga, gb, derivative);
+
+            double fx = reduced.apply(x);
+
+            if (fx == 0)
+                return new Interval(x);
+
+            double currentWidth = b - a;
+
+            if (Math.signum(fx) == Math.signum(fa)) {
+                a = x;
+                fa = ga = fx;
+
+                if (retained == 1)
+                    gb /= 2;
+
+                retained = 1;
+            } else {
+                b = x;
+                fb = gb = fx;
+
+                if (retained == -1)
+                    ga /= 2;
+
+                retained = -1;
+            }
+
+            // probe beyond the endpoint just moved in the hope of closing the bracket
+            if (b - a > width) {
+
+                double y = retained == 1 ? a + width / 2 : b - width / 2;
+
+                double fy = reduced.apply(y);
+
+                if (fy == 0)
+                    return new Interval(y);
+
+                if (Math.signum(fy) == Math.signum(fa)) {
+                    a = y;
+                    fa = ga = fy;
+                } else {
+                    b = y;
+                    fb = gb = fy;
+                }
+            }
+
+            bisect = b - a > previousWidth / 2;
+            previousWidth = currentWidth;
+        }
+
+        return new Interval(a, b);
+    }
+
+    /**
+     * refine each of a list of isolating intervals
+     * @param polynomial the polynomial whose roots are isolated by the intervals
+     * @param intervals intervals each isolating a single root of the polynomial
+     * @param width the greatest acceptable width of each refined interval
+     * @return the refined intervals (in the order of the originals)
+     */
+    public List<Interval> refine(Polynomial polynomial, List<Interval> intervals, double width) {
+
+        neverNull(intervals, "intervals");
+
+        Interval[] refined = new Interval[intervals.size()];
+
+        for (int index = 0; index < refined.length; index++)
+            refined[index] = refine(polynomial, intervals.get(index), width);
+
+        return Arrays.asList(refined);
+    }
+
+    /**
+     * refine each of a list of isolating intervals in parallel
+     * @param polynomial the polynomial whose roots are isolated by the intervals
+     * @param intervals intervals each isolating a single root of the polynomial
+     * @param width the greatest acceptable width of each refined interval
+     * @param pool the pool on which intervals will be refined
+     * @return the refined intervals (in the order of the originals)
+     */
+    public List<Interval> refine(Polynomial polynomial, List<Interval> intervals, double width, ForkJoinPool pool) {
+
+        neverNull(intervals, "intervals");
+        neverNull(pool, "pool");
+
+        Interval[] source = intervals.toArray(new Interval[0]);
+        Interval[] refined = new Interval[source.length];
+
+        pool.invoke(new RefinementTask(polynomial, source, refined, width, 0, source.length));
+
+        return Arrays.asList(refined);
+    }
+
+    /**
+     * select the next point at which the polynomial will be evaluated
+     */
+    static double interpolate(double a, double b, double fa, double fb, double ga, double gb, Polynomial derivative) {
+
+        // Newton step from the endpoint nearer the root
+        double origin = Math.abs(fa) < Math.abs(fb) ? a : b;
+        double slope = derivative.apply(origin);
+
+        if (slope != 0) {
+            double x = origin - (origin == a ? fa : fb) / slope;
+
+            if (a < x && x < b)
+                return x;
+        }
+
+        // Illinois step
+        double x = (a * gb - b * ga) / (gb - ga);
+
+        if (a < x && x < b)
+            return x;
+
+        return midpoint(a, b);
+    }
+
+    static double midpoint(double a, double b) {
+        return a + (b - a) / 2;
+    }
+
+    /**
+     * @return the Cauchy bound 1 + max |c[k] / c[n]|, which exceeds the magnitude of every root
+     */
+    static double rootBound(double[] coefficients) {
+
+        int degree = coefficients.length - 1;
+
+        double greatest = 0;
+
+        for (int index = 0; index < degree; index++)
+            greatest = Math.max(greatest, Math.abs(coefficients[index] / coefficients[degree]));
+
+        return 1 + greatest;
+    }
+
+    /**
+     * divide out every factor (x - root) of the polynomial
+     * @param coefficients the coefficients of the polynomial
+     * @param root a candidate root
+     * @return the coefficients of the quotient (or the original coefficients if the candidate is not a root)
+     */
+    static double[] deflate(double[] coefficients, double root) {
+
+        while (coefficients.length > 1) {
+
+            double[] quotient = new double[coefficients.length - 1];
+
+            // synthetic division by (x - root)
+            double carry = coefficients[coefficients.length - 1];
+
+            for (int index = quotient.length - 1; index >= 0; index--) {
+                quotient[index] = carry;
+                carry = coefficients[index] + root * carry;
+            }
+
+            if (carry != 0)
+                break;
+
+            coefficients = quotient;
+        }
+
+        return coefficients;
+    }
+
+    /**
+     * Refines the intervals [first, last)
+     */
+    class RefinementTask extends RecursiveAction {
+
+        final Polynomial polynomial;
+
+        final Interval[] source;
+
+        final Interval[] refined;
+
+        final double width;
+
+        final int first;
+
+        final int last;
+
+        RefinementTask(Polynomial polynomial, Interval[] source, Interval[] refined, double width, int first, int last) {
+            this.polynomial = polynomial;
+            this.source = source;
+            this.refined = refined;
+            this.width = width;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= SEQUENTIAL_THRESHOLD) {
+                for (int index = first; index < last; index++)
+                    refined[index] = refine(polynomial, source[index], width);
+
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new RefinementTask(polynomial, source, refined, width, first, middle),
+                    new RefinementTask(polynomial, source, refined, width, middle, last));
+        }
+    }
+}
@@ -3,26 +3,59 @@ package com.stclair.corlib.math.polynomial.roots;
 
 import com.stclair.corlib.math.Interval;
 import com.stclair.corlib.math.RealMobiusTransformation;
-import com.stclair.corlib.math.polynomial.LocalMaxQuadraticLowerBound;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
 import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
 
 import java.util.LinkedList;
 import java.util.List;
 
+import static com.stclair.corlib.validation.Validation.neverNull;
+
 /**
  * @author hstclair
  * @since 8/22/15 3:33 PM
  */
 public class VASComputation implements VASOperation {
-    static final LocalMaxQuadraticLowerBound lowerBoundEstimator = new LocalMaxQuadraticLowerBound();
-    static final Polynomial xPlusOne = Polynomial.of(new double[] { 1, 1 });
+    static final PositiveRootBound defaultBound = new LocalMaxQuadraticUpperBound();
 
     Polynomial polynomial;
     RealMobiusTransformation mobius;
 
-    VASComputation(Polynomial polynomial, RealMobiusTransformation mobius) {
+    /** the strategy by which lower bounds upon the positive roots are estimated */
+    final PositiveRootBound bound;
+
+    int taylorShifts;
+    long boundNanos;
+
+    /**
+     * construct the operation for the positive roots of a polynomial, transformed by a Mobius transformation
+     * @param polynomial the polynomial
+     * @param mobius the Mobius transformation by which the roots of the polynomial map to those sought
+     */
+    public VASComputation(Polynomial polynomial, RealMobiusTransformation mobius) {
+        this(polynomial, mobius, defaultBound);
+    }
+
+    /**
+     * construct the initial operation for the positive roots of a polynomial
+     * @param polynomial the polynomial
+     * @param bound the strategy by which lower bounds upon the positive roots are estimated
+     */
+    public VASComputation(Polynomial polynomial, PositiveRootBound bound) {
+        this(polynomial, RealMobiusTransformation.IDENTITY, neverNull(bound, "bound"));
+    }
+
+    /**
+     * construct the operation for the positive roots of a polynomial, transformed by a Mobius transformation
+     * @param polynomial the polynomial
+     * @param mobius the Mobius transformation by which the roots of the polynomial map to those sought
+     * @param bound the strategy by which lower bounds upon the positive roots are estimated
+     */
+    public VASComputation(Polynomial polynomial, RealMobiusTransformation mobius, PositiveRootBound bound) {
         this.polynomial = polynomial;
         this.mobius = mobius;
+        this.bound = bound;
     }
 
 
@@ -39,7 +72,9 @@ public class VASComputation implements VASOperation {
         int sign = polynomial.signChanges();
 
         // Compute a lower bound α ∈ Z on the positive roots of p.
-        double lowerBound = lowerBoundEstimator.estimateLowerBound(polynomial);
+        long start = System.nanoTime();
+        double lowerBound = bound.lowerBound(polynomial.getCoefficients());
+        boundNanos += System.nanoTime() - start;
 
         // if the lower bound of the polynomial's roots is greater than the polynomial's constant term then scale the
         // polynomial (and the associated Mobius Transformation) so that this lower bound coincides with x=1
@@ -56,9 +91,8 @@ public class VASComputation implements VASOperation {
         //
         // If α ≥ 1, set p(x) ← p(x + α), b ← αa + b, and d ← αc + d
         if (lowerBound >= 1) {
-            Polynomial composed = Polynomial.of(new double[]{lowerBound, 1});
-
-            polynomial = polynomial.apply(composed);
+            polynomial = polynomial.taylorShift(lowerBound);
+            taylorShifts++;
             mobius = mobius.composeXPlusK(lowerBound);
 
             // if the constant portion of the resulting polynomial is now zero, we have found one of the roots and
@@ -89,7 +123,8 @@ public class VASComputation implements VASOperation {
         }
 
         // Compute p1(x) ← p(x + 1)
-        Polynomial polynomial1 = polynomial.apply(xPlusOne);
+        Polynomial polynomial1 = polynomial.taylorShift(1);
+        taylorShifts++;
         // set a1 ← a, b1 ← a + b, c1 ← c, d1 ← c + d
         RealMobiusTransformation mobius1 = mobius.composeXPlusK(1);
 
@@ -122,6 +157,7 @@ public class VASComputation implements VASOperation {
         if (sign2 > 1) {
             //  compute p2(x) ← (x + 1)^m * p(1/(x+1)), where m is the degree of p
             polynomial2 = polynomial.budansTheorem();
+            taylorShifts++;
 
             // If p2(0) = 0
             if (polynomial2.constant() == 0) {
@@ -154,7 +190,7 @@ public class VASComputation implements VASOperation {
         if (sign1 == 1) // If s1 = 1 add intrv(a1, b1, c1, d1) to rootlist
             roots.add(intervalOf(mobius1));
         else
-            operations.add(new VASComputation(polynomial1, mobius1));
+            operations.add(new VASComputation(polynomial1, mobius1, bound));
 
         if (sign2 == 0) // If s2 = 0 goto Step 2
             return buildResult(roots, operations);
@@ -162,7 +198,7 @@ public class VASComputation implements VASOperation {
         if (sign2 == 1) // If s2 = 1 add intrv(a2, b2, c2, d2) to rootlist
             roots.add(intervalOf(mobius2));
         else
-            operations.add(new VASComputation(polynomial2, mobius2));
+            operations.add(new VASComputation(polynomial2, mobius2, bound));
 
         return buildResult(roots, operations);
     }
@@ -178,6 +214,21 @@ public class VASComputation implements VASOperation {
         return null;
     }
 
+    @Override
+    public Polynomial getPolynomial() {
+        return polynomial;
+    }
+
+    @Override
+    public int getTaylorShifts() {
+        return taylorShifts;
+    }
+
+    @Override
+    public long getBoundNanos() {
+        return boundNanos;
+    }
+
     Interval intervalOf(RealMobiusTransformation mobius) {
         return new Interval(Math.min(mobius.transform(0), mobius.transform(Double.POSITIVE_INFINITY)), Math.max(mobius.transform(0), mobius.transform(Double.POSITIVE_INFINITY)));
     }
@@ -2,8 +2,9 @@ package com.stclair.corlib.math.polynomial.roots;
 
 import com.stclair.corlib.math.Interval;
 import com.stclair.corlib.math.RealMobiusTransformation;
-import com.stclair.corlib.math.polynomial.LocalMaxQuadraticLowerBound;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
 import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -16,7 +17,7 @@ import java.util.List;
  */
 @Deprecated
 public class VASComputationExperimental implements VASOperation {
-    static final LocalMaxQuadraticLowerBound lowerBoundEstimator = new LocalMaxQuadraticLowerBound();
+    static final PositiveRootBound defaultBound = new LocalMaxQuadraticUpperBound();
     static final Polynomial xPlusOne = Polynomial.of(new double[] { 1, 1 });
     static final double defaultStrzebońskiAlpha = 4;
 
@@ -25,10 +26,25 @@ public class VASComputationExperimental implements VASOperation {
     public final Polynomial polynomial;
     public final RealMobiusTransformation mobius;
 
-    VASComputationExperimental(Polynomial polynomial, RealMobiusTransformation mobius, double strzebońskiAlpha) {
+    /** the strategy by which lower bounds upon the positive roots are estimated */
+    final PositiveRootBound bound;
+
+    int taylorShifts;
+    long boundNanos;
+
+    public VASComputationExperimental(Polynomial polynomial, RealMobiusTransformation mobius, double strzebońskiAlpha, PositiveRootBound bound) {
         this.polynomial = polynomial;
         this.mobius = mobius;
         this.strzebońskiAlpha = strzebońskiAlpha;
+        this.bound = bound;
+    }
+
+    VASComputationExperimental(Polynomial polynomial, RealMobiusTransformation mobius, double strzebońskiAlpha) {
+        this(polynomial, mobius, strzebońskiAlpha, defaultBound);
+    }
+
+    public VASComputationExperimental(Polynomial polynomial, RealMobiusTransformation mobius, PositiveRootBound bound) {
+        this(polynomial, mobius, defaultStrzebońskiAlpha, bound);
     }
 
     VASComputationExperimental(Polynomial polynomial, RealMobiusTransformation mobius) {
@@ -118,6 +134,7 @@ public class VASComputationExperimental implements VASOperation {
             Polynomial composed = Polynomial.of(new double[]{lowerBoundComputed, 1});
 
             polynomial = polynomial.apply(composed);
+            taylorShifts++;
             mobius = mobius.composeXPlusK(lowerBoundComputed);
 
             operations.add(createOperation(polynomial, mobius));
@@ -132,6 +149,7 @@ public class VASComputationExperimental implements VASOperation {
         // then re-apply VAS
         // Compute p1(x) ← p(x + 1)
         Polynomial polynomial1 = polynomial.apply(xPlusOne);
+        taylorShifts++;
         // set a1 ← a, b1 ← a + b, c1 ← c, d1 ← c + d
         RealMobiusTransformation mobius1 = mobius.composeXPlusK(1);
 
@@ -142,6 +160,7 @@ public class VASComputationExperimental implements VASOperation {
         // a2 ← b, b2 ← a + b, c2 ← d, and d2 ← c + d
         RealMobiusTransformation mobius2 = mobius.budansTheorem();
         Polynomial polynomial2 = polynomial.budansTheorem();
+        taylorShifts++;
 
         operations.add(createOperation(polynomial2, mobius2));
 
@@ -149,7 +168,13 @@ public class VASComputationExperimental implements VASOperation {
     }
 
     double lowerBound(Polynomial polynomial) {
-        return lowerBoundEstimator.estimateLowerBound(polynomial);
+        long start = System.nanoTime();
+
+        double lowerBound = bound.lowerBound(polynomial.getCoefficients());
+
+        boundNanos += System.nanoTime() - start;
+
+        return lowerBound;
     }
 
     double idealLowerBound(Polynomial polynomial) {
@@ -163,7 +188,7 @@ public class VASComputationExperimental implements VASOperation {
     }
 
     VASComputationExperimental createOperation(Polynomial polynomial, RealMobiusTransformation mobius) {
-        return new VASComputationExperimental(polynomial, mobius, strzebońskiAlpha);
+        return new VASComputationExperimental(polynomial, mobius, strzebońskiAlpha, bound);
     }
 
     @Override
@@ -171,6 +196,21 @@ public class VASComputationExperimental implements VASOperation {
         return null;
     }
 
+    @Override
+    public Polynomial getPolynomial() {
+        return polynomial;
+    }
+
+    @Override
+    public int getTaylorShifts() {
+        return taylorShifts;
+    }
+
+    @Override
+    public long getBoundNanos() {
+        return boundNanos;
+    }
+
     Interval intervalOf(RealMobiusTransformation mobius) {
         return new Interval(Math.min(mobius.transform(0), mobius.transform(Double.POSITIVE_INFINITY)), Math.max(mobius.transform(0), mobius.transform(Double.POSITIVE_INFINITY)));
     }
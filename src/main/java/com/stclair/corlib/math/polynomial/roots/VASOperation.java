@@ -2,6 +2,7 @@ package com.stclair.corlib.math.polynomial.roots;
 
 
 import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.polynomial.Polynomial;
 
 import java.util.List;
 
@@ -16,4 +17,25 @@ public interface VASOperation {
     List<VASOperation> evaluate();
 
     List<Interval> getResults();
+
+    /**
+     * @return the polynomial whose roots remain to be isolated by this operation (or null if it is complete)
+     */
+    default Polynomial getPolynomial() {
+        return null;
+    }
+
+    /**
+     * @return the number of Taylor shifts (including Budan's transforms) performed by {@link #evaluate()}
+     */
+    default int getTaylorShifts() {
+        return 0;
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent by {@link #evaluate()} in computing lower bounds upon roots
+     */
+    default long getBoundNanos() {
+        return 0;
+    }
 }
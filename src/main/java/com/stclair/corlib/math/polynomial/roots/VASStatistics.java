@@ -0,0 +1,95 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The work done by {@link VincentAkritasStrzeboński} to isolate the roots of a polynomial
+ *
+ * Each node of the search tree is an operation evaluated by the solver; the Taylor shifts and the time spent bounding
+ * roots are those reported by the operations themselves (see {@link VASOperation#getTaylorShifts()} and
+ * {@link VASOperation#getBoundNanos()}).
+ */
+public class VASStatistics {
+
+    /** the statistics of a solve in which no operation was evaluated */
+    public static final VASStatistics NONE = new VASStatistics(0, 0, 0, 0);
+
+    final long nodes;
+
+    final long taylorShifts;
+
+    final int maximumDepth;
+
+    final long boundNanos;
+
+    VASStatistics(long nodes, long taylorShifts, int maximumDepth, long boundNanos) {
+        this.nodes = nodes;
+        this.taylorShifts = taylorShifts;
+        this.maximumDepth = maximumDepth;
+        this.boundNanos = boundNanos;
+    }
+
+    /**
+     * @return the number of operations evaluated
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the number of Taylor shifts (including Budan's transforms) performed by the operations evaluated
+     */
+    public long getTaylorShifts() {
+        return taylorShifts;
+    }
+
+    /**
+     * @return the depth of the deepest operation evaluated (that upon the polynomial as given is of depth zero)
+     */
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    /**
+     * @return the time, in nanoseconds, spent by the operations evaluated in computing lower bounds upon roots
+     */
+    public long getBoundNanos() {
+        return boundNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("nodes=%d, taylorShifts=%d, maximumDepth=%d, boundNanos=%d", nodes, taylorShifts, maximumDepth, boundNanos);
+    }
+
+    /**
+     * Accumulates the statistics of a single solve (from any number of threads)
+     */
+    static class Counters {
+
+        final LongAdder nodes = new LongAdder();
+
+        final LongAdder taylorShifts = new LongAdder();
+
+        final AtomicInteger maximumDepth = new AtomicInteger();
+
+        final LongAdder boundNanos = new LongAdder();
+
+        /**
+         * record the evaluation of an operation
+         * @param operation the operation, once evaluated
+         * @param depth the depth of the operation within the search tree
+         */
+        void evaluated(VASOperation operation, int depth) {
+            nodes.increment();
+            taylorShifts.add(operation.getTaylorShifts());
+            maximumDepth.accumulateAndGet(depth, Math::max);
+            boundNanos.add(operation.getBoundNanos());
+        }
+
+        VASStatistics statistics() {
+            return new VASStatistics(nodes.sum(), taylorShifts.sum(), maximumDepth.get(), boundNanos.sum());
+        }
+    }
+}
@@ -4,18 +4,43 @@ package com.stclair.corlib.math.polynomial.roots;
 import com.stclair.corlib.math.Interval;
 import com.stclair.corlib.math.RealMobiusTransformation;
 import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.SparsePolynomial;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
 
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
 /**
  * @author hstclair
  * @since 8/10/15 7:20 PM
  */
 public class VincentAkritasStrzeboński {
 
+    /** in parallel mode, subtrees whose polynomial is of lesser degree are isolated without forking further tasks */
+    public static final int DEFAULT_SEQUENTIAL_DEGREE = 32;
+
+    /** in parallel mode, subtrees whose polynomial has no more sign changes are isolated without forking further tasks */
+    public static final int DEFAULT_SEQUENTIAL_SIGN_CHANGES = 2;
+
     private Function<Polynomial, VASOperation> vasOperationBuilder;
 
+    /** the pool on which subtrees are isolated (or null to isolate every subtree on the calling thread) */
+    final ForkJoinPool pool;
+
+    final int sequentialDegree;
+
+    final int sequentialSignChanges;
+
+    /** when true, each polynomial is reduced to its square-free part before its roots are isolated */
+    final boolean squareFree;
+
+    /** the work done by the most recent call to {@link #findRootIntervals(Polynomial)} */
+    volatile VASStatistics statistics = VASStatistics.NONE;
+
     /** Construct standard VincentAkritasStrzeboński instance */
     public VincentAkritasStrzeboński() {
         this((Polynomial polynomial) -> new VASComputation(polynomial, RealMobiusTransformation.IDENTITY));
@@ -26,35 +51,245 @@ public class VincentAkritasStrzeboński {
      * @param vasOperationBuilder function to construct the required VASComputation implementation
      */
     public VincentAkritasStrzeboński(Function<Polynomial, VASOperation> vasOperationBuilder) {
+        this(vasOperationBuilder, false);
+    }
+
+    /**
+     * Construct VincentAkritasStrzeboński instance with custom implementation of VASComputation
+     *
+     * Roots of multiplicity greater than one are never separated by subdivision (the polynomial of each interval about
+     * such a root retains at least two sign changes), so a polynomial that may have them should be reduced to its
+     * {@link Polynomial#squareFreePart() square-free part}; its roots are then isolated by a smaller tree.
+     * @param vasOperationBuilder function to construct the required VASComputation implementation
+     * @param squareFree when true, each polynomial is reduced to its square-free part before its roots are isolated
+     */
+    public VincentAkritasStrzeboński(Function<Polynomial, VASOperation> vasOperationBuilder, boolean squareFree) {
         this.vasOperationBuilder = vasOperationBuilder;
+        this.pool = null;
+        this.sequentialDegree = DEFAULT_SEQUENTIAL_DEGREE;
+        this.sequentialSignChanges = DEFAULT_SEQUENTIAL_SIGN_CHANGES;
+        this.squareFree = squareFree;
+    }
+
+    /**
+     * Construct standard VincentAkritasStrzeboński instance that isolates independent subtrees in parallel
+     * @param pool the pool on which subtrees will be isolated
+     */
+    public VincentAkritasStrzeboński(ForkJoinPool pool) {
+        this((Polynomial polynomial) -> new VASComputation(polynomial, RealMobiusTransformation.IDENTITY), pool,
+                DEFAULT_SEQUENTIAL_DEGREE, DEFAULT_SEQUENTIAL_SIGN_CHANGES);
+    }
+
+    /**
+     * Construct VincentAkritasStrzeboński instance that isolates independent subtrees in parallel
+     * @param vasOperationBuilder function to construct the required VASComputation implementation
+     * @param pool the pool on which subtrees will be isolated
+     * @param sequentialDegree subtrees whose polynomial is of lesser degree are isolated by a single task
+     * @param sequentialSignChanges subtrees whose polynomial has no more sign changes are isolated by a single task
+     */
+    public VincentAkritasStrzeboński(Function<Polynomial, VASOperation> vasOperationBuilder, ForkJoinPool pool,
+                                     int sequentialDegree, int sequentialSignChanges) {
+        this(vasOperationBuilder, pool, sequentialDegree, sequentialSignChanges, false);
+    }
+
+    /**
+     * Construct VincentAkritasStrzeboński instance that isolates independent subtrees in parallel
+     * @param vasOperationBuilder function to construct the required VASComputation implementation
+     * @param pool the pool on which subtrees will be isolated
+     * @param sequentialDegree subtrees whose polynomial is of lesser degree are isolated by a single task
+     * @param sequentialSignChanges subtrees whose polynomial has no more sign changes are isolated by a single task
+     * @param squareFree when true, each polynomial is reduced to its square-free part before its roots are isolated
+     */
+    public VincentAkritasStrzeboński(Function<Polynomial, VASOperation> vasOperationBuilder, ForkJoinPool pool,
+                                     int sequentialDegree, int sequentialSignChanges, boolean squareFree) {
+        this.vasOperationBuilder = neverNull(vasOperationBuilder, "vasOperationBuilder");
+        this.pool = neverNull(pool, "pool");
+        this.sequentialDegree = inRange(sequentialDegree, 0, Integer.MAX_VALUE, "sequentialDegree");
+        this.sequentialSignChanges = inRange(sequentialSignChanges, 0, Integer.MAX_VALUE, "sequentialSignChanges");
+        this.squareFree = squareFree;
+    }
+
+    /**
+     * @return true if subtrees are isolated in parallel
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * The statistics are replaced by each call to {@link #findRootIntervals(Polynomial)}; those of concurrent calls upon
+     * the same instance are those of whichever finished last.
+     * @return the work done by the most recent call to {@link #findRootIntervals(Polynomial)}
+     */
+    public VASStatistics getStatistics() {
+        return statistics;
     }
 
-    List<Interval> performVASIteration(VASOperation operation) {
+    List<Interval> performVASIteration(VASOperation operation, VASStatistics.Counters counters) {
         Set<Interval> results = new HashSet<>();
         LinkedList<VASOperation> operations = new LinkedList<>();
+        LinkedList<Integer> depths = new LinkedList<>();
 
         operations.add(operation);
+        depths.add(0);
 
         while (! operations.isEmpty()) {
             VASOperation nextOperation = operations.removeFirst();
+            int depth = depths.removeFirst();
 
             List<VASOperation> output = nextOperation.evaluate();
 
+            counters.evaluated(nextOperation, depth);
+
             for (VASOperation result : output) {
                 if (result.complete())
                     results.addAll(result.getResults());
-                else
+                else {
                     operations.addLast(result);
+                    depths.addLast(depth + 1);
+                }
             }
         }
 
         return new LinkedList<>(results);
     }
 
+    /**
+     * isolate the roots of each subtree in a fork/join task
+     *
+     * Each task returns the intervals of its own subtree, so no shared collection is required; the merged intervals
+     * are then reduced to those that are distinct.
+     */
+    List<Interval> performParallelVASIteration(VASOperation operation, VASStatistics.Counters counters) {
+        return distinct(pool.invoke(new IsolationTask(operation, 0, counters)));
+    }
+
+    /**
+     * order intervals by their endpoints and discard duplicates (which can only arise at shared endpoints)
+     *
+     * The ordering includes the closedness of each endpoint, as {@link Interval#equals} does, so that equal intervals
+     * are always adjacent.
+     * @param intervals the intervals (sorted in place)
+     * @return the distinct intervals
+     */
+    static List<Interval> distinct(List<Interval> intervals) {
+
+        intervals.sort(Comparator.comparingDouble((Interval interval) -> interval.a)
+                .thenComparing(interval -> interval.aClosed)
+                .thenComparingDouble(interval -> interval.b)
+                .thenComparing(interval -> interval.bClosed));
+
+        List<Interval> results = new ArrayList<>(intervals.size());
+
+        for (Interval interval : intervals) {
+            if (results.isEmpty() || ! results.get(results.size() - 1).equals(interval))
+                results.add(interval);
+        }
+
+        return results;
+    }
+
+    /**
+     * @return true if the operation's subtree should be isolated by the current task
+     */
+    boolean isSequential(VASOperation operation) {
+
+        Polynomial polynomial = operation.getPolynomial();
+
+        return polynomial == null || polynomial.degree() < sequentialDegree || polynomial.signChanges() <= sequentialSignChanges;
+    }
+
+    /**
+     * isolate every root of an operation's subtree on the current thread
+     * @param operation the root of the subtree
+     * @param depth the depth of the operation within the search tree
+     * @param results the list to which each interval is added
+     * @param counters the statistics of the solve
+     */
+    static void isolate(VASOperation operation, int depth, List<Interval> results, VASStatistics.Counters counters) {
+
+        ArrayDeque<VASOperation> operations = new ArrayDeque<>();
+        ArrayDeque<Integer> depths = new ArrayDeque<>();
+
+        operations.add(operation);
+        depths.add(depth);
+
+        while (! operations.isEmpty()) {
+
+            VASOperation nextOperation = operations.removeFirst();
+            int nextDepth = depths.removeFirst();
+
+            List<VASOperation> output = nextOperation.evaluate();
+
+            counters.evaluated(nextOperation, nextDepth);
+
+            for (VASOperation result : output) {
+                if (result.complete())
+                    results.addAll(result.getResults());
+                else {
+                    operations.addLast(result);
+                    depths.addLast(nextDepth + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Isolates the roots of the subtree below a single operation
+     */
+    class IsolationTask extends RecursiveTask<List<Interval>> {
+
+        final VASOperation operation;
+
+        final int depth;
+
+        final VASStatistics.Counters counters;
+
+        IsolationTask(VASOperation operation, int depth, VASStatistics.Counters counters) {
+            this.operation = operation;
+            this.depth = depth;
+            this.counters = counters;
+        }
+
+        @Override
+        protected List<Interval> compute() {
+
+            List<Interval> results = new ArrayList<>();
+
+            if (isSequential(operation)) {
+                isolate(operation, depth, results, counters);
+                return results;
+            }
+
+            List<IsolationTask> subtrees = new ArrayList<>(2);
+
+            List<VASOperation> output = operation.evaluate();
+
+            counters.evaluated(operation, depth);
+
+            for (VASOperation result : output) {
+                if (result.complete())
+                    results.addAll(result.getResults());
+                else
+                    subtrees.add(new IsolationTask(result, depth + 1, counters));
+            }
+
+            for (IsolationTask subtree : invokeAll(subtrees))
+                results.addAll(subtree.join());
+
+            return results;
+        }
+    }
+
     public List<Interval> findRootIntervals(Polynomial polynomial) {
+        if (squareFree)
+            polynomial = polynomial.squareFreePart();
+
         // compute s = sgc(f)
         int signs = polynomial.signChanges();
 
+        statistics = VASStatistics.NONE;
+
         // if s == 0 return empty list
         if (signs == 0) return Collections.EMPTY_LIST;
 
@@ -65,8 +300,41 @@ public class VincentAkritasStrzeboński {
             return Collections.singletonList(interval);
         }
 
+        VASStatistics.Counters counters = new VASStatistics.Counters();
+
         // Put interval data {1, 0, 0, 1, f, s} on intervalstack
-        return performVASIteration(vasOperationBuilder.apply(polynomial));
+        List<Interval> intervals = isParallel()
+                ? performParallelVASIteration(vasOperationBuilder.apply(polynomial), counters)
+                : performVASIteration(vasOperationBuilder.apply(polynomial), counters);
+
+        statistics = counters.statistics();
+
+        return intervals;
+    }
+
+    /**
+     * Isolate the positive roots of a sparse polynomial
+     *
+     * Descartes' rule of signs is applied to the terms alone, so a polynomial having no more than one sign change (no
+     * positive root, or exactly one) is dealt with without its dense representation ever being constructed; otherwise
+     * the roots of the dense representation are isolated by {@link #findRootIntervals(Polynomial)}.
+     *
+     * @param polynomial the polynomial
+     * @return the isolating intervals
+     */
+    public List<Interval> findRootIntervals(SparsePolynomial polynomial) {
+        neverNull(polynomial, "polynomial");
+
+        int signs = polynomial.signChanges();
+
+        if (signs > 1)
+            return findRootIntervals(polynomial.toPolynomial());
+
+        statistics = VASStatistics.NONE;
+
+        if (signs == 0) return Collections.EMPTY_LIST;
+
+        return Collections.singletonList(new Interval(0, Double.POSITIVE_INFINITY));
     }
 }
 
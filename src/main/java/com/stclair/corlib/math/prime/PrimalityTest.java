@@ -0,0 +1,450 @@
+package com.stclair.corlib.math.prime;
+
+import com.stclair.corlib.math.util.OperationStrategy;
+import org.apfloat.Apfloat;
+import org.apfloat.Apint;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * Primality tests that examine a single candidate (rather than sieving every preceding integer).
+ *
+ * Candidates representable as a long are certified by a Miller-Rabin test with a fixed set of witnesses (the first
+ * twelve primes) that is deterministic for every 64 bit integer; its modular products use Montgomery multiplication
+ * so that no division is performed after setup.  Larger candidates are tested by Baillie-PSW (a strong probable
+ * prime test to base 2 followed by a strong Lucas probable prime test), for which no counterexample is known.
+ */
+public class PrimalityTest {
+
+    /** witnesses sufficient to certify every n < 318665857834031151167461 (about 3.2 * 10^23, and so every long) */
+    static final long[] WITNESSES = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37 };
+
+    /** the greatest prime representable as a long (2^63 - 25) */
+    public static final long GREATEST_LONG_PRIME = Long.MAX_VALUE - 24;
+
+    static final BigInteger TWO = BigInteger.valueOf(2);
+
+    /**
+     * determine whether the candidate is prime
+     * @param n the candidate
+     * @return true if n is prime
+     */
+    public static boolean isPrime(long n) {
+
+        if (n < 2)
+            return false;
+
+        for (long witness : WITNESSES) {
+            if (n == witness)
+                return true;
+
+            if (n % witness == 0)
+                return false;
+        }
+
+        // every composite below 41^2 has a factor among the witnesses
+        if (n < 41 * 41)
+            return true;
+
+        return new Montgomery(n).isStrongProbablePrime();
+    }
+
+    /**
+     * determine whether the candidate is prime (deterministically if it is less than 2^63, otherwise by Baillie-PSW)
+     * @param n the candidate
+     * @return true if n is prime (or, if n exceeds 2^63, a Baillie-PSW probable prime)
+     */
+    public static boolean isPrime(BigInteger n) {
+
+        neverNull(n, "n");
+
+        if (n.signum() <= 0)
+            return false;
+
+        if (n.bitLength() < 64)
+            return isPrime(n.longValue());
+
+        for (long witness : WITNESSES) {
+            if (n.mod(BigInteger.valueOf(witness)).signum() == 0)
+                return false;
+        }
+
+        return isStrongProbablePrime(n, TWO) && isStrongLucasProbablePrime(n);
+    }
+
+    /**
+     * determine whether the candidate is prime
+     * @param n the candidate (which must be an integer)
+     * @return true if n is prime (or, if n exceeds 2^63, a Baillie-PSW probable prime)
+     */
+    public static boolean isPrime(Apfloat n) {
+
+        neverNull(n, "n");
+
+        Apint integer = n.truncate();
+
+        if (! integer.equals(n))
+            throw new IllegalArgumentException("n must be an integer");
+
+        return isPrime(integer.toBigInteger());
+    }
+
+    /**
+     * determine whether the candidate is prime
+     * @param n the candidate (which must be an integer)
+     * @param operationStrategy the strategy for the value type of the candidate
+     * @return true if n is prime (or, if n exceeds 2^63, a Baillie-PSW probable prime)
+     */
+    public static <T> boolean isPrime(T n, OperationStrategy<T> operationStrategy) {
+
+        neverNull(n, "n");
+
+        if (n instanceof Apfloat)
+            return isPrime((Apfloat) n);
+
+        if (! operationStrategy.isEqual(n, operationStrategy.floor(n)))
+            throw new IllegalArgumentException("n must be an integer");
+
+        return isPrime(toBigInteger(n));
+    }
+
+    /**
+     * find the least prime greater than the specified value
+     * @param after the value that the prime must exceed
+     * @return the least prime greater than after
+     */
+    public static long nextPrime(long after) {
+
+        inRange(after, Long.MIN_VALUE, GREATEST_LONG_PRIME - 1, "after");
+
+        if (after < 2)
+            return 2;
+
+        long candidate = (after + 1) | 1;
+
+        while (! isPrime(candidate))
+            candidate += 2;
+
+        return candidate;
+    }
+
+    /**
+     * find the least (probable) prime greater than the specified value
+     * @param after the value that the prime must exceed
+     * @return the least prime (or, beyond 2^63, Baillie-PSW probable prime) greater than after
+     */
+    public static BigInteger nextPrime(BigInteger after) {
+
+        neverNull(after, "after");
+
+        if (after.compareTo(BigInteger.valueOf(GREATEST_LONG_PRIME)) < 0)
+            return BigInteger.valueOf(nextPrime(after.longValue()));
+
+        BigInteger candidate = after.add(BigInteger.ONE).or(BigInteger.ONE);
+
+        while (! isPrime(candidate))
+            candidate = candidate.add(TWO);
+
+        return candidate;
+    }
+
+    /**
+     * find the least (probable) prime greater than the specified value
+     * @param after the value that the prime must exceed
+     * @param operationStrategy the strategy for the value type
+     * @return the least prime (or, beyond 2^63, Baillie-PSW probable prime) greater than after
+     */
+    public static <T> T nextPrime(T after, OperationStrategy<T> operationStrategy) {
+
+        neverNull(after, "after");
+
+        if (after instanceof Long)
+            return operationStrategy.from(nextPrime(((Long) after).longValue()));
+
+        return operationStrategy.from(nextPrime(toBigInteger(operationStrategy.floor(after))).toString());
+    }
+
+    /**
+     * convert an integral value to a BigInteger
+     * @param value a Long, Double or Apfloat integer
+     * @return the equivalent BigInteger
+     */
+    static BigInteger toBigInteger(Object value) {
+
+        if (value instanceof Apfloat)
+            return ((Apfloat) value).truncate().toBigInteger();
+
+        if (value instanceof Long)
+            return BigInteger.valueOf((Long) value);
+
+        if (value instanceof Double)
+            return BigDecimal.valueOf((Double) value).toBigInteger();
+
+        throw new IllegalArgumentException("unsupported value type: " + value.getClass().getName());
+    }
+
+    /**
+     * perform a strong (Miller-Rabin) probable prime test
+     * @param n the odd candidate
+     * @param base the base
+     * @return false if n is certainly composite
+     */
+    static boolean isStrongProbablePrime(BigInteger n, BigInteger base) {
+
+        BigInteger nMinusOne = n.subtract(BigInteger.ONE);
+
+        int s = nMinusOne.getLowestSetBit();
+
+        BigInteger x = base.modPow(nMinusOne.shiftRight(s), n);
+
+        if (x.equals(BigInteger.ONE) || x.equals(nMinusOne))
+            return true;
+
+        for (int r = 1; r < s; r++) {
+            x = x.multiply(x).mod(n);
+
+            if (x.equals(nMinusOne))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * perform a strong Lucas probable prime test with Selfridge's parameters (P = 1, Q = (1 - D) / 4, where D is the
+     * first of 5, -7, 9, -11, ... whose Jacobi symbol (D/n) is -1)
+     * @param n the odd candidate (greater than 2)
+     * @return false if n is certainly composite
+     */
+    static boolean isStrongLucasProbablePrime(BigInteger n) {
+
+        // no D can be found for a perfect square
+        BigInteger root = n.sqrt();
+
+        if (root.multiply(root).equals(n))
+            return false;
+
+        long d = 5;
+
+        while (true) {
+            int jacobi = jacobi(BigInteger.valueOf(d).mod(n), n);
+
+            if (jacobi == -1)
+                break;
+
+            // n shares a factor with D
+            if (jacobi == 0 && n.compareTo(BigInteger.valueOf(Math.abs(d))) > 0)
+                return false;
+
+            d = d > 0 ? -(d + 2) : -(d - 2);
+        }
+
+        BigInteger bigD = BigInteger.valueOf(d);
+        BigInteger q = BigInteger.valueOf((1 - d) / 4);
+
+        BigInteger nPlusOne = n.add(BigInteger.ONE);
+
+        int s = nPlusOne.getLowestSetBit();
+
+        BigInteger k = nPlusOne.shiftRight(s);
+
+        BigInteger u = BigInteger.ONE;
+        BigInteger v = BigInteger.ONE;
+        BigInteger qk = q.mod(n);
+
+        for (int bit = k.bitLength() - 2; bit >= 0; bit--) {
+
+            // double the index: U(2m) = U(m) V(m), V(2m) = V(m)^2 - 2 Q^m
+            u = u.multiply(v).mod(n);
+            v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+            qk = qk.multiply(qk).mod(n);
+
+            if (k.testBit(bit)) {
+                // increment the index: U(m+1) = (P U(m) + V(m)) / 2, V(m+1) = (D U(m) + P V(m)) / 2
+                BigInteger nextU = halve(u.add(v), n);
+                BigInteger nextV = halve(bigD.multiply(u).add(v).mod(n), n);
+
+                u = nextU;
+                v = nextV;
+                qk = qk.multiply(q).mod(n);
+            }
+        }
+
+        if (u.signum() == 0 || v.signum() == 0)
+            return true;
+
+        for (int r = 1; r < s; r++) {
+            v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+
+            if (v.signum() == 0)
+                return true;
+
+            qk = qk.multiply(qk).mod(n);
+        }
+
+        return false;
+    }
+
+    /** divide a residue by two modulo the odd modulus n */
+    static BigInteger halve(BigInteger value, BigInteger n) {
+
+        value = value.mod(n);
+
+        if (value.testBit(0))
+            value = value.add(n);
+
+        return value.shiftRight(1);
+    }
+
+    /**
+     * compute the Jacobi symbol (a/n)
+     * @param a the numerator (0 <= a < n)
+     * @param n the odd, positive denominator
+     * @return -1, 0 or 1
+     */
+    static int jacobi(BigInteger a, BigInteger n) {
+
+        int result = 1;
+
+        while (a.signum() != 0) {
+
+            int twos = a.getLowestSetBit();
+
+            a = a.shiftRight(twos);
+
+            int nMod8 = n.intValue() & 7;
+
+            if ((twos & 1) != 0 && (nMod8 == 3 || nMod8 == 5))
+                result = -result;
+
+            // quadratic reciprocity
+            if ((a.intValue() & 3) == 3 && (nMod8 & 3) == 3)
+                result = -result;
+
+            BigInteger tmp = a;
+            a = n.mod(tmp);
+            n = tmp;
+        }
+
+        return n.equals(BigInteger.ONE) ? result : 0;
+    }
+
+    /**
+     * Arithmetic modulo an odd long n in Montgomery form (each residue x is represented by x * 2^64 mod n)
+     */
+    static class Montgomery {
+
+        final long n;
+
+        /** n^-1 mod 2^64 */
+        final long nInverse;
+
+        /** the representation of one (2^64 mod n) */
+        final long one;
+
+        /** the representation of n - 1 */
+        final long minusOne;
+
+        /** 2^128 mod n (used to convert residues into Montgomery form) */
+        final long r2;
+
+        Montgomery(long n) {
+            this.n = n;
+
+            // Newton's iteration doubles the number of correct low-order bits (n * n = 1 mod 8 for odd n)
+            long inverse = n;
+
+            for (int iteration = 0; iteration < 5; iteration++)
+                inverse *= 2 - n * inverse;
+
+            nInverse = inverse;
+
+            one = Long.remainderUnsigned(-n, n);
+            minusOne = n - one;
+
+            long r = one;
+
+            for (int bit = 0; bit < 64; bit++)
+                r = r >= n - r ? r - (n - r) : r + r;
+
+            r2 = r;
+        }
+
+        /**
+         * Montgomery reduction of the 128 bit product high:low
+         * @return high:low * 2^-64 mod n
+         */
+        long reduce(long high, long low) {
+
+            long m = low * nInverse;
+
+            long t = high - unsignedMultiplyHigh(m, n);
+
+            return t < 0 ? t + n : t;
+        }
+
+        long multiply(long a, long b) {
+            return reduce(Math.multiplyHigh(a, b), a * b);
+        }
+
+        long toMontgomery(long a) {
+            return multiply(a % n, r2);
+        }
+
+        long power(long base, long exponent) {
+
+            long result = one;
+
+            while (exponent != 0) {
+                if ((exponent & 1) != 0)
+                    result = multiply(result, base);
+
+                base = multiply(base, base);
+                exponent >>>= 1;
+            }
+
+            return result;
+        }
+
+        /**
+         * perform a strong probable prime test to every witness
+         * @return true if n is prime
+         */
+        boolean isStrongProbablePrime() {
+
+            long nMinusOne = n - 1;
+
+            int s = Long.numberOfTrailingZeros(nMinusOne);
+
+            long d = nMinusOne >>> s;
+
+            witnesses:
+            for (long witness : WITNESSES) {
+
+                long x = power(toMontgomery(witness), d);
+
+                if (x == one || x == minusOne)
+                    continue;
+
+                for (int r = 1; r < s; r++) {
+                    x = multiply(x, x);
+
+                    if (x == minusOne)
+                        continue witnesses;
+                }
+
+                return false;
+            }
+
+            return true;
+        }
+
+        static long unsignedMultiplyHigh(long a, long b) {
+            return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        }
+    }
+}
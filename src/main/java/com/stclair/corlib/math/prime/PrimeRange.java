@@ -0,0 +1,434 @@
+package com.stclair.corlib.math.prime;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * The primes p such that lo <= p < hi.
+ *
+ * The range is divided into the independent segments of a {@link SegmentedSieve}.  Counting and bulk filling sieve
+ * the segments in fork/join tasks, and {@link #stream()} produces a stream whose spliterator splits at segment
+ * boundaries so that parallel streams sieve segments concurrently.
+ */
+public class PrimeRange {
+
+    /** ranges spanning this many segments or fewer are counted (or filled) by a single task */
+    public static final int DEFAULT_SEGMENTS_PER_TASK = 4;
+
+    final long lo;
+
+    final long hi;
+
+    final ForkJoinPool pool;
+
+    /** every odd prime required to sieve the range (shared, read-only, by every task) */
+    final int[] basePrimes;
+
+    /** the first (aligned) segment overlapping the range */
+    final long firstSegmentLow;
+
+    public PrimeRange(long lo, long hi) {
+        this(lo, hi, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * construct a range
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @param pool the pool on which counting and filling tasks will be executed
+     */
+    public PrimeRange(long lo, long hi, ForkJoinPool pool) {
+        this.lo = inRange(lo, 0, Long.MAX_VALUE - SegmentedSieve.SEGMENT_SPAN, "lo");
+        this.hi = inRange(hi, lo, Long.MAX_VALUE - SegmentedSieve.SEGMENT_SPAN, "hi");
+        this.pool = neverNull(pool, "pool");
+
+        basePrimes = SegmentedSieve.basePrimesFor(hi);
+        firstSegmentLow = lo - lo % SegmentedSieve.SEGMENT_SPAN;
+    }
+
+    /**
+     * count the primes p such that lo <= p < hi
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @return the number of primes in the range
+     */
+    public static long count(long lo, long hi) {
+        return new PrimeRange(lo, hi).count();
+    }
+
+    public long getLo() {
+        return lo;
+    }
+
+    public long getHi() {
+        return hi;
+    }
+
+    /**
+     * @return the number of primes in this range
+     */
+    public long count() {
+        return pool.invoke(new CountTask(firstSegmentLow, segmentEnd()));
+    }
+
+    /**
+     * @return the primes in this range in ascending order
+     */
+    public long[] toArray() {
+
+        long[] counts = segmentCounts();
+
+        long total = toOffsets(counts);
+
+        inRange(total, 0, Integer.MAX_VALUE - 8, "count");
+
+        long[] primes = new long[(int) total];
+
+        pool.invoke(new FillTask(0, counts.length, counts, primes, 0));
+
+        return primes;
+    }
+
+    /**
+     * write the primes in this range to the destination in ascending order
+     * @param destination the array receiving the primes (which must have room for every prime in the range)
+     * @param offset the index in the destination at which the first prime is written
+     * @return the number of primes written
+     */
+    public int fill(long[] destination, int offset) {
+
+        neverNull(destination, "destination");
+
+        long[] counts = segmentCounts();
+
+        long total = toOffsets(counts);
+
+        inRange(total, 0, destination.length - offset, "count");
+
+        pool.invoke(new FillTask(0, counts.length, counts, destination, offset));
+
+        return (int) total;
+    }
+
+    /**
+     * @return a sequential stream of the primes in this range in ascending order
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(new PrimeSpliterator(firstSegmentLow, segmentEnd()), false);
+    }
+
+    /**
+     * @return a parallel stream of the primes in this range in ascending order
+     */
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(new PrimeSpliterator(firstSegmentLow, segmentEnd()), true);
+    }
+
+    /** one greater than the greatest integer of the last segment overlapping the range */
+    long segmentEnd() {
+
+        long span = SegmentedSieve.SEGMENT_SPAN;
+
+        return Math.max(firstSegmentLow, ((hi + span - 1) / span) * span);
+    }
+
+    int segmentCount() {
+        return (int) ((segmentEnd() - firstSegmentLow) / SegmentedSieve.SEGMENT_SPAN);
+    }
+
+    /**
+     * @return the number of primes of the range within each segment
+     */
+    long[] segmentCounts() {
+
+        long[] counts = new long[segmentCount()];
+
+        pool.invoke(new SegmentCountTask(0, counts.length, counts));
+
+        return counts;
+    }
+
+    /**
+     * replace each segment count with the number of primes preceding the segment
+     * @param counts the number of primes within each segment
+     * @return the total number of primes
+     */
+    static long toOffsets(long[] counts) {
+
+        long total = 0;
+
+        for (int segment = 0; segment < counts.length; segment++) {
+            long count = counts[segment];
+            counts[segment] = total;
+            total += count;
+        }
+
+        return total;
+    }
+
+    /**
+     * Counts the primes of the range within the segments [segmentLow, segmentHigh)
+     */
+    class CountTask extends RecursiveTask<Long> {
+
+        final long segmentLow;
+
+        final long segmentHigh;
+
+        CountTask(long segmentLow, long segmentHigh) {
+            this.segmentLow = segmentLow;
+            this.segmentHigh = segmentHigh;
+        }
+
+        @Override
+        protected Long compute() {
+
+            long segments = (segmentHigh - segmentLow) / SegmentedSieve.SEGMENT_SPAN;
+
+            if (segments <= DEFAULT_SEGMENTS_PER_TASK) {
+
+                long[] words = new long[SegmentedSieve.SEGMENT_WORDS];
+
+                long total = 0;
+
+                for (long low = segmentLow; low < segmentHigh; low += SegmentedSieve.SEGMENT_SPAN) {
+                    SegmentedSieve.sieveSegment(low, words, basePrimes);
+                    total += SegmentedSieve.countPrimes(words, low, lo, hi);
+                }
+
+                return total;
+            }
+
+            long middle = segmentLow + (segments / 2) * SegmentedSieve.SEGMENT_SPAN;
+
+            CountTask left = new CountTask(segmentLow, middle);
+
+            left.fork();
+
+            long right = new CountTask(middle, segmentHigh).compute();
+
+            return left.join() + right;
+        }
+    }
+
+    /**
+     * Records the number of primes of the range within each of the segments [first, last) (indexed from the first
+     * segment overlapping the range)
+     */
+    class SegmentCountTask extends RecursiveAction {
+
+        final int first;
+
+        final int last;
+
+        final long[] counts;
+
+        SegmentCountTask(int first, int last, long[] counts) {
+            this.first = first;
+            this.last = last;
+            this.counts = counts;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= DEFAULT_SEGMENTS_PER_TASK) {
+
+                long[] words = new long[SegmentedSieve.SEGMENT_WORDS];
+
+                for (int segment = first; segment < last; segment++) {
+                    long low = firstSegmentLow + segment * SegmentedSieve.SEGMENT_SPAN;
+
+                    SegmentedSieve.sieveSegment(low, words, basePrimes);
+                    counts[segment] = SegmentedSieve.countPrimes(words, low, lo, hi);
+                }
+
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new SegmentCountTask(first, middle, counts), new SegmentCountTask(middle, last, counts));
+        }
+    }
+
+    /**
+     * Writes the primes of the range within each of the segments [first, last) to the destination, beginning each
+     * segment at the offset recorded for it
+     */
+    class FillTask extends RecursiveAction {
+
+        final int first;
+
+        final int last;
+
+        final long[] offsets;
+
+        final long[] destination;
+
+        final int destinationOffset;
+
+        FillTask(int first, int last, long[] offsets, long[] destination, int destinationOffset) {
+            this.first = first;
+            this.last = last;
+            this.offsets = offsets;
+            this.destination = destination;
+            this.destinationOffset = destinationOffset;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (last - first <= DEFAULT_SEGMENTS_PER_TASK) {
+
+                long[] words = new long[SegmentedSieve.SEGMENT_WORDS];
+
+                for (int segment = first; segment < last; segment++) {
+                    long low = firstSegmentLow + segment * SegmentedSieve.SEGMENT_SPAN;
+
+                    SegmentedSieve.sieveSegment(low, words, basePrimes);
+                    SegmentedSieve.decode(words, low, lo, hi, destination, destinationOffset + (int) offsets[segment]);
+                }
+
+                return;
+            }
+
+            int middle = (first + last) >>> 1;
+
+            invokeAll(new FillTask(first, middle, offsets, destination, destinationOffset),
+                    new FillTask(middle, last, offsets, destination, destinationOffset));
+        }
+    }
+
+    /**
+     * Spliterator over the primes of the range within the segments [segmentLow, segmentHigh), which splits at
+     * segment boundaries
+     */
+    class PrimeSpliterator implements Spliterator.OfLong {
+
+        /** the next segment to be sieved */
+        long segmentLow;
+
+        final long segmentHigh;
+
+        long[] words;
+
+        /** the decoded primes of the most recently sieved segment */
+        long[] buffer;
+
+        int position;
+
+        int limit;
+
+        PrimeSpliterator(long segmentLow, long segmentHigh) {
+            this.segmentLow = segmentLow;
+            this.segmentHigh = segmentHigh;
+        }
+
+        /**
+         * sieve segments until one containing a prime of the range is found
+         * @return false if every segment has been sieved
+         */
+        boolean advance() {
+
+            if (words == null) {
+                words = new long[SegmentedSieve.SEGMENT_WORDS];
+                buffer = new long[SegmentedSieve.MAXIMUM_SEGMENT_PRIMES];
+            }
+
+            while (position == limit) {
+
+                if (segmentLow >= segmentHigh)
+                    return false;
+
+                SegmentedSieve.sieveSegment(segmentLow, words, basePrimes);
+
+                position = 0;
+                limit = SegmentedSieve.decode(words, segmentLow, lo, hi, buffer, 0);
+
+                segmentLow += SegmentedSieve.SEGMENT_SPAN;
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+
+            neverNull(action, "action");
+
+            if (position == limit && ! advance())
+                return false;
+
+            action.accept(buffer[position++]);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+
+            neverNull(action, "action");
+
+            while (position < limit || advance()) {
+                for (; position < limit; position++)
+                    action.accept(buffer[position]);
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+
+            // the primes already decoded precede every unsieved segment, so a split is only possible before decoding
+            if (position < limit)
+                return null;
+
+            long segments = (segmentHigh - segmentLow) / SegmentedSieve.SEGMENT_SPAN;
+
+            if (segments < 2)
+                return null;
+
+            long middle = segmentLow + (segments / 2) * SegmentedSieve.SEGMENT_SPAN;
+
+            PrimeSpliterator prefix = new PrimeSpliterator(segmentLow, middle);
+
+            segmentLow = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+
+            // the prime number theorem estimates the number of primes in the unsieved segments
+            long from = Math.max(segmentLow, lo);
+            long to = Math.min(segmentHigh, hi);
+
+            long remaining = limit - position;
+
+            if (to > from)
+                remaining += (long) ((to - from) / Math.log(Math.max(3, from + (to - from) / 2.0)));
+
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+}
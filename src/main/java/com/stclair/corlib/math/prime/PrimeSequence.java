@@ -3,9 +3,6 @@ package com.stclair.corlib.math.prime;
 import com.stclair.corlib.math.util.OperationStrategy;
 import com.stclair.corlib.math.util.Sequence;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.stclair.corlib.validation.Validation.neverNull;
 
 public class PrimeSequence<T> implements Sequence<T> {
@@ -14,15 +11,30 @@ public class PrimeSequence<T> implements Sequence<T> {
 
     OperationStrategy<T> operationStrategy;
 
-    Sieve<T> sieve;
+    PrimeSieve<T> sieve;
 
+    /**
+     * construct a sequence of primes of the specified value type
+     * (Long and Double primes are produced by a {@link SegmentedSieve}; all other value types by trial division)
+     * @param operationStrategy the strategy for the value type
+     */
     public PrimeSequence(OperationStrategy<T> operationStrategy) {
+        this(operationStrategy, SegmentedPrimeSieve.supports(neverNull(operationStrategy, "operationStrategy")) ?
+                new SegmentedPrimeSieve<>(operationStrategy) : new Sieve<>(operationStrategy));
+    }
+
+    /**
+     * construct a sequence of primes produced by the specified sieve
+     * @param operationStrategy the strategy for the value type
+     * @param sieve the source of primes
+     */
+    public PrimeSequence(OperationStrategy<T> operationStrategy, PrimeSieve<T> sieve) {
 
         neverNull(operationStrategy, "operationStrategy");
 
         this.operationStrategy = operationStrategy;
 
-        sieve = new Sieve<>(operationStrategy);
+        this.sieve = neverNull(sieve, "sieve");
 
         index = 0;
     }
@@ -81,6 +93,12 @@ public class PrimeSequence<T> implements Sequence<T> {
 
     public T find(int index) {
 
+        if (sieve instanceof SegmentedPrimeSieve) {
+            this.index = index;
+
+            return ((SegmentedPrimeSieve<T>) sieve).getPrime(index);
+        }
+
         T prime = null;
 
         this.index = sieve.getLastIndex();
@@ -0,0 +1,32 @@
+package com.stclair.corlib.math.prime;
+
+/**
+ * Source of the primes underlying a {@link PrimeSequence}
+ *
+ * @param <T> the value type of the primes
+ */
+public interface PrimeSieve<T> {
+
+    /**
+     * find the least prime greater than every prime found so far
+     * @return the newly found prime
+     */
+    T seekNextPrime();
+
+    /**
+     * @param index the (zero-based) index of a prime
+     * @return true if the prime at the specified index has been found
+     */
+    boolean isKnown(int index);
+
+    /**
+     * @param index the (zero-based) index of a prime that has been found
+     * @return the prime at the specified index
+     */
+    T getKnown(int index);
+
+    /**
+     * @return the index of the greatest prime found so far (or -1 if none has been found)
+     */
+    int getLastIndex();
+}
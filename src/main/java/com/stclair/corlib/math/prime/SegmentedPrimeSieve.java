@@ -0,0 +1,81 @@
+package com.stclair.corlib.math.prime;
+
+import com.stclair.corlib.math.util.OperationStrategy;
+
+import static com.stclair.corlib.validation.Validation.neverNull;
+
+/**
+ * PrimeSieve backed by a {@link SegmentedSieve} (for value types able to represent every long prime exactly
+ * enough to be produced through {@link OperationStrategy#from(long)})
+ *
+ * @param <T> the value type of the primes
+ */
+public class SegmentedPrimeSieve<T> implements PrimeSieve<T> {
+
+    final OperationStrategy<T> operationStrategy;
+
+    final SegmentedSieve sieve;
+
+    /** the number of primes found so far */
+    int found = 0;
+
+    public SegmentedPrimeSieve(OperationStrategy<T> operationStrategy) {
+        this(operationStrategy, new SegmentedSieve());
+    }
+
+    public SegmentedPrimeSieve(OperationStrategy<T> operationStrategy, SegmentedSieve sieve) {
+        this.operationStrategy = neverNull(operationStrategy, "operationStrategy");
+        this.sieve = neverNull(sieve, "sieve");
+    }
+
+    /**
+     * determine whether primes of the specified value type may be produced by a {@link SegmentedSieve}
+     * @param operationStrategy the strategy for the value type
+     * @return true if the value type is Long or Double
+     */
+    public static boolean supports(OperationStrategy<?> operationStrategy) {
+
+        Class<?> elementClass = operationStrategy.getElementClass();
+
+        return elementClass == Long.class || elementClass == Double.class;
+    }
+
+    @Override
+    public T seekNextPrime() {
+        return operationStrategy.from(sieve.getPrime(found++));
+    }
+
+    @Override
+    public boolean isKnown(int index) {
+        return found > index;
+    }
+
+    @Override
+    public T getKnown(int index) {
+
+        if (index < 0 || index >= found)
+            throw new IndexOutOfBoundsException("index: " + index);
+
+        return operationStrategy.from(sieve.getPrime(index));
+    }
+
+    @Override
+    public int getLastIndex() {
+        return found - 1;
+    }
+
+    /**
+     * obtain the prime at the specified index without first seeking every preceding prime
+     * (the primes through the specified index are thereafter known)
+     * @param index the (zero-based) index of the requested prime
+     * @return the prime at the specified index
+     */
+    public T getPrime(int index) {
+
+        T prime = operationStrategy.from(sieve.getPrime(index));
+
+        found = Math.max(found, index + 1);
+
+        return prime;
+    }
+}
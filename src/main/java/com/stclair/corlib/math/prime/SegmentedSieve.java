@@ -0,0 +1,338 @@
+package com.stclair.corlib.math.prime;
+
+import java.util.Arrays;
+
+import static com.stclair.corlib.validation.Validation.inRange;
+
+/**
+ * Segmented Sieve of Eratosthenes over primitive long values.
+ *
+ * Only odd integers are represented: each segment is a bitset of {@link #SEGMENT_BITS} bits packed into long words
+ * (sized to remain resident in a typical L1 data cache) in which bit j represents the integer low + 2j + 1.  Bits
+ * are set for primes and cleared for composites.
+ *
+ * The number of primes preceding each segment is recorded as segments are sieved, so the prime at any index can
+ * be located by re-sieving only the segment that contains it, and only the primes of the most recently visited
+ * segment are held in memory.
+ *
+ * Instances are not thread safe.
+ */
+public class SegmentedSieve {
+
+    /** the number of odd integers represented by each segment */
+    public static final int SEGMENT_BITS = 1 << 18;
+
+    /** the number of long words in each segment */
+    public static final int SEGMENT_WORDS = SEGMENT_BITS >>> 6;
+
+    /** the span of integers covered by each segment */
+    public static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;
+
+    /**
+     * an upper bound upon the number of primes within any segment (by the Brun-Titchmarsh inequality no interval of
+     * length y holds more than 2y / ln(y) primes, which for a segment is fewer than SEGMENT_BITS / 3)
+     */
+    public static final int MAXIMUM_SEGMENT_PRIMES = SEGMENT_BITS / 3 + 1;
+
+    /** odd primes no greater than basePrimeLimit (used to strike composites from each segment) */
+    int[] basePrimes = new int[0];
+
+    long basePrimeLimit = 0;
+
+    /** segmentCounts[s] is the number of primes less than s * SEGMENT_SPAN (so segmentCounts[0] is zero) */
+    long[] segmentCounts = new long[16];
+
+    /** the number of segments that have been sieved (segmentCounts holds segmentsSieved + 1 valid entries) */
+    int segmentsSieved = 0;
+
+    /** the index of the segment whose primes are held in cachedPrimes (or -1) */
+    long cachedSegment = -1;
+
+    long[] cachedPrimes = new long[0];
+
+    final long[] words = new long[SEGMENT_WORDS];
+
+    /**
+     * obtain the prime at the specified (zero-based) index of the sequence of primes (2, 3, 5, 7, ...)
+     * @param index the index of the requested prime
+     * @return the prime at the specified index
+     */
+    public long getPrime(long index) {
+
+        inRange(index, 0, Long.MAX_VALUE, "index");
+
+        while (segmentCounts[segmentsSieved] <= index)
+            sieveNextSegment();
+
+        // segmentCounts is non-decreasing; locate the last segment whose preceding count does not exceed index
+        int first = 0;
+        int last = segmentsSieved - 1;
+
+        while (first < last) {
+            int middle = (first + last + 1) >>> 1;
+
+            if (segmentCounts[middle] <= index)
+                first = middle;
+            else
+                last = middle - 1;
+        }
+
+        int segment = first;
+
+        cacheSegment(segment);
+
+        return cachedPrimes[(int) (index - segmentCounts[segment])];
+    }
+
+    /**
+     * count the primes in the specified range
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @return the number of primes p such that lo <= p < hi
+     */
+    public long count(long lo, long hi) {
+
+        inRange(lo, 0, Long.MAX_VALUE, "lo");
+
+        if (hi <= lo)
+            return 0;
+
+        ensureBasePrimes(hi);
+
+        long total = 0;
+
+        for (long low = lo - lo % SEGMENT_SPAN; low < hi; low += SEGMENT_SPAN) {
+
+            sieveSegment(low, words, basePrimes);
+
+            total += countPrimes(words, low, lo, hi);
+        }
+
+        return total;
+    }
+
+    /**
+     * count the primes of a sieved segment that fall within the specified range
+     * @param words the sieved segment
+     * @param low the (even) integer preceding the first integer represented by the segment
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @return the number of primes p such that lo <= p < hi within the segment (including two, which is not
+     * represented by any bit, if the segment is the first)
+     */
+    static long countPrimes(long[] words, long low, long lo, long hi) {
+        return countBits(words, low, lo, hi) + (low == 0 && lo <= 2 && hi > 2 ? 1 : 0);
+    }
+
+    /**
+     * write the primes of a sieved segment that fall within the specified range to the destination in ascending order
+     * @param words the sieved segment
+     * @param low the (even) integer preceding the first integer represented by the segment
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @param destination the array receiving the primes
+     * @param offset the index in the destination at which the first prime is written
+     * @return the number of primes written
+     */
+    static int decode(long[] words, long low, long lo, long hi, long[] destination, int offset) {
+
+        int index = offset;
+
+        if (low == 0 && lo <= 2 && hi > 2)
+            destination[index++] = 2;
+
+        long first = Math.max(0, (lo - low) >> 1);
+        long last = Math.min(SEGMENT_BITS, Math.max(0, (hi - low) >> 1));
+
+        for (long bit = first; bit < last; ) {
+
+            int word = (int) (bit >>> 6);
+
+            long bits = words[word] & (-1L << bit);
+
+            long wordEnd = (long) (word + 1) << 6;
+
+            if (wordEnd > last)
+                bits &= -1L >>> (wordEnd - last);
+
+            while (bits != 0) {
+                destination[index++] = low + 2 * (((long) word << 6) + Long.numberOfTrailingZeros(bits)) + 1;
+
+                bits &= bits - 1;
+            }
+
+            bit = wordEnd;
+        }
+
+        return index - offset;
+    }
+
+    /**
+     * compute the base primes required to sieve every segment preceding the specified limit
+     * @param limit one greater than the greatest integer that will be sieved
+     * @return every odd prime no greater than the square root of the greatest integer in the final segment
+     */
+    static int[] basePrimesFor(long limit) {
+        return oddPrimesThrough((int) Math.min((long) Math.sqrt((double) limit + SEGMENT_SPAN) + 1, Integer.MAX_VALUE - 1));
+    }
+
+    /**
+     * count the odd primes represented by the set bits of a sieved segment that fall within the specified range
+     * @param words the sieved segment
+     * @param low the (even) integer preceding the first integer represented by the segment
+     * @param lo the least integer in the range
+     * @param hi one greater than the greatest integer in the range
+     * @return the number of set bits representing integers n such that lo <= n < hi
+     */
+    static long countBits(long[] words, long low, long lo, long hi) {
+
+        // bit j represents low + 2j + 1, so the first bit in range is ceil((lo - low - 1) / 2)
+        long first = Math.max(0, (lo - low) >> 1);
+        long last = Math.min(SEGMENT_BITS, Math.max(0, (hi - low) >> 1));
+
+        if (first >= last)
+            return 0;
+
+        int firstWord = (int) (first >>> 6);
+        int lastWord = (int) ((last - 1) >>> 6);
+
+        long count = 0;
+
+        for (int word = firstWord; word <= lastWord; word++) {
+
+            long bits = words[word];
+
+            if (word == firstWord)
+                bits &= -1L << first;
+
+            if (word == lastWord && (last & 63) != 0)
+                bits &= -1L >>> (64 - (last & 63));
+
+            count += Long.bitCount(bits);
+        }
+
+        return count;
+    }
+
+    /**
+     * strike the composites from a segment
+     * @param low the (even) integer preceding the first integer represented by the segment
+     * @param words the segment, which will hold a set bit for every odd prime low < p < low + {@link #SEGMENT_SPAN}
+     * @param basePrimes every odd prime no greater than the square root of the greatest integer in the segment
+     */
+    static void sieveSegment(long low, long[] words, int[] basePrimes) {
+
+        Arrays.fill(words, -1L);
+
+        long high = low + SEGMENT_SPAN;
+
+        for (int prime : basePrimes) {
+
+            long square = (long) prime * prime;
+
+            if (square >= high)
+                break;
+
+            long start = Math.max(square, ((low + prime) / prime) * prime);
+
+            // only odd multiples are represented
+            if ((start & 1) == 0)
+                start += prime;
+
+            for (long bit = (start - low - 1) >>> 1; bit < SEGMENT_BITS; bit += prime)
+                words[(int) (bit >>> 6)] &= ~(1L << bit);
+        }
+
+        // one is not prime
+        if (low == 0)
+            words[0] &= ~1L;
+    }
+
+    /**
+     * ensure that the base primes suffice to sieve every segment preceding the specified limit
+     * @param limit one greater than the greatest integer that will be sieved
+     */
+    void ensureBasePrimes(long limit) {
+
+        long required = (long) Math.sqrt((double) limit + SEGMENT_SPAN) + 1;
+
+        if (required <= basePrimeLimit)
+            return;
+
+        basePrimeLimit = Math.max(required, basePrimeLimit * 2);
+
+        basePrimes = oddPrimesThrough((int) Math.min(basePrimeLimit, Integer.MAX_VALUE - 1));
+    }
+
+    /**
+     * compute the odd primes no greater than the specified limit with a simple (unsegmented) sieve
+     * @param limit the greatest candidate
+     * @return the odd primes in ascending order
+     */
+    static int[] oddPrimesThrough(int limit) {
+
+        boolean[] composite = new boolean[limit + 1];
+
+        int[] primes = new int[Math.max(16, (int) (1.3 * limit / Math.max(1, Math.log(limit))))];
+
+        int count = 0;
+
+        for (int candidate = 3; candidate <= limit; candidate += 2) {
+
+            if (composite[candidate])
+                continue;
+
+            if (count == primes.length)
+                primes = Arrays.copyOf(primes, count * 2);
+
+            primes[count++] = candidate;
+
+            for (long multiple = (long) candidate * candidate; multiple <= limit; multiple += 2L * candidate)
+                composite[(int) multiple] = true;
+        }
+
+        return Arrays.copyOf(primes, count);
+    }
+
+    void sieveNextSegment() {
+
+        long low = segmentsSieved * SEGMENT_SPAN;
+
+        ensureBasePrimes(low + SEGMENT_SPAN);
+
+        sieveSegment(low, words, basePrimes);
+
+        long primes = countPrimes(words, low, low, low + SEGMENT_SPAN);
+
+        if (segmentsSieved + 2 > segmentCounts.length)
+            segmentCounts = Arrays.copyOf(segmentCounts, segmentCounts.length * 2);
+
+        segmentCounts[segmentsSieved + 1] = segmentCounts[segmentsSieved] + primes;
+
+        segmentsSieved++;
+    }
+
+    /**
+     * decode the primes of the specified (previously counted) segment into cachedPrimes
+     */
+    void cacheSegment(int segment) {
+
+        if (cachedSegment == segment)
+            return;
+
+        long low = segment * SEGMENT_SPAN;
+
+        ensureBasePrimes(low + SEGMENT_SPAN);
+
+        sieveSegment(low, words, basePrimes);
+
+        int count = (int) (segmentCounts[segment + 1] - segmentCounts[segment]);
+
+        if (cachedPrimes.length < count)
+            cachedPrimes = new long[count];
+
+        decode(words, low, low, low + SEGMENT_SPAN, cachedPrimes, 0);
+
+        cachedSegment = segment;
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 
 import static com.stclair.corlib.validation.Validation.neverNull;
 
-public class Sieve<T> {
+public class Sieve<T> implements PrimeSieve<T> {
 
     T current;
 
@@ -62,6 +62,7 @@ public class Sieve<T> {
         return prime;
     }
 
+    @Override
     public T seekNextPrime() {
 
         if (current == null)
@@ -78,14 +79,17 @@ public class Sieve<T> {
         return foundPrime(candidate);
     }
 
+    @Override
     public boolean isKnown(int index) {
         return known.size() > index;
     }
 
+    @Override
     public T getKnown(int index) {
         return known.get(index);
     }
 
+    @Override
     public int getLastIndex() {
         return known.size() - 1;
     }
@@ -115,9 +119,9 @@ public class Sieve<T> {
             if (operationStrategy.greaterThan(possibleFactor, squareRoot))
                 return false;
 
-            T quotient = operationStrategy.quotient(candidate, possibleFactor);
-
-            if (operationStrategy.isEqual(quotient, operationStrategy.floor(quotient)))
+            // the remainder is exact for every value type (unlike a quotient, which for integral types is
+            // truncated and for Apfloat cannot be computed to infinite precision)
+            if (operationStrategy.isZero(operationStrategy.mod(candidate, possibleFactor)))
                 return true;
         }
 
@@ -0,0 +1,73 @@
+package com.stclair.corlib.math.util;
+
+import org.apfloat.Apfloat;
+import org.apfloat.InfiniteExpansionException;
+
+import java.math.BigDecimal;
+import java.util.stream.DoubleStream;
+
+/**
+ * An Apfloat operation strategy whose values carry infinite precision
+ *
+ * Sums, differences and products are then free of rounding error, so the strategy is {@link #isExact() exact}.  Values
+ * converted from doubles are exactly the binary fractions that the doubles represent.
+ *
+ * The values are terminating decimals, so a quotient can be represented only when it terminates: one terminating
+ * decimal divided by another terminates exactly when, the fraction being reduced to lowest terms, its denominator has
+ * no prime factor other than 2 or 5.  Such quotients are computed exactly (6 / 3 is 2, although Apfloat alone refuses
+ * any infinite-precision divisor with another prime factor); any other quotient throws
+ * {@link InfiniteExpansionException}.  Polynomial division therefore succeeds when the quotient and remainder have
+ * terminating coefficients, but greatest common divisors (and square-free parts), which must normalize by arbitrary
+ * coefficients, are not supported.
+ */
+public class ApfloatExactOperationStrategy extends ApfloatOperationStrategy {
+
+    @Override
+    public Apfloat quotient(Apfloat dividend, Apfloat divisor) {
+        try {
+            return dividend.divide(divisor);
+        } catch (InfiniteExpansionException e) {
+            // Apfloat refuses divisors with a prime factor other than 2 or 5 even when the quotient terminates
+            try {
+                BigDecimal quotient = new BigDecimal(dividend.toString(true)).divide(new BigDecimal(divisor.toString(true)));
+
+                return new Apfloat(quotient, Apfloat.INFINITE);
+            } catch (ArithmeticException nonTerminating) {
+                throw new InfiniteExpansionException("Quotient " + dividend.toString(true) + " / " + divisor.toString(true)
+                        + " has no terminating decimal expansion");
+            }
+        }
+    }
+
+    @Override
+    public Apfloat invert(Apfloat value) {
+        return quotient(Apfloat.ONE, value);
+    }
+
+    @Override
+    public Apfloat from(double value) {
+        if (value==0)
+            return Apfloat.ZERO;
+        if (value==1)
+            return Apfloat.ONE;
+
+        return new Apfloat(new BigDecimal(value), Apfloat.INFINITE);
+    }
+
+    @Override
+    public Apfloat[] from(double[] dblValues) {
+        return DoubleStream.of(dblValues)
+                .mapToObj(this::from)
+                .toArray(Apfloat[]::new);
+    }
+
+    @Override
+    public long maxPrecision() {
+        return Apfloat.INFINITE;
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+}
@@ -2,7 +2,7 @@ package com.stclair.corlib.math.util;
 
 import java.text.DecimalFormat;
 import com.stclair.corlib.math.array.Array2D;
-import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
 
 import java.util.Arrays;
 import java.util.stream.DoubleStream;
@@ -82,7 +82,7 @@ public class DoubleOperationStrategy implements OperationStrategy<Double> {
     @Override
     public Array2D<Double> matrix(int rows, int cols) {
 
-        return new Array2DConcrete<Double>(this, cols, rows, indexor -> 0d);
+        return new DoubleArray2D(this, cols, rows);
     }
 
     @Override
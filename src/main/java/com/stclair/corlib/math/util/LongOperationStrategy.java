@@ -217,6 +217,11 @@ public class LongOperationStrategy implements OperationStrategy<Long> {
         return 63;
     }
 
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
     @Override
     public long exponent(Long value) {
         return 0;
@@ -105,6 +105,17 @@ public interface OperationStrategy<T> {
 
     long maxPrecision();
 
+    /**
+     * indicates whether sums, differences and products are free of rounding error (as for integers or for
+     * {@link ApfloatExactOperationStrategy infinite-precision} Apfloats), so that algorithms which rearrange them
+     * (such as Karatsuba multiplication) produce exactly the results of those which do not; finite precision, however
+     * great, is not exact
+     * @return true if arithmetic is exact
+     */
+    default boolean isExact() {
+        return false;
+    }
+
     long exponent(T value);
 
     long mantissa(T value);
@@ -0,0 +1,89 @@
+package com.stclair.corlib.math.array;
+
+import com.stclair.corlib.math.matrix.Matrix;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.apfloat.Apfloat;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Array2DViewTest {
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    double[][] members = new double[][] {
+            { 1, 2, 3, 4 },
+            { 5, 6, 7, 8 },
+            { 9, 10, 11, 12 },
+            { 13, 14, 15, 16 }
+    };
+
+    @Test
+    public void excludingPresentsRemainingElements() {
+
+        Array2D<Double> view = Array2DView.excluding(new DoubleArray2D(op, members), 1, 2);
+
+        assertEquals(3, view.getWidth());
+        assertEquals(3, view.getHeight());
+
+        assertArrayEquals(new Double[] { 9d, 10d, 12d }, view.getRow(1));
+        assertArrayEquals(new Double[] { 4d, 12d, 16d }, view.getColumn(2));
+        assertEquals(14d, view.get(1, 2), 0);
+    }
+
+    @Test
+    public void nestedViewsReferToOriginalSource() {
+
+        DoubleArray2D source = new DoubleArray2D(op, members);
+
+        Array2DView<Double> view = Array2DView.excluding(Array2DView.excluding(source, 0, 0), 1, 1);
+
+        assertSame(source, view.getSource());
+        assertArrayEquals(new Double[] { 6d, 8d }, view.getRow(0));
+        assertArrayEquals(new Double[] { 14d, 16d }, view.getRow(1));
+    }
+
+    @Test
+    public void viewDoesNotCopySource() {
+
+        DoubleArray2D source = new DoubleArray2D(op, members);
+
+        Array2D<Double> view = Array2DView.excluding(source, 0, 0);
+
+        source.set(1, 1, 42);
+
+        assertEquals(42d, view.get(0, 0), 0);
+    }
+
+    @Test
+    public void materializeDoubleSource() {
+
+        Array2D<Double> dense = Array2DView.excluding(new DoubleArray2D(op, members), 3, 0).materialize();
+
+        assertTrue(dense instanceof DoubleArray2D);
+        assertArrayEquals(new double[] { 2, 3, 4, 6, 7, 8, 10, 11, 12 }, ((DoubleArray2D) dense).getElements(), 0);
+    }
+
+    @Test
+    public void materializeGenericSource() {
+
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        Matrix<Apfloat> minor = new Matrix<>(members, apfloatOp).minor(0, 3);
+
+        assertTrue(minor.getElements() instanceof Array2DView);
+
+        Matrix<Apfloat> dense = minor.materialize();
+
+        assertTrue(dense.getElements() instanceof Array2DConcrete);
+        assertEquals(minor, dense);
+        assertSame(dense, dense.materialize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void excludedRowOutOfRange() {
+
+        Array2DView.excluding(new DoubleArray2D(op, members), 4, 0);
+    }
+}
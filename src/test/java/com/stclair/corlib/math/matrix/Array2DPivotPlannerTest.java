@@ -0,0 +1,106 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.matrix.determinant.LUDeterminantSolver;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.LongOperationStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Array2DPivotPlannerTest {
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    Array2DPivotPlanner planner = new Array2DPivotPlanner();
+
+    Array2DPivotPlanner partialPivotingPlanner = new Array2DPivotPlanner(true);
+
+    Array2DPresortEvaluatorTest extractor = new Array2DPresortEvaluatorTest();
+
+    Array2D<Double> arrayOf(double[][] values) {
+        return new Array2DConcrete<>(op, values[0].length, values.length, indexor -> values[indexor.getRow()][indexor.getColumn()]);
+    }
+
+    @Test
+    public void presortDoesNotChangeMatrixWithNonZeroPivots() {
+
+        Array2D<Double> matrix = arrayOf(new double[][] { {6, 1, 1}, {4, -2, 5}, {2, 8, 7} });
+
+        assertSame(matrix, planner.presort(matrix));
+    }
+
+    @Test
+    public void presortSwapsRowsAndNegatesLastRowForOddPermutation() {
+
+        double[][] values = { {0, 1, 2}, {3, 4, 5}, {6, 7, 9} };
+
+        double[][] expected = { {3, 4, 5}, {0, 1, 2}, {-6, -7, -9} };
+
+        double[][] actual = extractor.extract(planner.presort(arrayOf(values)));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void presortAvoidsZeroPivotArisingDuringElimination() {
+
+        // the diagonal is zero-free, but eliminating the first column leaves a zero in the second pivot position
+        double[][] values = { {1, 2, 3}, {2, 4, 7}, {1, 3, 1} };
+
+        int[] expected = { 0, 2, 1 };
+
+        int[] actual = planner.planPermutation(arrayOf(values));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void presortReturnsNullForSingularMatrix() {
+
+        Array2D<Double> matrix = arrayOf(new double[][] { {1, 2, 3}, {2, 4, 6}, {1, 1, 1} });
+
+        assertNull(planner.presort(matrix));
+    }
+
+    @Test
+    public void partialPivotingSelectsLargestMagnitude() {
+
+        double[][] values = { {1, 2}, {-5, 1} };
+
+        int[] expected = { 1, 0 };
+
+        int[] actual = partialPivotingPlanner.planPermutation(arrayOf(values));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void countSwapsReportsParity() {
+
+        assertEquals(0, planner.countSwaps(new int[] { 0, 1, 2, 3 }));
+        assertEquals(1, planner.countSwaps(new int[] { 1, 0, 2, 3 }));
+        assertEquals(2, planner.countSwaps(new int[] { 1, 2, 0, 3 }));
+        assertEquals(3, planner.countSwaps(new int[] { 3, 0, 1, 2 }));
+    }
+
+    @Test
+    public void determinantOfLargeAntiDiagonalMatrix() {
+
+        // the exhaustive presort would need to visit a factorial number of permutations to find this ordering
+        int order = 40;
+
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        Array2D<Long> elements = new Array2DConcrete<>(longOp, order, order,
+                indexor -> indexor.getRow() + indexor.getColumn() == order - 1 ? 1L : 0L);
+
+        // reversing 40 rows requires 20 transpositions
+        long expected = 1;
+
+        long actual = new LUDeterminantSolver(new MatrixLUDecomposor(partialPivotingPlanner)).determinant(new Matrix<>(elements));
+
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,108 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.OperationStrategy;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the primitive double kernels with the generic OperationStrategy path
+ * (not run as part of the regular test suite)
+ */
+@Ignore
+public class DoubleMatrixBenchmark {
+
+    static final int[] ORDERS = { 16, 64, 128, 256 };
+
+    static final int WARMUP_ITERATIONS = 3;
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    /** a strategy that is not exactly DoubleOperationStrategy, so that Matrix does not dispatch to the kernels */
+    DoubleOperationStrategy genericOp = new DoubleOperationStrategy() { };
+
+    double[][] randomMembers(Random random, int order) {
+
+        double[][] members = new double[order][order];
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++)
+                members[row][col] = (random.nextDouble() - 0.5) / order;
+
+        for (int index = 0; index < order; index++)
+            members[index][index] += 1;
+
+        return members;
+    }
+
+    double time(Supplier<?> operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.get();
+
+        long start = System.nanoTime();
+
+        operation.get();
+
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    <T> Matrix<T> genericProduct(Matrix<T> a, Matrix<T> b) {
+
+        OperationStrategy<T> strategy = a.getOperationStrategy();
+
+        int order = a.getRows();
+
+        T[] elements = strategy.array(order * order);
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++) {
+                T sum = strategy.zero();
+
+                for (int k = 0; k < order; k++)
+                    sum = strategy.sum(sum, strategy.product(a.member(row, k), b.member(k, col)));
+
+                elements[row * order + col] = sum;
+            }
+
+        return new Matrix<>(new Array2DConcrete<>(strategy, order, order, elements));
+    }
+
+    @Test
+    public void determinant() {
+
+        Random random = new Random(3);
+
+        for (int order : ORDERS) {
+
+            double[][] members = randomMembers(random, order);
+
+            Matrix<Double> generic = new Matrix<>(members, genericOp);
+            Matrix<Double> primitive = new Matrix<>(members, op);
+
+            System.out.printf("determinant order %4d: generic %10.3f ms, primitive %10.3f ms\n", order, time(generic::determinant), time(primitive::determinant));
+        }
+    }
+
+    @Test
+    public void multiply() {
+
+        Random random = new Random(3);
+
+        for (int order : ORDERS) {
+
+            double[][] members = randomMembers(random, order);
+
+            Matrix<Double> generic = new Matrix<>(members, genericOp);
+            DoubleArray2D primitive = new DoubleArray2D(op, members);
+
+            System.out.printf("multiply order %4d: generic %10.3f ms, primitive %10.3f ms\n", order,
+                    time(() -> genericProduct(generic, generic)), time(() -> DoubleMatrixKernels.multiply(primitive, primitive)));
+        }
+    }
+}
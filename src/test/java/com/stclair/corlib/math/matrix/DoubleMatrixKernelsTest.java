@@ -0,0 +1,113 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DoubleMatrixKernelsTest {
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    /** a strategy that is not exactly DoubleOperationStrategy, so that Matrix does not dispatch to the kernels */
+    DoubleOperationStrategy genericOp = new DoubleOperationStrategy() { };
+
+    double[][] randomMembers(Random random, int order) {
+
+        double[][] members = new double[order][order];
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++)
+                members[row][col] = random.nextInt(11) - 5;
+
+        return members;
+    }
+
+    @Test
+    public void matrixOfDoublesUsesPrimitiveStorage() {
+
+        Matrix<Double> matrix = new Matrix<>(new double[][] { {1, 2}, {3, 4} }, op);
+
+        assertTrue(matrix.getElements() instanceof DoubleArray2D);
+        assertEquals(3d, matrix.member(1, 0), 0);
+    }
+
+    @Test
+    public void matrixOfDerivedStrategyUsesGenericStorage() {
+
+        Matrix<Double> matrix = new Matrix<>(new double[][] { {1, 2}, {3, 4} }, genericOp);
+
+        assertTrue(matrix.getElements() instanceof Array2DConcrete);
+    }
+
+    @Test
+    public void decomposeMatchesGenericPath() {
+
+        Random random = new Random(5);
+
+        for (int order = 2; order <= 12; order++) {
+
+            double[][] members = randomMembers(random, order);
+
+            LUMatrixResult<Double> expected = new MatrixLUDecomposor().computeUpperLower(new Matrix<>(members, genericOp));
+            LUMatrixResult<Double> actual = new MatrixLUDecomposor().computeUpperLower(new Matrix<>(members, op));
+
+            assertEquals(expected.getUpper(), actual.getUpper());
+            assertEquals(expected.getLower(), actual.getLower());
+            assertEquals(expected.determinant(), actual.determinant());
+        }
+    }
+
+    @Test
+    public void determinantMatchesGenericPath() {
+
+        Random random = new Random(7);
+
+        for (int order = 2; order <= 12; order++) {
+
+            double[][] members = randomMembers(random, order);
+
+            double expected = new Matrix<>(members, genericOp).determinant();
+            double actual = new Matrix<>(members, op).determinant();
+
+            assertEquals(expected, actual, 0);
+        }
+    }
+
+    @Test
+    public void determinantOfSingularMatrixIsZero() {
+
+        Matrix<Double> matrix = new Matrix<>(new double[][] { {1, 2, 3}, {2, 4, 6}, {1, 1, 1} }, op);
+
+        assertEquals(0d, matrix.determinant(), 0);
+    }
+
+    @Test
+    public void minorMatchesGenericPath() {
+
+        double[][] members = randomMembers(new Random(11), 5);
+
+        Matrix<Double> expected = new Matrix<>(members, genericOp).minor(2, 3);
+        Matrix<Double> actual = new Matrix<>(members, op).minor(2, 3);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void multiply() {
+
+        DoubleArray2D a = new DoubleArray2D(op, new double[][] { {1, 2, 3}, {4, 5, 6} });
+        DoubleArray2D b = new DoubleArray2D(op, new double[][] { {7, 8}, {9, 10}, {11, 12} });
+
+        Array2D<Double> expected = new DoubleArray2D(op, new double[][] { {58, 64}, {139, 154} });
+
+        Array2D<Double> actual = DoubleMatrixKernels.multiply(a, b);
+
+        assertEquals(new Matrix<>(expected), new Matrix<>(actual));
+    }
+}
@@ -0,0 +1,102 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Reports matrix product time versus order for the untiled kernel and the tiled (sequential and fork/join)
+ * kernels (not run as part of the regular test suite)
+ */
+@Ignore
+public class MatrixArithmeticBenchmark {
+
+    static final int[] ORDERS = { 64, 128, 256, 512, 1024, 2048 };
+
+    /** the generic OperationStrategy path is not attempted beyond this order */
+    static final int GENERIC_ORDER_LIMIT = 256;
+
+    static final int WARMUP_ITERATIONS = 2;
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    /** a strategy that is not exactly DoubleOperationStrategy, so that the generic path is taken */
+    DoubleOperationStrategy genericOp = new DoubleOperationStrategy() { };
+
+    MatrixArithmetic sequential = new MatrixArithmetic(ForkJoinPool.commonPool(), MatrixArithmetic.DEFAULT_BLOCK_SIZE, Integer.MAX_VALUE);
+
+    MatrixArithmetic parallel = new MatrixArithmetic();
+
+    double[][] randomMembers(Random random, int order) {
+
+        double[][] members = new double[order][order];
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++)
+                members[row][col] = random.nextDouble() - 0.5;
+
+        return members;
+    }
+
+    double time(Supplier<?> operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.get();
+
+        long start = System.nanoTime();
+
+        operation.get();
+
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    @Test
+    public void multiply() {
+
+        Random random = new Random(17);
+
+        System.out.printf("%6s %14s %14s %14s %14s\n", "order", "untiled ms", "tiled ms", "fork/join ms", "generic ms");
+
+        for (int order : ORDERS) {
+
+            DoubleArray2D a = new DoubleArray2D(op, randomMembers(random, order));
+            DoubleArray2D b = new DoubleArray2D(op, randomMembers(random, order));
+
+            double untiled = time(() -> DoubleMatrixKernels.multiply(a, b));
+            double tiled = time(() -> sequential.multiply(a, b));
+            double forkJoin = time(() -> parallel.multiply(a, b));
+
+            double generic = Double.NaN;
+
+            if (order <= GENERIC_ORDER_LIMIT) {
+                Matrix<Double> genericA = new Matrix<>(randomMembers(random, order), genericOp);
+                Matrix<Double> genericB = new Matrix<>(randomMembers(random, order), genericOp);
+
+                generic = time(() -> genericA.multiply(genericB));
+            }
+
+            System.out.printf("%6d %14.3f %14.3f %14.3f %14.3f\n", order, untiled, tiled, forkJoin, generic);
+        }
+    }
+
+    @Test
+    public void transpose() {
+
+        Random random = new Random(17);
+
+        System.out.printf("%6s %14s %14s\n", "order", "tiled ms", "generic ms");
+
+        for (int order : ORDERS) {
+
+            Matrix<Double> matrix = new Matrix<>(randomMembers(random, order), op);
+            Matrix<Double> genericMatrix = new Matrix<>(randomMembers(random, order), genericOp);
+
+            System.out.printf("%6d %14.3f %14.3f\n", order, time(matrix::transpose), time(genericMatrix::transpose));
+        }
+    }
+}
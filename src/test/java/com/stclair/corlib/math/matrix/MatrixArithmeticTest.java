@@ -0,0 +1,145 @@
+package com.stclair.corlib.math.matrix;
+
+import com.stclair.corlib.math.array.Array2D;
+import com.stclair.corlib.math.array.DoubleArray2D;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.apfloat.Apfloat;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class MatrixArithmeticTest {
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    /** a strategy that is not exactly DoubleOperationStrategy, so that the generic path is taken */
+    DoubleOperationStrategy genericOp = new DoubleOperationStrategy() { };
+
+    /** an instance with small tiles and row blocks so that every tiling and forking branch is exercised */
+    MatrixArithmetic smallBlocks = new MatrixArithmetic(ForkJoinPool.commonPool(), 3, 2);
+
+    double[][] randomMembers(Random random, int rows, int columns) {
+
+        double[][] members = new double[rows][columns];
+
+        for (int row = 0; row < rows; row++)
+            for (int col = 0; col < columns; col++)
+                members[row][col] = random.nextDouble() - 0.5;
+
+        return members;
+    }
+
+    @Test
+    public void multiply2x3By3x2() {
+
+        Matrix<Double> a = new Matrix<>(new double[][] { {1, 2, 3}, {4, 5, 6} }, op);
+        Matrix<Double> b = new Matrix<>(new double[][] { {7, 8}, {9, 10}, {11, 12} }, op);
+
+        Matrix<Double> expected = new Matrix<>(new double[][] { {58, 64}, {139, 154} }, op);
+
+        assertEquals(expected, a.multiply(b));
+    }
+
+    @Test
+    public void multiplyApfloat() {
+
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        Matrix<Apfloat> a = new Matrix<>(new double[][] { {1, 2, 3}, {4, 5, 6} }, apfloatOp);
+        Matrix<Apfloat> b = new Matrix<>(new double[][] { {7, 8}, {9, 10}, {11, 12} }, apfloatOp);
+
+        Matrix<Apfloat> expected = new Matrix<>(new double[][] { {58, 64}, {139, 154} }, apfloatOp);
+
+        assertEquals(expected, a.multiply(b));
+    }
+
+    @Test
+    public void multiplyByIdentity() {
+
+        Matrix<Double> a = new Matrix<>(randomMembers(new Random(3), 5, 5), op);
+
+        assertEquals(a, a.multiply(Matrix.identity(5, op)));
+        assertEquals(a, Matrix.identity(5, op).multiply(a));
+    }
+
+    @Test
+    public void tiledParallelProductMatchesUntiledKernel() {
+
+        Random random = new Random(7);
+
+        DoubleArray2D a = new DoubleArray2D(op, randomMembers(random, 11, 7));
+        DoubleArray2D b = new DoubleArray2D(op, randomMembers(random, 7, 13));
+
+        DoubleArray2D expected = DoubleMatrixKernels.multiply(a, b);
+
+        assertArrayEquals(expected.getElements(), ((DoubleArray2D) smallBlocks.multiply(a, b)).getElements(), 0);
+    }
+
+    @Test
+    public void genericProductMatchesPrimitiveProduct() {
+
+        Random random = new Random(11);
+
+        double[][] aMembers = randomMembers(random, 11, 7);
+        double[][] bMembers = randomMembers(random, 7, 13);
+
+        Matrix<Double> expected = new Matrix<>(aMembers, op).multiply(new Matrix<>(bMembers, op));
+
+        Array2D<Double> generic = smallBlocks.multiply(new Matrix<>(aMembers, genericOp).getElements(), new Matrix<>(bMembers, genericOp).getElements());
+
+        assertFalse(generic instanceof DoubleArray2D);
+
+        for (int row = 0; row < 11; row++)
+            for (int col = 0; col < 13; col++)
+                assertEquals(expected.member(row, col), generic.get(col, row), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void multiplyMismatchedDimensions() {
+
+        Matrix<Double> a = new Matrix<>(new double[][] { {1, 2, 3}, {4, 5, 6} }, op);
+
+        a.multiply(a);
+    }
+
+    @Test
+    public void add() {
+
+        Matrix<Double> a = new Matrix<>(new double[][] { {1, 2}, {3, 4} }, op);
+        Matrix<Double> b = new Matrix<>(new double[][] { {10, 20}, {30, 40} }, op);
+
+        assertEquals(new Matrix<>(new double[][] { {11, 22}, {33, 44} }, op), a.add(b));
+        assertEquals(new Matrix<>(new double[][] { {11, 22}, {33, 44} }, genericOp),
+                new Matrix<>(new double[][] { {1, 2}, {3, 4} }, genericOp).add(new Matrix<>(new double[][] { {10, 20}, {30, 40} }, genericOp)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addMismatchedDimensions() {
+
+        Matrix<Double> a = new Matrix<>(new double[][] { {1, 2, 3}, {4, 5, 6} }, op);
+
+        a.add(a.transpose());
+    }
+
+    @Test
+    public void transpose() {
+
+        double[][] members = randomMembers(new Random(5), 7, 4);
+
+        Matrix<Double> transposed = new Matrix<>(smallBlocks.transpose(new DoubleArray2D(op, members)));
+        Matrix<Double> genericTransposed = new Matrix<>(members, genericOp).transpose();
+
+        assertEquals(4, transposed.getRows());
+        assertEquals(7, transposed.getColumns());
+
+        for (int row = 0; row < 7; row++)
+            for (int col = 0; col < 4; col++) {
+                assertEquals(members[row][col], transposed.member(col, row), 0);
+                assertEquals(members[row][col], genericTransposed.member(col, row), 0);
+            }
+    }
+}
@@ -65,5 +65,45 @@ public class TestMatrixLUDecomposor {
         assertEquals(expectedLower, result.getLower());
     }
 
+    @Test
+    public void test3x3DoubleLUCopying() {
+
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        Matrix<Double> value = new Matrix<>(new double[][] { {6, 1, 1}, {4, -2, 5}, {2, 8, 7} }, op);
+        Matrix<Double> expectedUpper = new Matrix<>(new double[][] { {6, 1, 1}, {0, -8d/3, 13d/3}, {-0d, -0d, 153d/8d} }, op);
 
+        Matrix<Double> expectedLower = new Matrix<>(new double[][] {{1, 0, 0}, {2d/3, 1, 0}, {1d/3, -23d/8, 1}}, op);
+
+        MatrixLUDecomposor instance = new MatrixLUDecomposor(new Array2DPivotPlanner(), false);
+
+        LUMatrixResult<Double> result = instance.computeUpperLower(value);
+
+        assertEquals(expectedUpper, result.getUpper());
+        assertEquals(expectedLower, result.getLower());
+    }
+
+    @Test
+    public void testInPlaceMatchesCopying() {
+
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        Matrix<Double> value = new Matrix<>(new double[][] {
+                {0, -5, -4, 2, -2, -5, -5},
+                {-4, -1, 0, -1, -4, 0, -3},
+                {2, -3, 2, -3, 4, 0, -5},
+                {3, 0, -4, -2, -3, -5, -5},
+                {-2, -2, -2, 2, -4, 3, 3},
+                {4, 0, 0, 0, 2, -5, -3},
+                {-2, -5, 0, -3, -2, -5, -2},
+        }, op);
+
+        LUMatrixResult<Double> expected = new MatrixLUDecomposor(new Array2DPivotPlanner(), false).computeUpperLower(value);
+
+        LUMatrixResult<Double> actual = new MatrixLUDecomposor(new Array2DPivotPlanner(), true).computeUpperLower(value);
+
+        assertEquals(expected.getUpper(), actual.getUpper());
+        assertEquals(expected.getLower(), actual.getLower());
+        assertEquals(expected.determinant(), actual.determinant());
+    }
 }
@@ -0,0 +1,93 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.matrix.Matrix;
+import com.stclair.corlib.math.matrix.PermutationDeterminantSolver;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import org.apfloat.Apfloat;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports exact (Apfloat) determinant time versus matrix order (not run as part of the regular test suite)
+ */
+@Ignore
+public class BareissDeterminantSolverBenchmark {
+
+    static final int[] ORDERS = { 5, 6, 7, 8, 9, 10, 25, 50, 100, 200 };
+
+    /** the cofactor and permutation solvers require O(n!) operations and are not attempted beyond this order */
+    static final int FACTORIAL_ORDER_LIMIT = 9;
+
+    static final int WARMUP_ITERATIONS = 1;
+
+    /**
+     * construct a strategy whose precision is sufficient to represent the determinant of any matrix of the specified
+     * order whose elements are bounded by 9 in magnitude (Hadamard's bound: (9 * sqrt(order))^order)
+     */
+    ApfloatOperationStrategy strategyFor(int order) {
+        return new ApfloatOperationStrategy((int) Math.ceil(order * Math.log10(9 * Math.sqrt(order))) + 20);
+    }
+
+    double[][] randomMembers(Random random, int order) {
+
+        double[][] members = new double[order][order];
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++)
+                members[row][col] = random.nextInt(19) - 9;
+
+        return members;
+    }
+
+    void report(String name, DeterminantSolver solver, int maximumOrder) {
+
+        Random random = new Random(17);
+
+        System.out.printf("%s\n", name);
+
+        for (int order : ORDERS) {
+
+            if (order > maximumOrder)
+                break;
+
+            Matrix<Apfloat> matrix = new Matrix<>(randomMembers(random, order), strategyFor(order));
+
+            for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+                solver.determinant(matrix);
+
+            long start = System.nanoTime();
+
+            Apfloat determinant = solver.determinant(matrix);
+
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("order %4d: %12.3f ms (determinant %s)\n", order, elapsed / 1e6, determinant.toString(true));
+        }
+    }
+
+    @Test
+    public void bareiss() {
+
+        report("Bareiss fraction-free elimination", new BareissDeterminantSolver(), Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void luDecomposition() {
+
+        report("LU decomposition", new LUDeterminantSolver(), Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void matrixMinor() {
+
+        report("cofactor expansion", new MatrixMinorDeterminantSolver(), FACTORIAL_ORDER_LIMIT);
+    }
+
+    @Test
+    public void permutation() {
+
+        report("permutation expansion", new PermutationDeterminantSolver(), FACTORIAL_ORDER_LIMIT);
+    }
+}
@@ -0,0 +1,88 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.matrix.Array2DPivotPlanner;
+import com.stclair.corlib.math.matrix.Matrix;
+import com.stclair.corlib.math.matrix.MatrixLUDecomposor;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports determinant time versus matrix order (not run as part of the regular test suite)
+ */
+@Ignore
+public class LUDeterminantSolverBenchmark {
+
+    static final int[] ORDERS = { 4, 8, 16, 32, 64, 128, 256, 500 };
+
+    static final int WARMUP_ITERATIONS = 3;
+
+    DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+    /**
+     * build a well-conditioned matrix (the identity with the first two rows exchanged, plus small noise) so that
+     * the leading minors, and therefore the fraction-free intermediate values, remain representable as doubles
+     */
+    double[][] randomMembers(Random random, int order) {
+
+        double[][] members = new double[order][order];
+
+        for (int row = 0; row < order; row++)
+            for (int col = 0; col < order; col++)
+                members[row][col] = (random.nextDouble() - 0.5) / order;
+
+        for (int index = 2; index < order; index++)
+            members[index][index] += 1;
+
+        members[0][1] += 1;
+        members[1][0] += 1;
+
+        // force a zero onto the leading diagonal so that the presort must re-order rows
+        members[0][0] = 0;
+
+        return members;
+    }
+
+    void report(String name, DeterminantSolver solver) {
+
+        Random random = new Random(17);
+
+        System.out.printf("%s\n", name);
+
+        for (int order : ORDERS) {
+
+            Matrix<Double> matrix = new Matrix<>(randomMembers(random, order), op);
+
+            for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+                solver.determinant(matrix);
+
+            long start = System.nanoTime();
+
+            double determinant = solver.determinant(matrix);
+
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("order %4d: %12.3f ms (determinant %g)\n", order, elapsed / 1e6, determinant);
+        }
+    }
+
+    @Test
+    public void pivotPlanner() {
+
+        report("pivot planner, in-place decomposition", new LUDeterminantSolver(new MatrixLUDecomposor(new Array2DPivotPlanner())));
+    }
+
+    @Test
+    public void partialPivotingPlanner() {
+
+        report("partial pivoting planner", new LUDeterminantSolver(new MatrixLUDecomposor(new Array2DPivotPlanner(true))));
+    }
+
+    @Test
+    public void copyingDecomposition() {
+
+        report("pivot planner, copying decomposition", new LUDeterminantSolver(new MatrixLUDecomposor(new Array2DPivotPlanner(), false)));
+    }
+}
@@ -0,0 +1,171 @@
+package com.stclair.corlib.math.matrix.determinant;
+
+import com.stclair.corlib.math.array.Array2DConcrete;
+import com.stclair.corlib.math.matrix.Matrix;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.LongOperationStrategy;
+import org.apfloat.Apfloat;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class TestBareissDeterminantSolver {
+
+    TestDeterminantSolver<Apfloat> apfloatTests = new TestDeterminantSolverImpl<>(new ApfloatOperationStrategy(), new BareissDeterminantSolver());
+
+    TestDeterminantSolver<Long> longTests = new TestDeterminantSolverImpl<>(new LongOperationStrategy(), new BareissDeterminantSolver());
+
+    TestDeterminantSolver<Double> doubleTests = new TestDeterminantSolverImpl<>(new DoubleOperationStrategy(), new BareissDeterminantSolver());
+
+    @Test
+    public void test3x3DeterminantDouble() {
+
+        doubleTests.test3x3Determinant();
+    }
+
+    @Test
+    public void test3x3DeterminantApfloat() {
+
+        apfloatTests.test3x3Determinant();
+    }
+
+    @Test
+    public void test4x4DeterminantDouble() {
+
+        doubleTests.test4x4Determinant();
+    }
+
+    @Test
+    public void test4x4DeterminantApfloat() {
+
+        apfloatTests.test4x4Determinant();
+    }
+
+    @Test
+    public void test5x5DeterminantDouble() {
+
+        doubleTests.test5x5Determinant();
+    }
+
+    @Test
+    public void test5x5DeterminantApfloat() {
+
+        apfloatTests.test5x5Determinant();
+    }
+
+    @Test
+    public void test6x6DeterminantADouble() {
+
+        doubleTests.test6x6DeterminantA();
+    }
+
+    @Test
+    public void test6x6DeterminantAApfloat() {
+
+        apfloatTests.test6x6DeterminantA();
+    }
+
+    @Test
+    public void test6x6DeterminantBDouble() {
+
+        doubleTests.test6x6DeterminantB();
+    }
+
+    @Test
+    public void test6x6DeterminantBApfloat() {
+
+        apfloatTests.test6x6DeterminantB();
+    }
+
+    @Test
+    public void test7x7DeterminantDouble() {
+
+        doubleTests.test7x7Determinant();
+    }
+
+    @Test
+    public void test7x7DeterminantApfloat() {
+
+        apfloatTests.test7x7Determinant();
+    }
+
+    @Test
+    public void test10x10DeterminantADouble() {
+
+        doubleTests.test10x10DeterminantA();
+    }
+
+    @Test
+    public void test10x10DeterminantAApfloat() {
+
+        apfloatTests.test10x10DeterminantA();
+    }
+
+    @Test
+    public void test10X10DeterminantBDouble() {
+
+        doubleTests.test10X10DeterminantB(45000d);
+    }
+
+    @Test
+    public void test10X10DeterminantBApfloat() {
+
+        apfloatTests.test10X10DeterminantB(null);
+    }
+
+    @Test
+    public void test3x3DeterminantLong() {
+
+        longTests.test3x3Determinant();
+    }
+
+    @Test
+    public void test7x7DeterminantLong() {
+
+        longTests.test7x7Determinant();
+    }
+
+    @Test
+    public void test10x10DeterminantALong() {
+
+        longTests.test10x10DeterminantA();
+    }
+
+    @Test
+    public void testZeroLeadingPivotLong() {
+
+        LongOperationStrategy op = new LongOperationStrategy();
+
+        double[][] members = new double[][] { {0, 2, 1}, {0, 1, 3}, {4, 5, 6} };
+
+        Matrix<Long> matrix = new Matrix<>(members, op);
+
+        assertEquals(Long.valueOf(20), new BareissDeterminantSolver().determinant(matrix));
+    }
+
+    @Test
+    public void testSingularLong() {
+
+        LongOperationStrategy op = new LongOperationStrategy();
+
+        double[][] members = new double[][] { {1, 2, 3}, {2, 4, 6}, {7, 8, 9} };
+
+        Matrix<Long> matrix = new Matrix<>(members, op);
+
+        assertEquals(Long.valueOf(0), new BareissDeterminantSolver().determinant(matrix));
+    }
+
+    @Test
+    public void testMatrixUsesConfiguredSolver() {
+
+        ApfloatOperationStrategy op = new ApfloatOperationStrategy();
+
+        double[][] members = new double[][] { {6, 1, 1}, {4, -2, 5}, {2, 8, 7} };
+
+        Matrix<Apfloat> matrix = new Matrix<>(new Array2DConcrete<>(op, members[0].length, members.length, indexor -> op.from(members[indexor.getRow()][indexor.getColumn()])), new BareissDeterminantSolver());
+
+        assertEquals(op.from(-306d), matrix.determinant());
+        assertEquals(op.from(-54d), matrix.minor(0, 0).determinant());
+    }
+}
@@ -0,0 +1,73 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reports the time to evaluate a polynomial at a million points by the scalar loop, the batch kernels and the
+ * fork/join batch (not run as part of the regular test suite)
+ */
+@Ignore
+public class PolynomialEvaluationBenchmark {
+
+    static final int[] DEGREES = { 4, 16, 31, 32, 64, 256 };
+
+    static final int POINTS = 1_000_000;
+
+    static final int WARMUP_ITERATIONS = 5;
+
+    static final int ITERATIONS = 10;
+
+    double time(Runnable operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            operation.run();
+
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    @Test
+    public void evaluate() {
+
+        Random random = new Random(31);
+
+        double[] xs = new double[POINTS];
+
+        for (int index = 0; index < POINTS; index++)
+            xs[index] = 2 * random.nextDouble() - 1;
+
+        double[] out = new double[POINTS];
+
+        System.out.printf("%8s %12s %12s %12s %12s %12s%n", "degree", "scalar ms", "horner ms", "estrin ms", "batch ms", "parallel ms");
+
+        for (int degree : DEGREES) {
+
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextDouble() - 0.5;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            double scalar = time(() -> {
+                for (int index = 0; index < POINTS; index++)
+                    out[index] = polynomial.apply(xs[index]);
+            });
+
+            double horner = time(() -> PolynomialKernels.evaluateHorner(coefficients, xs, 0, out, 0, POINTS));
+            double estrin = time(() -> PolynomialKernels.evaluateEstrin(coefficients, xs, 0, out, 0, POINTS));
+            double batch = time(() -> polynomial.apply(xs, out));
+            double parallel = time(() -> polynomial.apply(xs, out, ForkJoinPool.commonPool()));
+
+            System.out.printf("%8d %12.2f %12.2f %12.2f %12.2f %12.2f%n", degree, scalar, horner, estrin, batch, parallel);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports the time to multiply two polynomials of equal degree by the schoolbook, Karatsuba and transform kernels
+ * (not run as part of the regular test suite)
+ */
+@Ignore
+public class PolynomialProductBenchmark {
+
+    static final int[] DEGREES = { 16, 64, 256, 1024, 4096, 8192 };
+
+    static final int WARMUP_ITERATIONS = 10;
+
+    static final int ITERATIONS = 20;
+
+    double time(Runnable operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            operation.run();
+
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    @Test
+    public void multiply() {
+
+        Random random = new Random(47);
+
+        System.out.printf("%8s %14s %14s %14s %14s%n", "degree", "schoolbook ms", "karatsuba ms", "transform ms", "product ms");
+
+        for (int degree : DEGREES) {
+
+            double[] multiplier = new double[degree + 1];
+            double[] multiplicand = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++) {
+                multiplier[index] = random.nextDouble() + 0.5;
+                multiplicand[index] = random.nextDouble() + 0.5;
+            }
+
+            Polynomial polynomial = Polynomial.of(multiplier);
+            Polynomial other = Polynomial.of(multiplicand);
+
+            double schoolbook = time(() -> PolynomialKernels.multiplySchoolbook(multiplier, multiplicand));
+            double karatsuba = time(() -> PolynomialKernels.multiplyKaratsuba(multiplier, multiplicand));
+            double transform = time(() -> FastFourierTransform.convolve(multiplier, multiplicand));
+            double product = time(() -> polynomial.product(other));
+
+            System.out.printf("%8d %14.3f %14.3f %14.3f %14.3f%n", degree, schoolbook, karatsuba, transform, product);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestBarycentricInterpolator {
+
+    @Test
+    public void testReproducesPolynomial() {
+        double[] points = { -1, 0, 0.5, 2 };
+
+        Polynomial polynomial = Polynomial.of(new double[] { 1, -2, 0, 3 });
+
+        double[] values = new double[points.length];
+
+        polynomial.apply(points, values);
+
+        BarycentricInterpolator interpolator = new BarycentricInterpolator(points, values);
+
+        for (double x = -2; x <= 3; x += 0.25)
+            assertEquals(polynomial.apply(x), interpolator.apply(x), 1e-12 * Math.max(1, Math.abs(polynomial.apply(x))));
+    }
+
+    @Test
+    public void testReturnsValueAtPoint() {
+        BarycentricInterpolator interpolator = new BarycentricInterpolator(new double[] { 1, 2, 3 }, new double[] { 7, 8, 9 });
+
+        assertEquals(8, interpolator.apply(2), 0);
+    }
+
+    @Test
+    public void testChebyshevInterpolationOfRungeFunctionConverges() {
+        int count = 1001;
+
+        double[] points = BarycentricInterpolator.chebyshevPoints(-1, 1, count);
+        double[] values = new double[count];
+
+        for (int index = 0; index < count; index++)
+            values[index] = 1 / (1 + 25 * points[index] * points[index]);
+
+        BarycentricInterpolator interpolator = BarycentricInterpolator.chebyshev(-1, 1, values);
+
+        double[] xs = new double[200];
+        double[] out = new double[xs.length];
+
+        for (int index = 0; index < xs.length; index++)
+            xs[index] = -0.999 + index / 100.0;
+
+        interpolator.apply(xs, out);
+
+        for (int index = 0; index < xs.length; index++)
+            assertEquals(1 / (1 + 25 * xs[index] * xs[index]), out[index], 1e-13);
+    }
+
+    @Test
+    public void testGeneralWeightsMatchChebyshevWeights() {
+        double[] points = BarycentricInterpolator.chebyshevPoints(0, 4, 9);
+
+        double[] general = BarycentricInterpolator.weights(points);
+        double[] chebyshev = BarycentricInterpolator.chebyshev(0, 4, new double[9]).getWeights();
+
+        // barycentric weights are unique up to a common factor
+        double factor = general[0] / chebyshev[0];
+
+        for (int index = 0; index < general.length; index++)
+            general[index] /= factor;
+
+        assertArrayEquals(chebyshev, general, 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsRepeatedPoints() {
+        new BarycentricInterpolator(new double[] { 1, 1 }, new double[] { 0, 0 });
+    }
+}
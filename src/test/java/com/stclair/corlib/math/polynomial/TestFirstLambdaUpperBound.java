@@ -0,0 +1,55 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestFirstLambdaUpperBound {
+
+    @Test
+    public void smokeTest() {
+        double[] coefficients = { -1, -10, 10, 1 };
+
+        FirstLambdaUpperBound instance = new FirstLambdaUpperBound();
+
+        // both negative coefficients share the 10 above them: max(2 * 10 / 10, sqrt(2 * 1 / 10))
+        assertEquals(2, instance.upperBound(coefficients), 0);
+    }
+
+    @Test
+    public void boundsEnclosePositiveRoots() {
+        // (x - 1)(x - 2)(x - 3)(x - 4)
+        double[] coefficients = { 24, -50, 35, -10, 1 };
+
+        FirstLambdaUpperBound instance = new FirstLambdaUpperBound();
+
+        assertEquals(10, instance.upperBound(coefficients), 0);
+        assertTrue(instance.lowerBound(coefficients) <= 1);
+    }
+
+    @Test
+    public void negatedPolynomialHasSameBound() {
+        // x^3 - 3x^2 + 1, whose positive roots are near 0.6527 and 2.8794
+        double[] coefficients = { 1, 0, -3, 1 };
+        double[] negated = { -1, 0, 3, -1 };
+
+        FirstLambdaUpperBound instance = new FirstLambdaUpperBound();
+
+        assertEquals(3, instance.upperBound(coefficients), 0);
+        assertEquals(3, instance.upperBound(negated), 0);
+        assertTrue(instance.lowerBound(coefficients) <= 0.6527);
+    }
+
+    @Test
+    public void trailingZerosAreIgnored() {
+        FirstLambdaUpperBound instance = new FirstLambdaUpperBound();
+
+        assertEquals(instance.upperBound(new double[] { -6, 11, -6, 1 }), instance.upperBound(new double[] { -6, 11, -6, 1, 0, 0 }), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void polynomialWithoutNegativeCoefficientIsRejected() {
+        new FirstLambdaUpperBound().upperBound(new double[] { 1, 2, 3 });
+    }
+}
@@ -2,7 +2,10 @@ package com.stclair.corlib.math.polynomial;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 
 /**
  * @author hstclair
@@ -20,4 +23,66 @@ public class TestLocalMaxQuadraticUpperBound {
 
         assertEquals(2d, estimate);
     }
+
+    @Test
+    public void estimateBoundsRootOfQuadratic() {
+        // x^2 - 0.25 has its positive root at 0.5
+        double estimate = new LocalMaxQuadraticUpperBound().upperBound(new double[] { -0.25, 0, 1 });
+
+        assertTrue(estimate >= 0.5);
+    }
+
+    @Test
+    public void estimateBoundsRootWhenCoefficientIsPairedManyTimes() {
+        // x^40 - x^39 - ... - 1 has a single positive root (just less than 2), beyond which it is positive
+        double[] coefficients = new double[41];
+
+        Arrays.fill(coefficients, -1);
+        coefficients[40] = 1;
+
+        double estimate = new LocalMaxQuadraticUpperBound().upperBound(coefficients);
+
+        assertTrue(estimate >= 1.999);
+        assertTrue(Polynomial.of(coefficients).apply(estimate) >= 0);
+    }
+
+    @Test
+    public void negatedPolynomialHasSameEstimate() {
+        double[] coefficients = { 1, -10, -10, 1 };
+        double[] negated = { -1, 10, 10, -1 };
+
+        LocalMaxQuadraticUpperBound instance = new LocalMaxQuadraticUpperBound();
+
+        assertEquals(instance.upperBound(coefficients), instance.upperBound(negated));
+    }
+
+    @Test
+    public void lowerBoundIsReciprocalOfReversedEstimate() {
+        double[] coefficients = { 24, -50, 35, -10, 1 };
+        double[] reversed = { 1, -10, 35, -50, 24 };
+
+        LocalMaxQuadraticUpperBound instance = new LocalMaxQuadraticUpperBound();
+
+        double expected = 1 / instance.estimateUpperBound(Polynomial.of(reversed));
+
+        assertEquals(expected, instance.lowerBound(coefficients));
+        assertEquals(expected, new LocalMaxQuadraticLowerBound().estimateLowerBound(Polynomial.of(coefficients)));
+    }
+
+    @Test
+    public void trailingZerosAreIgnored() {
+        LocalMaxQuadraticUpperBound instance = new LocalMaxQuadraticUpperBound();
+
+        assertEquals(instance.upperBound(new double[] { -1, -10, 10, 1 }), instance.upperBound(new double[] { -1, -10, 10, 1, 0 }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void polynomialWithoutNegativeCoefficientIsRejected() {
+        new LocalMaxQuadraticUpperBound().upperBound(new double[] { 1, 2, 3 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void linearPolynomialIsRejected() {
+        new LocalMaxQuadraticUpperBound().upperBound(new double[] { -1, 1, 0 });
+    }
 }
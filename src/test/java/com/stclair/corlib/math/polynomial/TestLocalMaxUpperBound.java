@@ -0,0 +1,49 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestLocalMaxUpperBound {
+
+    @Test
+    public void smokeTest() {
+        double[] coefficients = { -1, -10, 10, 1 };
+
+        LocalMaxUpperBound instance = new LocalMaxUpperBound();
+
+        // the 10 offers half of itself to the -10 and a quarter to the -1: max(10 / 5, sqrt(1 / 2.5))
+        assertEquals(2, instance.upperBound(coefficients), 0);
+    }
+
+    @Test
+    public void boundsEnclosePositiveRoots() {
+        // (x - 1)(x - 2)(x - 3)(x - 4)
+        double[] coefficients = { 24, -50, 35, -10, 1 };
+
+        LocalMaxUpperBound instance = new LocalMaxUpperBound();
+
+        assertEquals(20, instance.upperBound(coefficients), 0);
+        assertTrue(instance.upperBound(coefficients) >= 4);
+        assertTrue(instance.lowerBound(coefficients) <= 1);
+    }
+
+    @Test
+    public void negatedPolynomialHasSameBound() {
+        // x^3 - 3x^2 + 1, whose positive roots are near 0.6527 and 2.8794
+        double[] coefficients = { 1, 0, -3, 1 };
+        double[] negated = { -1, 0, 3, -1 };
+
+        LocalMaxUpperBound instance = new LocalMaxUpperBound();
+
+        assertEquals(instance.upperBound(coefficients), instance.upperBound(negated), 0);
+        assertTrue(instance.upperBound(coefficients) >= 2.8794);
+        assertTrue(instance.lowerBound(coefficients) <= 0.6527);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void polynomialWithoutNegativeCoefficientIsRejected() {
+        new LocalMaxUpperBound().upperBound(new double[] { 1, 2, 3 });
+    }
+}
@@ -4,6 +4,9 @@ import com.stclair.corlib.math.Complex;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import static junit.framework.TestCase.assertEquals;
@@ -1012,4 +1015,366 @@ public class TestPolynomial {
         assertEquals(Polynomial.ZERO, result.remainder);
         assertEquals(multiplicandA, result.quotient);
     }
+
+    @Test
+    public void testTaylorShiftEqualsApplyOfXPlusA() {
+        Polynomial polynomial = Polynomial.of(new double[] { 12, 7, 5, 3, 8, 22, -3, -8, 1 });
+
+        assertEquals(polynomial.apply(Polynomial.of(new double[] { 3, 1 })), polynomial.taylorShift(3));
+        assertEquals(polynomial.apply(Polynomial.of(new double[] { -2, 1 })), polynomial.taylorShift(-2));
+        assertEquals(polynomial.apply(Polynomial.of(new double[] { 1, 1 })), polynomial.taylorShift(1));
+    }
+
+    @Test
+    public void testTaylorShiftByZeroReturnsSamePolynomial() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7, 2 });
+
+        assertTrue(polynomial == polynomial.taylorShift(0));
+        assertEquals(Polynomial.ZERO, Polynomial.ZERO.taylorShift(4));
+    }
+
+    @Test
+    public void testTaylorShiftDivideAndConquerMatchesInPlaceKernel() {
+        Random random = new Random(17);
+
+        for (int degree : new int[] { 1, 127, 128, 129, 200, 256, 300 }) {
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextInt(7) - 3;
+
+            double[] expected = coefficients.clone();
+            double[] actual = coefficients.clone();
+
+            PolynomialKernels.taylorShiftInPlace(expected, 1);
+            PolynomialKernels.taylorShiftDivideAndConquer(actual, 1);
+
+            double magnitude = 0;
+
+            for (double coefficient : expected)
+                magnitude = Math.max(magnitude, Math.abs(coefficient));
+
+            assertArrayEquals(expected, actual, magnitude * 1e-12);
+        }
+    }
+
+    @Test
+    public void testBatchApplyMatchesScalarApply() {
+        Random random = new Random(23);
+
+        for (int degree : new int[] { 0, 1, 2, 7, 31, 32, 50 }) {
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextDouble() - 0.5;
+
+            coefficients[degree] = 1;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            double[] xs = new double[1000];
+
+            for (int index = 0; index < xs.length; index++)
+                xs[index] = 2 * random.nextDouble() - 1;
+
+            double[] out = new double[xs.length];
+
+            polynomial.apply(xs, out);
+
+            for (int index = 0; index < xs.length; index++) {
+                double expected = polynomial.apply(xs[index]);
+
+                if (degree < PolynomialKernels.ESTRIN_THRESHOLD)
+                    assertEquals(expected, out[index], 0);
+                else
+                    assertEquals(expected, out[index], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchApplyWithOffsets() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7, 2 });
+
+        double[] xs = new double[] { 9, 9, -1, 0.5, 2, 9 };
+        double[] out = new double[] { 42, 42, 42, 42 };
+
+        polynomial.apply(xs, 2, out, 1, 3);
+
+        assertArrayEquals(new double[] { 42, polynomial.apply(-1), polynomial.apply(0.5), polynomial.apply(2) }, out, 0);
+    }
+
+    @Test
+    public void testBatchApplyInPlace() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7, 2 });
+
+        double[] xs = new double[] { -1, 0.5, 2 };
+
+        polynomial.apply(xs, xs);
+
+        assertArrayEquals(new double[] { polynomial.apply(-1), polynomial.apply(0.5), polynomial.apply(2) }, xs, 0);
+    }
+
+    @Test
+    public void testParallelBatchApplyMatchesSequentialBatchApply() {
+        Polynomial polynomial = Polynomial.of(new double[] { 12, 7, 5, 3, 8, 22, -3, -8, 1 });
+
+        Random random = new Random(29);
+
+        double[] xs = new double[100_000];
+
+        for (int index = 0; index < xs.length; index++)
+            xs[index] = 2 * random.nextDouble() - 1;
+
+        double[] expected = new double[xs.length];
+        double[] actual = new double[xs.length];
+
+        polynomial.apply(xs, expected);
+        polynomial.apply(xs, actual, ForkJoinPool.commonPool());
+
+        assertArrayEquals(expected, actual, 0);
+    }
+
+    @Test
+    public void testBatchApplyInPlaceWithOffsetAndDisjointRanges() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7, 2 });
+
+        double[] xs = new double[] { 9, -1, 0.5, 2, 42, 42, 42 };
+
+        polynomial.apply(xs, 1, xs, 1, 3);
+
+        assertArrayEquals(new double[] { 9, polynomial.apply(-1), polynomial.apply(0.5), polynomial.apply(2), 42, 42, 42 }, xs, 0);
+
+        xs = new double[] { -1, 0.5, 2, 42, 42, 42 };
+
+        polynomial.apply(xs, 0, xs, 3, 3);
+
+        assertArrayEquals(new double[] { -1, 0.5, 2, polynomial.apply(-1), polynomial.apply(0.5), polynomial.apply(2) }, xs, 0);
+    }
+
+    @Test
+    public void testParallelBatchApplyInPlaceMatchesSequentialBatchApply() {
+        Polynomial polynomial = Polynomial.of(new double[] { 12, 7, 5, 3, 8, 22, -3, -8, 1 });
+
+        Random random = new Random(31);
+
+        double[] xs = new double[100_000];
+
+        for (int index = 0; index < xs.length; index++)
+            xs[index] = 2 * random.nextDouble() - 1;
+
+        double[] expected = new double[xs.length];
+
+        polynomial.apply(xs, expected);
+        polynomial.apply(xs, xs, ForkJoinPool.commonPool());
+
+        assertArrayEquals(expected, xs, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchApplyRejectsOverlappingRangesAtDifferentOffsets() {
+        double[] xs = new double[] { -1, 0.5, 2, 42 };
+
+        Polynomial.of(new double[] { 1, 2 }).apply(xs, 0, xs, 1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBatchApplyRejectsShortOutput() {
+        Polynomial.of(new double[] { 1, 2 }).apply(new double[4], new double[3]);
+    }
+
+    @Test
+    public void testKaratsubaProductMatchesSchoolbookExactly() {
+        Random random = new Random(23);
+
+        for (int[] lengths : new int[][] { { 32, 32 }, { 64, 64 }, { 65, 300 }, { 129, 130 } }) {
+            double[] multiplier = randomIntegers(random, lengths[0], 1000);
+            double[] multiplicand = randomIntegers(random, lengths[1], 1000);
+
+            assertArrayEquals(PolynomialKernels.multiplySchoolbook(multiplier, multiplicand),
+                    PolynomialKernels.multiplyKaratsuba(multiplier, multiplicand), 0);
+        }
+    }
+
+    @Test
+    public void testTransformProductMatchesSchoolbookExactlyForIntegers() {
+        Random random = new Random(29);
+
+        for (int[] lengths : new int[][] { { 1, 1 }, { 2, 3 }, { 512, 512 }, { 600, 1500 } }) {
+            double[] multiplier = randomIntegers(random, lengths[0], 1 << 20);
+            double[] multiplicand = randomIntegers(random, lengths[1], 1 << 20);
+
+            assertArrayEquals(PolynomialKernels.multiplySchoolbook(multiplier, multiplicand),
+                    FastFourierTransform.convolve(multiplier, multiplicand), 0);
+        }
+    }
+
+    @Test
+    public void testTransformProductIsAccurateForReals() {
+        Random random = new Random(31);
+
+        double[] multiplier = new double[700];
+        double[] multiplicand = new double[900];
+
+        for (int index = 0; index < multiplier.length; index++)
+            multiplier[index] = random.nextGaussian() * 1e5;
+
+        for (int index = 0; index < multiplicand.length; index++)
+            multiplicand[index] = random.nextGaussian() * 1e-7;
+
+        double[] expected = PolynomialKernels.multiplySchoolbook(multiplier, multiplicand);
+        double[] actual = FastFourierTransform.convolve(multiplier, multiplicand);
+
+        double magnitude = 0;
+
+        for (double coefficient : expected)
+            magnitude = Math.max(magnitude, Math.abs(coefficient));
+
+        assertArrayEquals(expected, actual, magnitude * 1e-13);
+    }
+
+    @Test
+    public void testProductOfLargePolynomialsMatchesSchoolbook() {
+        Random random = new Random(37);
+
+        for (int degree : new int[] { 40, 600, 4200 }) {
+            double[] multiplier = randomIntegers(random, degree + 1, 100);
+            double[] multiplicand = randomIntegers(random, degree + 1, 100);
+
+            multiplier[degree] = multiplicand[degree] = 1;
+
+            Polynomial product = Polynomial.of(multiplier).product(Polynomial.of(multiplicand));
+
+            assertArrayEquals(PolynomialKernels.multiplySchoolbook(multiplier, multiplicand), product.getCoefficients(), 0);
+        }
+    }
+
+    @Test
+    public void testDynamicRangeIgnoresZeros() {
+        assertEquals(0, PolynomialKernels.dynamicRange(new double[] { 0, 0 }));
+        assertEquals(0, PolynomialKernels.dynamicRange(new double[] { 0, 3, -2 }));
+        assertEquals(20, PolynomialKernels.dynamicRange(new double[] { 1, 0, Math.scalb(1d, 20) }));
+    }
+
+    @Test
+    public void testNewtonQuotientMatchesLongDivision() {
+        Random random = new Random(53);
+
+        for (int[] degrees : new int[][] { { 10, 3 }, { 300, 150 }, { 700, 200 } }) {
+            double[] dividend = randomIntegers(random, degrees[0] + 1, 10);
+            double[] divisor = randomIntegers(random, degrees[1] + 1, 10);
+
+            divisor[degrees[1]] = 1;
+
+            double[] expected = PolynomialKernels.divideInPlace(dividend.clone(), divisor);
+            double[] actual = PolynomialKernels.divideNewton(dividend, divisor);
+
+            double magnitude = 0;
+
+            for (double coefficient : expected)
+                magnitude = Math.max(magnitude, Math.abs(coefficient));
+
+            assertArrayEquals(expected, actual, magnitude * 1e-9);
+        }
+    }
+
+    @Test
+    public void testDivideInPlaceLeavesRemainder() {
+        double[] coefficients = { 5, 0, 3, 1 };
+
+        double[] quotient = PolynomialKernels.divideInPlace(coefficients, new double[] { -1, 1 });
+
+        assertArrayEquals(new double[] { 4, 4, 1 }, quotient, 0);
+        assertArrayEquals(new double[] { 9, 0, 0, 0 }, coefficients, 0);
+    }
+
+    @Test
+    public void testQuotientOfLargeProductIsOtherMultiplicand() {
+        Random random = new Random(59);
+
+        double[] multiplier = randomIntegers(random, 301, 5);
+        double[] multiplicand = randomIntegers(random, 201, 5);
+        double[] addend = randomIntegers(random, 200, 5);
+
+        multiplier[300] = 1;
+        multiplicand[200] = 1;
+
+        Polynomial divisor = Polynomial.of(multiplicand);
+        Polynomial remainder = Polynomial.of(addend);
+
+        PolynomialQuotient quotient = Polynomial.of(multiplier).product(divisor).sum(remainder).quotient(divisor);
+
+        assertArrayEquals(multiplier, quotient.quotient.getCoefficients(), 1e-6);
+        assertArrayEquals(remainder.getCoefficients(), quotient.remainder.getCoefficients(), 1e-6);
+    }
+
+    @Test
+    public void testBudansTheoremMatchesSumOfPascalProducts() {
+        Random random = new Random(67);
+
+        for (int degree : new int[] { 1, 5, 40, 130 }) {
+            double[] coefficients = randomIntegers(random, degree + 1, 3);
+
+            coefficients[0] = 1;
+            coefficients[degree] = 1;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            Polynomial expected = Polynomial.sigma((k) -> Polynomial.pascal(degree - k).product(coefficients[k]), degree);
+
+            double magnitude = 0;
+
+            for (double coefficient : expected.getCoefficients())
+                magnitude = Math.max(magnitude, Math.abs(coefficient));
+
+            assertArrayEquals(expected.getCoefficients(), polynomial.budansTheorem().getCoefficients(), magnitude * 1e-12);
+        }
+    }
+
+    @Test
+    public void testBudansTheoremOfZero() {
+        assertEquals(Polynomial.ZERO, Polynomial.ZERO.budansTheorem());
+    }
+
+    @Test
+    public void testGcdIsMonicCommonFactor() {
+        Polynomial a = Polynomial.fromRoots(new double[] { 1, 2, -3 }).product(4);
+        Polynomial b = Polynomial.fromRoots(new double[] { 2, -3, 5, 7 });
+
+        assertArrayEquals(new double[] { -6, 1, 1 }, a.gcd(b).getCoefficients(), 1e-9);
+        assertArrayEquals(new double[] { 1 }, a.gcd(Polynomial.fromRoots(new double[] { 4 })).getCoefficients(), 0);
+        assertArrayEquals(new double[] { 6, -7, 0, 1 }, a.gcd(Polynomial.ZERO).getCoefficients(), 1e-12);
+        assertEquals(Polynomial.ZERO, Polynomial.ZERO.gcd(Polynomial.ZERO));
+    }
+
+    @Test
+    public void testSquareFreePart() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 1, 1, 1, -2, -2, 3 });
+
+        Polynomial squareFree = polynomial.squareFreePart();
+
+        assertArrayEquals(Polynomial.fromRoots(new double[] { 1, -2, 3 }).getCoefficients(), squareFree.getCoefficients(), 1e-9);
+    }
+
+    @Test
+    public void testSquareFreeDecomposition() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 0.5, 2, 2, -1, -1, -1, 4, 4, 4 }).product(3);
+
+        List<Polynomial> factors = polynomial.squareFreeDecomposition();
+
+        assertEquals(3, factors.size());
+        assertArrayEquals(Polynomial.fromRoots(new double[] { 0.5 }).getCoefficients(), factors.get(0).getCoefficients(), 1e-9);
+        assertArrayEquals(Polynomial.fromRoots(new double[] { 2 }).getCoefficients(), factors.get(1).getCoefficients(), 1e-9);
+        assertArrayEquals(Polynomial.fromRoots(new double[] { -1, 4 }).getCoefficients(), factors.get(2).getCoefficients(), 1e-9);
+        assertTrue(Polynomial.of(5).squareFreeDecomposition().isEmpty());
+    }
+
+    static double[] randomIntegers(Random random, int length, int bound) {
+        double[] values = new double[length];
+
+        for (int index = 0; index < length; index++)
+            values[index] = random.nextInt(2 * bound + 1) - bound;
+
+        return values;
+    }
 }
@@ -0,0 +1,216 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestPolynomialBuffer {
+
+    static Polynomial randomPolynomial(Random random, int degree) {
+        double[] coefficients = new double[degree + 1];
+
+        for (int index = 0; index <= degree; index++)
+            coefficients[index] = random.nextInt(21) - 10;
+
+        if (coefficients[degree] == 0)
+            coefficients[degree] = 1;
+
+        return Polynomial.of(coefficients);
+    }
+
+    static void assertHolds(Polynomial expected, PolynomialBuffer actual) {
+        assertArrayEquals(expected.getCoefficients(), actual.toPolynomial().getCoefficients(), 0);
+        assertEquals(expected.degree(), actual.degree());
+    }
+
+    @Test
+    public void testNewBufferHoldsZero() {
+        PolynomialBuffer buffer = new PolynomialBuffer();
+
+        assertEquals(-1, buffer.degree());
+        assertEquals(PolynomialBuffer.DEFAULT_CAPACITY, buffer.capacity());
+        assertEquals(0, buffer.toPolynomial().getCoefficients().length);
+        assertEquals(0, buffer.coefficient(3), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacityThrows() {
+        new PolynomialBuffer(-1);
+    }
+
+    @Test
+    public void testToPolynomialIsUnaffectedBySubsequentOperations() {
+        PolynomialBuffer buffer = new PolynomialBuffer(Polynomial.of(new double[] { 1, 2, 3 }));
+
+        Polynomial polynomial = buffer.toPolynomial();
+
+        buffer.multiply(2);
+
+        assertArrayEquals(new double[] { 1, 2, 3 }, polynomial.getCoefficients(), 0);
+        assertArrayEquals(new double[] { 2, 4, 6 }, buffer.toPolynomial().getCoefficients(), 0);
+    }
+
+    @Test
+    public void testCapacityGrowsAsRequiredAndIsReused() {
+        Polynomial xPlusOne = Polynomial.of(new double[] { 1, 1 });
+
+        PolynomialBuffer buffer = new PolynomialBuffer(2);
+
+        buffer.set(xPlusOne).multiply(xPlusOne).multiply(xPlusOne);
+
+        assertArrayEquals(new double[] { 1, 3, 3, 1 }, buffer.toPolynomial().getCoefficients(), 0);
+        assertEquals(4, buffer.capacity());
+
+        double[] coefficients = buffer.coefficients;
+
+        buffer.clear().add(Polynomial.of(new double[] { 5, 6 }));
+
+        assertSame(coefficients, buffer.coefficients);
+        assertArrayEquals(new double[] { 5, 6 }, buffer.toPolynomial().getCoefficients(), 0);
+    }
+
+    @Test
+    public void testAddAndSubtractMatchPolynomial() {
+        Random random = new Random(1);
+
+        for (int trial = 0; trial < 200; trial++) {
+            Polynomial p = randomPolynomial(random, random.nextInt(12));
+            Polynomial q = randomPolynomial(random, random.nextInt(12));
+
+            assertHolds(p.sum(q), new PolynomialBuffer(p).add(q));
+            assertHolds(p.difference(q), new PolynomialBuffer(p).subtract(q));
+            assertHolds(p.sum(7), new PolynomialBuffer(p).add(7));
+            assertHolds(p.negate(), new PolynomialBuffer(p).negate());
+        }
+    }
+
+    @Test
+    public void testCancellingLeadingCoefficientsLowersDegree() {
+        PolynomialBuffer buffer = new PolynomialBuffer(Polynomial.of(new double[] { 1, 2, 3 }));
+
+        buffer.subtract(Polynomial.of(new double[] { 0, 2, 3 }));
+
+        assertEquals(0, buffer.degree());
+        assertEquals(0, buffer.coefficient(1), 0);
+
+        buffer.add(-1);
+
+        assertEquals(-1, buffer.degree());
+    }
+
+    @Test
+    public void testScalarProductAndQuotientMatchPolynomial() {
+        Polynomial p = Polynomial.of(new double[] { 3, -1, 4, 1, -5 });
+
+        assertHolds(p.product(2.5), new PolynomialBuffer(p).multiply(2.5));
+        assertHolds(p.product(0), new PolynomialBuffer(p).multiply(0));
+        assertHolds(p.divide(3), new PolynomialBuffer(p).divide(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDivideByZeroThrows() {
+        new PolynomialBuffer(Polynomial.of(new double[] { 1, 2 })).divide(0);
+    }
+
+    @Test
+    public void testProductMatchesPolynomial() {
+        Random random = new Random(2);
+
+        for (int trial = 0; trial < 200; trial++) {
+            Polynomial p = randomPolynomial(random, random.nextInt(20));
+            Polynomial q = randomPolynomial(random, random.nextInt(20));
+
+            assertHolds(p.product(q), new PolynomialBuffer(p).multiply(q));
+        }
+
+        assertHolds(Polynomial.ZERO, new PolynomialBuffer(Polynomial.of(new double[] { 1, 2 })).multiply(Polynomial.ZERO));
+    }
+
+    @Test
+    public void testProductAboveKaratsubaThresholdMatchesPolynomial() {
+        Random random = new Random(3);
+
+        Polynomial p = randomPolynomial(random, 2 * PolynomialKernels.KARATSUBA_THRESHOLD);
+        Polynomial q = randomPolynomial(random, PolynomialKernels.KARATSUBA_THRESHOLD + 5);
+
+        assertHolds(p.product(q), new PolynomialBuffer(p).multiply(q));
+    }
+
+    @Test
+    public void testDerivativeMatchesPolynomial() {
+        Polynomial p = Polynomial.of(new double[] { 3, -1, 4, 1, -5 });
+
+        assertHolds(p.derivative(), new PolynomialBuffer(p).derivative());
+        assertHolds(Polynomial.ZERO, new PolynomialBuffer(Polynomial.of(4)).derivative());
+    }
+
+    @Test
+    public void testIncreaseAndReduceDegree() {
+        Polynomial p = Polynomial.of(new double[] { 3, -1, 4 });
+
+        assertHolds(p.increaseDegree(3), new PolynomialBuffer(p).increaseDegree(3));
+        assertHolds(p.reduceDegree(1), new PolynomialBuffer(p).reduceDegree(1));
+
+        // unlike Polynomial#reduceDegree, the leading coefficient survives a reduction by the degree
+        assertHolds(Polynomial.of(4), new PolynomialBuffer(p).reduceDegree(2));
+        assertHolds(Polynomial.ZERO, new PolynomialBuffer(p).reduceDegree(3));
+    }
+
+    @Test
+    public void testTaylorShiftAndBudansTheoremMatchPolynomial() {
+        Random random = new Random(4);
+
+        for (int trial = 0; trial < 50; trial++) {
+            Polynomial p = randomPolynomial(random, random.nextInt(15));
+
+            assertHolds(p.taylorShift(3), new PolynomialBuffer(p).taylorShift(3));
+            assertHolds(p.budansTheorem(), new PolynomialBuffer(p).budansTheorem());
+        }
+    }
+
+    @Test
+    public void testApplyAndSignChangesMatchPolynomial() {
+        Random random = new Random(5);
+
+        for (int trial = 0; trial < 50; trial++) {
+            Polynomial p = randomPolynomial(random, random.nextInt(15));
+            PolynomialBuffer buffer = new PolynomialBuffer(p);
+
+            for (double x : new double[] { 0, 1, -1, 0.5, 2.75 })
+                assertEquals(p.apply(x), buffer.apply(x), 0);
+
+            assertEquals(p.signChanges(), buffer.signChanges());
+        }
+    }
+
+    @Test
+    public void testApplyPolynomialMatchesImmutableHornersRule() {
+        Random random = new Random(6);
+
+        for (int trial = 0; trial < 50; trial++) {
+            Polynomial p = randomPolynomial(random, 1 + random.nextInt(8));
+            Polynomial q = randomPolynomial(random, 1 + random.nextInt(8));
+
+            Polynomial expected = q.product(p.getCoefficients()[p.degree()]);
+
+            for (int index = p.degree() - 1; index > 0; index--)
+                expected = expected.sum(p.getCoefficients()[index]).product(q);
+
+            expected = expected.sum(p.getCoefficients()[0]);
+
+            assertArrayEquals(expected.getCoefficients(), p.apply(q).getCoefficients(), 0);
+        }
+    }
+
+    @Test
+    public void testPowerAndSigma() {
+        assertArrayEquals(Polynomial.pascal(6).getCoefficients(), Polynomial.of(new double[] { 1, 1 }).power(6).getCoefficients(), 0);
+        assertEquals(-1, Polynomial.ZERO.power(3).degree());
+
+        Polynomial sigma = Polynomial.sigma(index -> Polynomial.of(index).increaseDegree(index), 1, 4);
+
+        assertArrayEquals(new double[] { 0, 1, 2, 3, 4 }, sigma.getCoefficients(), 0);
+    }
+}
@@ -0,0 +1,183 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestSparsePolynomial {
+
+    static SparsePolynomial randomSparsePolynomial(Random random, int terms, int degree) {
+        int[] exponents = new int[terms];
+        double[] coefficients = new double[terms];
+
+        for (int term = 0; term < terms; term++) {
+            exponents[term] = random.nextInt(degree + 1);
+            coefficients[term] = random.nextInt(21) - 10;
+        }
+
+        return SparsePolynomial.of(exponents, coefficients);
+    }
+
+    static void assertDenseEquals(Polynomial expected, SparsePolynomial actual) {
+        assertArrayEquals(expected.getCoefficients(), actual.toPolynomial().getCoefficients(), 0);
+    }
+
+    @Test
+    public void testOfSortsCombinesAndDiscardsZeroTerms() {
+        SparsePolynomial instance = SparsePolynomial.of(new int[] { 5, 0, 3, 5, 7, 2 }, new double[] { 2, 1, 0, 3, 4, -4 });
+
+        assertArrayEquals(new int[] { 0, 2, 5, 7 }, instance.getExponents());
+        assertArrayEquals(new double[] { 1, -4, 5, 4 }, instance.getCoefficients(), 0);
+        assertEquals(7, instance.degree());
+        assertEquals(0, instance.lowestDegree());
+        assertEquals(4, instance.terms());
+    }
+
+    @Test
+    public void testTermsCancellingToZeroAreDiscarded() {
+        SparsePolynomial instance = SparsePolynomial.of(new int[] { 4, 1, 4 }, new double[] { 2, 1, -2 });
+
+        assertArrayEquals(new int[] { 1 }, instance.getExponents());
+
+        assertSame(SparsePolynomial.ZERO, SparsePolynomial.of(new int[] { 3, 3 }, new double[] { 1, -1 }));
+        assertEquals(-1, SparsePolynomial.ZERO.degree());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfNegativeExponentThrows() {
+        SparsePolynomial.of(new int[] { -1 }, new double[] { 1 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfMismatchedLengthsThrows() {
+        SparsePolynomial.of(new int[] { 1, 2 }, new double[] { 1 });
+    }
+
+    @Test
+    public void testConversionToAndFromDense() {
+        Polynomial dense = Polynomial.of(new double[] { -1, 0, 0, 2.5, 0, 1 });
+
+        SparsePolynomial sparse = SparsePolynomial.of(dense);
+
+        assertArrayEquals(new int[] { 0, 3, 5 }, sparse.getExponents());
+        assertArrayEquals(new double[] { -1, 2.5, 1 }, sparse.getCoefficients(), 0);
+        assertEquals(dense, sparse.toPolynomial());
+        assertEquals(dense.toString(), sparse.toString());
+
+        assertSame(SparsePolynomial.ZERO, SparsePolynomial.of(Polynomial.ZERO));
+        assertSame(Polynomial.ZERO, SparsePolynomial.ZERO.toPolynomial());
+    }
+
+    @Test
+    public void testCoefficient() {
+        SparsePolynomial instance = SparsePolynomial.of(new int[] { 0, 100000 }, new double[] { -1, 1 });
+
+        assertEquals(-1, instance.coefficient(0), 0);
+        assertEquals(0, instance.coefficient(50000), 0);
+        assertEquals(1, instance.coefficient(100000), 0);
+    }
+
+    @Test
+    public void testSumAndDifferenceMatchDense() {
+        Random random = new Random(1);
+
+        for (int trial = 0; trial < 200; trial++) {
+            SparsePolynomial p = randomSparsePolynomial(random, random.nextInt(8), 30);
+            SparsePolynomial q = randomSparsePolynomial(random, random.nextInt(8), 30);
+
+            assertDenseEquals(p.toPolynomial().sum(q.toPolynomial()), p.sum(q));
+            assertDenseEquals(p.toPolynomial().difference(q.toPolynomial()), p.difference(q));
+            assertEquals(SparsePolynomial.ZERO, p.difference(p));
+        }
+    }
+
+    @Test
+    public void testProductMatchesDense() {
+        Random random = new Random(2);
+
+        for (int trial = 0; trial < 200; trial++) {
+            SparsePolynomial p = randomSparsePolynomial(random, random.nextInt(10), 40);
+            SparsePolynomial q = randomSparsePolynomial(random, random.nextInt(10), 40);
+
+            assertDenseEquals(p.toPolynomial().product(q.toPolynomial()), p.product(q));
+            assertEquals(p.product(q), q.product(p));
+        }
+    }
+
+    @Test
+    public void testProductOfHighDegreeSparsePolynomials() {
+        // (x^50000 - 1)(x^50000 + 1) = x^100000 - 1
+        SparsePolynomial p = SparsePolynomial.of(new int[] { 0, 50000 }, new double[] { -1, 1 });
+        SparsePolynomial q = SparsePolynomial.of(new int[] { 0, 50000 }, new double[] { 1, 1 });
+
+        SparsePolynomial product = p.product(q);
+
+        assertArrayEquals(new int[] { 0, 100000 }, product.getExponents());
+        assertArrayEquals(new double[] { -1, 1 }, product.getCoefficients(), 0);
+    }
+
+    @Test
+    public void testScalarProductAndNegate() {
+        SparsePolynomial p = SparsePolynomial.of(new int[] { 2, 9 }, new double[] { 3, -4 });
+
+        assertArrayEquals(new double[] { 6, -8 }, p.product(2).getCoefficients(), 0);
+        assertArrayEquals(new double[] { -3, 4 }, p.negate().getCoefficients(), 0);
+        assertSame(SparsePolynomial.ZERO, p.product(0));
+        assertSame(p, p.product(1));
+    }
+
+    @Test
+    public void testApplyMatchesDense() {
+        Random random = new Random(3);
+
+        for (int trial = 0; trial < 200; trial++) {
+            SparsePolynomial p = randomSparsePolynomial(random, random.nextInt(8), 30);
+            Polynomial dense = p.toPolynomial();
+
+            for (double x : new double[] { 0, 1, -1, 0.5, -0.75, 1.25 })
+                assertEquals(dense.apply(x), p.apply(x), 1e-9 * Math.max(1, Math.abs(dense.apply(x))));
+        }
+    }
+
+    @Test
+    public void testApplyToHighDegree() {
+        SparsePolynomial p = SparsePolynomial.of(new int[] { 0, 100000 }, new double[] { -1, 1 });
+
+        assertEquals(0, p.apply(1), 0);
+        assertEquals(-1, p.apply(0), 0);
+        assertEquals(0, p.apply(-1), 0);
+        assertEquals(Math.pow(1.0001, 100000) - 1, p.apply(1.0001), 1e-9 * Math.pow(1.0001, 100000));
+    }
+
+    @Test
+    public void testPower() {
+        assertEquals(1, SparsePolynomial.power(3, 0), 0);
+        assertEquals(3, SparsePolynomial.power(3, 1), 0);
+        assertEquals(59049, SparsePolynomial.power(3, 10), 0);
+        assertEquals(-128, SparsePolynomial.power(-2, 7), 0);
+    }
+
+    @Test
+    public void testSignChangesMatchDense() {
+        Random random = new Random(4);
+
+        for (int trial = 0; trial < 200; trial++) {
+            SparsePolynomial p = randomSparsePolynomial(random, random.nextInt(12), 30);
+
+            assertEquals(p.toPolynomial().signChanges(), p.signChanges());
+        }
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        SparsePolynomial p = SparsePolynomial.of(new int[] { 1, 4 }, new double[] { 2, 3 });
+        SparsePolynomial q = SparsePolynomial.of(new int[] { 4, 1 }, new double[] { 3, 2 });
+
+        assertEquals(p, q);
+        assertEquals(p.hashCode(), q.hashCode());
+        assertFalse(p.equals(SparsePolynomial.monomial(2, 1)));
+        assertFalse(p.equals(null));
+    }
+}
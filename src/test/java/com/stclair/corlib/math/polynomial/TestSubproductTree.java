@@ -0,0 +1,99 @@
+package com.stclair.corlib.math.polynomial;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestSubproductTree {
+
+    @Test
+    public void testRootVanishesAtEveryPoint() {
+        double[] points = { -2, -1, 0.5, 3, 4 };
+
+        SubproductTree tree = new SubproductTree(points);
+
+        assertEquals(Polynomial.fromRoots(points), tree.root());
+    }
+
+    @Test
+    public void testEvaluateMatchesHorner() {
+        Random random = new Random(79);
+
+        for (int count : new int[] { 1, 2, 17, 64, 65 }) {
+            double[] points = new double[count];
+
+            for (int index = 0; index < count; index++)
+                points[index] = 2 * random.nextDouble() - 1;
+
+            double[] coefficients = new double[count + 20];
+
+            for (int index = 0; index < coefficients.length; index++)
+                coefficients[index] = random.nextDouble() - 0.5;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            double[] expected = new double[count];
+
+            polynomial.apply(points, expected);
+
+            assertArrayEquals(expected, new SubproductTree(points).evaluate(polynomial), 1e-6);
+        }
+    }
+
+    @Test
+    public void testInterpolateRecoversPolynomial() {
+        Random random = new Random(83);
+
+        for (int count : new int[] { 1, 2, 5, 10 }) {
+            double[] points = new double[count];
+            double[] coefficients = new double[count];
+
+            for (int index = 0; index < count; index++) {
+                points[index] = (index - count / 2 + random.nextDouble() / 2) / 4;
+                coefficients[index] = random.nextInt(11) - 5;
+            }
+
+            coefficients[count - 1] = 1;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            double[] values = new double[count];
+
+            polynomial.apply(points, values);
+
+            assertArrayEquals(coefficients, new SubproductTree(points).interpolate(values).getCoefficients(), 1e-6);
+        }
+    }
+
+    @Test
+    public void testInterpolatingConstructor() {
+        double[] x = { 0, 1, 2 };
+        double[] y = { 1, 2, 5 };
+
+        assertArrayEquals(new double[] { 1, 0, 1 }, new Polynomial(x, y).getCoefficients(), 1e-12);
+        assertArrayEquals(new double[] { 1, 0, 1 }, Polynomial.interpolate(x, y).getCoefficients(), 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInterpolateRejectsRepeatedPoints() {
+        Polynomial.interpolate(new double[] { 1, 2, 1 }, new double[] { 0, 0, 0 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInterpolateRejectsRepeatedNonIntegerPoint() {
+        Polynomial.interpolate(new double[] { 0.1, 0.7, 0.3, 0.7, 1.9 }, new double[] { 1, 2, 3, 4, 5 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorRejectsRepeatedNonIntegerPoint() {
+        new Polynomial(new double[] { 3.3, 1, 0.29, 3.3 }, new double[] { 1, 2, 3, 4 });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInterpolateRejectsMismatchedLengths() {
+        Polynomial.interpolate(new double[] { 1, 2 }, new double[] { 0 });
+    }
+}
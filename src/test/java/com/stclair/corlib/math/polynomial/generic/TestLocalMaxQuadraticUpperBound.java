@@ -3,7 +3,10 @@ package com.stclair.corlib.math.polynomial.generic;
 import com.stclair.corlib.math.util.DoubleOperationStrategy;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
 
 /**
  * @author hstclair
@@ -21,4 +24,56 @@ public class TestLocalMaxQuadraticUpperBound {
 
         assertEquals(2d, estimate);
     }
+
+    @Test
+    public void estimateBoundsRootOfQuadratic() {
+        // x^2 - 0.25 has its positive root at 0.5
+        Double estimate = new LocalMaxQuadraticUpperBound<Double>().estimateUpperBound(Polynomial.of(new DoubleOperationStrategy(), new Double[] { -0.25, 0d, 1d }));
+
+        assertTrue(estimate >= 0.5);
+    }
+
+    @Test
+    public void estimateBoundsRootWhenCoefficientIsPairedManyTimes() {
+        // x^40 - x^39 - ... - 1 has a single positive root (just less than 2), beyond which it is positive
+        Double[] coefficients = new Double[41];
+
+        Arrays.fill(coefficients, -1d);
+        coefficients[40] = 1d;
+
+        Polynomial<Double> polynomial = Polynomial.of(new DoubleOperationStrategy(), coefficients);
+
+        Double estimate = new LocalMaxQuadraticUpperBound<Double>().estimateUpperBound(polynomial);
+
+        assertTrue(estimate >= 1.999);
+        assertTrue(polynomial.apply(estimate) >= 0);
+    }
+
+    @Test
+    public void negatedPolynomialHasSameEstimate() {
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        LocalMaxQuadraticUpperBound<Double> instance = new LocalMaxQuadraticUpperBound<>();
+
+        Double estimate = instance.estimateUpperBound(Polynomial.of(op, new Double[] { 1d, -10d, -10d, 1d }));
+        Double negatedEstimate = instance.estimateUpperBound(Polynomial.of(op, new Double[] { -1d, 10d, 10d, -1d }));
+
+        assertEquals(estimate, negatedEstimate);
+    }
+
+    @Test
+    public void lowerBoundIsReciprocalOfReversedEstimate() {
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        Double expected = 1 / new LocalMaxQuadraticUpperBound<Double>().estimateUpperBound(Polynomial.of(op, new Double[] { 1d, -10d, 35d, -50d, 24d }));
+
+        Double estimate = new LocalMaxQuadraticLowerBound<Double>().estimateLowerBound(Polynomial.of(op, new Double[] { 24d, -50d, 35d, -10d, 1d }));
+
+        assertEquals(expected, estimate);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void polynomialWithoutNegativeCoefficientIsRejected() {
+        new LocalMaxQuadraticUpperBound<Double>().estimateUpperBound(Polynomial.of(new DoubleOperationStrategy(), new Double[] { 1d, 2d, 3d }));
+    }
 }
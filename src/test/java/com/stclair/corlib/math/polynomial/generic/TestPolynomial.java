@@ -1,14 +1,20 @@
 package com.stclair.corlib.math.polynomial.generic;
 
 import com.stclair.corlib.math.Complex;
+import com.stclair.corlib.math.util.ApfloatExactOperationStrategy;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
 import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.LongOperationStrategy;
 import com.stclair.corlib.math.util.OperationStrategy;
+import org.apfloat.Apfloat;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import static junit.framework.TestCase.assertEquals;
@@ -991,4 +997,289 @@ public class TestPolynomial<T extends Double> {
         assertEquals(Polynomial.zero(op), result.remainder);
         assertEquals(multiplicandA, result.quotient);
     }
+
+    @Test
+    public void testTaylorShiftEqualsApplyOfXPlusA() {
+        Polynomial<T> polynomial = Polynomial.of(op, op.from(new double[] { 12, 7, 5, 3, 8, 22, -3, -8, 1 }));
+
+        assertEquals(polynomial.apply(Polynomial.of(op, op.from(new double[] { 3, 1 }))), polynomial.taylorShift(op.from(3d)));
+        assertEquals(polynomial.apply(Polynomial.of(op, op.from(new double[] { -2, 1 }))), polynomial.taylorShift(op.from(-2d)));
+    }
+
+    @Test
+    public void testTaylorShiftDivideAndConquerMatchesInPlaceKernelExactly() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        Random random = new Random(17);
+
+        for (int degree : new int[] { 1, 128, 200, 300 }) {
+            Apfloat[] coefficients = apfloatOp.array(degree + 1);
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = apfloatOp.from((double) (random.nextInt(7) - 3));
+
+            Apfloat[] expected = coefficients.clone();
+            Apfloat[] actual = coefficients.clone();
+
+            PolynomialKernels.taylorShiftInPlace(apfloatOp, expected, apfloatOp.from(3d));
+            PolynomialKernels.taylorShiftDivideAndConquer(apfloatOp, actual, apfloatOp.from(3d));
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testKaratsubaProductMatchesSchoolbookExactly() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatExactOperationStrategy();
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        Random random = new Random(41);
+
+        for (int[] lengths : new int[][] { { 16, 16 }, { 17, 40 }, { 70, 33 } }) {
+            Apfloat[] apfloatA = apfloatOp.array(lengths[0]);
+            Apfloat[] apfloatB = apfloatOp.array(lengths[1]);
+            Long[] longA = longOp.array(lengths[0]);
+            Long[] longB = longOp.array(lengths[1]);
+
+            for (int index = 0; index < lengths[0]; index++) {
+                longA[index] = (long) (random.nextInt(2001) - 1000);
+                apfloatA[index] = new Apfloat(longA[index]);
+            }
+
+            for (int index = 0; index < lengths[1]; index++) {
+                longB[index] = (long) (random.nextInt(2001) - 1000);
+                apfloatB[index] = new Apfloat(longB[index]);
+            }
+
+            assertArrayEquals(PolynomialKernels.multiplySchoolbook(apfloatOp, apfloatA, apfloatB),
+                    PolynomialKernels.multiplyKaratsuba(apfloatOp, apfloatA, apfloatB));
+            assertArrayEquals(PolynomialKernels.multiplySchoolbook(longOp, longA, longB),
+                    PolynomialKernels.multiply(longOp, longA, longB));
+        }
+    }
+
+    @Test
+    public void testProductUsesSchoolbookForInexactStrategy() {
+        Random random = new Random(43);
+
+        Double[] multiplier = new Double[40];
+        Double[] multiplicand = new Double[40];
+
+        for (int index = 0; index < multiplier.length; index++) {
+            multiplier[index] = random.nextGaussian();
+            multiplicand[index] = random.nextGaussian();
+        }
+
+        DoubleOperationStrategy doubleOp = new DoubleOperationStrategy();
+
+        assertArrayEquals(PolynomialKernels.multiplySchoolbook(doubleOp, multiplier, multiplicand),
+                PolynomialKernels.multiply(doubleOp, multiplier, multiplicand));
+    }
+
+    @Test
+    public void testNewtonQuotientMatchesLongDivisionExactly() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatExactOperationStrategy();
+
+        Random random = new Random(61);
+
+        Apfloat[] dividend = apfloatOp.array(301);
+        Apfloat[] divisor = apfloatOp.array(101);
+
+        for (int index = 0; index < dividend.length; index++)
+            dividend[index] = new Apfloat(random.nextInt(21) - 10);
+
+        for (int index = 0; index < divisor.length; index++)
+            divisor[index] = new Apfloat(random.nextInt(21) - 10);
+
+        divisor[100] = new Apfloat(1);
+
+        Apfloat[] expectedRemainder = dividend.clone();
+        Apfloat[] actualRemainder = dividend.clone();
+
+        Apfloat[] expected = PolynomialKernels.divideInPlace(apfloatOp, expectedRemainder, divisor);
+        Apfloat[] actual = PolynomialKernels.divide(apfloatOp, actualRemainder, divisor);
+
+        assertArrayEquals(expected, actual);
+        assertArrayEquals(expectedRemainder, actualRemainder);
+    }
+
+    @Test
+    public void testExactApfloatQuotientByNonUnitLeadingCoefficient() {
+        ApfloatExactOperationStrategy apfloatOp = new ApfloatExactOperationStrategy();
+
+        // 6x^2 + 5x + 1 = (3x + 1)(2x + 1)
+        PolynomialQuotient<Apfloat> result = Polynomial.of(apfloatOp, apfloatOp.from(new double[] { 1, 5, 6 }))
+                .quotient(Polynomial.of(apfloatOp, apfloatOp.from(new double[] { 1, 3 })));
+
+        assertArrayEquals(apfloatOp.from(new double[] { 1, 2 }), result.quotient.getCoefficients());
+        assertTrue(result.remainder.isZero());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testExactApfloatGcdIsRejected() {
+        ApfloatExactOperationStrategy apfloatOp = new ApfloatExactOperationStrategy();
+
+        Polynomial.of(apfloatOp, apfloatOp.from(new double[] { 1, 5, 6 })).gcd(Polynomial.of(apfloatOp, apfloatOp.from(new double[] { 1, 3 })));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testExactApfloatSquareFreePartIsRejected() {
+        ApfloatExactOperationStrategy apfloatOp = new ApfloatExactOperationStrategy();
+
+        Polynomial.of(apfloatOp, apfloatOp.from(new double[] { 1, 2, 1 })).squareFreePart();
+    }
+
+    @Test
+    public void testQuotientWithLongStrategy() {
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        Polynomial<Long> divisor = Polynomial.of(longOp, new Long[] { -1L, 1L });
+        Polynomial<Long> dividend = Polynomial.of(longOp, new Long[] { 5L, 0L, 3L, 1L });
+
+        PolynomialQuotient<Long> quotient = dividend.quotient(divisor);
+
+        assertArrayEquals(new Long[] { 4L, 4L, 1L }, quotient.quotient.getCoefficients());
+        assertArrayEquals(new Long[] { 9L }, quotient.remainder.getCoefficients());
+    }
+
+    @Test
+    public void testBudansTheoremSatisfiesDefinitionExactly() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        Random random = new Random(71);
+
+        for (int degree : new int[] { 1, 7, 60, 200 }) {
+            Apfloat[] coefficients = apfloatOp.array(degree + 1);
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = new Apfloat(random.nextInt(7) - 3);
+
+            coefficients[degree] = new Apfloat(1);
+
+            Polynomial<Apfloat> transformed = Polynomial.of(apfloatOp, coefficients).budansTheorem();
+
+            // (x + 1)^n f(1 / (x + 1)) = sum c[k] (x + 1)^(n - k)
+            for (int x : new int[] { -3, 0, 1, 2 }) {
+                Apfloat expected = Apfloat.ZERO;
+                Apfloat power = new Apfloat(1);
+
+                for (int index = degree; index >= 0; index--) {
+                    expected = expected.add(coefficients[index].multiply(power));
+                    power = power.multiply(new Apfloat(x + 1));
+                }
+
+                assertEquals(expected, transformed.apply(new Apfloat(x)));
+            }
+        }
+    }
+
+    @Test
+    public void testGcdWithLongStrategyIsPrimitive() {
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        Polynomial<Long> common = Polynomial.of(longOp, new Long[] { -3L, 5L, 2L });
+
+        // 6 (2x^2 + 5x - 3)(x - 2) and 4 (2x^2 + 5x - 3)(x + 5)
+        Polynomial<Long> a = common.product(Polynomial.of(longOp, new Long[] { -2L, 1L })).product(6L);
+        Polynomial<Long> b = common.product(Polynomial.of(longOp, new Long[] { 5L, 1L })).product(4L);
+
+        assertArrayEquals(new Long[] { -3L, 5L, 2L }, a.gcd(b).getCoefficients());
+        assertArrayEquals(new Long[] { -3L, 5L, 2L }, a.negate().gcd(b).getCoefficients());
+        assertArrayEquals(new Long[] { 1L }, a.gcd(Polynomial.of(longOp, new Long[] { 7L, 1L })).getCoefficients());
+    }
+
+    @Test
+    public void testSquareFreeDecompositionWithApfloatStrategy() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        // 5 (x - 1/2) (x^2 + 2)^3 (x - 3)^4 (x + 7)^4
+        Polynomial<Apfloat> polynomial = Polynomial.fromRoots(apfloatOp, precise(0.5, 3, 3, 3, 3, -7, -7, -7, -7))
+                .product(Polynomial.of(apfloatOp, precise(2, 0, 1)).power(3))
+                .product(new Apfloat(5, 200));
+
+        List<Polynomial<Apfloat>> factors = polynomial.squareFreeDecomposition();
+
+        assertEquals(4, factors.size());
+        assertEquals(0, factors.get(1).degree());
+
+        assertApproximately(apfloatOp, new double[] { -0.5, 1 }, factors.get(0));
+        assertApproximately(apfloatOp, new double[] { 2, 0, 1 }, factors.get(2));
+        assertApproximately(apfloatOp, new double[] { -21, 4, 1 }, factors.get(3));
+    }
+
+    @Test
+    public void testSquareFreeDecompositionWithLongStrategy() {
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        Polynomial<Long> linear = Polynomial.of(longOp, new Long[] { -1L, 2L });
+        Polynomial<Long> quadratic = Polynomial.of(longOp, new Long[] { 2L, 0L, 1L });
+
+        // 3 (2x - 1) (x^2 + 2)^3, small enough that no subresultant overflows a long
+        Polynomial<Long> polynomial = linear.product(quadratic.power(3)).product(3L);
+
+        List<Polynomial<Long>> factors = polynomial.squareFreeDecomposition();
+
+        assertEquals(3, factors.size());
+        assertEquals(linear, factors.get(0));
+        assertEquals(0, factors.get(1).degree());
+        assertEquals(quadratic, factors.get(2));
+
+        assertEquals(linear.product(quadratic).product(3L), polynomial.squareFreePart());
+    }
+
+    @Test
+    public void testSquareFreePartWithLongStrategy() {
+        LongOperationStrategy longOp = new LongOperationStrategy();
+
+        // (x + 1)^2 (x - 2)
+        Polynomial<Long> polynomial = Polynomial.of(longOp, new Long[] { -2L, -3L, 0L, 1L });
+
+        assertArrayEquals(new Long[] { -2L, -1L, 1L }, polynomial.squareFreePart().getCoefficients());
+    }
+
+    @Test
+    public void testSquareFreePartWithApfloatStrategy() {
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        Polynomial<Apfloat> polynomial = Polynomial.fromRoots(apfloatOp, precise(0.25, 3, 3, -7, -7, -7));
+
+        Polynomial<Apfloat> squareFree = polynomial.squareFreePart();
+
+        assertApproximately(apfloatOp, new double[] { 5.25, -22, 3.75, 1 }, squareFree);
+
+        assertEquals(0, squareFree.gcd(squareFree.derivative()).degree());
+    }
+
+    @Test
+    public void testSquareFreeDecompositionWithDoubleStrategy() {
+        Polynomial<T> polynomial = Polynomial.fromRoots(op, op.from(new double[] { 1, 2, 2, -3, -3, -3 }));
+
+        List<Polynomial<T>> factors = polynomial.squareFreeDecomposition();
+
+        assertEquals(3, factors.size());
+
+        assertEquals(1, factors.get(0).degree());
+        assertEquals(1, factors.get(0).apply(op.from(0d)).doubleValue() * -1, 1e-9);
+        assertEquals(-2, factors.get(1).getCoefficients()[0].doubleValue(), 1e-9);
+        assertEquals(3, factors.get(2).getCoefficients()[0].doubleValue(), 1e-9);
+    }
+
+    static <T> void assertApproximately(OperationStrategy<T> op, double[] expected, Polynomial<T> actual) {
+        assertEquals(expected.length, actual.getCoefficients().length);
+
+        for (int index = 0; index < expected.length; index++)
+            assertEquals(expected[index], op.value(actual.getCoefficients()[index]), 1e-12);
+    }
+
+    /**
+     * @return the values as Apfloats of 200 digits (rather than the few digits of a double)
+     */
+    static Apfloat[] precise(double... values) {
+        Apfloat[] precise = new Apfloat[values.length];
+
+        for (int index = 0; index < values.length; index++)
+            precise[index] = new Apfloat(Double.toString(values[index]), 200);
+
+        return precise;
+    }
 }
@@ -0,0 +1,106 @@
+package com.stclair.corlib.math.polynomial.generic;
+
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.LongOperationStrategy;
+import com.stclair.corlib.math.util.OperationStrategy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestPolynomialBuffer {
+
+    OperationStrategy<Double> op = new DoubleOperationStrategy();
+
+    OperationStrategy<Long> longOp = new LongOperationStrategy();
+
+    static <T> Polynomial<T> randomPolynomial(OperationStrategy<T> op, Random random, int degree) {
+        T[] coefficients = op.array(degree + 1);
+
+        for (int index = 0; index <= degree; index++)
+            coefficients[index] = op.from((long) random.nextInt(21) - 10);
+
+        if (op.isZero(coefficients[degree]))
+            coefficients[degree] = op.one();
+
+        return Polynomial.of(op, coefficients);
+    }
+
+    static <T> void assertHolds(Polynomial<T> expected, PolynomialBuffer<T> actual) {
+        assertArrayEquals(expected.getCoefficients(), actual.toPolynomial().getCoefficients());
+        assertEquals(expected.degree(), actual.degree());
+    }
+
+    @Test
+    public void testNewBufferHoldsZero() {
+        PolynomialBuffer<Long> buffer = new PolynomialBuffer<>(longOp);
+
+        assertEquals(-1, buffer.degree());
+        assertEquals(0, buffer.toPolynomial().getCoefficients().length);
+        assertEquals(Long.valueOf(0), buffer.coefficient(3));
+    }
+
+    @Test
+    public void testCapacityGrowsWithZeroCoefficients() {
+        Polynomial<Long> xPlusOne = Polynomial.of(longOp, new Long[] { 1L, 1L });
+
+        PolynomialBuffer<Long> buffer = new PolynomialBuffer<>(longOp, 1);
+
+        buffer.set(xPlusOne).multiply(xPlusOne).increaseDegree(1).add(xPlusOne);
+
+        assertArrayEquals(new Long[] { 1L, 2L, 2L, 1L }, buffer.toPolynomial().getCoefficients());
+
+        for (int index = buffer.degree() + 1; index < buffer.capacity(); index++)
+            assertEquals(Long.valueOf(0), buffer.coefficients[index]);
+    }
+
+    @Test
+    public void testArithmeticMatchesPolynomial() {
+        Random random = new Random(1);
+
+        for (int trial = 0; trial < 100; trial++) {
+            Polynomial<Double> p = randomPolynomial(op, random, random.nextInt(12));
+            Polynomial<Double> q = randomPolynomial(op, random, random.nextInt(12));
+
+            assertHolds(p.sum(q), new PolynomialBuffer<>(p).add(q));
+            assertHolds(p.difference(q), new PolynomialBuffer<>(p).subtract(q));
+            assertHolds(p.negate(), new PolynomialBuffer<>(p).negate());
+            assertHolds(p.product(2.5), new PolynomialBuffer<>(p).multiply(2.5));
+            assertHolds(p.divide(3d), new PolynomialBuffer<>(p).divide(3d));
+            assertHolds(p.product(q), new PolynomialBuffer<>(p).multiply(q));
+            assertHolds(p.derivative(), new PolynomialBuffer<>(p).derivative());
+            assertHolds(p.taylorShift(3d), new PolynomialBuffer<>(p).taylorShift(3d));
+            assertHolds(p.budansTheorem(), new PolynomialBuffer<>(p).budansTheorem());
+
+            for (double x : new double[] { 0, 1, -1, 0.5, 2.75 })
+                assertEquals(p.apply(x), new PolynomialBuffer<>(p).apply(x));
+
+            assertEquals(p.signChanges(), new PolynomialBuffer<>(p).signChanges());
+        }
+    }
+
+    @Test
+    public void testExactProductAboveKaratsubaThresholdMatchesPolynomial() {
+        Random random = new Random(2);
+
+        Polynomial<Long> p = randomPolynomial(longOp, random, 2 * PolynomialKernels.KARATSUBA_THRESHOLD);
+        Polynomial<Long> q = randomPolynomial(longOp, random, PolynomialKernels.KARATSUBA_THRESHOLD + 5);
+
+        assertHolds(p.product(q), new PolynomialBuffer<>(p).multiply(q));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDivideByZeroThrows() {
+        new PolynomialBuffer<>(Polynomial.of(op, new Double[] { 1d, 2d })).divide(0d);
+    }
+
+    @Test
+    public void testApplyPolynomialAndPower() {
+        Polynomial<Long> p = Polynomial.of(longOp, new Long[] { 1L, -3L, 0L, 2L });
+        Polynomial<Long> xPlusOne = Polynomial.of(longOp, new Long[] { 1L, 1L });
+
+        assertArrayEquals(p.taylorShift(1L).getCoefficients(), p.apply(xPlusOne).getCoefficients());
+        assertArrayEquals(Polynomial.pascal(longOp, 6).getCoefficients(), xPlusOne.power(6).getCoefficients());
+    }
+}
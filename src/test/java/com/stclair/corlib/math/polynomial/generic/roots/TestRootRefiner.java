@@ -0,0 +1,74 @@
+package com.stclair.corlib.math.polynomial.generic.roots;
+
+import com.stclair.corlib.math.apfloat.ApfloatInfinite;
+import com.stclair.corlib.math.apfloat.ApfloatInfiniteOperationStrategy;
+import com.stclair.corlib.math.polynomial.generic.Interval;
+import com.stclair.corlib.math.polynomial.generic.Polynomial;
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.apfloat.Apfloat;
+import org.apfloat.ApfloatMath;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestRootRefiner {
+
+    @Test
+    public void refinesApfloatIntervalBeyondDoublePrecision() {
+        ApfloatOperationStrategy op = new ApfloatOperationStrategy(200);
+
+        // X^2 - 2
+        Polynomial<Apfloat> polynomial = Polynomial.of(op, new Apfloat[] { new Apfloat(-2), Apfloat.ZERO, Apfloat.ONE });
+
+        Apfloat width = new Apfloat("1e-100", 200);
+
+        Interval<Apfloat> refined = new RootRefiner<>(op).refine(polynomial, new Interval<>(new Apfloat(1), new Apfloat(2), op), width);
+
+        Apfloat root = ApfloatMath.sqrt(new Apfloat(2, 200));
+
+        assertTrue(op.lessThanOrEqual(op.difference(refined.b, refined.a), width));
+        assertTrue(op.lessThanOrEqual(refined.a, root));
+        assertTrue(op.greaterThanOrEqual(refined.b, root));
+    }
+
+    @Test
+    public void refinesIntervalsFoundByVincentAkritasStrzeboński() {
+        ApfloatInfiniteOperationStrategy op = new ApfloatInfiniteOperationStrategy(128);
+
+        // X^3 - 7X + 7 has roots near 1.3568958679 and 1.6920214716
+        Polynomial<ApfloatInfinite> polynomial = Polynomial.of(op, op.from(new double[] { 7, -7, 0, 1 }));
+
+        List<Interval<ApfloatInfinite>> intervals = new VincentAkritasStrzeboński2<>(op).findRootIntervals(polynomial);
+
+        ApfloatInfinite width = op.from(1e-30);
+
+        List<Interval<ApfloatInfinite>> refined = new RootRefiner<>(op).refine(polynomial, intervals, width, ForkJoinPool.commonPool());
+
+        assertEquals(2, refined.size());
+
+        double[] expected = new double[] { 1.3568958679, 1.6920214716 };
+
+        for (int index = 0; index < refined.size(); index++) {
+            Interval<ApfloatInfinite> interval = refined.get(index);
+
+            assertTrue(op.lessThanOrEqual(op.difference(interval.b, interval.a), width));
+            assertEquals(expected[index], op.value(interval.a), 1e-10);
+        }
+    }
+
+    @Test
+    public void doubleRefinementMatchesExpectedRoot() {
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        Polynomial<Double> polynomial = Polynomial.of(op, op.from(new double[] { -2, 0, 1 }));
+
+        Interval<Double> refined = new RootRefiner<>(op).refine(polynomial, new Interval<>(0d, op.positiveInfinity(), op), 1e-12);
+
+        assertEquals(Math.sqrt(2), refined.a, 1e-12);
+        assertTrue(refined.b - refined.a <= 1e-12);
+    }
+}
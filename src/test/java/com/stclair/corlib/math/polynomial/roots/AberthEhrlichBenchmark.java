@@ -0,0 +1,64 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.polynomial.Polynomial;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reports the time taken by the Aberth-Ehrlich solver to find every root of random polynomials of high degree,
+ * computing the corrections of each iteration on the calling thread and in parallel (not run as part of the regular
+ * test suite)
+ */
+@Ignore
+public class AberthEhrlichBenchmark {
+
+    static final int[] DEGREES = { 100, 500, 1000, 2000 };
+
+    static final int WARMUP_ITERATIONS = 3;
+
+    static final int ITERATIONS = 5;
+
+    double time(Runnable operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            operation.run();
+
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    @Test
+    public void solve() {
+
+        Random random = new Random(17);
+
+        AberthEhrlich sequential = new AberthEhrlich();
+        AberthEhrlich parallel = new AberthEhrlich(ForkJoinPool.commonPool());
+
+        System.out.printf("%8s %12s %14s %14s%n", "degree", "iterations", "sequential ms", "parallel ms");
+
+        for (int degree : DEGREES) {
+
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextDouble() * 2 - 1;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            int iterations = sequential.solve(polynomial).getIterations();
+
+            double sequentialTime = time(() -> sequential.solve(polynomial));
+            double parallelTime = time(() -> parallel.solve(polynomial));
+
+            System.out.printf("%8d %12d %14.3f %14.3f%n", degree, iterations, sequentialTime, parallelTime);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.RealMobiusTransformation;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports the time to apply Budan's transform by the former sum of Pascal products and by reversal and Taylor shift,
+ * and the time taken by VAS root isolation (whose inner loop applies the transform), which now uses the latter (not
+ * run as part of the regular test suite)
+ */
+@Ignore
+public class BudanTransformBenchmark {
+
+    static final int[] DEGREES = { 8, 32, 128, 512 };
+
+    static final int WARMUP_ITERATIONS = 100;
+
+    static final int ITERATIONS = 20;
+
+    double time(Runnable operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            operation.run();
+
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    @Test
+    public void transform() {
+
+        Random random = new Random(73);
+
+        System.out.printf("%8s %14s %14s%n", "degree", "pascal ms", "shift ms");
+
+        for (int degree : DEGREES) {
+
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextInt(7) - 3;
+
+            coefficients[degree] = 1;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            double pascal = time(() -> Polynomial.sigma((k) -> Polynomial.pascal(degree - k).product(coefficients[k]), degree));
+            double shift = time(polynomial::budansTheorem);
+
+            System.out.printf("%8d %14.3f %14.3f%n", degree, pascal, shift);
+        }
+    }
+
+    @Test
+    public void isolate() {
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(
+                (Polynomial p) -> new VASComputationExperimental(p, RealMobiusTransformation.IDENTITY));
+
+        System.out.printf("%8s %14s%n", "roots", "vas ms");
+
+        for (int roots : new int[] { 5, 10, 20 }) {
+
+            double[] values = new double[roots];
+
+            for (int index = 0; index < roots; index++)
+                values[index] = index + 1;
+
+            Polynomial polynomial = Polynomial.fromRoots(values);
+
+            double vasTime = time(() -> vas.findRootIntervals(polynomial));
+
+            System.out.printf("%8d %14.3f%n", roots, vasTime);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.RealMobiusTransformation;
+import com.stclair.corlib.math.apfloat.ApfloatInfinite;
+import com.stclair.corlib.math.apfloat.ApfloatInfiniteOperationStrategy;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.generic.roots.VincentAkritasStrzeboński2;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports the time taken to isolate the real roots of polynomials by VAS in double precision, with interval
+ * coefficients escalating to exact arithmetic, in exact arithmetic throughout, and over Apfloat (not run as part of
+ * the regular test suite)
+ */
+@Ignore
+public class IntervalVASBenchmark {
+
+    static final int WARMUP_ITERATIONS = 2;
+
+    static final int ITERATIONS = 3;
+
+    double time(Runnable operation) {
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        long start = System.nanoTime();
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+            operation.run();
+
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+
+    @Test
+    public void isolate() {
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(
+                (Polynomial p) -> new VASComputationExperimental(p, RealMobiusTransformation.IDENTITY));
+        VincentAkritasStrzeboński hybrid = new VincentAkritasStrzeboński(IntervalVASComputation::new);
+        VincentAkritasStrzeboński exact = new VincentAkritasStrzeboński(ExactVASComputation::new);
+
+        ApfloatInfiniteOperationStrategy op = new ApfloatInfiniteOperationStrategy(128);
+        VincentAkritasStrzeboński2<ApfloatInfinite> apfloat = new VincentAkritasStrzeboński2<>(op);
+
+        Random random = new Random(11);
+
+        System.out.printf("%8s %12s %12s %12s %14s%n", "roots", "double ms", "hybrid ms", "exact ms", "apfloat ms");
+
+        for (int roots : new int[] { 5, 10, 20 }) {
+
+            double[] values = new double[roots];
+
+            for (int index = 0; index < roots; index++)
+                values[index] = index + 1 + random.nextInt(8) / 8.0;
+
+            Polynomial polynomial = Polynomial.fromRoots(values);
+
+            com.stclair.corlib.math.polynomial.generic.Polynomial<ApfloatInfinite> generic =
+                    com.stclair.corlib.math.polynomial.generic.Polynomial.of(op, op.from(polynomial.getCoefficients()));
+
+            double vasTime = time(() -> vas.findRootIntervals(polynomial));
+            double hybridTime = time(() -> hybrid.findRootIntervals(polynomial));
+            double exactTime = time(() -> exact.findRootIntervals(polynomial));
+            double apfloatTime = time(() -> apfloat.findRootIntervals(generic));
+
+            System.out.printf("%8d %12.3f %12.3f %12.3f %14.3f%n", roots, vasTime, hybridTime, exactTime, apfloatTime);
+        }
+    }
+}
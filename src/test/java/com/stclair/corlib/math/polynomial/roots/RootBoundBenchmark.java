@@ -0,0 +1,118 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.polynomial.FirstLambdaUpperBound;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
+import com.stclair.corlib.math.polynomial.LocalMaxUpperBound;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Reports the time taken by each strategy for bounding the roots of a polynomial, and the work done by VAS to isolate
+ * the real roots of several families of polynomials with each (not run as part of the regular test suite)
+ */
+@Ignore
+public class RootBoundBenchmark {
+
+    static final int WARMUP_ITERATIONS = 2;
+
+    static final int ITERATIONS = 3;
+
+    @Test
+    public void isolate() {
+
+        PositiveRootBound[] bounds = { new FirstLambdaUpperBound(), new LocalMaxUpperBound(), new LocalMaxQuadraticUpperBound() };
+
+        Random random = new Random(11);
+
+        double[] consecutive = new double[20];
+        double[] scattered = new double[20];
+        double[] clustered = new double[12];
+
+        for (int index = 0; index < consecutive.length; index++)
+            consecutive[index] = index + 1;
+
+        for (int index = 0; index < scattered.length; index++)
+            scattered[index] = (index + 1 + random.nextInt(8) / 8.0) * (index % 2 == 0 ? 1 : -1);
+
+        for (int index = 0; index < clustered.length; index++)
+            clustered[index] = 1000 + index / 16.0;
+
+        String[] names = { "consecutive", "scattered", "clustered" };
+        double[][] rootSets = { consecutive, scattered, clustered };
+
+        System.out.printf("%12s %28s %8s %8s %8s %12s %12s%n", "family", "bound", "nodes", "shifts", "depth", "bound ms", "total ms");
+
+        for (int family = 0; family < rootSets.length; family++) {
+
+            Polynomial polynomial = Polynomial.fromRoots(rootSets[family]);
+
+            for (PositiveRootBound bound : bounds) {
+
+                VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial p) -> new IntervalVASComputation(p, bound));
+
+                for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+                    vas.findRootIntervals(polynomial);
+
+                long boundNanos = 0;
+                long start = System.nanoTime();
+
+                for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                    vas.findRootIntervals(polynomial);
+                    boundNanos += vas.getStatistics().getBoundNanos();
+                }
+
+                double total = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+                VASStatistics statistics = vas.getStatistics();
+
+                System.out.printf("%12s %28s %8d %8d %8d %12.3f %12.3f%n", names[family], bound.getClass().getSimpleName(),
+                        statistics.getNodes(), statistics.getTaylorShifts(), statistics.getMaximumDepth(),
+                        boundNanos / 1e6 / ITERATIONS, total);
+            }
+        }
+    }
+
+    @Test
+    public void estimate() {
+
+        PositiveRootBound[] bounds = { new FirstLambdaUpperBound(), new LocalMaxUpperBound(), new LocalMaxQuadraticUpperBound() };
+
+        Random random = new Random(11);
+
+        System.out.printf("%8s %28s %14s%n", "degree", "bound", "lower bound us");
+
+        for (int degree : new int[] { 10, 100, 1000 }) {
+
+            double[] coefficients = new double[degree + 1];
+
+            for (int index = 0; index <= degree; index++)
+                coefficients[index] = random.nextGaussian();
+
+            coefficients[degree] = 1;
+            coefficients[0] = -1;
+
+            int iterations = 2_000_000 / (degree * degree) + 10;
+
+            for (PositiveRootBound bound : bounds) {
+
+                double sink = 0;
+
+                for (int iteration = 0; iteration < WARMUP_ITERATIONS * iterations; iteration++)
+                    sink += bound.lowerBound(coefficients);
+
+                long start = System.nanoTime();
+
+                for (int iteration = 0; iteration < ITERATIONS * iterations; iteration++)
+                    sink += bound.lowerBound(coefficients);
+
+                double elapsed = (System.nanoTime() - start) / 1e3 / (ITERATIONS * iterations);
+
+                System.out.printf("%8d %28s %14.3f%s%n", degree, bound.getClass().getSimpleName(), elapsed, sink == 0 ? " " : "");
+            }
+        }
+    }
+}
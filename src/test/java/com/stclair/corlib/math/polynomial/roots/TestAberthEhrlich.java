@@ -0,0 +1,189 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Complex;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestAberthEhrlich {
+
+    AberthEhrlich solver = new AberthEhrlich();
+
+    static Complex[] sorted(Complex[] roots) {
+        Complex[] copy = roots.clone();
+
+        Arrays.sort(copy, Comparator.comparingDouble((Complex root) -> root.real).thenComparingDouble(root -> root.imaginary));
+
+        return copy;
+    }
+
+    static double distance(Complex a, Complex b) {
+        return Math.hypot(a.real - b.real, a.imaginary - b.imaginary);
+    }
+
+    @Test
+    public void findsRealRoots() {
+        double[] expected = new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+        ComplexRoots result = solver.solve(Polynomial.fromRoots(expected));
+
+        assertTrue(result.isConverged());
+
+        Complex[] roots = sorted(result.getRoots());
+
+        assertEquals(expected.length, roots.length);
+
+        for (int index = 0; index < expected.length; index++) {
+            assertEquals(expected[index], roots[index].real, 1e-6);
+            assertEquals(0, roots[index].imaginary, 1e-6);
+        }
+    }
+
+    @Test
+    public void findsComplexConjugateRoots() {
+        // X^2 + 1
+        ComplexRoots result = solver.solve(Polynomial.of(new double[] { 1, 0, 1 }));
+
+        Complex[] roots = sorted(result.getRoots());
+
+        assertEquals(0, roots[0].real, 1e-14);
+        assertEquals(-1, roots[0].imaginary, 1e-14);
+        assertEquals(0, roots[1].real, 1e-14);
+        assertEquals(1, roots[1].imaginary, 1e-14);
+    }
+
+    @Test
+    public void findsRootsOfUnityOfHighDegree() {
+        int degree = 100;
+
+        double[] coefficients = new double[degree + 1];
+        coefficients[0] = -1;
+        coefficients[degree] = 1;
+
+        ComplexRoots result = solver.solve(Polynomial.of(coefficients));
+
+        assertTrue(result.isConverged());
+
+        Complex[] roots = result.getRoots();
+
+        assertEquals(degree, roots.length);
+
+        boolean[] found = new boolean[degree];
+
+        for (Complex root : roots) {
+            double angle = Math.atan2(root.imaginary, root.real);
+            int k = (int) Math.round(angle * degree / (2 * Math.PI));
+            k = (k + degree) % degree;
+
+            assertFalse(found[k]);
+            found[k] = true;
+
+            assertEquals(Math.cos(2 * Math.PI * k / degree), root.real, 1e-12);
+            assertEquals(Math.sin(2 * Math.PI * k / degree), root.imaginary, 1e-12);
+        }
+    }
+
+    @Test
+    public void findsRootsAtZero() {
+        // X^3 (X - 2)
+        ComplexRoots result = solver.solve(Polynomial.of(new double[] { 0, 0, 0, -2, 1 }));
+
+        Complex[] roots = result.getRoots();
+        double[] bounds = result.getErrorBounds();
+
+        assertEquals(4, roots.length);
+
+        for (int index = 0; index < 3; index++) {
+            assertEquals(Complex.ZERO, roots[index]);
+            assertEquals(0, bounds[index], 0);
+        }
+
+        assertEquals(2, roots[3].real, 1e-15);
+    }
+
+    @Test
+    public void findsRootsOfMonomial() {
+        ComplexRoots result = solver.solve(Polynomial.of(new double[] { 0, 0, 5 }));
+
+        assertEquals(2, result.getRoots().length);
+        assertEquals(Complex.ZERO, result.getRoots()[1]);
+    }
+
+    @Test
+    public void errorBoundsContainTrueRoots() {
+        Random random = new Random(29);
+
+        int degree = 40;
+
+        Complex[] expected = new Complex[degree];
+        Polynomial polynomial = Polynomial.ONE;
+
+        // pairs of conjugate roots within the unit disc
+        for (int index = 0; index < degree; index += 2) {
+            double real = random.nextDouble() * 2 - 1;
+            double imaginary = random.nextDouble() * 0.5;
+
+            expected[index] = Complex.of(real, imaginary);
+            expected[index + 1] = Complex.of(real, -imaginary);
+
+            polynomial = polynomial.product(Polynomial.of(new double[] { real * real + imaginary * imaginary, -2 * real, 1 }));
+        }
+
+        ComplexRoots result = solver.solve(polynomial);
+
+        assertTrue(result.isConverged());
+
+        Complex[] roots = result.getRoots();
+        double[] bounds = result.getErrorBounds();
+
+        for (Complex root : expected) {
+            boolean contained = false;
+
+            for (int index = 0; index < roots.length; index++) {
+                if (distance(root, roots[index]) <= bounds[index])
+                    contained = true;
+            }
+
+            assertTrue(contained);
+        }
+    }
+
+    @Test
+    public void parallelSolveMatchesSequentialSolve() {
+        Random random = new Random(41);
+
+        double[] coefficients = new double[301];
+
+        for (int index = 0; index < coefficients.length; index++)
+            coefficients[index] = random.nextDouble() * 2 - 1;
+
+        Polynomial polynomial = Polynomial.of(coefficients);
+
+        ComplexRoots sequential = solver.solve(polynomial);
+        ComplexRoots parallel = new AberthEhrlich(ForkJoinPool.commonPool()).solve(polynomial);
+
+        assertTrue(sequential.isConverged());
+        assertEquals(sequential.getIterations(), parallel.getIterations());
+        assertArrayEquals(sequential.getRoots(), parallel.getRoots());
+        assertArrayEquals(sequential.getErrorBounds(), parallel.getErrorBounds(), 0);
+
+        for (double bound : sequential.getErrorBounds())
+            assertTrue(bound < 1e-8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroPolynomial() {
+        solver.solve(Polynomial.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveIterationLimit() {
+        new AberthEhrlich(0);
+    }
+}
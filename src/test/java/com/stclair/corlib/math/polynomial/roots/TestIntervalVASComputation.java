@@ -0,0 +1,166 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import org.apfloat.Apint;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestIntervalVASComputation {
+
+    VincentAkritasStrzeboński hybrid = new VincentAkritasStrzeboński(IntervalVASComputation::new);
+
+    VincentAkritasStrzeboński exact = new VincentAkritasStrzeboński(ExactVASComputation::new);
+
+    static Polynomial wilkinson(int degree) {
+        double[] roots = new double[degree];
+
+        for (int index = 0; index < degree; index++)
+            roots[index] = index + 1;
+
+        return Polynomial.fromRoots(roots);
+    }
+
+    /**
+     * @return the number of operations of the isolation tree that were escalated to exact arithmetic
+     */
+    static int escalations(Polynomial polynomial) {
+
+        int count = 0;
+
+        ArrayDeque<VASOperation> operations = new ArrayDeque<>();
+        operations.add(new IntervalVASComputation(polynomial));
+
+        while (! operations.isEmpty()) {
+            VASOperation operation = operations.removeFirst();
+
+            if (operation instanceof ExactVASComputation)
+                count++;
+
+            for (VASOperation result : operation.evaluate()) {
+                if (! result.complete())
+                    operations.add(result);
+            }
+        }
+
+        return count;
+    }
+
+    static void assertIsolated(double[] expectedRoots, List<Interval> intervals) {
+
+        assertEquals(expectedRoots.length, intervals.size());
+
+        for (Interval interval : intervals) {
+            int found = 0;
+
+            // the intervals are the images of (0, infinity), open but for those holding exact roots
+            for (double root : expectedRoots) {
+                if (interval.isExactValue() ? interval.a == root : interval.a < root && root < interval.b)
+                    found++;
+            }
+
+            assertEquals(1, found);
+        }
+    }
+
+    @Test
+    public void isolatesRootsWithoutEscalation() {
+        double[] expectedRoots = new double[] { 1, 2, 4, 12, 7 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        assertIsolated(expectedRoots, hybrid.findRootIntervals(polynomial));
+        assertEquals(0, escalations(polynomial));
+    }
+
+    @Test
+    public void isolatesRootsOfWilkinsonPolynomial() {
+        // the coefficients of the polynomial of degree 20 exceed 2^53, so the Taylor shifts round and some sign
+        // counts can only be decided exactly
+        Polynomial polynomial = wilkinson(20);
+
+        List<Interval> intervals = hybrid.findRootIntervals(polynomial);
+
+        assertEquals(20, intervals.size());
+        assertTrue(escalations(polynomial) > 0);
+        assertEquals(new HashSet<>(exact.findRootIntervals(polynomial)), new HashSet<>(intervals));
+    }
+
+    @Test
+    public void agreesWithExactIsolationOfRoundedCoefficients() {
+        // rounding the coefficients to doubles moves some of the larger roots off the real axis
+        Polynomial polynomial = wilkinson(25);
+
+        assertEquals(new HashSet<>(exact.findRootIntervals(polynomial)), new HashSet<>(hybrid.findRootIntervals(polynomial)));
+    }
+
+    @Test
+    public void separatesClusteredRoots() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 0.1, 0.1000001, 0.2, 3.3 });
+
+        List<Interval> intervals = hybrid.findRootIntervals(polynomial);
+
+        assertEquals(4, intervals.size());
+        assertEquals(new HashSet<>(exact.findRootIntervals(polynomial)), new HashSet<>(intervals));
+    }
+
+    @Test
+    public void parallelIsolationMatchesSequentialIsolation() {
+        Polynomial polynomial = wilkinson(20);
+
+        VincentAkritasStrzeboński parallel = new VincentAkritasStrzeboński(IntervalVASComputation::new,
+                ForkJoinPool.commonPool(), 4, 1);
+
+        assertEquals(new HashSet<>(hybrid.findRootIntervals(polynomial)), new HashSet<>(parallel.findRootIntervals(polynomial)));
+    }
+
+    @Test
+    public void roundsInexactResultsOutward() {
+        assertEquals(1, IntervalVASComputation.addDown(1, 1e-17), 0);
+        assertEquals(Math.nextUp(1.0), IntervalVASComputation.addUp(1, 1e-17), 0);
+        assertEquals(Math.nextDown(1.0), IntervalVASComputation.addDown(1, -1e-17), 0);
+
+        double third = 1.0 / 3;
+
+        assertTrue(IntervalVASComputation.multiplyDown(third, 3) <= 1);
+        assertTrue(IntervalVASComputation.multiplyUp(third, 3) >= 1);
+        assertTrue(IntervalVASComputation.multiplyDown(0.1, 3) < IntervalVASComputation.multiplyUp(0.1, 3));
+    }
+
+    @Test
+    public void leavesExactResultsUnwidened() {
+        assertEquals(3, IntervalVASComputation.addDown(1, 2), 0);
+        assertEquals(3, IntervalVASComputation.addUp(1, 2), 0);
+        assertEquals(0.75, IntervalVASComputation.multiplyDown(0.25, 3), 0);
+        assertEquals(0.75, IntervalVASComputation.multiplyUp(0.25, 3), 0);
+    }
+
+    @Test
+    public void signChangesAreInDoubtWhenEnclosureIncludesZero() {
+        assertEquals(2, IntervalVASComputation.signChanges(new double[] { 1, -2, 0, 1 }, new double[] { 2, -1, 0, 2 }));
+        assertEquals(-1, IntervalVASComputation.signChanges(new double[] { 1, -1, 1 }, new double[] { 2, 1, 2 }));
+        assertEquals(-1, IntervalVASComputation.signChanges(new double[] { 1, Double.NaN }, new double[] { 2, Double.NaN }));
+    }
+
+    @Test
+    public void scalesCoefficientsToIntegers() {
+        Apint[] integers = ExactVASComputation.integerCoefficients(new double[] { 0.5, 3, 0, -0.25 });
+
+        assertEquals(new Apint(2), integers[0]);
+        assertEquals(new Apint(12), integers[1]);
+        assertEquals(new Apint(0), integers[2]);
+        assertEquals(new Apint(-1), integers[3]);
+    }
+
+    @Test
+    public void findsExactRoots() {
+        List<Interval> intervals = exact.findRootIntervals(Polynomial.fromRoots(new double[] { 0.5, 3, 6 }));
+
+        assertIsolated(new double[] { 0.5, 3, 6 }, intervals);
+    }
+}
@@ -0,0 +1,117 @@
+package com.stclair.corlib.math.polynomial.roots;
+
+import com.stclair.corlib.math.Interval;
+import com.stclair.corlib.math.RealMobiusTransformation;
+import com.stclair.corlib.math.polynomial.Polynomial;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestRootRefiner {
+
+    RootRefiner refiner = new RootRefiner();
+
+    @Test
+    public void refinesIsolatingIntervalToRequestedWidth() {
+        // X^3 - 7X + 7 has roots near 1.3568958679 and 1.6920214716 (isolated by [1, 1.5] and [1.5, 2])
+        Polynomial polynomial = Polynomial.of(new double[] { 7, -7, 0, 1 });
+
+        Interval first = refiner.refine(polynomial, new Interval(1, 1.5), 1e-12);
+        Interval second = refiner.refine(polynomial, new Interval(1.5, 2), 1e-12);
+
+        assertTrue(first.b - first.a <= 1e-12);
+        assertTrue(second.b - second.a <= 1e-12);
+
+        assertEquals(1.3568958679, first.a, 1e-10);
+        assertEquals(1.6920214716, second.a, 1e-10);
+    }
+
+    @Test
+    public void refinesIntervalsFoundByVincentAkritasStrzeboński() {
+        double[] expectedRoots = new double[] { 1, 2, 4, 12, 7 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY));
+
+        List<Interval> intervals = vas.findRootIntervals(polynomial);
+        List<Interval> refined = refiner.refine(polynomial, intervals, 1e-9);
+
+        assertEquals(expectedRoots.length, refined.size());
+
+        for (Interval interval : refined) {
+            assertTrue(interval.b - interval.a <= 1e-9);
+
+            boolean found = false;
+
+            for (double root : expectedRoots)
+                found |= interval.a - 1e-12 <= root && root <= interval.b + 1e-12;
+
+            assertTrue(interval.toString(), found);
+        }
+    }
+
+    @Test
+    public void rootUponEndpointIsNotMistakenForIsolatedRoot() {
+        // roots at 1 and 3; the open interval (1, 4) isolates only the root at 3
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 1, 3 });
+
+        Interval refined = refiner.refine(polynomial, new Interval(1, 4), 1e-10);
+
+        assertTrue(refined.contains(3));
+    }
+
+    @Test
+    public void unboundedIntervalIsRefined() {
+        // X^2 - 2 has a single positive root
+        Polynomial polynomial = Polynomial.of(new double[] { -2, 0, 1 });
+
+        Interval refined = refiner.refine(polynomial, new Interval(0, Double.POSITIVE_INFINITY), 1e-12);
+
+        assertEquals(Math.sqrt(2), refined.a, 1e-12);
+        assertTrue(refined.b - refined.a <= 1e-12);
+    }
+
+    @Test
+    public void exactValueIsReturnedUnchanged() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 0.5, 2 });
+
+        Interval exact = new Interval(0.5);
+
+        assertSame(exact, refiner.refine(polynomial, exact, 1e-12));
+    }
+
+    @Test
+    public void intervalWithoutSignChangeIsReturnedUnchanged() {
+        // (X - 1)^2 has a double root at 1, so its sign does not change across (0, 2)
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 1, 1 });
+
+        Interval interval = new Interval(0, 2);
+
+        assertSame(interval, refiner.refine(polynomial, interval, 1e-12));
+    }
+
+    @Test
+    public void parallelRefinementMatchesSequentialRefinement() {
+        double[] roots = new double[] { 1.1, 2.2, 3.3, 4.4, 5.5, 6.6, 7.7, 8.8, 9.9, 11 };
+        Polynomial polynomial = Polynomial.fromRoots(roots);
+
+        Interval[] intervals = new Interval[roots.length];
+
+        for (int index = 0; index < roots.length; index++)
+            intervals[index] = new Interval(roots[index] - 0.5, roots[index] + 0.5);
+
+        List<Interval> sequential = refiner.refine(polynomial, Arrays.asList(intervals), 1e-9);
+        List<Interval> parallel = refiner.refine(polynomial, Arrays.asList(intervals), 1e-9, ForkJoinPool.commonPool());
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void widthMustBePositive() {
+        refiner.refine(Polynomial.of(new double[] { -2, 0, 1 }), new Interval(0, 2), 0);
+    }
+}
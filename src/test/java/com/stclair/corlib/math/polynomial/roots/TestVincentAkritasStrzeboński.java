@@ -2,11 +2,20 @@ package com.stclair.corlib.math.polynomial.roots;
 
 import com.stclair.corlib.math.Interval;
 import com.stclair.corlib.math.RealMobiusTransformation;
+import com.stclair.corlib.math.polynomial.FirstLambdaUpperBound;
+import com.stclair.corlib.math.polynomial.LocalMaxQuadraticUpperBound;
+import com.stclair.corlib.math.polynomial.LocalMaxUpperBound;
 import com.stclair.corlib.math.polynomial.Polynomial;
+import com.stclair.corlib.math.polynomial.PositiveRootBound;
+import com.stclair.corlib.math.polynomial.SparsePolynomial;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.*;
 
@@ -241,12 +250,10 @@ public class TestVincentAkritasStrzeboński {
     }
 
 
-    // Higher-order polynomials (those with larger roots or additional, distinct roots) appear to exceed the precision
-    // of a Double so they cannot be supported in the current implementation.  To carry this implementation beyond
-    // this limitation will require a BigDecimal implementation or a Rational implementation (or something more exotic)
-    // For example, this test fails:
+    // Higher-order polynomials (those with larger roots or additional, distinct roots) once appeared to exceed the
+    // precision of a Double, but the failures were those of an incorrect local-max quadratic bound
     @Test
-    public void factorEquationWithTwentyTwoPrimeRootsRequiresTooMuchPrecision() {
+    public void factorEquationWithTwentyPrimeRoots() {
         double[] expectedRoots = new double[] { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71 };
         Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
 
@@ -254,7 +261,224 @@ public class TestVincentAkritasStrzeboński {
 
         List<Interval> results = vas.findRootIntervals(polynomial);
 
-        assertTrue(expectedRoots.length > results.size());
-//        assertRootsWithinResults(expectedRoots, results);
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
+    }
+
+    @Test
+    public void parallelIsolationMatchesSequentialIsolation() {
+        double[][] rootSets = new double[][] {
+                { 1.3569, 7 },
+                { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22 },
+                { 0.25, 0.5, 0.75, 1, 1.5, 2.5, 3.5, 6, 9, 12 }
+        };
+
+        VincentAkritasStrzeboński sequential = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY));
+
+        // force a task for every subtree
+        VincentAkritasStrzeboński parallel = new VincentAkritasStrzeboński(
+                (Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY),
+                ForkJoinPool.commonPool(), 0, 0);
+
+        assertTrue(parallel.isParallel());
+        assertFalse(sequential.isParallel());
+
+        for (double[] roots : rootSets) {
+            Polynomial polynomial = Polynomial.fromRoots(roots);
+
+            List<Interval> expected = sequential.findRootIntervals(polynomial);
+            List<Interval> results = parallel.findRootIntervals(polynomial);
+
+            assertEquals(new HashSet<>(expected), new HashSet<>(results));
+            assertEquals(expected.size(), results.size());
+
+            for (int index = 1; index < results.size(); index++)
+                assertTrue(results.get(index - 1).a <= results.get(index).a);
+        }
+    }
+
+    @Test
+    public void parallelIsolationWithDefaultCutoffs() {
+        double[] expectedRoots = new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(
+                (Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY),
+                ForkJoinPool.commonPool(), VincentAkritasStrzeboński.DEFAULT_SEQUENTIAL_DEGREE, VincentAkritasStrzeboński.DEFAULT_SEQUENTIAL_SIGN_CHANGES);
+
+        List<Interval> results = vas.findRootIntervals(polynomial);
+
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
+    }
+
+    @Test
+    public void parallelSmokeTest() {
+        Polynomial polynomial = Polynomial.of(new double[] {7, -7, 0, 1 });
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(ForkJoinPool.commonPool());
+
+        List<Interval> results = vas.findRootIntervals(polynomial);
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(0).a, 0);
+        assertEquals(1.5, results.get(0).b, 0);
+        assertEquals(1.5, results.get(1).a, 0);
+        assertEquals(2, results.get(1).b, 0);
+    }
+
+    @Test
+    public void squareFreeReductionIsolatesRepeatedRoots() {
+        double[] expectedRoots = { 1, 2.5, 4, 7 };
+
+        // (x - 1)^2 (x - 2.5)^3 (x - 4) (x - 7)^2
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 1, 1, 2.5, 2.5, 2.5, 4, 7, 7 });
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY), true);
+
+        List<Interval> results = vas.findRootIntervals(polynomial);
+
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
+    }
+
+    @Test
+    public void statisticsRecordWorkOfMostRecentSolve() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new VASComputationExperimental(polynomialArg, RealMobiusTransformation.IDENTITY));
+
+        assertEquals(0, vas.getStatistics().getNodes());
+
+        vas.findRootIntervals(polynomial);
+
+        VASStatistics statistics = vas.getStatistics();
+
+        assertTrue(statistics.getNodes() > 1);
+        assertTrue(statistics.getTaylorShifts() > 0);
+        assertTrue(statistics.getMaximumDepth() > 0);
+        assertTrue(statistics.getMaximumDepth() < statistics.getNodes());
+        assertTrue(statistics.getBoundNanos() > 0);
+
+        // a single sign change requires no search at all
+        vas.findRootIntervals(Polynomial.of(new double[] { -1, 1 }));
+
+        assertEquals(0, vas.getStatistics().getNodes());
+        assertEquals(0, vas.getStatistics().getTaylorShifts());
+    }
+
+    @Test
+    public void parallelStatisticsMatchSequentialStatistics() {
+        Polynomial polynomial = Polynomial.fromRoots(new double[] { 0.25, 0.5, 0.75, 1, 1.5, 2.5, 3.5, 6, 9, 12 });
+
+        VincentAkritasStrzeboński sequential = new VincentAkritasStrzeboński(IntervalVASComputation::new);
+        VincentAkritasStrzeboński parallel = new VincentAkritasStrzeboński(IntervalVASComputation::new, ForkJoinPool.commonPool(), 0, 0);
+
+        sequential.findRootIntervals(polynomial);
+        parallel.findRootIntervals(polynomial);
+
+        assertEquals(sequential.getStatistics().getNodes(), parallel.getStatistics().getNodes());
+        assertEquals(sequential.getStatistics().getTaylorShifts(), parallel.getStatistics().getTaylorShifts());
+        assertEquals(sequential.getStatistics().getMaximumDepth(), parallel.getStatistics().getMaximumDepth());
+    }
+
+    @Test
+    public void everyBoundStrategyIsolatesTheSameRoots() {
+        double[] expectedRoots = new double[] { 0.25, 0.5, 0.75, 1, 1.5, 2.5, 3.5, 6, 9, 12 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        PositiveRootBound[] bounds = { new FirstLambdaUpperBound(), new LocalMaxUpperBound(), new LocalMaxQuadraticUpperBound() };
+
+        for (PositiveRootBound bound : bounds) {
+            VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new IntervalVASComputation(polynomialArg, bound));
+
+            List<Interval> results = vas.findRootIntervals(polynomial);
+
+            assertEquals(expectedRoots.length, results.size());
+            assertRootsWithinResults(expectedRoots, results);
+        }
+    }
+
+    @Test
+    public void distinctDiscardsDuplicatesSeparatedByDifferentClosedness() {
+        List<Interval> intervals = new ArrayList<>(Arrays.asList(
+                new Interval(1, true, 2, true),
+                new Interval(1, true, 2, false),
+                new Interval(1, true, 2, true),
+                new Interval(0, true, 1, true),
+                new Interval(1, true, 2, false)));
+
+        List<Interval> results = VincentAkritasStrzeboński.distinct(intervals);
+
+        assertEquals(3, results.size());
+        assertEquals(new HashSet<>(intervals), new HashSet<>(results));
+    }
+
+    @Test
+    public void defaultComputationIsolatesCloselySpacedRoots() {
+        // x^4 - 221 x^2 + 12100 = (x^2 - 100)(x^2 - 121)
+        Polynomial polynomial = Polynomial.of(new double[] { 12100, 0, -221, 0, 1 });
+
+        List<Interval> results = new VincentAkritasStrzeboński().findRootIntervals(polynomial);
+
+        assertEquals(2, results.size());
+        assertRootsWithinResults(new double[] { 10, 11 }, results);
+    }
+
+    @Test
+    public void defaultComputationIsolatesPairsOfCloselySpacedRoots() {
+        double[] expectedRoots = new double[] { 10, 11, 30, 31 };
+
+        List<Interval> results = new VincentAkritasStrzeboński().findRootIntervals(Polynomial.fromRoots(expectedRoots));
+
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
+    }
+
+    @Test
+    public void everyBoundStrategyIsolatesTheSameRootsByDoubleComputation() {
+        double[] expectedRoots = new double[] { 10, 11, 30, 31 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        PositiveRootBound[] bounds = { new FirstLambdaUpperBound(), new LocalMaxUpperBound(), new LocalMaxQuadraticUpperBound() };
+
+        for (PositiveRootBound bound : bounds) {
+            VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński((Polynomial polynomialArg) -> new VASComputation(polynomialArg, bound));
+
+            List<Interval> results = vas.findRootIntervals(polynomial);
+
+            assertEquals(expectedRoots.length, results.size());
+            assertRootsWithinResults(expectedRoots, results);
+        }
+    }
+
+    @Test
+    public void sparsePolynomialWithOneSignChangeIsIsolatedWithoutDensifying() {
+        // x^1000000 - 1: the dense representation would hold a million coefficients
+        SparsePolynomial polynomial = SparsePolynomial.of(new int[] { 0, 1000000 }, new double[] { -1, 1 });
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(IntervalVASComputation::new);
+
+        List<Interval> results = vas.findRootIntervals(polynomial);
+
+        assertEquals(1, results.size());
+        assertEquals(0, results.get(0).a, 0);
+        assertEquals(Double.POSITIVE_INFINITY, results.get(0).b, 0);
+        assertEquals(0, vas.getStatistics().getNodes());
+
+        assertTrue(vas.findRootIntervals(SparsePolynomial.of(new int[] { 0, 1000000 }, new double[] { 1, 1 })).isEmpty());
+    }
+
+    @Test
+    public void sparsePolynomialIsolatesTheSameRootsAsDense() {
+        double[] expectedRoots = new double[] { 0.25, 0.5, 1.5, 3.5, 9 };
+        Polynomial polynomial = Polynomial.fromRoots(expectedRoots);
+
+        VincentAkritasStrzeboński vas = new VincentAkritasStrzeboński(IntervalVASComputation::new);
+
+        List<Interval> results = vas.findRootIntervals(SparsePolynomial.of(polynomial));
+
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
     }
 }
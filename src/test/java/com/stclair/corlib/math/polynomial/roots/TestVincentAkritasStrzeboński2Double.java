@@ -85,4 +85,9 @@ public class TestVincentAkritasStrzeboński2Double {
 //    public void factorEquationWithFifteenPrimeRootsShowWork() {
 //        test.factorEquationWithFifteenPrimeRootsShowWork();
 //    }
+
+    @Test
+    public void squareFreeReductionIsolatesRepeatedRoots() {
+        test.squareFreeReductionIsolatesRepeatedRoots();
+    }
 }
@@ -2,6 +2,7 @@ package com.stclair.corlib.math.polynomial.roots;
 
 import com.stclair.corlib.math.polynomial.generic.Interval;
 import com.stclair.corlib.math.polynomial.generic.Polynomial;
+import com.stclair.corlib.math.polynomial.generic.roots.VASComputationExperimental2;
 import com.stclair.corlib.math.polynomial.generic.roots.VincentAkritasStrzeboński2;
 import com.stclair.corlib.math.util.ApfloatOperationStrategy;
 import com.stclair.corlib.math.util.OperationStrategy;
@@ -298,4 +299,18 @@ public class VincentAkritasStrzeboński2Tester<T> {
         vas.solveRootIntervals(polynomial)
                 .forEach(System.out::println);
     }
+
+    public void squareFreeReductionIsolatesRepeatedRoots() {
+        T[] expectedRoots = op.from(new double[] { 1, 2.5, 4, 7 });
+
+        // (x - 1)^2 (x - 2.5)^3 (x - 4) (x - 7)^2
+        Polynomial<T> polynomial = Polynomial.fromRoots(op, op.from(new double[] { 1, 1, 2.5, 2.5, 2.5, 4, 7, 7 }));
+
+        VincentAkritasStrzeboński2<T> vas = new VincentAkritasStrzeboński2<>(new VASComputationExperimental2<>(op), op, true);
+
+        List<Interval<T>> results = vas.findRootIntervals(polynomial);
+
+        assertEquals(expectedRoots.length, results.size());
+        assertRootsWithinResults(expectedRoots, results);
+    }
 }
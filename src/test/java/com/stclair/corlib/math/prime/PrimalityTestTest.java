@@ -0,0 +1,127 @@
+package com.stclair.corlib.math.prime;
+
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.apfloat.Apfloat;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+public class PrimalityTestTest {
+
+    @Test
+    public void agreesWithSieveBelowOneMillion() {
+
+        long[] primes = new PrimeRange(0, 1_000_000).toArray();
+
+        int next = 0;
+
+        for (long candidate = -5; candidate < 1_000_000; candidate++) {
+
+            boolean expected = next < primes.length && primes[next] == candidate;
+
+            if (expected)
+                next++;
+
+            assertEquals(Long.toString(candidate), expected, PrimalityTest.isPrime(candidate));
+        }
+    }
+
+    @Test
+    public void strongPseudoprimesAreComposite() {
+
+        // strong pseudoprimes to base 2, to bases 2 through 7, to bases 2 through 23 and a Carmichael number
+        long[] composites = { 2047, 3215031751L, 3825123056546413051L, 561, 1_000_000_007L * 998_244_353L };
+
+        for (long composite : composites)
+            assertFalse(Long.toString(composite), PrimalityTest.isPrime(composite));
+    }
+
+    @Test
+    public void largeLongPrimes() {
+
+        assertTrue(PrimalityTest.isPrime((1L << 61) - 1));
+        assertTrue(PrimalityTest.isPrime(PrimalityTest.GREATEST_LONG_PRIME));
+        assertTrue(PrimalityTest.isPrime(1_000_000_000_000_000_003L));
+        assertFalse(PrimalityTest.isPrime(Long.MAX_VALUE));
+        assertFalse(PrimalityTest.isPrime(((1L << 31) - 1) * ((1L << 31) - 1)));
+    }
+
+    @Test
+    public void bailliePswOnBigIntegers() {
+
+        BigInteger mersenne127 = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+        BigInteger mersenne89 = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+        BigInteger mersenne107 = BigInteger.ONE.shiftLeft(107).subtract(BigInteger.ONE);
+
+        assertTrue(PrimalityTest.isPrime(mersenne127));
+        assertFalse(PrimalityTest.isPrime(mersenne89.multiply(mersenne107)));
+        assertFalse(PrimalityTest.isPrime(mersenne89.multiply(mersenne89)));
+        assertFalse(PrimalityTest.isPrime(BigInteger.ONE.shiftLeft(128).add(BigInteger.ONE)));
+    }
+
+    @Test
+    public void bailliePswAgreesWithBigInteger() {
+
+        BigInteger candidate = BigInteger.TEN.pow(30);
+
+        for (int index = 0; index < 2000; index++, candidate = candidate.add(BigInteger.ONE))
+            assertEquals(candidate.toString(), candidate.isProbablePrime(64), PrimalityTest.isPrime(candidate));
+    }
+
+    @Test
+    public void strongLucasPseudoprimesPassLucasTest() {
+
+        // strong Lucas pseudoprimes (composites that the Lucas half of Baillie-PSW alone accepts)
+        for (long pseudoprime : new long[] { 5459, 5777, 10877, 16109, 18971 })
+            assertTrue(PrimalityTest.isStrongLucasProbablePrime(BigInteger.valueOf(pseudoprime)));
+
+        assertFalse(PrimalityTest.isStrongLucasProbablePrime(BigInteger.valueOf(5461)));
+    }
+
+    @Test
+    public void jacobiSymbol() {
+
+        assertEquals(-1, PrimalityTest.jacobi(BigInteger.valueOf(5), BigInteger.valueOf(7)));
+        assertEquals(1, PrimalityTest.jacobi(BigInteger.valueOf(2), BigInteger.valueOf(7)));
+        assertEquals(0, PrimalityTest.jacobi(BigInteger.valueOf(6), BigInteger.valueOf(9)));
+        assertEquals(-1, PrimalityTest.jacobi(BigInteger.valueOf(1001), BigInteger.valueOf(9907)));
+    }
+
+    @Test
+    public void nextPrime() {
+
+        assertEquals(2, PrimalityTest.nextPrime(-10));
+        assertEquals(3, PrimalityTest.nextPrime(2));
+        assertEquals(5, PrimalityTest.nextPrime(3));
+        assertEquals(1_000_000_007L, PrimalityTest.nextPrime(1_000_000_000L));
+        assertEquals(PrimalityTest.GREATEST_LONG_PRIME, PrimalityTest.nextPrime(PrimalityTest.GREATEST_LONG_PRIME - 1));
+
+        BigInteger after = BigInteger.valueOf(Long.MAX_VALUE);
+
+        assertEquals(after.nextProbablePrime(), PrimalityTest.nextPrime(after));
+    }
+
+    @Test
+    public void operationStrategyValues() {
+
+        ApfloatOperationStrategy apfloatOp = new ApfloatOperationStrategy();
+
+        assertTrue(PrimalityTest.isPrime(apfloatOp.from("170141183460469231731687303715884105727"), apfloatOp));
+        assertFalse(PrimalityTest.isPrime(apfloatOp.from(91d), apfloatOp));
+        assertEquals(new Apfloat(101), PrimalityTest.nextPrime(apfloatOp.from(100d), apfloatOp));
+
+        DoubleOperationStrategy doubleOp = new DoubleOperationStrategy();
+
+        assertTrue(PrimalityTest.isPrime(7919d, doubleOp));
+        assertEquals(7927d, PrimalityTest.nextPrime(7919.5, doubleOp), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonIntegerCandidate() {
+
+        PrimalityTest.isPrime(7.5, new DoubleOperationStrategy());
+    }
+}
@@ -0,0 +1,97 @@
+package com.stclair.corlib.math.prime;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class PrimeRangeTest {
+
+    static final long SPAN = SegmentedSieve.SEGMENT_SPAN;
+
+    @Test
+    public void streamFirstTenPrimes() {
+
+        long[] expected = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29 };
+
+        assertArrayEquals(expected, new PrimeRange(0, 30).stream().toArray());
+        assertArrayEquals(expected, new PrimeRange(2, 30).toArray());
+    }
+
+    @Test
+    public void emptyRanges() {
+
+        assertEquals(0, new PrimeRange(0, 2).count());
+        assertEquals(0, new PrimeRange(24, 29).stream().count());
+        assertEquals(0, new PrimeRange(SPAN, SPAN).toArray().length);
+    }
+
+    @Test
+    public void countMatchesSegmentedSieve() {
+
+        SegmentedSieve sieve = new SegmentedSieve();
+
+        long[][] ranges = { { 0, 10_000_000 }, { 17, 5 * SPAN + 3 }, { SPAN - 1, SPAN + 1 }, { 1_000_000_007L, 1_000_000_007L + 3 * SPAN } };
+
+        for (long[] range : ranges)
+            assertEquals(sieve.count(range[0], range[1]), PrimeRange.count(range[0], range[1]));
+    }
+
+    @Test
+    public void parallelStreamMatchesSequentialStream() {
+
+        PrimeRange range = new PrimeRange(1000, 20 * SPAN + 1000);
+
+        long[] sequential = range.stream().toArray();
+        long[] parallel = range.parallelStream().toArray();
+
+        assertArrayEquals(sequential, parallel);
+        assertEquals(range.count(), sequential.length);
+        assertEquals(range.stream().sum(), range.parallelStream().sum());
+    }
+
+    @Test
+    public void toArrayMatchesStream() {
+
+        PrimeRange range = new PrimeRange(3 * SPAN + 5, 30 * SPAN + 17, new ForkJoinPool(3));
+
+        assertArrayEquals(range.stream().toArray(), range.toArray());
+    }
+
+    @Test
+    public void fillAtOffset() {
+
+        long[] destination = new long[12];
+
+        int written = new PrimeRange(10, 40).fill(destination, 2);
+
+        assertEquals(8, written);
+        assertArrayEquals(new long[] { 0, 0, 11, 13, 17, 19, 23, 29, 31, 37, 0, 0 }, destination);
+    }
+
+    @Test
+    public void matchesSequenceOfSieve() {
+
+        SegmentedSieve sieve = new SegmentedSieve();
+
+        long[] primes = new PrimeRange(0, 3 * SPAN).toArray();
+
+        for (int index = 0; index < primes.length; index += 97)
+            assertEquals(sieve.getPrime(index), primes[index]);
+
+        assertEquals(sieve.count(0, 3 * SPAN), primes.length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fillWithInsufficientRoom() {
+
+        new PrimeRange(0, 100).fill(new long[24], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void hiLessThanLo() {
+
+        new PrimeRange(100, 10);
+    }
+}
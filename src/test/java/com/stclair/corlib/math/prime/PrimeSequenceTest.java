@@ -1,7 +1,10 @@
 package com.stclair.corlib.math.prime;
 
+import com.stclair.corlib.math.util.ApfloatOperationStrategy;
 import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import com.stclair.corlib.math.util.LongOperationStrategy;
 import com.stclair.corlib.math.util.Sequence;
+import org.apfloat.Apfloat;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -78,4 +81,42 @@ public class PrimeSequenceTest {
 
         assertArrayEquals(expected, actual, 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findFirstTenPrimesApfloat() {
+        Sequence<Apfloat> instance = new PrimeSequence<>(new ApfloatOperationStrategy());
+
+        long[] expected = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29 };
+
+        for (long prime : expected)
+            assertEquals(new Apfloat(prime), instance.nextMember());
+    }
+
+    @Test
+    public void segmentedAndTrialDivisionSequencesAgree() {
+
+        DoubleOperationStrategy op = new DoubleOperationStrategy();
+
+        Sequence<Double> segmented = new PrimeSequence<>(op);
+        Sequence<Double> trialDivision = new PrimeSequence<>(op, new Sieve<>(op));
+
+        for (int index = 0; index < 500; index++)
+            assertEquals(trialDivision.nextMember(), segmented.nextMember());
+
+        assertEquals(trialDivision.getMember(250), segmented.getMember(250));
+        assertEquals(trialDivision.nextMember(), segmented.nextMember());
+        assertEquals(trialDivision.prevMember(), segmented.prevMember());
+        assertEquals(trialDivision.getMember(700), segmented.getMember(700));
+        assertEquals(trialDivision.currentIndex(), segmented.currentIndex());
+    }
+
+    @Test
+    public void getMemberRandomAccess() {
+
+        Sequence<Long> instance = new PrimeSequence<>(new LongOperationStrategy());
+
+        assertEquals(Long.valueOf(15485863L), instance.getMember(999_999));
+        assertEquals(Long.valueOf(15485867L), instance.nextMember());
+        assertEquals(Long.valueOf(15485863L), instance.prevMember());
+    }
+}
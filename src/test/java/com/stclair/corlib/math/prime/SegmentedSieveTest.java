@@ -0,0 +1,91 @@
+package com.stclair.corlib.math.prime;
+
+import com.stclair.corlib.math.util.DoubleOperationStrategy;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SegmentedSieveTest {
+
+    @Test
+    public void firstPrimesMatchTrialDivision() {
+
+        // the trial division sieve relies upon inexact division, so Double values are used for comparison
+        Sieve<Double> expected = new Sieve<>(new DoubleOperationStrategy());
+
+        SegmentedSieve instance = new SegmentedSieve();
+
+        for (int index = 0; index < 2000; index++)
+            assertEquals(expected.seekNextPrime(), instance.getPrime(index), 0);
+    }
+
+    @Test
+    public void randomAccessAcrossSegments() {
+
+        SegmentedSieve instance = new SegmentedSieve();
+
+        assertEquals(15485863L, instance.getPrime(999_999));
+        assertEquals(2L, instance.getPrime(0));
+        assertEquals(7919L, instance.getPrime(999));
+        assertEquals(15485867L, instance.getPrime(1_000_000));
+    }
+
+    @Test
+    public void countBelowPowersOfTen() {
+
+        SegmentedSieve instance = new SegmentedSieve();
+
+        assertEquals(0, instance.count(0, 2));
+        assertEquals(1, instance.count(0, 3));
+        assertEquals(4, instance.count(0, 10));
+        assertEquals(25, instance.count(0, 100));
+        assertEquals(168, instance.count(0, 1000));
+        assertEquals(78498, instance.count(0, 1_000_000));
+        assertEquals(664579, instance.count(0, 10_000_000));
+    }
+
+    @Test
+    public void countArbitraryRanges() {
+
+        SegmentedSieve instance = new SegmentedSieve();
+
+        long[] bounds = { 0, 1, 2, 3, 17, 18, 1000, SegmentedSieve.SEGMENT_SPAN - 1, SegmentedSieve.SEGMENT_SPAN + 1, 3 * SegmentedSieve.SEGMENT_SPAN + 7 };
+
+        for (long lo : bounds)
+            for (long hi : bounds)
+                assertEquals("[" + lo + ", " + hi + ")", bruteForceCount(lo, hi), instance.count(lo, hi));
+    }
+
+    @Test
+    public void countBeyondIntRange() {
+
+        SegmentedSieve instance = new SegmentedSieve();
+
+        long lo = 4_294_967_296L;
+
+        assertEquals(bruteForceCount(lo, lo + 10_000), instance.count(lo, lo + 10_000));
+    }
+
+    static long bruteForceCount(long lo, long hi) {
+
+        long count = 0;
+
+        for (long candidate = lo; candidate < hi; candidate++)
+            if (isPrime(candidate))
+                count++;
+
+        return count;
+    }
+
+    static boolean isPrime(long candidate) {
+
+        if (candidate < 2)
+            return false;
+
+        for (long factor = 2; factor * factor <= candidate; factor++)
+            if (candidate % factor == 0)
+                return false;
+
+        return true;
+    }
+}
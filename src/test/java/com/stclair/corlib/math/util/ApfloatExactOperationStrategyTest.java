@@ -0,0 +1,50 @@
+package com.stclair.corlib.math.util;
+
+import org.apfloat.Apfloat;
+import org.apfloat.InfiniteExpansionException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ApfloatExactOperationStrategyTest {
+
+    ApfloatExactOperationStrategy instance = new ApfloatExactOperationStrategy();
+
+    @Test
+    public void onlyInfinitePrecisionIsExact() {
+        assertTrue(instance.isExact());
+        assertFalse(new ApfloatOperationStrategy().isExact());
+        assertFalse(new ApfloatOperationStrategy(100000).isExact());
+    }
+
+    @Test
+    public void fromDoubleIsExactBinaryFraction() {
+        Apfloat value = instance.from(0.1);
+
+        assertEquals(Apfloat.INFINITE, value.precision());
+        assertEquals(new Apfloat(new BigDecimal(0.1), Apfloat.INFINITE), value);
+        assertEquals(Apfloat.INFINITE, instance.from(new double[] { 0.1 })[0].precision());
+    }
+
+    @Test
+    public void terminatingQuotientIsExact() {
+        assertEquals(instance.from(0.25), instance.quotient(instance.one(), instance.from(4L)));
+    }
+
+    @Test
+    public void terminatingQuotientByOtherPrimeFactorIsExact() {
+        assertEquals(instance.from(2L), instance.quotient(instance.from(6L), instance.from(3L)));
+        assertEquals(instance.from(0.5), instance.quotient(instance.from(1.5), instance.from(3L)));
+        assertEquals(Apfloat.INFINITE, instance.quotient(instance.from(6L), instance.from(3L)).precision());
+        assertEquals(instance.from(-7L), instance.quotient(instance.from(91L), instance.from(-13L)));
+    }
+
+    @Test(expected = InfiniteExpansionException.class)
+    public void nonTerminatingQuotientThrows() {
+        instance.quotient(instance.one(), instance.from(3L));
+    }
+}